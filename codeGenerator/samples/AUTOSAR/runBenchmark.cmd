@@ -0,0 +1,26 @@
+@echo off
+setlocal
+set CLASSPATH=..\raceTechnology\templates
+set COMFRAMEWORK_CODEGENERATOR_HOME=..\..
+set PATH=%PATH%;%COMFRAMEWORK_CODEGENERATOR_HOME%\dist
+
+:: The number of repetitions of the job of a benchmark.
+set noJobs=25
+echo Rendering with reflective access to the data model
+call :benchmark reflectiveModelAccess
+echo Rendering with the model adaptors of codeGenerator
+call :benchmark modelAdaptors
+goto :eof
+
+:: Run a benchmark. The job of the job file in folder benchmark is repeated noJobs times
+:: in a generated job file, which is run as a single batch.
+:benchmark
+if not exist benchmark\output mkdir benchmark\output
+if exist benchmark\output\%1.jobs del benchmark\output\%1.jobs
+for /l %%i in (1,1,%noJobs%) do (
+    findstr /v /b /c:"#" benchmark\%1.jobs >> benchmark\output\%1.jobs
+)
+echo   Start: %TIME%
+call codeGenerator --job-file benchmark/output/%1.jobs --verbosity WARN
+echo   End:   %TIME%
+goto :eof
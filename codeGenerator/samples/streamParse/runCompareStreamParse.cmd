@@ -0,0 +1,57 @@
+@echo off
+setlocal
+set COMFRAMEWORK_CODEGENERATOR_HOME=..\..
+set PATH=%PATH%;%COMFRAMEWORK_CODEGENERATOR_HOME%\dist
+
+:: Each network database file is parsed twice, normally and with --stream-parse. The logs
+:: and the generated files of both runs need to be identical. The first file has a syntax
+:: error; the second one has data errors, which are reported by the data model listener.
+set noDifferences=0
+call :compare CAN_RT_syntaxError
+call :compare CAN_RT
+call :compare CAN_RT_attributed
+if %noDifferences% == 0 (
+    echo Normal parse and streaming parse yield the same results
+) else (
+    echo Normal parse and streaming parse differ in %noDifferences% files
+    exit /b 1
+)
+goto :eof
+
+:: Parse a network database file in both modes and compare logs and generated files.
+:: The log files are appended to by the application and need to be deleted first. No file
+:: is generated if the network database file has errors.
+:compare
+for %%f in (normal.log stream.log normal.txt stream.txt) do (
+    if exist output\%1.%%f del output\%1.%%f
+)
+call codeGenerator ^
+  --verbosity WARN ^
+  --log-file output/%1.normal.log ^
+  --log4j-pattern "%%p %%m%%n" ^
+  --cluster-name %1 ^
+  --node-name ECU ^
+  --bus-name %1 ^
+    -dbc ../dbcFiles/%1.dbc ^
+  --output-file-name output/%1.normal.txt ^
+    --template-file-name templates/compareStreamParse.stg ^
+    --template-name compareStreamParse
+call codeGenerator ^
+  --stream-parse ^
+  --verbosity WARN ^
+  --log-file output/%1.stream.log ^
+  --log4j-pattern "%%p %%m%%n" ^
+  --cluster-name %1 ^
+  --node-name ECU ^
+  --bus-name %1 ^
+    -dbc ../dbcFiles/%1.dbc ^
+  --output-file-name output/%1.stream.txt ^
+    --template-file-name templates/compareStreamParse.stg ^
+    --template-name compareStreamParse
+fc output\%1.normal.log output\%1.stream.log > nul || set /a noDifferences+=1
+if exist output\%1.normal.txt (
+    fc output\%1.normal.txt output\%1.stream.txt > nul || set /a noDifferences+=1
+) else if exist output\%1.stream.txt (
+    set /a noDifferences+=1
+)
+goto :eof
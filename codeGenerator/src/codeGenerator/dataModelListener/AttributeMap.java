@@ -0,0 +1,362 @@
+/**
+ * @file AttributeMap.java
+ * The map of attribute values of a network object, which shares the default values with
+ * all other objects of the same kind.
+ *
+ * Copyright (C) 2025 Peter Vranken (mailto:Peter_Vranken@Yahoo.de)
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+/* Interface of class AttributeMap
+ *   DefaultTable.DefaultTable
+ *   DefaultTable.add
+ *   DefaultTable.size
+ *   DefaultTable.getName
+ *   DefaultTable.get
+ *   AttributeMap
+ *   getDefaultTable
+ *   getOverrideMap
+ *   setDefaultTable
+ *   size
+ *   containsKey
+ *   get
+ *   put
+ *   entrySet
+ */
+
+package codeGenerator.dataModelListener;
+
+import java.util.*;
+
+
+/**
+ * The map of attribute values of a network object.<p>
+ *   Network database files typically define many attributes with default values for all
+ * frames and signals, while only a few objects get an individual value. A map with an
+ * entry per attribute for every object would dominate the size of the data model. An
+ * AttributeMap instead refers to a table of default values, which is shared by all
+ * objects of the same kind, and stores only the individual values, which override a
+ * default value.<p>
+ *   The map has the same contents and iterates in the same order as the HashMap, which
+ * would have been built for the object by storing all default and individual values
+ * one after another. If an object deviates from the shared history, e.g., because it
+ * gets a value of an attribute, which doesn't have a default value, then the map
+ * silently turns into such a private HashMap.
+ */
+
+class AttributeMap extends AbstractMap<String,Attribute>
+{
+    /**
+     * An immutable table of default values. The values are stored in a HashMap in the
+     * same order as into the attribute map of the objects so that the iteration order is
+     * the same.
+     */
+    static class DefaultTable
+    {
+        /** The default values by attribute name. */
+        private final HashMap<String,Attribute> map_;
+
+        /** The attribute names in order of insertion. */
+        private final String[] nameAry_;
+
+        /**
+         * A new, empty instance of DefaultTable is created.
+         */
+        DefaultTable()
+        {
+            map_ = new HashMap<>();
+            nameAry_ = new String[0];
+
+        } /* End of DefaultTable.DefaultTable */
+
+
+        /**
+         * A new instance of DefaultTable is created, which extends another one by one
+         * value.
+         *   @param base
+         * The extended table. It is not modified.
+         *   @param name
+         * The name of the new attribute.
+         *   @param attrib
+         * The default value of the new attribute.
+         */
+        private DefaultTable(DefaultTable base, String name, Attribute attrib)
+        {
+            /* The values are inserted one by one in the original order. Copying the base
+               map as a whole could result in another capacity of the map and thus another
+               iteration order. */
+            map_ = new HashMap<>();
+            for(String n: base.nameAry_)
+                map_.put(n, base.map_.get(n));
+            map_.put(name, attrib);
+            nameAry_ = Arrays.copyOf(base.nameAry_, base.nameAry_.length+1);
+            nameAry_[base.nameAry_.length] = name;
+
+        } /* End of DefaultTable.DefaultTable */
+
+
+        /**
+         * Get a new table, which contains all values of this one and a new value.
+         *   @return Get the new table.
+         *   @param name
+         * The name of the new attribute. It must not be in this table yet.
+         *   @param attrib
+         * The default value of the new attribute.
+         */
+        DefaultTable add(String name, Attribute attrib)
+        {
+            assert !map_.containsKey(name);
+            return new DefaultTable(this, name, attrib);
+
+        } /* End of DefaultTable.add */
+
+
+        /**
+         * Get the number of default values.
+         *   @return Get the number.
+         */
+        int size()
+        {
+            return nameAry_.length;
+
+        } /* End of DefaultTable.size */
+
+
+        /**
+         * Get the name of an attribute.
+         *   @return Get the name.
+         *   @param idx
+         * The position of the attribute in order of insertion.
+         */
+        String getName(int idx)
+        {
+            return nameAry_[idx];
+
+        } /* End of DefaultTable.getName */
+
+
+        /**
+         * Get a default value.
+         *   @return Get the value or null if the table doesn't contain the attribute.
+         *   @param name
+         * The name of the attribute.
+         */
+        Attribute get(String name)
+        {
+            return map_.get(name);
+
+        } /* End of DefaultTable.get */
+
+    } /* End of class DefaultTable */
+
+
+    /** The shared table of default values or null if the map has turned into a private
+        map. */
+    private DefaultTable defaultTable_;
+
+    /** The individual values, which override a value of the table of defaults, by name or
+        null if there are none. */
+    private HashMap<String,Attribute> overrideMap_ = null;
+
+    /** The private map, which is used if the contents of the map can't be expressed as
+        table of defaults with overrides. */
+    private HashMap<String,Attribute> privateMap_ = null;
+
+    /**
+     * A new instance of AttributeMap is created.
+     *   @param defaultTable
+     * The initial table of default values.
+     */
+    AttributeMap(DefaultTable defaultTable)
+    {
+        assert defaultTable != null;
+        defaultTable_ = defaultTable;
+
+    } /* End of AttributeMap.AttributeMap */
+
+
+
+    /**
+     * Get the table of default values.
+     *   @return Get the table or null if the map is a private map.
+     */
+    DefaultTable getDefaultTable()
+    {
+        return defaultTable_;
+
+    } /* End of AttributeMap.getDefaultTable */
+
+
+
+    /**
+     * Get the individual values, which override the default values.
+     *   @return Get the map of overriding values or null if there are none or if the map
+     * is a private map. The returned map must not be modified.
+     */
+    Map<String,Attribute> getOverrideMap()
+    {
+        return overrideMap_;
+
+    } /* End of AttributeMap.getOverrideMap */
+
+
+
+    /**
+     * Replace the table of default values with an extended table. This is how a new
+     * default value is added to all maps, which share the same table.
+     *   @param defaultTable
+     * The new table. It needs to contain all values of the current table in the same
+     * order.
+     */
+    void setDefaultTable(DefaultTable defaultTable)
+    {
+        assert defaultTable_ != null  &&  defaultTable.size() >= defaultTable_.size();
+        defaultTable_ = defaultTable;
+
+    } /* End of AttributeMap.setDefaultTable */
+
+
+
+    /**
+     * Get the number of attributes.
+     *   @return Get the number.
+     */
+    @Override public int size()
+    {
+        return defaultTable_ != null? defaultTable_.size(): privateMap_.size();
+
+    } /* End of AttributeMap.size */
+
+
+
+    /**
+     * Test if an attribute is in the map.
+     *   @return Get true if the map contains a value of the attribute.
+     *   @param name
+     * The name of the attribute.
+     */
+    @Override public boolean containsKey(Object name)
+    {
+        if(defaultTable_ != null)
+            return defaultTable_.map_.containsKey(name);
+        else
+            return privateMap_.containsKey(name);
+
+    } /* End of AttributeMap.containsKey */
+
+
+
+    /**
+     * Get the value of an attribute.
+     *   @return Get the value or null if the map doesn't contain the attribute.
+     *   @param name
+     * The name of the attribute.
+     */
+    @Override public Attribute get(Object name)
+    {
+        if(defaultTable_ != null)
+        {
+            if(overrideMap_ != null)
+            {
+                final Attribute attrib = overrideMap_.get(name);
+                if(attrib != null)
+                    return attrib;
+            }
+            return defaultTable_.map_.get(name);
+        }
+        else
+            return privateMap_.get(name);
+
+    } /* End of AttributeMap.get */
+
+
+
+    /**
+     * Put the value of an attribute into the map.
+     *   @return Get the replaced value or null if the map didn't contain the attribute.
+     *   @param name
+     * The name of the attribute.
+     *   @param attrib
+     * The value.
+     */
+    @Override public Attribute put(String name, Attribute attrib)
+    {
+        if(defaultTable_ != null)
+        {
+            if(defaultTable_.map_.containsKey(name))
+            {
+                final Attribute previousValue = get(name);
+                if(overrideMap_ == null)
+                    overrideMap_ = new HashMap<>(4);
+                overrideMap_.put(name, attrib);
+                return previousValue;
+            }
+
+            /* The new attribute is not in the shared table. Turn into a private map,
+               which is filled in the same order as the shared table had been. */
+            privateMap_ = new HashMap<>();
+            for(int idx=0; idx<defaultTable_.size(); ++idx)
+            {
+                final String n = defaultTable_.getName(idx);
+                privateMap_.put(n, get(n));
+            }
+            defaultTable_ = null;
+            overrideMap_ = null;
+        }
+        return privateMap_.put(name, attrib);
+
+    } /* End of AttributeMap.put */
+
+
+
+    /**
+     * Get the set of entries of the map.
+     *   @return Get a read-only view of the entries, which iterates in the same order as
+     * a HashMap with the same history.
+     */
+    @Override public Set<Map.Entry<String,Attribute>> entrySet()
+    {
+        if(defaultTable_ == null)
+            return Collections.unmodifiableMap(privateMap_).entrySet();
+
+        final DefaultTable defaultTable = defaultTable_;
+        return new AbstractSet<Map.Entry<String,Attribute>>()
+            {
+                @Override public Iterator<Map.Entry<String,Attribute>> iterator()
+                {
+                    final Iterator<String> itName = defaultTable.map_.keySet().iterator();
+                    return new Iterator<Map.Entry<String,Attribute>>()
+                        {
+                            @Override public boolean hasNext()
+                            {
+                                return itName.hasNext();
+                            }
+
+                            @Override public Map.Entry<String,Attribute> next()
+                            {
+                                final String name = itName.next();
+                                return new AbstractMap.SimpleImmutableEntry<>
+                                                                    (name, get(name));
+                            }
+                        };
+                }
+
+                @Override public int size()
+                {
+                    return defaultTable.size();
+                }
+            };
+    } /* End of AttributeMap.entrySet */
+
+} /* End of class AttributeMap definition. */
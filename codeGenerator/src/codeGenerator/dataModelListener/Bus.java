@@ -19,11 +19,22 @@
  * along with this program. If not, see <http://www.gnu.org/licenses/>.
  */
 /* Interface of class Bus
+ *   Bus
+ *   createView
+ *   rebaseObjIds
+ *   freeze
+ *   interpret
+ *   sortFrameAryCached
+ *   buildIndexes
+ *   getFrameById
+ *   getFrameByName
+ *   getSignalByName
  */
 
 package codeGenerator.dataModelListener;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.log4j.*;
 import codeGenerator.dbcParser.*;
 
@@ -48,6 +59,47 @@ public class Bus extends NetObject implements IST4CmdListener<Object,Object>
     /** The error counter, which counts the template emitted errors and warnings. */
     private final ErrorCounter errCnt_;
 
+    /** A frame list, which results from a sequence of sort commands. */
+    private static class SortedFrameAry
+    {
+        /** The frames in sorted order. The list is unmodifiable. */
+        List<Frame> frameAry;
+
+        /** The sequence of sort orders, which yields this frame order. If the last sort
+            order had been a strict order, which doesn't leave any two frames undecided,
+            then the sequence is reduced to this sort order. */
+        String order;
+    }
+
+    /** The frame lists, which result from sequences of sort commands, by sequence. The
+        sequence is the comma separated list of sort orders, which had been applied to the
+        frames in file order. The cache is shared by the bus and all its views. */
+    private final ConcurrentHashMap<String,SortedFrameAry> sortedFrameAryByOrder_;
+
+    /** The same frame lists as in {@link #sortedFrameAryByOrder_} but by list contents.
+        Different sequences of sort orders, which yield the same list, share a single
+        entry and the shorter sequence of the first one. Without, alternating not strict
+        sort orders would let the sequences grow with each sort command. */
+    private final ConcurrentHashMap<List<Frame>,SortedFrameAry> sortedFrameAryByFrames_;
+
+    /** The maximum number of entries in {@link #sortedFrameAryByOrder_}. Templates, which
+        produce more different sequences of sort orders, still get the right order but
+        without the cache. */
+    private static final int _maxNoCachedFrameOrders = 100;
+
+    /** The sequence of sort orders, which has been applied to {@link #frameAry} so far.
+        The empty string if the frames still have the order of the network file. */
+    private String frameAryOrder_ = "";
+
+    /** The lookup of frames by ID or null if it has not been used yet. */
+    private IndexMap<Frame> frameById_ = null;
+
+    /** The lookup of frames by name or null if it has not been used yet. */
+    private IndexMap<Frame> frameByName_ = null;
+
+    /** The lookup of signals by name or null if it has not been used yet. */
+    private IndexMap<List<SignalRef>> signalByName_ = null;
+
     /** The name of the network description file, which has been parsed into this object.
           The network file is described with an extended Java File object. This
         object extends the Java class File by adding some information about parts of the
@@ -68,7 +120,7 @@ public class Bus extends NetObject implements IST4CmdListener<Object,Object>
     /** The same attribute definition objects, which are stored in the map attribDefMap can
         also be referenced from this array. The array structure supports the implementation
         of overview tables of attributes in a template. */
-    public ArrayList<AttributeDef> attribDefAry = null;
+    public List<AttributeDef> attribDefAry = null;
     
     /** The number of attribute definitions in <b>attribDefAry</b> and <b>attribDefMap</b>.
         From a StringTemplate V4 template this member is accessed as {@code
@@ -86,7 +138,7 @@ public class Bus extends NetObject implements IST4CmdListener<Object,Object>
     /** A bus knows frames, which are exchanged with the given network node on this bus.
         Initially, the frames in the array have the order of appearance in the parsed
         network database. The array can be sorted using the command {@link #sortFrameAry}. */
-    public ArrayList<Frame> frameAry = null;
+    public List<Frame> frameAry = null;
 
     /** The number of frames in <b>frameAry</b>. From a StringTemplate V4
         template this member is accessed as {@code <bus.noFrames>}.
@@ -97,9 +149,10 @@ public class Bus extends NetObject implements IST4CmdListener<Object,Object>
     /** This field can be used to demand a certain sort order of the frame list {@link
         #frameAry}. The order of frames is changed by passing the wanted sort order in a
         StringTemplate V4 template expression like {@code <bus.sortFrameAry.byId>}, where
-        {@code byId} is meant an example of a supported sort order. All subsequently
-        evaluated template expressions will find the field {@code <bus.frameAry>} in the
-        new sort order. Supported sort orders are:<br><ul>
+        {@code byId} is meant an example of a supported sort order. The template
+        expressions, which are evaluated later in the same template expansion, will find
+        the field {@code <bus.frameAry>} in the new sort order. Supported sort orders
+        are:<br><ul>
           <li> {@code byName}: Ascending lexical order of names 
           <li> {@code byNameInverse}: Descending lexical order of names 
           <li> {@code byId}: Ascending CAN ID. Note, if an 11 and a 29 Bit frame have the
@@ -120,12 +173,17 @@ public class Bus extends NetObject implements IST4CmdListener<Object,Object>
         frames follow smaller ones and all equally sized would be ordered by ascending CAN
         ID.<p>
           Please note, once you've sorted the array of frames the initial order is lost and
-        can't be restored again. This is the order of appearance in the network file.
-        However, a frame iteration in this order is still possible via field {@link
-        Cluster#frameInFileOrderAry}. Reordering a bus' frame list won't affect the frame
-        lists owned by {@link Cluster}; {@link Cluster#frameByNameAry}, {@link
-        Cluster#frameByIdAry} and {@link Cluster#frameInFileOrderAry} are constant
-        throughout the complete template expansion process. */
+        can't be restored again. This is the order of appearance in the network file. The
+        new order persists for the templates, which are expanded later, i.e., when
+        generating the next output files. This is different if the output files are
+        rendered concurrently, see command line argument {@code --render-threads}: Then
+        each template expansion starts with the initial order, regardless of the sorting
+        done by other templates. In either case, a frame iteration in the initial order is
+        still possible after sorting via field {@link Cluster#frameInFileOrderAry}.
+        Reordering a bus' frame list won't affect the frame lists owned by {@link
+        Cluster}; {@link Cluster#frameByNameAry}, {@link Cluster#frameByIdAry} and {@link
+        Cluster#frameInFileOrderAry} are constant throughout the complete template
+        expansion process. */
     public final ST4CmdInterpreter<Object,Object> sortFrameAry;
 
     /** The transmission direction of frames (sent, received, none of these or both) is
@@ -193,17 +251,171 @@ public class Bus extends NetObject implements IST4CmdListener<Object,Object>
     {
         assert errCnt != null: "Don't pass null as error counter";
         errCnt_ = errCnt;
+        sortedFrameAryByOrder_ = new ConcurrentHashMap<>();
+        sortedFrameAryByFrames_ = new ConcurrentHashMap<>();
+        sortFrameAry = new ST4CmdInterpreter<>( /* context */ null
+                                              , /* cmdListener */ this
+                                              , errCnt_
+                                              , /* logContext */ "<Bus.sortFrameAry>: "
+                                              );
+    } /* End of Bus */
+    
+    
+    /** 
+     * Create a shallow copy of a Bus object, see {@link #createView}.
+     *   @param original The copied bus.
+     *   @param errCnt Template emitted and caused errors are counted in this object.
+     */
+    private Bus(Bus original, ErrorCounter errCnt)
+    {
+        super(original);
+        assert errCnt != null: "Don't pass null as error counter";
+        errCnt_ = errCnt;
+        sortedFrameAryByOrder_ = original.sortedFrameAryByOrder_;
+        sortedFrameAryByFrames_ = original.sortedFrameAryByFrames_;
         sortFrameAry = new ST4CmdInterpreter<>( /* context */ null
                                               , /* cmdListener */ this
                                               , errCnt_
                                               , /* logContext */ "<Bus.sortFrameAry>: "
                                               );
+        networkFile = original.networkFile;
+        attribDefMap = original.attribDefMap;
+        attribDefAry = original.attribDefAry;
+        nodeAry = original.nodeAry;
+        frameAry = original.frameAry;
+        frameAryOrder_ = original.frameAryOrder_;
+        isTransmissionDirectionInverted = original.isTransmissionDirectionInverted;
+        hasFloatingPointSignals = original.hasFloatingPointSignals;
+        hasScaledFloatingPointSignals = original.hasScaledFloatingPointSignals;
+        optionMap = original.optionMap;
+
     } /* End of Bus */
     
     
+    /**
+     * Get a view of the bus for a single template expansion.<p>
+     *   A template can change the order of the frames, see {@link #sortFrameAry}. Several
+     * templates, which are expanded concurrently, must not share the order of the frames.
+     * The view is a shallow copy, which holds its own reference to the list of frames.
+     * Sorting doesn't modify the list but replaces the reference with another,
+     * unmodifiable list of the same frames.
+     *   @return Get the new view. It has the same object ID as this bus.
+     *   @param errCnt
+     * Template emitted and caused errors of the expansion, which uses the view, are
+     * counted in this object.
+     */
+    Bus createView(ErrorCounter errCnt)
+    {
+        return new Bus(this, errCnt);
+
+    } /* End of Bus.createView */
+    
+    
+    /**
+     * Add an offset to the object ID of the bus and of all its nodes, frames, PDUs and
+     * signals.<p>
+     *   A bus, which has been parsed in a thread with thread local object IDs (see {@link
+     * NetObject#beginThreadLocalObjIds}) holds IDs counting from zero. They become unique
+     * by adding the start of the range, which has been reserved for the bus with {@link
+     * NetObject#reserveObjIds}.
+     *   @param firstObjId
+     * The offset to add to all object IDs, i.e., the first ID of the reserved range.
+     */
+    public void rebaseObjIds(int firstObjId)
+    {
+        objId += firstObjId;
+        if(nodeAry != null)
+        {
+            for(Node node: nodeAry)
+                node.objId += firstObjId;
+        }
+        if(frameAry != null)
+        {
+            for(Frame frame: frameAry)
+            {
+                frame.objId += firstObjId;
+                if(frame.pduAry == null)
+                    continue;
+                for(Pdu pdu: frame.pduAry)
+                {
+                    pdu.objId += firstObjId;
+                    if(pdu.signalAry != null)
+                    {
+                        for(Signal signal: pdu.signalAry)
+                            signal.objId += firstObjId;
+                    }
+                    if(pdu.muxSelector != null)
+                        pdu.muxSelector.objId += firstObjId;
+                    if(pdu.muxSignalSetAry != null)
+                    {
+                        for(Pdu.MultiplexedSignalSet muxSignalSet: pdu.muxSignalSetAry)
+                        {
+                            if(muxSignalSet.signalAry == null)
+                                continue;
+                            for(Signal signal: muxSignalSet.signalAry)
+                                signal.objId += firstObjId;
+                        }
+                    }
+                }
+            }
+        }
+    } /* End of Bus.rebaseObjIds */
+    
+    
+    /**
+     * Freeze the bus after parsing: All lists of the bus, its frames, PDUs and signals
+     * are made unmodifiable. See {@link Cluster#freeze}.
+     */
+    void freeze()
+    {
+        if(attribDefAry != null)
+            attribDefAry = Collections.unmodifiableList(attribDefAry);
+        if(frameAry == null)
+            return;
+
+        frameAry = Collections.unmodifiableList(frameAry);
+        for(Frame frame: frameAry)
+        {
+            if(frame.pduAry == null)
+                continue;
+            for(Pdu pdu: frame.pduAry)
+            {
+                if(pdu.signalAry != null)
+                {
+                    for(Signal signal: pdu.signalAry)
+                        signal.freeze();
+                    pdu.signalAry = Collections.unmodifiableList(pdu.signalAry);
+                }
+                if(pdu.muxSelector != null)
+                    pdu.muxSelector.freeze();
+                if(pdu.muxSignalSetAry != null)
+                {
+                    for(Pdu.MultiplexedSignalSet muxSignalSet: pdu.muxSignalSetAry)
+                    {
+                        if(muxSignalSet.signalAry == null)
+                            continue;
+                        for(Signal signal: muxSignalSet.signalAry)
+                            signal.freeze();
+                        muxSignalSet.signalAry =
+                                    Collections.unmodifiableList(muxSignalSet.signalAry);
+                    }
+                    pdu.muxSignalSetAry = Collections.unmodifiableList(pdu.muxSignalSetAry);
+                }
+            }
+        }
+    } /* End of Bus.freeze */
+    
+    
     /**
      * This method implements the command listener, which is used to apply the sorting of
-     * the frame array.
+     * the frame array.<p>
+     *   Typically, all templates apply the same few sort commands to the frames of a bus.
+     * The sorted frame lists are cached. Only the first command of a kind really sorts
+     * the frames, all later ones use the cached list. The Java sort algorithm is stable
+     * and the order of frames, which are equal with respect to the demanded sort order,
+     * depends on the order before sorting. Therefore, a sorted list is cached under the
+     * complete sequence of sort orders, which had been applied to the frames. The
+     * sequence is shortened whenever possible, see {@link #sortFrameAryCached}.
      *   @return The function will always return null: The template engine must not
      * generate any output because of the sort command.
      *   @param context
@@ -218,12 +430,12 @@ public class Bus extends NetObject implements IST4CmdListener<Object,Object>
         
         try
         {
-            /* Set the wanted sort order statically for the class of frames. Then run the
-               collection's sort function.
+            /* The sort order is a comparator for frames. Run the collection's sort
+               function with it.
                  valueOf parses the string and will report an error by exception. */
-            Frame.setSortOrder(Frame.SortOrder.valueOf(cmd));
+            final Frame.SortOrder sortOrder = Frame.SortOrder.valueOf(cmd);
             if(frameAry != null)
-                Collections.sort(frameAry);
+                sortFrameAryCached(sortOrder);
         }
         catch(IllegalArgumentException ex)    
         {
@@ -239,7 +451,184 @@ public class Bus extends NetObject implements IST4CmdListener<Object,Object>
         return null;
         
     } /* End if IST4CmdListener.interpret */
+
+
+    /**
+     * Replace {@link #frameAry} with a list of the same frames in a given order. The
+     * current list is not modified. The sorted list is taken from the cache if the same
+     * sequence of sort orders had been applied before, to this bus or to another view of
+     * it.<p>
+     *   The sequence, which is the key into the cache, is kept short: A strict sort order
+     * replaces the sequence before and a sequence, which yields an already cached list,
+     * is replaced with the sequence of that list. The number of cached lists is limited
+     * by {@link #_maxNoCachedFrameOrders}.
+     *   @param sortOrder
+     * The wanted sort order.
+     */
+    private void sortFrameAryCached(Frame.SortOrder sortOrder)
+    {
+        final String cmd = sortOrder.name();
+
+        /* Sorting twice in the same order doesn't change anything. */
+        if(frameAryOrder_.equals(cmd)  ||  frameAryOrder_.endsWith("," + cmd))
+            return;
+
+        final String order = frameAryOrder_.isEmpty()? cmd: frameAryOrder_ + "," + cmd;
+        SortedFrameAry sortedFrameAry = sortedFrameAryByOrder_.get(order);
+        if(sortedFrameAry == null)
+        {
+            /* The current list is not modified; it may be shared with other views. */
+            final ArrayList<Frame> sortedList = new ArrayList<>(frameAry);
+            Collections.sort(sortedList, sortOrder);
+
+            /* If no two frames are equal in the sort order then the result doesn't depend
+               on the order before. */
+            boolean isStrictOrder = true;
+            for(int idxFrame=1; idxFrame<sortedList.size(); ++idxFrame)
+            {
+                if(sortOrder.compare(sortedList.get(idxFrame-1), sortedList.get(idxFrame))
+                   == 0
+                  )
+                {
+                    isStrictOrder = false;
+                    break;
+                }
+            }
+
+            sortedFrameAry = new SortedFrameAry();
+            sortedFrameAry.frameAry = Collections.unmodifiableList(sortedList);
+            sortedFrameAry.order = isStrictOrder? cmd: order;
+
+            /* The frame list is identified by its contents: Another sequence of sort
+               orders may already have yielded the same list. The size check is not
+               synchronized; concurrent views may exceed the limit by a few entries. */
+            if(sortedFrameAryByOrder_.size() < _maxNoCachedFrameOrders)
+            {
+                final SortedFrameAry cachedFrameAry =
+                            sortedFrameAryByFrames_.putIfAbsent( sortedFrameAry.frameAry
+                                                               , sortedFrameAry
+                                                               );
+                if(cachedFrameAry != null)
+                    sortedFrameAry = cachedFrameAry;
+                sortedFrameAryByOrder_.putIfAbsent(order, sortedFrameAry);
+                sortedFrameAryByOrder_.putIfAbsent(sortedFrameAry.order, sortedFrameAry);
+            }
+        }
+        frameAry = sortedFrameAry.frameAry;
+        frameAryOrder_ = sortedFrameAry.order;
+
+    } /* End of Bus.sortFrameAryCached */
     
+
+
+    /**
+     * Build the lookup maps {@link #getFrameById}, {@link #getFrameByName} and {@link
+     * #getSignalByName} on first use. The frames are indexed in the order of the network
+     * file, regardless of the current order of {@link #frameAry}.
+     */
+    private synchronized void buildIndexes()
+    {
+        if(frameById_ != null)
+            return;
+
+        final IndexMap<Frame> frameById = new IndexMap<>(/* isNumericKey */ true)
+                            , frameByName = new IndexMap<>(/* isNumericKey */ false);
+        final IndexMap<List<SignalRef>> signalByName = new IndexMap<>(false);
+        final int noFrames = getNoFrames();
+        final Frame[] frameInFileOrderAry = new Frame[noFrames];
+        for(int idxFrame=0; idxFrame<noFrames; ++idxFrame)
+        {
+            final Frame frame = frameAry.get(idxFrame);
+            assert frame.i0 >= 0  &&  frame.i0 < noFrames;
+            frameInFileOrderAry[frame.i0] = frame;
+        }
+        for(Frame frame: frameInFileOrderAry)
+        {
+            frameById.add(Integer.toString(frame.id), frame);
+            frameByName.add(frame.name, frame);
+            if(frame.pduAry == null)
+                continue;
+            for(Pdu pdu: frame.pduAry)
+            {
+                if(pdu.signalAry != null)
+                {
+                    for(Signal signal: pdu.signalAry)
+                    {
+                        IndexMap.addToList( signalByName
+                                          , signal.name
+                                          , new SignalRef(this, frame, pdu, signal)
+                                          );
+                    }
+                }
+                if(pdu.muxSelector != null)
+                {
+                    IndexMap.addToList( signalByName
+                                      , pdu.muxSelector.name
+                                      , new SignalRef(this, frame, pdu, pdu.muxSelector)
+                                      );
+                }
+                if(pdu.muxSignalSetAry != null)
+                {
+                    for(Pdu.MultiplexedSignalSet muxSignalSet: pdu.muxSignalSetAry)
+                    {
+                        if(muxSignalSet.signalAry == null)
+                            continue;
+                        for(Signal signal: muxSignalSet.signalAry)
+                        {
+                            IndexMap.addToList( signalByName
+                                              , signal.name
+                                              , new SignalRef(this, frame, pdu, signal)
+                                              );
+                        }
+                    }
+                }
+            }
+        }
+        frameByName_ = frameByName;
+        signalByName_ = signalByName;
+        frameById_ = frameById;
+
+    } /* End of Bus.buildIndexes */
+
+
+    /** Lookup of the frames of the bus by CAN ID. A template gets the frame with a given
+        ID by an expression like {@code <bus.frameById.("0x1A0")>} or {@code
+        <bus.frameById.(id)>}, where id is an integer attribute. If a standard and an
+        extended frame have the same ID then the frame, which comes first in the network
+        file is found.
+          @return Get the map. */
+    public Map<String,Frame> getFrameById()
+    {
+        buildIndexes();
+        return frameById_;
+
+    } /* End of Bus.getFrameById */
+
+
+    /** Lookup of the frames of the bus by name. A template gets the frame with a given
+        name by an expression like {@code <bus.frameByName.(name)>}.
+          @return Get the map. */
+    public Map<String,Frame> getFrameByName()
+    {
+        buildIndexes();
+        return frameByName_;
+
+    } /* End of Bus.getFrameByName */
+
+
+    /** Lookup of the signals of the bus by name. Signal names are unique only inside a
+        frame; the map yields the list of all signals of the bus with a given name, e.g.,
+        {@code <bus.signalByName.(name):{sr|<sr.frame.name>.<sr.signal.name>}>}. The list
+        elements are {@link SignalRef} objects, which give access to PDU and frame of the
+        signal. They are in the order of the network file.
+          @return Get the map. */
+    public Map<String,List<SignalRef>> getSignalByName()
+    {
+        buildIndexes();
+        return signalByName_;
+
+    } /* End of Bus.getSignalByName */
+
 } /* End of class Bus definition. */
 
 
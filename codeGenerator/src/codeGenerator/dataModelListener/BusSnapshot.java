@@ -0,0 +1,1309 @@
+/**
+ * @file BusSnapshot.java
+ * A compact binary representation of the data model of a bus, which can be stored in a
+ * file and loaded much faster than the network database file can be parsed.
+ *
+ * Copyright (C) 2025 Peter Vranken (mailto:Peter_Vranken@Yahoo.de)
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+/* Interface of class BusSnapshot
+ *   write
+ *   read
+ */
+
+package codeGenerator.dataModelListener;
+
+import java.util.*;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import codeGenerator.dbcParser.ErrorCounter;
+
+
+/**
+ * A snapshot of the data model of a bus is a compact binary representation of the object
+ * graph of the bus: The attribute definitions, the nodes, frames, PDUs, signals, their
+ * attributes, value tables and multiplexed signal sets.<p>
+ *   The snapshot is complete in that a bus, which is loaded from it, can't be
+ * distinguished from the parsed original by a template: Objects, which are shared in the
+ * original, e.g., a default attribute value or a special signal, are shared in the loaded
+ * bus, too, all maps iterate in the same order and the object IDs are the same as if the
+ * network database file had been parsed at the point of loading.<p>
+ *   Not part of the snapshot are those fields, which are simply copied from the user's
+ * bus specification: the name of the bus, the network database file and the user
+ * options. They need to be set after loading.
+ */
+
+public class BusSnapshot
+{
+    /** The first four bytes of a snapshot, the ASCII characters "CGBS". */
+    private static final int _magic = 0x43474253;
+
+    /** The version of the binary format. It needs to be incremented with any change of
+        the data model. Snapshots of other versions are rejected. */
+    public static final int formatVersion = 2;
+
+    /** The marker of a null reference in the stream. */
+    private static final int _refNull = -1;
+
+    /** The marker of an object, which is not referenced for the first time in the
+        stream. */
+    private static final int _refNew = -2;
+
+    /** The type tags of the values, which can be stored in fields of type Object or
+        Number. */
+    private static final byte _tagNull = 0
+                            , _tagBoolean = 1
+                            , _tagInteger = 2
+                            , _tagLong = 3
+                            , _tagDouble = 4
+                            , _tagString = 5;
+
+    /** The kinds of attribute maps in the stream. */
+    private static final byte _attribMapPlain = 0
+                            , _attribMapShared = 1;
+
+    /** The stream to write to or null if a snapshot is read. */
+    private final DataOutputStream out_;
+
+    /** The stream to read from or null if a snapshot is written. */
+    private final DataInputStream in_;
+
+    /** Writing: The index of all written shared objects, by object identity. */
+    private final IdentityHashMap<Object,Integer> idxByObj_;
+
+    /** Reading: All read shared objects by index. */
+    private final ArrayList<Object> objAry_;
+
+    /** Writing: The index of all written strings. */
+    private final HashMap<String,Integer> idxByString_;
+
+    /** Reading: All read strings by index. */
+    private final ArrayList<String> stringAry_;
+
+    /** Writing: The value, which is subtracted from the object IDs. */
+    private final int firstObjId_;
+
+    /** Reading: All created network objects in order of creation. */
+    private final ArrayList<NetObject> netObjAry_;
+
+    /**
+     * A new instance of BusSnapshot is created for writing.
+     *   @param out
+     * The stream to write to.
+     *   @param firstObjId
+     * The ID, which is stored as zero.
+     */
+    private BusSnapshot(DataOutputStream out, int firstObjId)
+    {
+        out_ = out;
+        in_ = null;
+        idxByObj_ = new IdentityHashMap<>();
+        objAry_ = null;
+        idxByString_ = new HashMap<>();
+        stringAry_ = null;
+        firstObjId_ = firstObjId;
+        netObjAry_ = null;
+
+    } /* End of BusSnapshot.BusSnapshot */
+
+
+    /**
+     * A new instance of BusSnapshot is created for reading.
+     *   @param in
+     * The stream to read from.
+     */
+    private BusSnapshot(DataInputStream in)
+    {
+        out_ = null;
+        in_ = in;
+        idxByObj_ = null;
+        objAry_ = new ArrayList<>();
+        idxByString_ = null;
+        stringAry_ = new ArrayList<>();
+        firstObjId_ = 0;
+        netObjAry_ = new ArrayList<>();
+
+    } /* End of BusSnapshot.BusSnapshot */
+
+
+
+    /**
+     * Write the snapshot of a bus into a stream.<p>
+     *   The object IDs are stored relative to the ID of the first object, which has been
+     * created while parsing the bus. Parsing may have consumed IDs for objects, which
+     * didn't become part of the data model, e.g., filtered frames. Therefore, the number
+     * of consumed IDs is stored, too.
+     *   @throws IOException
+     * Writing the stream fails or the bus contains a value of unexpected type.
+     *   @param os
+     * The stream to write to. It is not closed.
+     *   @param bus
+     * The data model of the bus.
+     *   @param firstObjId
+     * The next object ID at the beginning of parsing the bus, see {@link
+     * NetObject#reserveObjIds}.
+     *   @param noObjIds
+     * The number of object IDs, which have been consumed by parsing the bus.
+     */
+    public static void write(OutputStream os, Bus bus, int firstObjId, int noObjIds)
+        throws IOException
+    {
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os));
+        out.writeInt(_magic);
+        out.writeInt(formatVersion);
+        out.writeInt(noObjIds);
+        new BusSnapshot(out, firstObjId).writeBus(bus);
+        out.flush();
+
+    } /* End of BusSnapshot.write */
+
+
+
+    /**
+     * Read the snapshot of a bus from a stream.<p>
+     *   The objects of the bus get the IDs, which they would have got from parsing the
+     * network database file. The ID generator of the calling thread is advanced
+     * accordingly. If reading fails, then the ID generator is left unchanged; a
+     * subsequent parsing of the file yields the same IDs as if no snapshot had been
+     * tried.
+     *   @return Get the bus. The name of the bus, the network database file and the user
+     * options are not set.
+     *   @throws IOException
+     * Reading the stream fails or it doesn't contain a valid snapshot.
+     *   @param is
+     * The stream to read from. It is not closed.
+     *   @param errCnt
+     * Template emitted and caused errors are counted in this object. See {@link
+     * Bus#Bus}.
+     */
+    public static Bus read(InputStream is, ErrorCounter errCnt)
+        throws IOException
+    {
+        /* The objects take their IDs from the generator while they are read. A failure
+           must not leave a gap in the IDs of the objects, which are created later. */
+        final int nextObjId = NetObject.reserveObjIds(0);
+        boolean success = false;
+        try
+        {
+            final Bus bus = readSnapshot(is, errCnt);
+            success = true;
+            return bus;
+        }
+        finally
+        {
+            if(!success)
+                NetObject.rewindObjIds(nextObjId);
+        }
+    } /* End of BusSnapshot.read */
+
+
+
+    /**
+     * Read the snapshot of a bus from a stream. Implementation of {@link #read}, which
+     * doesn't care about the ID generator in case of failure.
+     *   @return Get the bus.
+     *   @throws IOException
+     * Reading the stream fails or it doesn't contain a valid snapshot.
+     *   @param is
+     * The stream to read from. It is not closed.
+     *   @param errCnt
+     * Template emitted and caused errors are counted in this object.
+     */
+    private static Bus readSnapshot(InputStream is, ErrorCounter errCnt)
+        throws IOException
+    {
+        final DataInputStream in = new DataInputStream(new BufferedInputStream(is));
+        if(in.readInt() != _magic)
+            throw new IOException("The file is not a snapshot of a bus");
+        final int version = in.readInt();
+        if(version != formatVersion)
+        {
+            throw new IOException("The snapshot has the unsupported format version "
+                                  + version
+                                 );
+        }
+        final int noObjIds = in.readInt();
+
+        final BusSnapshot snapshot = new BusSnapshot(in);
+        final Bus bus;
+        try
+        {
+            bus = snapshot.readBus(errCnt);
+        }
+        catch(RuntimeException e)
+        {
+            throw new IOException("The snapshot is corrupt: " + e, e);
+        }
+
+        /* The objects have been created with consecutive IDs. The IDs, which parsing had
+           consumed in addition, are skipped. Then the relative IDs from the snapshot
+           become IDs in the range the objects have taken. */
+        final int noNetObjs = snapshot.netObjAry_.size();
+        if(noObjIds < noNetObjs)
+            throw new IOException("The snapshot is corrupt: Bad number of object IDs");
+        final int firstObjId = NetObject.reserveObjIds(noObjIds - noNetObjs) - noNetObjs;
+        for(NetObject netObj: snapshot.netObjAry_)
+            netObj.objId += firstObjId;
+
+        return bus;
+
+    } /* End of BusSnapshot.readSnapshot */
+
+
+
+    /**
+     * Write a string.
+     *   @param s
+     * The string or null.
+     */
+    private void writeString(String s)
+        throws IOException
+    {
+        if(s == null)
+            out_.writeInt(_refNull);
+        else
+        {
+            final Integer idx = idxByString_.get(s);
+            if(idx != null)
+                out_.writeInt(idx);
+            else
+            {
+                idxByString_.put(s, idxByString_.size());
+                final byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+                out_.writeInt(_refNew);
+                out_.writeInt(utf8.length);
+                out_.write(utf8);
+            }
+        }
+    } /* End of BusSnapshot.writeString */
+
+
+
+    /**
+     * Read a string.
+     *   @return Get the string or null.
+     */
+    private String readString()
+        throws IOException
+    {
+        final int idx = in_.readInt();
+        if(idx == _refNull)
+            return null;
+        else if(idx == _refNew)
+        {
+            final byte[] utf8 = new byte[in_.readInt()];
+            in_.readFully(utf8);
+            final String s = new String(utf8, StandardCharsets.UTF_8);
+            stringAry_.add(s);
+            return s;
+        }
+        else
+            return stringAry_.get(idx);
+
+    } /* End of BusSnapshot.readString */
+
+
+
+    /**
+     * Write a value of one of the Java types Boolean, Integer, Long, Double or String.
+     *   @param value
+     * The value or null.
+     */
+    private void writeValue(Object value)
+        throws IOException
+    {
+        if(value == null)
+            out_.writeByte(_tagNull);
+        else if(value instanceof Boolean)
+        {
+            out_.writeByte(_tagBoolean);
+            out_.writeBoolean((Boolean)value);
+        }
+        else if(value instanceof Integer)
+        {
+            out_.writeByte(_tagInteger);
+            out_.writeInt((Integer)value);
+        }
+        else if(value instanceof Long)
+        {
+            out_.writeByte(_tagLong);
+            out_.writeLong((Long)value);
+        }
+        else if(value instanceof Double)
+        {
+            out_.writeByte(_tagDouble);
+            out_.writeDouble((Double)value);
+        }
+        else if(value instanceof String)
+        {
+            out_.writeByte(_tagString);
+            writeString((String)value);
+        }
+        else
+        {
+            throw new IOException("Values of type " + value.getClass().getName()
+                                  + " can't be stored in a snapshot"
+                                 );
+        }
+    } /* End of BusSnapshot.writeValue */
+
+
+
+    /**
+     * Read a value, which has been written with {@link #writeValue}.
+     *   @return Get the value or null.
+     */
+    private Object readValue()
+        throws IOException
+    {
+        final byte tag = in_.readByte();
+        switch(tag)
+        {
+        case _tagNull: return null;
+        case _tagBoolean: return Boolean.valueOf(in_.readBoolean());
+        case _tagInteger: return Integer.valueOf(in_.readInt());
+        case _tagLong: return Long.valueOf(in_.readLong());
+        case _tagDouble: return Double.valueOf(in_.readDouble());
+        case _tagString: return readString();
+        default:
+            throw new IOException("The snapshot is corrupt: Bad type tag " + tag);
+        }
+    } /* End of BusSnapshot.readValue */
+
+
+
+    /**
+     * Write an array of integers.
+     *   @param a
+     * The array or null.
+     */
+    private void writeIntAry(int[] a)
+        throws IOException
+    {
+        if(a == null)
+            out_.writeInt(_refNull);
+        else
+        {
+            out_.writeInt(a.length);
+            for(int i: a)
+                out_.writeInt(i);
+        }
+    } /* End of BusSnapshot.writeIntAry */
+
+
+
+    /**
+     * Read an array of integers.
+     *   @return Get the array or null.
+     */
+    private int[] readIntAry()
+        throws IOException
+    {
+        final int len = in_.readInt();
+        if(len == _refNull)
+            return null;
+        final int[] a = new int[len];
+        for(int idx=0; idx<len; ++idx)
+            a[idx] = in_.readInt();
+        return a;
+
+    } /* End of BusSnapshot.readIntAry */
+
+
+
+    /**
+     * Write a map of Boolean values, like the field <b>is</b> of signals and attributes.
+     *   @param map
+     * The map or null.
+     */
+    private void writeBooleanMap(Map<String,Boolean> map)
+        throws IOException
+    {
+        if(map == null)
+            out_.writeInt(_refNull);
+        else
+        {
+            out_.writeInt(map.size());
+            for(Map.Entry<String,Boolean> entry: map.entrySet())
+            {
+                writeString(entry.getKey());
+                out_.writeBoolean(entry.getValue());
+            }
+        }
+    } /* End of BusSnapshot.writeBooleanMap */
+
+
+
+    /**
+     * Read a map of Boolean values.
+     *   @return Get the map or null. The map iterates in the order of the written map.
+     */
+    private HashMap<String,Boolean> readBooleanMap()
+        throws IOException
+    {
+        final int size = in_.readInt();
+        if(size == _refNull)
+            return null;
+        final HashMap<String,Boolean> map = new LinkedHashMap<>();
+        for(int idx=0; idx<size; ++idx)
+        {
+            final String key = readString();
+            map.put(key, Boolean.valueOf(in_.readBoolean()));
+        }
+        return map;
+
+    } /* End of BusSnapshot.readBooleanMap */
+
+
+
+    /**
+     * Write the reference to an object, which can be shared by several other objects. The
+     * object itself is written only at its first occurance.
+     *   @return Get true if the object needs to be written by the caller.
+     *   @param obj
+     * The object or null.
+     */
+    private boolean writeRef(Object obj)
+        throws IOException
+    {
+        if(obj == null)
+        {
+            out_.writeInt(_refNull);
+            return false;
+        }
+
+        final Integer idx = idxByObj_.get(obj);
+        if(idx != null)
+        {
+            out_.writeInt(idx);
+            return false;
+        }
+
+        idxByObj_.put(obj, idxByObj_.size());
+        out_.writeInt(_refNew);
+        return true;
+
+    } /* End of BusSnapshot.writeRef */
+
+
+
+    /**
+     * Read the reference to an object, which can be shared by several other objects.
+     *   @return Get the index of the already read object, or {@link #_refNull} or {@link
+     * #_refNew}. In the latter case the caller needs to create the object, register it
+     * with {@link #addRef} and read its contents.
+     */
+    private int readRef()
+        throws IOException
+    {
+        final int idx = in_.readInt();
+        if(idx < _refNew  ||  idx >= objAry_.size())
+            throw new IOException("The snapshot is corrupt: Bad object reference " + idx);
+        return idx;
+
+    } /* End of BusSnapshot.readRef */
+
+
+
+    /**
+     * Register a shared object, which is being read.
+     *   @return Get the object.
+     *   @param obj
+     * The new object.
+     */
+    private <T> T addRef(T obj)
+    {
+        objAry_.add(obj);
+        return obj;
+
+    } /* End of BusSnapshot.addRef */
+
+
+
+    /**
+     * Write the common fields of all network objects.
+     *   @param netObj
+     * The network object.
+     */
+    private void writeNetObject(NetObject netObj)
+        throws IOException
+    {
+        out_.writeInt(netObj.objId - firstObjId_);
+        writeString(netObj.name);
+        out_.writeInt(netObj.i0);
+        out_.writeInt(netObj.i);
+        writeString(netObj.desc);
+        writeAttribMap(netObj.attribMap);
+
+    } /* End of BusSnapshot.writeNetObject */
+
+
+
+    /**
+     * Read the common fields of all network objects.
+     *   @param netObj
+     * The new network object, which is filled.
+     */
+    private void readNetObject(NetObject netObj)
+        throws IOException
+    {
+        netObjAry_.add(netObj);
+
+        /* The object ID is relative to the first object ID. It is made absolute when all
+           objects have been created. */
+        netObj.objId = in_.readInt();
+        netObj.name = readString();
+        netObj.i0 = in_.readInt();
+        netObj.i = in_.readInt();
+        netObj.desc = readString();
+        netObj.attribMap = readAttribMap();
+
+    } /* End of BusSnapshot.readNetObject */
+
+
+
+    /**
+     * Write a table of default attribute values, which is shared by the attribute maps of
+     * many network objects.
+     *   @param defaultTable
+     * The table.
+     */
+    private void writeDefaultTable(AttributeMap.DefaultTable defaultTable)
+        throws IOException
+    {
+        if(!writeRef(defaultTable))
+            return;
+
+        out_.writeInt(defaultTable.size());
+        for(int idx=0; idx<defaultTable.size(); ++idx)
+        {
+            final String name = defaultTable.getName(idx);
+            writeString(name);
+            writeAttribute(defaultTable.get(name));
+        }
+    } /* End of BusSnapshot.writeDefaultTable */
+
+
+
+    /**
+     * Read a table of default attribute values.
+     *   @return Get the table.
+     */
+    private AttributeMap.DefaultTable readDefaultTable()
+        throws IOException
+    {
+        final int ref = readRef();
+        if(ref == _refNull)
+            throw new IOException("The snapshot is corrupt: Missing table of defaults");
+        else if(ref != _refNew)
+            return (AttributeMap.DefaultTable)objAry_.get(ref);
+
+        /* The table is registered before its values are read, which can be shared
+           objects, too. It is built by adding the values in the original order. */
+        final int idxTable = objAry_.size();
+        addRef(null);
+        AttributeMap.DefaultTable defaultTable = new AttributeMap.DefaultTable();
+        final int size = in_.readInt();
+        for(int idx=0; idx<size; ++idx)
+        {
+            final String name = readString();
+            defaultTable = defaultTable.add(name, readAttribute());
+        }
+        objAry_.set(idxTable, defaultTable);
+        return defaultTable;
+
+    } /* End of BusSnapshot.readDefaultTable */
+
+
+
+    /**
+     * Write the attribute map of a network object. A PDU shares the map with its frame.
+     * Many objects share the table of default values, too, see {@link AttributeMap}.
+     *   @param attribMap
+     * The map or null.
+     */
+    private void writeAttribMap(Map<String,Attribute> attribMap)
+        throws IOException
+    {
+        final AttributeMap.DefaultTable defaultTable =
+                                        attribMap instanceof AttributeMap
+                                        ? ((AttributeMap)attribMap).getDefaultTable()
+                                        : null;
+        if(defaultTable != null)
+        {
+            out_.writeByte(_attribMapShared);
+            writeDefaultTable(defaultTable);
+            if(!writeRef(attribMap))
+                return;
+
+            final Map<String,Attribute> overrideMap =
+                                                ((AttributeMap)attribMap).getOverrideMap();
+            if(overrideMap == null)
+                out_.writeInt(0);
+            else
+            {
+                out_.writeInt(overrideMap.size());
+                for(Map.Entry<String,Attribute> entry: overrideMap.entrySet())
+                {
+                    writeString(entry.getKey());
+                    writeAttribute(entry.getValue());
+                }
+            }
+        }
+        else
+        {
+            out_.writeByte(_attribMapPlain);
+            if(!writeRef(attribMap))
+                return;
+
+            out_.writeInt(attribMap.size());
+            for(Map.Entry<String,Attribute> entry: attribMap.entrySet())
+            {
+                writeString(entry.getKey());
+                writeAttribute(entry.getValue());
+            }
+        }
+    } /* End of BusSnapshot.writeAttribMap */
+
+
+
+    /**
+     * Read the attribute map of a network object.
+     *   @return Get the map or null.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String,Attribute> readAttribMap()
+        throws IOException
+    {
+        final byte kind = in_.readByte();
+        if(kind != _attribMapPlain  &&  kind != _attribMapShared)
+            throw new IOException("The snapshot is corrupt: Bad attribute map kind " + kind);
+        final AttributeMap.DefaultTable defaultTable = kind == _attribMapShared
+                                                       ? readDefaultTable()
+                                                       : null;
+        final int ref = readRef();
+        if(ref == _refNull)
+            return null;
+        else if(ref != _refNew)
+            return (Map<String,Attribute>)objAry_.get(ref);
+
+        /* The individual values of a shared map replace values of the table of
+           defaults; they don't change the iteration order of the map. */
+        final Map<String,Attribute> attribMap =
+                                    addRef( defaultTable != null
+                                            ? new AttributeMap(defaultTable)
+                                            : new LinkedHashMap<String,Attribute>()
+                                          );
+        final int size = in_.readInt();
+        for(int idx=0; idx<size; ++idx)
+        {
+            final String key = readString();
+            attribMap.put(key, readAttribute());
+        }
+        return attribMap;
+
+    } /* End of BusSnapshot.readAttribMap */
+
+
+
+    /**
+     * Write an attribute. Default values are shared by the attribute definition and all
+     * objects, which don't have an individual value.
+     *   @param attrib
+     * The attribute or null.
+     */
+    private void writeAttribute(Attribute attrib)
+        throws IOException
+    {
+        if(!writeRef(attrib))
+            return;
+
+        writeString(attrib.name);
+        out_.writeInt(attrib.i0);
+        out_.writeInt(attrib.i);
+        writeValue(attrib.n);
+        writeString(attrib.str);
+        out_.writeBoolean(attrib.isDefVal);
+        writeBooleanMap(attrib.is);
+
+    } /* End of BusSnapshot.writeAttribute */
+
+
+
+    /**
+     * Read an attribute.
+     *   @return Get the attribute or null.
+     */
+    private Attribute readAttribute()
+        throws IOException
+    {
+        final int ref = readRef();
+        if(ref == _refNull)
+            return null;
+        else if(ref != _refNew)
+            return (Attribute)objAry_.get(ref);
+
+        final Attribute attrib = addRef(new Attribute());
+        attrib.name = readString();
+        attrib.i0 = in_.readInt();
+        attrib.i = in_.readInt();
+        attrib.n = (Number)readValue();
+        attrib.str = readString();
+        attrib.isDefVal = in_.readBoolean();
+        attrib.is = readBooleanMap();
+        return attrib;
+
+    } /* End of BusSnapshot.readAttribute */
+
+
+
+    /**
+     * Write an attribute definition.
+     *   @param attribDef
+     * The attribute definition or null.
+     */
+    private void writeAttribDef(AttributeDef attribDef)
+        throws IOException
+    {
+        if(!writeRef(attribDef))
+            return;
+
+        writeString(attribDef.name);
+        writeString(attribDef.objType.name());
+        out_.writeBoolean(attribDef.isBus);
+        out_.writeBoolean(attribDef.isNode);
+        out_.writeBoolean(attribDef.isFrame);
+        out_.writeBoolean(attribDef.isSignal);
+        out_.writeBoolean(attribDef.isEnvVar);
+        out_.writeInt(attribDef.i0);
+        out_.writeInt(attribDef.i);
+        out_.writeBoolean(attribDef.isString);
+        out_.writeBoolean(attribDef.isEnum);
+        out_.writeBoolean(attribDef.isInt);
+        out_.writeBoolean(attribDef.isHex);
+        out_.writeBoolean(attribDef.isFloat);
+        out_.writeDouble(attribDef.min);
+        out_.writeDouble(attribDef.max);
+        if(attribDef.enumValAry == null)
+            out_.writeInt(_refNull);
+        else
+        {
+            out_.writeInt(attribDef.enumValAry.length);
+            for(AttributeDef.EnumValueDef enumValDef: attribDef.enumValAry)
+            {
+                writeString(enumValDef.name);
+                out_.writeInt(enumValDef.i0);
+                out_.writeInt(enumValDef.i);
+            }
+        }
+        writeAttribute(attribDef.defVal);
+
+    } /* End of BusSnapshot.writeAttribDef */
+
+
+
+    /**
+     * Read an attribute definition.
+     *   @return Get the attribute definition or null.
+     */
+    private AttributeDef readAttribDef()
+        throws IOException
+    {
+        final int ref = readRef();
+        if(ref == _refNull)
+            return null;
+        else if(ref != _refNew)
+            return (AttributeDef)objAry_.get(ref);
+
+        final AttributeDef attribDef = addRef(new AttributeDef());
+        attribDef.name = readString();
+        attribDef.objType = AttributeDef.ObjectType.valueOf(readString());
+        attribDef.isBus = in_.readBoolean();
+        attribDef.isNode = in_.readBoolean();
+        attribDef.isFrame = in_.readBoolean();
+        attribDef.isSignal = in_.readBoolean();
+        attribDef.isEnvVar = in_.readBoolean();
+        attribDef.i0 = in_.readInt();
+        attribDef.i = in_.readInt();
+        attribDef.isString = in_.readBoolean();
+        attribDef.isEnum = in_.readBoolean();
+        attribDef.isInt = in_.readBoolean();
+        attribDef.isHex = in_.readBoolean();
+        attribDef.isFloat = in_.readBoolean();
+        attribDef.min = in_.readDouble();
+        attribDef.max = in_.readDouble();
+        final int noEnumVals = in_.readInt();
+        if(noEnumVals != _refNull)
+        {
+            attribDef.enumValAry = new AttributeDef.EnumValueDef[noEnumVals];
+            for(int idx=0; idx<noEnumVals; ++idx)
+            {
+                final AttributeDef.EnumValueDef enumValDef =
+                                                        new AttributeDef.EnumValueDef();
+                enumValDef.name = readString();
+                enumValDef.i0 = in_.readInt();
+                enumValDef.i = in_.readInt();
+                attribDef.enumValAry[idx] = enumValDef;
+            }
+        }
+        attribDef.defVal = readAttribute();
+        return attribDef;
+
+    } /* End of BusSnapshot.readAttribDef */
+
+
+
+    /**
+     * Write a signal. Signals are shared between the lists of signals and the map of
+     * special signals of a PDU.
+     *   @param signal
+     * The signal or null.
+     */
+    private void writeSignal(Signal signal)
+        throws IOException
+    {
+        if(!writeRef(signal))
+            return;
+
+        writeNetObject(signal);
+        out_.writeBoolean(signal.isReceived);
+        out_.writeBoolean(signal.isMuxSelector);
+        out_.writeBoolean(signal.isMuxedSignal);
+        out_.writeInt(signal.muxValue);
+        writeBooleanMap(signal.is);
+        out_.writeInt(signal.length);
+        out_.writeInt(signal.startBit);
+        out_.writeInt(signal.idxByteLSB);
+        out_.writeInt(signal.idxBitInByteLSB);
+        out_.writeBoolean(signal.isInteger);
+        out_.writeBoolean(signal.isFloat);
+        out_.writeBoolean(signal.isDouble);
+        out_.writeBoolean(signal.isMotorola);
+        out_.writeDouble(signal.min);
+        out_.writeDouble(signal.max);
+        out_.writeDouble(signal.factor);
+        out_.writeDouble(signal.offset);
+        out_.writeBoolean(signal.isVoidScaling);
+        out_.writeBoolean(signal.isVoidFactor);
+        out_.writeBoolean(signal.isVoidOffset);
+        writeString(signal.unit);
+        if(signal.valueDescAry == null)
+            out_.writeInt(_refNull);
+        else
+        {
+            out_.writeInt(signal.valueDescAry.size());
+            for(Signal.ValueDesc valueDesc: signal.valueDescAry)
+            {
+                writeString(valueDesc.name);
+                out_.writeLong(valueDesc.i);
+            }
+        }
+        out_.writeBoolean(signal.isSigned);
+        writeString(signal.type);
+        writeIntAry(signal.byteAry);
+        if(signal.maskAry == null)
+            out_.writeInt(_refNull);
+        else
+        {
+            out_.writeInt(signal.maskAry.length);
+            for(Object mask: signal.maskAry)
+                writeValue(mask);
+        }
+        writeString(signal.accType);
+        writeValue(signal.shiftLeft);
+        writeValue(signal.shiftRight);
+        if(signal.receiverAry == null)
+            out_.writeInt(_refNull);
+        else
+        {
+            out_.writeInt(signal.receiverAry.length);
+            for(String receiver: signal.receiverAry)
+                writeString(receiver);
+        }
+    } /* End of BusSnapshot.writeSignal */
+
+
+
+    /**
+     * Read a signal.
+     *   @return Get the signal or null.
+     */
+    private Signal readSignal()
+        throws IOException
+    {
+        final int ref = readRef();
+        if(ref == _refNull)
+            return null;
+        else if(ref != _refNew)
+            return (Signal)objAry_.get(ref);
+
+        final Signal signal = addRef(new Signal());
+        readNetObject(signal);
+        signal.isReceived = in_.readBoolean();
+        signal.isMuxSelector = in_.readBoolean();
+        signal.isMuxedSignal = in_.readBoolean();
+        signal.muxValue = in_.readInt();
+        signal.is = readBooleanMap();
+        signal.length = in_.readInt();
+        signal.startBit = in_.readInt();
+        signal.idxByteLSB = in_.readInt();
+        signal.idxBitInByteLSB = in_.readInt();
+        signal.isInteger = in_.readBoolean();
+        signal.isFloat = in_.readBoolean();
+        signal.isDouble = in_.readBoolean();
+        signal.isMotorola = in_.readBoolean();
+        signal.min = in_.readDouble();
+        signal.max = in_.readDouble();
+        signal.factor = in_.readDouble();
+        signal.offset = in_.readDouble();
+        signal.isVoidScaling = in_.readBoolean();
+        signal.isVoidFactor = in_.readBoolean();
+        signal.isVoidOffset = in_.readBoolean();
+        signal.unit = readString();
+        final int noValueDescs = in_.readInt();
+        if(noValueDescs != _refNull)
+        {
+            signal.valueDescAry = new ArrayList<>(noValueDescs);
+            for(int idx=0; idx<noValueDescs; ++idx)
+            {
+                final String name = readString();
+                signal.valueDescAry.add(new Signal.ValueDesc(name, in_.readLong()));
+            }
+        }
+        signal.isSigned = in_.readBoolean();
+        signal.type = readString();
+        signal.byteAry = readIntAry();
+        final int noMasks = in_.readInt();
+        if(noMasks != _refNull)
+        {
+            signal.maskAry = new Object[noMasks];
+            for(int idx=0; idx<noMasks; ++idx)
+                signal.maskAry[idx] = readValue();
+        }
+        signal.accType = readString();
+        signal.shiftLeft = (Integer)readValue();
+        signal.shiftRight = (Integer)readValue();
+        final int noReceivers = in_.readInt();
+        if(noReceivers != _refNull)
+        {
+            signal.receiverAry = new String[noReceivers];
+            for(int idx=0; idx<noReceivers; ++idx)
+                signal.receiverAry[idx] = readString();
+        }
+        return signal;
+
+    } /* End of BusSnapshot.readSignal */
+
+
+
+    /**
+     * Write a list of signals.
+     *   @param signalAry
+     * The list or null.
+     */
+    private void writeSignalAry(List<Signal> signalAry)
+        throws IOException
+    {
+        if(signalAry == null)
+            out_.writeInt(_refNull);
+        else
+        {
+            out_.writeInt(signalAry.size());
+            for(Signal signal: signalAry)
+                writeSignal(signal);
+        }
+    } /* End of BusSnapshot.writeSignalAry */
+
+
+
+    /**
+     * Read a list of signals.
+     *   @return Get the list or null.
+     */
+    private List<Signal> readSignalAry()
+        throws IOException
+    {
+        final int noSignals = in_.readInt();
+        if(noSignals == _refNull)
+            return null;
+        final List<Signal> signalAry = new ArrayList<>(noSignals);
+        for(int idx=0; idx<noSignals; ++idx)
+            signalAry.add(readSignal());
+        return signalAry;
+
+    } /* End of BusSnapshot.readSignalAry */
+
+
+
+    /**
+     * Write a PDU.
+     *   @param pdu
+     * The PDU.
+     */
+    private void writePdu(Pdu pdu)
+        throws IOException
+    {
+        writeNetObject(pdu);
+        out_.writeInt(pdu.id);
+        out_.writeBoolean(pdu.isExtId);
+        writeString(pdu.sender);
+        out_.writeBoolean(pdu.isSent);
+        out_.writeBoolean(pdu.isReceived);
+        out_.writeInt(pdu.size);
+        writeIntAry(pdu.idxByteInitialNullAry);
+        out_.writeInt(pdu.offsetInFrame);
+        writeSignalAry(pdu.signalAry);
+        writeSignal(pdu.muxSelector);
+        if(pdu.muxSignalSetAry == null)
+            out_.writeInt(_refNull);
+        else
+        {
+            out_.writeInt(pdu.muxSignalSetAry.size());
+            for(Pdu.MultiplexedSignalSet muxSignalSet: pdu.muxSignalSetAry)
+            {
+                out_.writeInt(muxSignalSet.i0);
+                out_.writeInt(muxSignalSet.i);
+                out_.writeInt(muxSignalSet.muxValue);
+                writeSignalAry(muxSignalSet.signalAry);
+            }
+        }
+        if(pdu.specialSignalMap == null)
+            out_.writeInt(_refNull);
+        else
+        {
+            out_.writeInt(pdu.specialSignalMap.size());
+            for(Map.Entry<String,Signal> entry: pdu.specialSignalMap.entrySet())
+            {
+                writeString(entry.getKey());
+                writeSignal(entry.getValue());
+            }
+        }
+    } /* End of BusSnapshot.writePdu */
+
+
+
+    /**
+     * Read a PDU.
+     *   @return Get the PDU.
+     */
+    private Pdu readPdu()
+        throws IOException
+    {
+        final Pdu pdu = new Pdu();
+        readNetObject(pdu);
+        pdu.id = in_.readInt();
+        pdu.isExtId = in_.readBoolean();
+        pdu.sender = readString();
+        pdu.isSent = in_.readBoolean();
+        pdu.isReceived = in_.readBoolean();
+        pdu.size = in_.readInt();
+        pdu.idxByteInitialNullAry = readIntAry();
+        pdu.offsetInFrame = in_.readInt();
+        pdu.signalAry = readSignalAry();
+        pdu.muxSelector = readSignal();
+        final int noMuxSignalSets = in_.readInt();
+        if(noMuxSignalSets != _refNull)
+        {
+            pdu.muxSignalSetAry = new ArrayList<>(noMuxSignalSets);
+            for(int idx=0; idx<noMuxSignalSets; ++idx)
+            {
+                final Pdu.MultiplexedSignalSet muxSignalSet =
+                                                        new Pdu.MultiplexedSignalSet();
+                muxSignalSet.i0 = in_.readInt();
+                muxSignalSet.i = in_.readInt();
+                muxSignalSet.muxValue = in_.readInt();
+                muxSignalSet.signalAry = readSignalAry();
+                pdu.muxSignalSetAry.add(muxSignalSet);
+            }
+        }
+        final int noSpecialSignals = in_.readInt();
+        if(noSpecialSignals != _refNull)
+        {
+            pdu.specialSignalMap = new LinkedHashMap<>();
+            for(int idx=0; idx<noSpecialSignals; ++idx)
+            {
+                final String key = readString();
+                pdu.specialSignalMap.put(key, readSignal());
+            }
+        }
+        return pdu;
+
+    } /* End of BusSnapshot.readPdu */
+
+
+
+    /**
+     * Write a frame.
+     *   @param frame
+     * The frame.
+     */
+    private void writeFrame(Frame frame)
+        throws IOException
+    {
+        writeNetObject(frame);
+        out_.writeInt(frame.id);
+        out_.writeBoolean(frame.isExtId);
+        writeString(frame.sender);
+        out_.writeBoolean(frame.isSent);
+        out_.writeBoolean(frame.isReceived);
+        out_.writeInt(frame.size);
+        writeValue(frame.DLC);
+        if(frame.pduAry == null)
+            out_.writeInt(_refNull);
+        else
+        {
+            out_.writeInt(frame.pduAry.length);
+            for(Pdu pdu: frame.pduAry)
+                writePdu(pdu);
+        }
+    } /* End of BusSnapshot.writeFrame */
+
+
+
+    /**
+     * Read a frame.
+     *   @return Get the frame.
+     */
+    private Frame readFrame()
+        throws IOException
+    {
+        final Frame frame = new Frame();
+        readNetObject(frame);
+        frame.id = in_.readInt();
+        frame.isExtId = in_.readBoolean();
+        frame.sender = readString();
+        frame.isSent = in_.readBoolean();
+        frame.isReceived = in_.readBoolean();
+        frame.size = in_.readInt();
+        frame.DLC = (Integer)readValue();
+        final int noPdus = in_.readInt();
+        if(noPdus != _refNull)
+        {
+            frame.pduAry = new Pdu[noPdus];
+            for(int idx=0; idx<noPdus; ++idx)
+                frame.pduAry[idx] = readPdu();
+        }
+        return frame;
+
+    } /* End of BusSnapshot.readFrame */
+
+
+
+    /**
+     * Write the bus.
+     *   @param bus
+     * The bus.
+     */
+    private void writeBus(Bus bus)
+        throws IOException
+    {
+        writeNetObject(bus);
+        if(bus.attribDefAry == null)
+            out_.writeInt(_refNull);
+        else
+        {
+            out_.writeInt(bus.attribDefAry.size());
+            for(AttributeDef attribDef: bus.attribDefAry)
+                writeAttribDef(attribDef);
+        }
+        if(bus.attribDefMap == null)
+            out_.writeInt(_refNull);
+        else
+        {
+            out_.writeInt(bus.attribDefMap.size());
+            for(Map.Entry<String,AttributeDef> entry: bus.attribDefMap.entrySet())
+            {
+                writeString(entry.getKey());
+                writeAttribDef(entry.getValue());
+            }
+        }
+        if(bus.nodeAry == null)
+            out_.writeInt(_refNull);
+        else
+        {
+            out_.writeInt(bus.nodeAry.length);
+            for(Node node: bus.nodeAry)
+                writeNetObject(node);
+        }
+        if(bus.frameAry == null)
+            out_.writeInt(_refNull);
+        else
+        {
+            out_.writeInt(bus.frameAry.size());
+            for(Frame frame: bus.frameAry)
+                writeFrame(frame);
+        }
+        out_.writeBoolean(bus.isTransmissionDirectionInverted);
+        out_.writeBoolean(bus.hasFloatingPointSignals);
+        out_.writeBoolean(bus.hasScaledFloatingPointSignals);
+
+    } /* End of BusSnapshot.writeBus */
+
+
+
+    /**
+     * Read the bus.
+     *   @return Get the bus.
+     *   @param errCnt
+     * The error counter of the bus.
+     */
+    private Bus readBus(ErrorCounter errCnt)
+        throws IOException
+    {
+        final Bus bus = new Bus(errCnt);
+        readNetObject(bus);
+        final int noAttribDefs = in_.readInt();
+        if(noAttribDefs != _refNull)
+        {
+            bus.attribDefAry = new ArrayList<>(noAttribDefs);
+            for(int idx=0; idx<noAttribDefs; ++idx)
+                bus.attribDefAry.add(readAttribDef());
+        }
+        final int noAttribDefsInMap = in_.readInt();
+        if(noAttribDefsInMap != _refNull)
+        {
+            bus.attribDefMap = new LinkedHashMap<>();
+            for(int idx=0; idx<noAttribDefsInMap; ++idx)
+            {
+                final String key = readString();
+                bus.attribDefMap.put(key, readAttribDef());
+            }
+        }
+        final int noNodes = in_.readInt();
+        if(noNodes != _refNull)
+        {
+            bus.nodeAry = new Node[noNodes];
+            for(int idx=0; idx<noNodes; ++idx)
+            {
+                final Node node = new Node();
+                readNetObject(node);
+                bus.nodeAry[idx] = node;
+            }
+        }
+        final int noFrames = in_.readInt();
+        if(noFrames != _refNull)
+        {
+            bus.frameAry = new ArrayList<>(noFrames);
+            for(int idx=0; idx<noFrames; ++idx)
+                bus.frameAry.add(readFrame());
+        }
+        bus.isTransmissionDirectionInverted = in_.readBoolean();
+        bus.hasFloatingPointSignals = in_.readBoolean();
+        bus.hasScaledFloatingPointSignals = in_.readBoolean();
+        return bus;
+
+    } /* End of BusSnapshot.readBus */
+
+} /* End of class BusSnapshot definition. */
@@ -21,6 +21,20 @@
  * along with this program. If not, see <http://www.gnu.org/licenses/>.
  */
 /* Interface of class Cluster
+ *   addBus
+ *   sortFrameRefAry
+ *   getFrameByNameAry
+ *   getFrameByIdAry
+ *   freeze
+ *   createView
+ *   createFrameRefAryView
+ *   getNoBuses
+ *   getNoFrames
+ *   buildIndexes
+ *   getFrameById
+ *   getFrameByName
+ *   getSignalByName
+ *   getRoutedSignalByName
  */
 
 package codeGenerator.dataModelListener;
@@ -53,7 +67,7 @@ public class Cluster
 
     /** A cluster consists of buses, where in case of CAN buses one bus is described by one
         DBC file. */
-    public ArrayList<Bus> busAry = null;
+    public List<Bus> busAry = null;
 
     /** The name of the collection in the map that holds all frames in lexical order of
         their names. Used as key into the map of frame reference collections. */
@@ -84,7 +98,7 @@ public class Cluster
           Please note that the elements of the collection are not of type Frame but it are
         FrameRef objects. These form an association of the frame and the bus it is
         transmitted on. */
-    public ArrayList<FrameRef> frameByNameAry = null;
+    public List<FrameRef> frameByNameAry = null;
 
     /** Basically, frames are a collection owned by the buses but to become able to offer
         all frames in a clusterwide sorted order, the cluster object also owns sorted
@@ -94,7 +108,7 @@ public class Cluster
           Please note that the elements of the collection are not of type Frame but it are
         FrameRef objects. These form an association of the frame and the bus it is
         transmitted on. */
-    public ArrayList<FrameRef> frameByIdAry = null;
+    public List<FrameRef> frameByIdAry = null;
     
     /** Basically, frames are a collection owned by the buses but to become able to offer
         all frames in a clusterwide sorted order, the cluster object also owns sorted
@@ -108,7 +122,29 @@ public class Cluster
           Please note that the elements of the collection are not of type Frame but it are
         FrameRef objects. These form an association of the frame and the bus it is
         transmitted on. */
-    public ArrayList<FrameRef> frameInFileOrderAry = null;
+    public List<FrameRef> frameInFileOrderAry = null;
+
+    /** The sorted collections {@link #frameByNameAry} and {@link #frameByIdAry} are
+        sorted only once, on first use after the last bus has been added. This flag is set
+        as long as they still hold the frames in file order. */
+    private boolean isFrameRefAryUnsorted_ = false;
+
+    /** The data model is complete and must not be modified any more, see {@link
+        #freeze}. */
+    private boolean isFrozen_ = false;
+
+    /** The lookup of frame references by ID or null if it has not been used yet. */
+    private IndexMap<List<FrameRef>> frameById_ = null;
+
+    /** The lookup of frame references by name or null if it has not been used yet. */
+    private IndexMap<List<FrameRef>> frameByName_ = null;
+
+    /** The lookup of signals by name or null if it has not been used yet. */
+    private IndexMap<List<SignalRef>> signalByName_ = null;
+
+    /** The lookup of signals, which are transmitted on more than one bus, by name or null
+        if it has not been used yet. */
+    private IndexMap<List<SignalRef>> routedSignalByName_ = null;
 
     /** For template diagnosis: Are there (probably unsupported) floating point signals
         in use?
@@ -140,6 +176,7 @@ public class Cluster
     public void addBus(Bus bus)
     {
         assert(bus != null);
+        assert !isFrozen_: "Cluster is frozen, no buses can be added";
         if(busAry == null)
             busAry = new ArrayList<>();
         busAry.add(bus);
@@ -170,21 +207,156 @@ public class Cluster
                the collection so far. */
             frameInFileOrderAry.addAll(frameRefAry);
             
-            /* The sorted collections are updated by first adding the new elements and then
-               re-sorting them. This means an inefficient strategy; sorting once after
-               having added all buses would be better. However, this would mean a two-step
-               mechanism for the client code and we only have a few buses and a few hundred
-               frames in practice so efficiency doesn't matter here. */
+            /* The sorted collections get the new elements, too, but they are not sorted
+               yet. Re-sorting them after each bus would cost O(B*N*log(N)) for B buses.
+               They are sorted once, when they are used the first time, see
+               sortFrameRefAry. */
             frameByNameAry.addAll(frameRefAry);
-            FrameRef.setSortOrder(FrameRef.SortOrder.sortOrderByName);
-            Collections.sort(frameByNameAry);
-
             frameByIdAry.addAll(frameRefAry);
-            FrameRef.setSortOrder(FrameRef.SortOrder.sortOrderById);
-            Collections.sort(frameByIdAry);
-            
+            isFrameRefAryUnsorted_ = true;
+
         } /* End if(Bus contains at least one frame) */
     } /* End of Cluster.addBus. */
+
+    /**
+     * Sort the collections {@link #frameByNameAry} and {@link #frameByIdAry} if buses
+     * have been added since they had been sorted.<p>
+     *   The sort algorithm is stable. The frame references, which have the same name or
+     * ID, remain in file order. This is the same order as if the collections had been
+     * re-sorted after adding each bus.
+     */
+    private synchronized void sortFrameRefAry()
+    {
+        if(isFrameRefAryUnsorted_)
+        {
+            Collections.sort(frameByNameAry, FrameRef.SortOrder.sortOrderByName);
+            Collections.sort(frameByIdAry, FrameRef.SortOrder.sortOrderById);
+            isFrameRefAryUnsorted_ = false;
+        }
+    } /* End of Cluster.sortFrameRefAry */
+
+    /** The frames of all buses in lexical order of their names, see {@link
+        #frameByNameAry}. From a StringTemplate V4 template this member is accessed as
+        {@code <cluster.frameByNameAry>}.
+          @return Get the sorted collection or null if there are no frames. */
+    public List<FrameRef> getFrameByNameAry()
+    {
+        sortFrameRefAry();
+        return frameByNameAry;
+
+    } /* End of Cluster.getFrameByNameAry */
+
+    /** The frames of all buses in order of ascending CAN ID, see {@link #frameByIdAry}.
+        From a StringTemplate V4 template this member is accessed as {@code
+        <cluster.frameByIdAry>}.
+          @return Get the sorted collection or null if there are no frames. */
+    public List<FrameRef> getFrameByIdAry()
+    {
+        sortFrameRefAry();
+        return frameByIdAry;
+
+    } /* End of Cluster.getFrameByIdAry */
+    
+    /**
+     * Freeze the data model after the last bus has been added.<p>
+     *   The sorted collections of frame references are sorted and all lists of the
+     * cluster, its buses, frames, PDUs and signals are made unmodifiable. The frozen
+     * model is shared by all template expansions, including concurrent ones, without
+     * copying. The views of the cluster, see {@link #createView}, only hold the order of
+     * the frames of the buses, which a template can change with {@link
+     * Bus#sortFrameAry}.
+     */
+    public void freeze()
+    {
+        if(isFrozen_)
+            return;
+
+        sortFrameRefAry();
+        if(busAry != null)
+        {
+            for(Bus bus: busAry)
+                bus.freeze();
+            busAry = Collections.unmodifiableList(busAry);
+        }
+        if(frameByNameAry != null)
+        {
+            frameByNameAry = Collections.unmodifiableList(frameByNameAry);
+            frameByIdAry = Collections.unmodifiableList(frameByIdAry);
+            frameInFileOrderAry = Collections.unmodifiableList(frameInFileOrderAry);
+        }
+        isFrozen_ = true;
+
+    } /* End of Cluster.freeze */
+
+    /**
+     * Get a view of the cluster for template expansion.<p>
+     *   The view is a shallow copy of the cluster. It shares all frames, PDUs and signals
+     * with the cluster but it has its own views of the buses, see {@link Bus#createView}.
+     * The sort operations of a template only affect the frame lists of its view. Templates,
+     * which are expanded with different views can't corrupt each other's iteration order,
+     * even if they are expanded concurrently. Templates, which are expanded one after
+     * another, share a view and see the order of frames established by their
+     * predecessors.
+     *   @return Get the new view.
+     *   @param errCnt
+     * Template emitted and caused errors of the expansion, which uses the view, are
+     * counted in this object.
+     */
+    public Cluster createView(ErrorCounter errCnt)
+    {
+        final Cluster view = new Cluster();
+        view.name = name;
+        view.nodeName = nodeName;
+        view.hasFloatingPointSignals = hasFloatingPointSignals;
+        view.hasScaledFloatingPointSignals = hasScaledFloatingPointSignals;
+
+        if(busAry != null)
+        {
+            final ArrayList<Bus> busViewAry = new ArrayList<>(busAry.size());
+            final IdentityHashMap<Bus,Bus> busViewByBus = new IdentityHashMap<>();
+            for(Bus bus: busAry)
+            {
+                final Bus busView = bus.createView(errCnt);
+                busViewAry.add(busView);
+                busViewByBus.put(bus, busView);
+            }
+            view.busAry = Collections.unmodifiableList(busViewAry);
+
+            /* The frame references need to point to the bus views. Otherwise a template
+               could still sort the shared frame list of a bus via frameRef.bus. */
+            if(frameByNameAry != null)
+            {
+                view.frameByNameAry = createFrameRefAryView( getFrameByNameAry()
+                                                           , busViewByBus
+                                                           );
+                view.frameByIdAry = createFrameRefAryView(getFrameByIdAry(), busViewByBus);
+                view.frameInFileOrderAry = createFrameRefAryView( frameInFileOrderAry
+                                                                , busViewByBus
+                                                                );
+            }
+        }
+
+        return view;
+
+    } /* End of Cluster.createView */
+
+    /**
+     * Helper of createView: Copy a list of frame references such that the references in the
+     * copy point to the bus views.
+     *   @return Get the copied list. It has the same order as the original.
+     *   @param frameRefAry The list of frame references to copy.
+     *   @param busViewByBus The map of bus views by original bus.
+     */
+    private static List<FrameRef> createFrameRefAryView( List<FrameRef> frameRefAry
+                                                       , Map<Bus,Bus> busViewByBus
+                                                       )
+    {
+        final ArrayList<FrameRef> view = new ArrayList<>(frameRefAry.size());
+        for(FrameRef frameRef: frameRefAry)
+            view.add(new FrameRef(busViewByBus.get(frameRef.bus), frameRef.frame));
+        return Collections.unmodifiableList(view);
+
+    } /* End of Cluster.createFrameRefAryView */
     
     /** The number of buses in {@link #busAry}. From a StringTemplate V4 template
         this member is accessed as {@code <cluster.noBuses>}.
@@ -213,6 +385,117 @@ public class Cluster
     } /* End of Cluster.getNoFrames */
     
     
+    /**
+     * Build the lookup maps {@link #getFrameById}, {@link #getFrameByName}, {@link
+     * #getSignalByName} and {@link #getRoutedSignalByName} on first use. The elements of
+     * the mapped lists are in the order of buses and of the network files.
+     */
+    private synchronized void buildIndexes()
+    {
+        if(frameById_ != null)
+            return;
+
+        final IndexMap<List<FrameRef>> frameById = new IndexMap<>(/* isNumericKey */ true)
+                                     , frameByName = new IndexMap<>(false);
+        if(frameInFileOrderAry != null)
+        {
+            for(FrameRef frameRef: frameInFileOrderAry)
+            {
+                IndexMap.addToList( frameById
+                                  , Integer.toString(frameRef.frame.id)
+                                  , frameRef
+                                  );
+                IndexMap.addToList(frameByName, frameRef.frame.name, frameRef);
+            }
+        }
+
+        final IndexMap<List<SignalRef>> signalByName = new IndexMap<>(false)
+                                      , routedSignalByName = new IndexMap<>(false);
+        if(busAry != null)
+        {
+            for(Bus bus: busAry)
+            {
+                final Map<String,List<SignalRef>> signalByNameOfBus = bus.getSignalByName();
+                for(Map.Entry<String,List<SignalRef>> entry: signalByNameOfBus.entrySet())
+                {
+                    for(SignalRef signalRef: entry.getValue())
+                        IndexMap.addToList(signalByName, entry.getKey(), signalRef);
+                }
+            }
+
+            /* A signal is considered routed if it appears on at least two buses. */
+            for(Map.Entry<String,List<SignalRef>> entry: signalByName.entrySet())
+            {
+                final List<SignalRef> signalRefAry = entry.getValue();
+                final Bus firstBus = signalRefAry.get(0).bus;
+                for(SignalRef signalRef: signalRefAry)
+                {
+                    if(signalRef.bus != firstBus)
+                    {
+                        routedSignalByName.add(entry.getKey(), signalRefAry);
+                        break;
+                    }
+                }
+            }
+        }
+
+        frameByName_ = frameByName;
+        signalByName_ = signalByName;
+        routedSignalByName_ = routedSignalByName;
+        frameById_ = frameById;
+
+    } /* End of Cluster.buildIndexes */
+
+    /** Lookup of the frames of all buses by CAN ID. A template gets the list of frames
+        with a given ID, e.g., the same gateway frame on different buses, by an
+        expression like {@code <cluster.frameById.("0x1A0"):{fr|<fr.bus.name>}>} or
+        {@code <cluster.frameById.(id)>}, where id is an integer attribute. The list
+        elements are {@link FrameRef} objects.
+          @return Get the map. */
+    public Map<String,List<FrameRef>> getFrameById()
+    {
+        buildIndexes();
+        return frameById_;
+
+    } /* End of Cluster.getFrameById */
+
+    /** Lookup of the frames of all buses by name. A template gets the list of frames
+        with a given name by an expression like {@code <cluster.frameByName.(name)>}. The
+        list elements are {@link FrameRef} objects.
+          @return Get the map. */
+    public Map<String,List<FrameRef>> getFrameByName()
+    {
+        buildIndexes();
+        return frameByName_;
+
+    } /* End of Cluster.getFrameByName */
+
+    /** Lookup of the signals of all buses by name. A template gets all occurrences of a
+        signal by an expression like {@code <cluster.signalByName.(name)>}. The list
+        elements are {@link SignalRef} objects, which give access to PDU, frame and bus of
+        the signal.
+          @return Get the map. */
+    public Map<String,List<SignalRef>> getSignalByName()
+    {
+        buildIndexes();
+        return signalByName_;
+
+    } /* End of Cluster.getSignalByName */
+
+    /** Lookup of the routed signals by name. A signal is considered routed if a signal
+        with the same name is transmitted on at least two buses. This map contains the
+        subset of the entries of {@link #getSignalByName}, which relate to routed
+        signals. A template can iterate all routed signals with an expression like {@code
+        <cluster.routedSignalByName.values:{srAry|<srAry:{sr|<sr.bus>.<sr.frame>}>}>}.
+          @return Get the map. */
+    public Map<String,List<SignalRef>> getRoutedSignalByName()
+    {
+        buildIndexes();
+        return routedSignalByName_;
+
+    } /* End of Cluster.getRoutedSignalByName */
+    
+    
     /**
      * Get the string representation of the cluster; it's its name. From a
      * StringTemplate V4 template this representation of the object is accessed as
@@ -28,18 +28,24 @@
  *   getIntegerFromToken
  *   getLongIntegerFromText
  *   getLongIntegerFromContext
+ *   intern
  *   getStringFromToken
  *   getAttribNameFromToken
  *   getImplType
  *   exitNodes
+ *   canId
+ *   getId
+ *   isExtId
+ *   canIdToString
+ *   canIdToStringLong
  *   parseCanId
+ *   getSignal
+ *   getAllSignals
  *   enterMsg
  *   invertPduTransmissionDirection
  *   exitMsg
  *   transformGrid
  *   checkSignalForSpecialSignal
- *   testBitsInSet
- *   markSignalBitsAsOccupied
  *   exitSignal
  *   exitGlobalComment
  *   exitNodeComment
@@ -50,11 +56,15 @@
  *   exitUnrecognizedStatement
  *   getAttribute
  *   exitAttributeDefault
+ *   internAttribute
  *   exitAttributeValue
  *   exitSignalExtendedValueTypeList
  *   pduInheritsFrameAttributes
  *   checkForActualAttribValues
+ *   create
+ *   complete
  *   walk
+ *   parse
  */
 
 package codeGenerator.dataModelListener;
@@ -62,12 +72,13 @@ package codeGenerator.dataModelListener;
 import java.util.*;
 import java.io.*;
 import org.apache.log4j.*;
+import org.apache.log4j.spi.LoggingEvent;
 import org.antlr.v4.runtime.*;
 import org.antlr.v4.runtime.tree.*;
 
 import codeGenerator.dbcParser.*;
 import codeGenerator.main.ParameterSet;
-import codeGenerator.main.Pair;
+import codeGenerator.main.DeferredLogAppender;
 
 
 /**
@@ -95,26 +106,15 @@ public class DataModelListener extends DbcBaseListener
         signals are added to. */
     private Pdu pdu_ = null;
 
-    /** Temporarily used map of set of bits of signal sets. Needed for detection of
-        overlapping signals. Distinct signals sets are the alternative, multiplexed signals
-        sets. The normal signals form another set. Each bit set is represented by an array
-        of bytes. */
-    private HashMap<Integer,int[]> pdu_mapOfBitSetsOfMuxSigs_ = new HashMap<>();
-
-    /** Temporarily used array to collect the bytes of the PDU data area that are
-        completely occupied by a single unmultiplexed signal. Needed to determine the set
-        of bytes, which need initialization in the pack functions. */
-    private boolean[] pdu_setOfSigBytes_ = null;
-
-    /** Temporarily used array to collect data bytes of PDU that are occupied by at least
-        one multiplexed signal. Needed to determine the set of bytes, which need
-        initialization in the pack functions. */
-    private boolean[] pdu_setOfMuxedSigBytes_ = null;
+    /** Temporarily used layout of the PDU, which records the bits occupied by its
+        signals. Needed for detection of overlapping signals and to determine the set of
+        bytes, which need initialization in the pack functions. */
+    private PduLayout pdu_layout_ = null;
 
     /** Filling the list of sets of multiplexed signals is supported by this temporarily
         used map, which relates each list entry to the multiplex switch value. */
-    private HashMap<Integer,Pdu.MultiplexedSignalSet> pdu_mapMuxSignalSetByMuxValue_ =
-                                                                            new HashMap<>();
+    private LongHashMap<Pdu.MultiplexedSignalSet> pdu_mapMuxSignalSetByMuxValue_ =
+                                                                        new LongHashMap<>();
     /** Temporarily set variable to state the context we are currently in. Used as intro
         for error and progress messages. */
     private String errorContext_ = "";
@@ -124,8 +124,9 @@ public class DataModelListener extends DbcBaseListener
     private StringBuffer nameListOfFloatSignals_ = null;
 
     /** A set of all bad CAN IDs, which have been reported as either error or warning. Used
-        to suppress repeated messages on the same ID. */
-    private HashSet<Long> setOfBadCanIDs_ = new HashSet<>();
+        to suppress repeated messages on the same ID. The set is implemented as map with
+        the raw ID from the network database file as key; the value is meaningless. */
+    private LongHashMap<Boolean> setOfBadCanIDs_ = new LongHashMap<>();
 
     /** A counter of warnings "BA_REL_ not supported". If used in a DBC then this warning
         would typically appear very often. We stop after some repetitions. */
@@ -135,103 +136,108 @@ public class DataModelListener extends DbcBaseListener
         database file. */
     private HashMap<String,Node> mapNodeByName_ = new HashMap<>();
 
-    /** Helper class: The CAN ID. */
-    static private class CanId
+    /* The CAN ID: The numeric value of the ID and the Boolean distinction between 11 and
+       29 Bit CAN IDs are combined in a single long value. This value is used as key of
+       the maps of frames and signals; no key objects need to be allocated for lookups.
+       Invalid IDs, which are still processed with a warning, can be negative int numbers.
+       They are combined without loss, too. */
+
+    /**
+     * Combine the numeric value of a CAN ID and the distinction between standard and
+     * extended IDs in a single long value.
+     *   @return
+     * Get the CAN ID as key value.
+     *   @param id
+     * CAN ID as a number.
+     *   @param isExtId
+     * The Boolean distiction between 11 Bit standard and 29 Bit extended CAN IDs.
+     */
+    private static long canId(int id, boolean isExtId)
+    {
+        return (long)id << 1 | (isExtId? 1: 0);
+    }
+
+    /**
+     * Get the numeric value of a CAN ID.
+     *   @return
+     * Get the numeric value.
+     *   @param canId
+     * The CAN ID as got from {@link #canId}.
+     */
+    private static int getId(long canId)
     {
-        /** The numeric value of the CAN ID. */
-        int id_;
-
-        /** The Boolean distinction between 11 and 29 Bit CAN IDs. */
-        boolean isExtId_;
-
-        /**
-         * Constructor for a new CAN ID object.
-         *   @param canId 
-         * CAN ID as a number.
-         *   @param isExtId
-         * The Boolean distiction between 11 Bit standard and 29 Bit extended CAN IDs.
-         */
-        public CanId(int canId, boolean isExtId)
-        {
-            id_ = canId;
-            isExtId_ = isExtId;
-        }
-
-
-        /**
-         * Comparison of this with another object of type CanId. The intention of this
-         * method is enabling the use of objects of this class as key value in collection
-         * classes.
-         *   @return
-         * Get true is "this" has same values for all its fields as the other CanId
-         * object.
-         *   @param otherObj
-         * The other CanId object. An assertion fires if otherObj is not of class CanId.
-         */
-        @Override public boolean equals(Object otherObj)
-        {
-            /* Same object reference means identity and identity implies equalality. */
-            if (this == otherObj)
-                return true;
-
-            /* A full implementation of equals requires some code to make it safely
-               available to objects of any class. We don't support it, since we won't ever
-               apply it to foreign objects. We catch this situation just by assertion. */
-            //if(otherObj == null || getClass() != otherObj.getClass())
-            //      return false;
-            assert otherObj instanceof CanId
-                   : "CanId.equals is implemented only for objects of same type";
-
-            CanId otherCanId = (CanId)otherObj;
-            return id_ == otherCanId.id_  &&  isExtId_ == otherCanId.isExtId_;
-
-        } /* End of CanId.equals */
-
-
-        /**
-         * Provide a hash value of this object. The returned value as such is meaningless
-         * but it'll always be the same if called from objects, which are equal. The
-         * intention of this method is enabling the use of objects of this class as key
-         * value in collection classes.
-         *   @return
-         * Get the hash value as an integer.
-         */
-        @Override public int hashCode()
-        {
-            /* From practice, we know that the co-presence of standard and extended IDs of
-               same numeric value is very unlikely to happen. Therefore, making the hash
-               code not maximally unique by disregarding the discimination between standrad
-               and extended will normally speedup the code: The frequently used hashCode()
-               becomes faster on (the little) cost of very rare additional calls of
-               equals(). */
-            return id_ /* << 1 | (isExtId_? 1: 0) */;
-        }
-
-        /**
-         * Short form of textual representation of CAN ID: Decimal and with postfix 'x' for
-         * extended IDs.
-         */
-        @Override public String toString()
-            { return "" + id_ + (isExtId_? "x": ""); }
-
-        /**
-         * Long form of textual representation of CAN ID: Decmal plus hexadecimal
-         * representation.
-         *   @return
-         * Get the CAN ID as text.
-         */
-        public String toStringLong()
-        { 
-            return toString() + " (0x" + Integer.toHexString(id_) + (isExtId_? "x": "") + ")";
-        }
-    } /* End class CanId */
-
-
-    /** A map of all frames. Lookup by ID. */
-    private HashMap<CanId,Frame> mapFrameById_ = new HashMap<>();
-
-    /** A map of all signals. Lookup by frame ID and name. */
-    private HashMap<Pair<CanId,String>, Signal> mapSignalByIdAndName_ = new HashMap<>();
+        return (int)(canId >> 1);
+    }
+
+    /**
+     * Get the distinction between standard and extended IDs of a CAN ID.
+     *   @return
+     * Get true for a 29 Bit extended CAN ID.
+     *   @param canId
+     * The CAN ID as got from {@link #canId}.
+     */
+    private static boolean isExtId(long canId)
+    {
+        return (canId & 1) != 0;
+    }
+
+    /**
+     * Short form of textual representation of CAN ID: Decimal and with postfix 'x' for
+     * extended IDs.
+     *   @return
+     * Get the CAN ID as text.
+     *   @param canId
+     * The CAN ID as got from {@link #canId}.
+     */
+    private static String canIdToString(long canId)
+    {
+        return "" + getId(canId) + (isExtId(canId)? "x": "");
+    }
+
+    /**
+     * Long form of textual representation of CAN ID: Decmal plus hexadecimal
+     * representation.
+     *   @return
+     * Get the CAN ID as text.
+     *   @param canId
+     * The CAN ID as got from {@link #canId}.
+     */
+    private static String canIdToStringLong(long canId)
+    {
+        return canIdToString(canId) + " (0x" + Integer.toHexString(getId(canId))
+               + (isExtId(canId)? "x": "") + ")";
+    }
+
+
+    /** A map of all frames. Lookup by CAN ID, see {@link #canId}. */
+    private LongHashMap<Frame> mapFrameById_ = new LongHashMap<>();
+
+    /** The IDs of all frames, which are excluded from processing by the frame filters of
+        the bus. Statements, which relate to these frames or their signals, are skipped
+        without evaluation. The set is implemented as map with the CAN ID as key; the
+        value is meaningless. */
+    private LongHashMap<Boolean> setOfExcludedFrameIds_ = new LongHashMap<>();
+
+    /** A map of all signals. The signals are looked up by CAN ID of the frame, see {@link
+        #canId}, and then by name in the map of signals of the frame. */
+    private LongHashMap<LinkedHashMap<String,Signal>> mapSignalByIdAndName_ =
+                                                                        new LongHashMap<>();
+
+    /** The tables of default attribute values, which have been stored in the network
+        objects so far, by kind of object. The objects share these tables, see {@link
+        AttributeMap}. */
+    private EnumMap<AttributeDef.ObjectType,AttributeMap.DefaultTable>
+                                                        mapDefaultAttribTableByObjType_ =
+                                            new EnumMap<>(AttributeDef.ObjectType.class);
+
+    /** The individual attribute values, which are shared by all network objects with the
+        same value at the same position of their attribute map, see {@link
+        #internAttribute}. */
+    private HashMap<String,Attribute> mapAttribByNamePosAndValue_ = new HashMap<>();
+
+    /** The pool of strings, which is shared by all buses of the application run, or null
+        if strings are not pooled. */
+    private StringPool stringPool_ = null;
 
 
     /**
@@ -532,6 +538,24 @@ public class DataModelListener extends DbcBaseListener
 
 
 
+    /**
+     * Get the pooled string, which is equal to a given string. All strings, which are
+     * stored in the data model, are taken from the pool to avoid many copies of the same
+     * text.
+     *   @return Get the pooled string or the passed string itself if there's no pool.
+     *   @param s
+     * The string or null.
+     */
+    private String intern(String s)
+    {
+        return stringPool_ != null? stringPool_.intern(s): s;
+
+    } /* End of DataModelListener.intern */
+
+
+
+
+
     /**
      * Get a string from a grammar token String.
      *   The grammar token String is a lexer token with no further, inner structure. In
@@ -565,7 +589,7 @@ public class DataModelListener extends DbcBaseListener
                ASCII codes). */
             text = text.replaceAll("[^\\p{Print}||['\\\"]]+", ".");
         }
-        return text;
+        return intern(text);
 
     } /* End of DataModelListener.getStringFromToken */
 
@@ -594,7 +618,7 @@ public class DataModelListener extends DbcBaseListener
            This is not correct but we tolerate it by correcting the name. A warning is not
            emitted here, this has already been done during the semantic check walk. */
         attribName = attribName.replaceAll("-", "_");
-        return attribName;
+        return intern(attribName);
 
     } /* End of DataModelListener.getAttribNameFromToken */
 
@@ -616,7 +640,7 @@ public class DataModelListener extends DbcBaseListener
             for(Token tok: ctx.nodeList)
             {
                 Node n = new Node();
-                n.name = tok.getText();
+                n.name = intern(tok.getText());
                 n.i0 = i;
                 n.i = i + 1;
                 bus_.nodeAry[i++] = n;
@@ -641,10 +665,11 @@ public class DataModelListener extends DbcBaseListener
      *   Although basically an integer is the extended identifier of a CAN message
      * different. It is distinguished from normal IDs by a set bit 31 but the value of this
      * bit is not part of the ID. This method decodes the ID in both cases.
-     *   @return Get the CAN ID. The standard ID 0 is returned in case of errors.
+     *   @return Get the CAN ID, see {@link #canId}. The standard ID 0 is returned in case
+     * of errors.
      *   @param numberText The ID as got as text from the parser. Actually a decimal number.
      */
-    private CanId parseCanId(String numberText)
+    private long parseCanId(String numberText)
     {
         /* We use 64 Bit numbers for parsing the string representation: Extended IDs use
            unsigned integers up to 0x81fffff for their representtaion in the DBC file and
@@ -680,7 +705,7 @@ public class DataModelListener extends DbcBaseListener
             isWarning = (extId & 0xffffffff00000000l) == 0;
 
             /* Emit a message only once for each bad ID. */
-            if(!setOfBadCanIDs_.contains(Long.valueOf(extId)))
+            if(!setOfBadCanIDs_.containsKey(extId))
             {
                 final String errMsg = errorContext_ + "Invalid frame ID " + numberText
                                       + " (" + String.format("0x%x", extId)
@@ -699,7 +724,7 @@ public class DataModelListener extends DbcBaseListener
                     errCnt_.error();
                     _logger.error(errMsg);
                 }
-                setOfBadCanIDs_.add(Long.valueOf(extId));
+                setOfBadCanIDs_.put(extId, Boolean.TRUE);
             }
 
             if(!isWarning)
@@ -710,12 +735,46 @@ public class DataModelListener extends DbcBaseListener
                ||  isWarning
                    &&  id >= (long)Integer.MIN_VALUE  &&  id <= (long)Integer.MAX_VALUE
               );
-        return new CanId((int)id, isExtId);
+        return canId((int)id, isExtId);
 
     } /* End of parseCanId */
 
 
 
+    /**
+     * Look up a signal by CAN ID of its frame and name.
+     *   @return Get the signal or null if it is not known, e.g., because its frame has been
+     * excluded by the frame filters.
+     *   @param canId
+     * The CAN ID of the frame, see {@link #canId}.
+     *   @param name
+     * The name of the signal.
+     */
+    private Signal getSignal(long canId, String name)
+    {
+        final LinkedHashMap<String,Signal> mapSignalByName =
+                                                            mapSignalByIdAndName_.get(canId);
+        return mapSignalByName != null? mapSignalByName.get(name): null;
+
+    } /* End of getSignal */
+
+
+
+    /**
+     * Get all signals of all frames.
+     *   @return Get the signals in the order of appearance in the network database file.
+     */
+    private List<Signal> getAllSignals()
+    {
+        final ArrayList<Signal> signalList = new ArrayList<>();
+        for(LinkedHashMap<String,Signal> mapSignalByName: mapSignalByIdAndName_.values())
+            signalList.addAll(mapSignalByName.values());
+        return signalList;
+
+    } /* End of getAllSignals */
+
+
+
     /**
      * {@inheritDoc}<p>
      * Found next frame: Create a frame object. This object is the new context for
@@ -739,15 +798,15 @@ public class DataModelListener extends DbcBaseListener
         assert(ctx.length != null);
 
         final String name = ctx.name.getText();
-        final CanId canId = parseCanId(ctx.id.getText());
+        final long canId = parseCanId(ctx.id.getText());
 
-        if(busDescription_.isFrameSupported(name, canId.id_))
+        if(busDescription_.isFrameSupported(name, getId(canId)))
         {
             /* For CAN PDU and frame are identical. */
             pdu_ = new Pdu();
-            pdu_.name = ctx.name.getText();
-            pdu_.id = canId.id_;
-            pdu_.isExtId = canId.isExtId_;
+            pdu_.name = intern(name);
+            pdu_.id = getId(canId);
+            pdu_.isExtId = isExtId(canId);
             pdu_.size = getIntegerFromToken(ctx.length);
             pdu_.offsetInFrame = 0;
 
@@ -767,16 +826,15 @@ public class DataModelListener extends DbcBaseListener
                 pdu_.size = Pdu.maxSize;
             }
 
-            /* Two arrays are initialized, which are used to determine, which bytes and
+            /* The layout is initialized, which is used to determine, which bytes and
                bits of the PDU are occupied by its signals. */
-            assert pdu_mapOfBitSetsOfMuxSigs_.size() == 0;
-            pdu_setOfSigBytes_ = new boolean[pdu_.size];
-            pdu_setOfMuxedSigBytes_ = new boolean[pdu_.size];
+            assert pdu_layout_ == null;
+            pdu_layout_ = new PduLayout(pdu_.size);
 
             /* Sender can be not set in the network file. */
             if(ctx.sender != null)
             {
-                pdu_.sender = ctx.sender.getText();
+                pdu_.sender = intern(ctx.sender.getText());
                 pdu_.isSent = pdu_.sender.compareTo(busDescription_.me) == 0;
             }
             else
@@ -788,9 +846,10 @@ public class DataModelListener extends DbcBaseListener
         }
         else
         {
-            _logger.info(errorContext_ + "Frame " + canId.toStringLong()
+            _logger.info(errorContext_ + "Frame " + canIdToStringLong(canId)
                          + " is excluded from processing"
                         );
+            setOfExcludedFrameIds_.put(canId, Boolean.TRUE);
 
             /** @todo We should add a list of excluded frames to the data model, this is
                 useful for reporting purposes. Just let the frame be processed as normal
@@ -958,24 +1017,9 @@ public class DataModelListener extends DbcBaseListener
             /* Evaluate the information about bits and bytes of the PDU's data area in
                use. The result is the set of bytes, which need to be initialized to 0 in
                the generated pack operation. */
-            int i
-              , j = 0;
-            int[] setOfBytesToInit = new int[pdu_.size];
-            for(i=0; i<pdu_.size; ++i)
-            {
-                if(pdu_setOfMuxedSigBytes_[i] || !pdu_setOfSigBytes_[i])
-                    setOfBytesToInit[j++] = i;
-            }
             assert pdu_.idxByteInitialNullAry == null;
-            if(j > 0)
-            {
-                pdu_.idxByteInitialNullAry = new int[j];
-                for(i=0; i<j; ++i)
-                    pdu_.idxByteInitialNullAry[i] = setOfBytesToInit[i];
-            }
-            pdu_mapOfBitSetsOfMuxSigs_.clear();
-            pdu_setOfSigBytes_ = null;
-            pdu_setOfMuxedSigBytes_ = null;
+            pdu_.idxByteInitialNullAry = pdu_layout_.getIdxByteInitialNullAry();
+            pdu_layout_ = null;
 
             /* Do some basic multiplexing related validation. */
             if(pdu_.muxSelector == null  &&  pdu_.muxSignalSetAry != null)
@@ -1074,10 +1118,10 @@ public class DataModelListener extends DbcBaseListener
             frame.i0 = bus_.frameAry.size();
             frame.i = frame.i0 + 1;
             bus_.frameAry.add(frame);
-            mapFrameById_.put(new CanId(frame.id, frame.isExtId), frame);
+            mapFrameById_.put(canId(frame.id, frame.isExtId), frame);
 
-            /* Let's check if the class CanId and its method equals work appropriately. */
-            assert frame == mapFrameById_.get(new CanId(frame.id, frame.isExtId))
+            /* Let's check if the map of frames works appropriately. */
+            assert frame == mapFrameById_.get(canId(frame.id, frame.isExtId))
                    : "Map of frames doesn't work";
         }
         else
@@ -1189,51 +1233,51 @@ public class DataModelListener extends DbcBaseListener
      */
     private void checkSignalForSpecialSignal(Signal s)
     {
-        /* Check if the signal is a signal of special interest. */
-        for(ParameterSet.SpecialSignalRequest req: busDescription_.specialSignalMap.values())
+        /* Check if the signal is a signal of special interest. The request can be based on
+           an exact signal name match or on a regular expression matching. All requests are
+           tested at once. */
+        final List<ParameterSet.SpecialSignalRequest> matchingRequestList =
+                                busDescription_.getMatchingSpecialSignalRequests(s.name);
+        if(matchingRequestList == null)
+            return;
+
+        for(ParameterSet.SpecialSignalRequest req: matchingRequestList)
         {
-            /* The request can be based on an exact signal name match or on a regular
-               expression matching. */
-            if(req.reSpecialSignal == null  &&  s.name.compareTo(req.name) == 0
-               ||  req.reSpecialSignal != null  &&  s.name.matches(req.reSpecialSignal)
-              )
+            /* The signal is a demanded special signal. */
+            _logger.debug(errorContext_ + " The filter (" + req.name + ", "
+                          + (req.reSpecialSignal != null? req.reSpecialSignal
+                                                        : "<no regexp given>"
+                            )
+                          + ") matches signal " + s.name
+                         );
+
+            /* Add the pair (specialSignalName, true) to the querying map "is". The
+               template can use a construct like
+               <if(s.is.checkSum)>// Checksum evaluation on signal<endif> */
+            if(s.is == null)
+                s.is = new HashMap<String,Boolean>(1);
+            s.is.put(req.name, Boolean.valueOf(true));
+
+            /* Add the signal to the map but double-check that there's no other
+               matching signal. Ambiguities can't be handled from a template and need
+               to be rated as blocking error. The user is in charge to refine his
+               filter criteria. */
+            if(pdu_.specialSignalMap == null)
+                pdu_.specialSignalMap = new HashMap<String,Signal>();
+            Signal firstMatchingSignal = pdu_.specialSignalMap.put(req.name, s);
+            if(firstMatchingSignal != null)
             {
-                /* The signal is a demanded special signal. */
-                _logger.debug(errorContext_ + " The filter (" + req.name + ", "
+                errCnt_.error();
+                _logger.error(errorContext_
+                              + " The filter (" + req.name + ", "
                               + (req.reSpecialSignal != null? req.reSpecialSignal
                                                             : "<no regexp given>"
                                 )
-                              + ") matches signal " + s.name
+                              + ") is ambiguous. The previous match was "
+                              + firstMatchingSignal.name + ". Please refine your filter"
+                              + " in order to unambiguously select up to one signal only"
                              );
-
-                /* Add the pair (specialSignalName, true) to the querying map "is". The
-                   template can use a construct like
-                   <if(s.is.checkSum)>// Checksum evaluation on signal<endif> */
-                if(s.is == null)
-                    s.is = new HashMap<String,Boolean>(1);
-                s.is.put(req.name, Boolean.valueOf(true));
-
-                /* Add the signal to the map but double-check that there's no other
-                   matching signal. Ambiguities can't be handled from a template and need
-                   to be rated as blocking error. The user is in charge to refine his
-                   filter criteria. */
-                if(pdu_.specialSignalMap == null)
-                    pdu_.specialSignalMap = new HashMap<String,Signal>();
-                Signal firstMatchingSignal = pdu_.specialSignalMap.put(req.name, s);
-                if(firstMatchingSignal != null)
-                {
-                    errCnt_.error();
-                    _logger.error(errorContext_
-                                  + " The filter (" + req.name + ", "
-                                  + (req.reSpecialSignal != null? req.reSpecialSignal
-                                                                : "<no regexp given>"
-                                    )
-                                  + ") is ambiguous. The previous match was "
-                                  + firstMatchingSignal.name + ". Please refine your filter"
-                                  + " in order to unambiguously select up to one signal only"
-                                 );
-                }
-            } /* End if(This signal matches against one of the user provded filters.) */
+            }
 
             /* Don't have a break here. It might be useless but it's not a problem if the
                user has several filters characterizing the same signal as special signal. A
@@ -1246,139 +1290,6 @@ public class DataModelListener extends DbcBaseListener
 
 
 
-    /**
-     * Test if some of the bits of a byte are in a given set of bits. Used to detect
-     * overlap of signals in a PDU. An error message is written if an overlap is detected.
-     *   @return
-     * <b>true</b>, if all the passed bits don't belong to the set, i.e. if there's no
-     * overlap of signals, else <b>false</b>.
-     *   @param setOfBits
-     * A byte array which represents the bit set. Or null, in which case nothing is done at
-     * all.
-     *   @param idxByte
-     * The set of bits is represented by an array byte. The tested bits correspond with
-     * byte of this index.
-     *   @param mask
-     * A byte of bits. These bits are tested and should not be in the bit set so far.
-     */
-    private boolean testBitsInSet(int[] setOfBits, int idxByte, int mask)
-    {
-        if(setOfBits != null  &&  (setOfBits[idxByte] & mask) != 0)
-        {
-            errCnt_.error();
-            _logger.error(errorContext_
-                          + "This signal overlaps with another one. The two signals"
-                          + " share at least one bit. Safe signal en- and decoding"
-                          + " is impossible"
-                         );
-            return false;
-        }
-        else
-            return true;
-
-    } /* End of DataModelListener.testBitsInSet */
-
-
-
-
-
-    /**
-     * Set some bits of the PDU's data area as occupied.
-     *   Invoke this function with all signal masks of all bytes of any signal of a PDU.
-     * It'll collect this information to find out, whether there are overlapping signals
-     * and which bytes are completely written so that they don't need to be initialized by
-     * the PDU pack function. A parse error is raised in case of overlapping signals.
-     *   @param idxByte
-     * The index of the byte in the PDU's data area.
-     *   @param mask
-     * The mask of bits in use from a signal.
-     *   @param muxValue
-     * The multiplex selector value for this signal if it would be a multiplexed signal or
-     * -1 for a normal signal.
-     *   @remark
-     * The analysis is not fully done for multiplexed signals. Here, it's evident that
-     * there will be overlapping signals. The normal analysis needed to be done for each
-     * multiplexed signal and the need-initialization would become the worst case result.
-     * However, the additional effort for this full scale analysis won't pay off as
-     * multiplexed signals are barely used and the optimization benefit is little for the
-     * generated code.
-     */
-    private void markSignalBitsAsOccupied(int idxByte, int mask, int muxValue)
-    {
-        assert pdu_ != null  &&  mask <= 255;
-
-        if(idxByte < pdu_.size)
-        {
-            if(muxValue < 0)
-            {
-                /* It's a normal signal. */
-
-                /* Which bytes need initialization (in the pack functions): Bytes which are
-                   entirely inside a single signal will be written by assignment and don't
-                   require initialization. Remind those bytes. */
-                if(mask == 0xff)
-                    pdu_setOfSigBytes_[idxByte] = true;
-
-                /* Detect signal overlap: Check new bits against all bit sets, i.e. the set
-                   of bits of normal signals and such a set for each alternative,
-                   multiplexed signal set. */
-                for(int[] setOfBits: pdu_mapOfBitSetsOfMuxSigs_.values())
-                {
-                    /* if-break: Basically we could always complete the loop in order to
-                       find multiple overlap problems, but the error message is too
-                       unspecific for this purpose. It doesn't make any sense to get this
-                       message repeatedly. */
-                    if(!testBitsInSet(setOfBits, idxByte, mask))
-                        break;
-                }
-            }
-            else
-            {
-                /* Which bytes need initialization (in the pack function): Multiplexed
-                   signals are not checked on bit granularity to find the bytes that need
-                   initialization. Instead, these bytes are just recorded for "need
-                   initialization" as they might be written by some but not all of the
-                   multiplexed signals. */
-                pdu_setOfMuxedSigBytes_[idxByte] = true;
-
-                /* Detect signal overlap: Multiplexed signals need to be checked against
-                   normal signals and against their own multiplexed set of signals. (They
-                   will probably overlap with many of the signals from other alternative
-                   signal sets, which is not considered an error.)
-                     Both bit sets to check against don't need to exist yet, this could be
-                   the first byte of the first signal of the signal set. */
-                testBitsInSet(pdu_mapOfBitSetsOfMuxSigs_.get(-1), idxByte, mask);
-                testBitsInSet(pdu_mapOfBitSetsOfMuxSigs_.get(muxValue), idxByte, mask);
-            }
-
-            /* The new bits are now added to the related bit set for future tests of other
-               signals and their bytes. */
-            int[] setOfBits = pdu_mapOfBitSetsOfMuxSigs_.get(muxValue);
-            if(setOfBits != null)
-            {
-                assert idxByte < setOfBits.length;
-                setOfBits[idxByte] |= mask;
-            }
-            else
-            {
-                /* This is the first byte of the first signal from the set. Start a new set
-                   of occupied bits. */
-                setOfBits = new int[pdu_.size];
-                setOfBits[idxByte] = mask;
-                pdu_mapOfBitSetsOfMuxSigs_.put(muxValue, setOfBits);
-            }
-        }
-        else
-        {
-            /* This case can be entered due to errors in the network database. These
-               problems have already been reported before. No error message needed here
-               again. */
-            _logger.debug(errorContext_
-                          + "The signal bytes are out of range of the containing PDU and"
-                          + " can't be considered for overlap detection"
-                         );
-        }
-    } /* End of DataModelListener.markSignalBitsAsOccupied */
 
 
 
@@ -1436,7 +1347,7 @@ public class DataModelListener extends DbcBaseListener
         }
 
         Signal s = new Signal();
-        s.name = ctx.name.getText();
+        s.name = intern(ctx.name.getText());
         s.desc = null;
         s.length = getIntegerFromToken(ctx.length);
         s.startBit = getIntegerFromToken(ctx.startBit);
@@ -1619,12 +1530,35 @@ public class DataModelListener extends DbcBaseListener
                 else
                     s.maskAry[lastByteIdx-i] = maskInteger;
 
-                /* Mark byte i in the PDU array of used bytes as no-init-needed if the mask
-                   is 0xff. Run some tests on overlapping signals (which can raise a parse
-                   error). */
-                markSignalBitsAsOccupied(i, mask, isMuxedSignal? muxValue: -1);
-
             } /* for(All PDU bytes touched by the signal with at least one bit) */
+
+            /* Mark the bits of the signal as occupied in the layout of the PDU and detect
+               overlapping signals. The error is reported once per affected byte. */
+            final int noOverlappingBytes = pdu_layout_.addSignal( s.isMotorola
+                                                                , msb
+                                                                , lsb
+                                                                , isMuxedSignal
+                                                                , muxValue
+                                                                );
+            for(i=0; i<noOverlappingBytes; ++i)
+            {
+                errCnt_.error();
+                _logger.error(errorContext_
+                              + "This signal overlaps with another one. The two signals"
+                              + " share at least one bit. Safe signal en- and decoding"
+                              + " is impossible"
+                             );
+            }
+            if(lastByteIdx >= pdu_.size)
+            {
+                /* This case can be entered due to errors in the network database. These
+                   problems have already been reported before. No error message needed
+                   here again. */
+                _logger.debug(errorContext_
+                              + "The signal bytes are out of range of the containing PDU"
+                              + " and can't be considered for overlap detection"
+                             );
+            }
         }
         else
         {
@@ -1662,7 +1596,7 @@ public class DataModelListener extends DbcBaseListener
             while(it.hasNext())
             {
                 Token token = it.next();
-                s.receiverAry[i++] = token.getText();
+                s.receiverAry[i++] = intern(token.getText());
                 if(token.getText().compareTo(busDescription_.me) == 0)
                     s.isReceived = true;
             }
@@ -1680,14 +1614,18 @@ public class DataModelListener extends DbcBaseListener
 
         /* Add the signal for later retrieval to the map of all signals: Later a comment or
            an attribute value could be attached. */
-        mapSignalByIdAndName_.put(Pair.create(new CanId(pdu_.id, pdu_.isExtId), s.name), s);
+        final long canIdOfPdu = canId(pdu_.id, pdu_.isExtId);
+        LinkedHashMap<String,Signal> mapSignalByName =
+                                                        mapSignalByIdAndName_.get(canIdOfPdu);
+        if(mapSignalByName == null)
+        {
+            mapSignalByName = new LinkedHashMap<>();
+            mapSignalByIdAndName_.put(canIdOfPdu, mapSignalByName);
+        }
+        mapSignalByName.put(s.name, s);
 
-        /* Let's check if the class Pair and its method equals work appropriately. */
-        assert s == mapSignalByIdAndName_.get(Pair.create( new CanId(pdu_.id, pdu_.isExtId)
-                                                         , s.name
-                                                         )
-                                             )
-               : "Map of signals doesn't work";
+        /* Let's check if the map of signals works appropriately. */
+        assert s == getSignal(canIdOfPdu, s.name): "Map of signals doesn't work";
 
         /* Check if this signal is a signal of special interest. If so add it as such to
            the currently parsed PDU. */
@@ -1774,7 +1712,9 @@ public class DataModelListener extends DbcBaseListener
             bus_.desc += " ";
         }
 
-        bus_.desc += getStringFromToken(ctx.text, /* asJavaString */ true);
+        bus_.desc = intern(bus_.desc
+                           + getStringFromToken(ctx.text, /* asJavaString */ true)
+                          );
         _logger.debug(errorContext(ctx.text) + "CM: Bus: " + bus_.name + ", comment: "
                       + bus_.desc
                      );
@@ -1810,7 +1750,7 @@ public class DataModelListener extends DbcBaseListener
                 string literal. */
             n.desc += " ";
         }
-        n.desc += getStringFromToken(ctx.text, /* asJavaString */ true);
+        n.desc = intern(n.desc + getStringFromToken(ctx.text, /* asJavaString */ true));
         _logger.debug(errorContext(ctx.nodeName) + "CM: Node: " + n.name + ", comment: "
                       + n.desc
                      );
@@ -1843,7 +1783,7 @@ public class DataModelListener extends DbcBaseListener
                 string literal. */
             f.desc += " ";
         }
-        f.desc += getStringFromToken(ctx.text, /* asJavaString */ true);
+        f.desc = intern(f.desc + getStringFromToken(ctx.text, /* asJavaString */ true));
         _logger.debug(errorContext(ctx.msgId) + "CM: Frame: " + f.name + ", comment: "
                       + f.desc
                      );
@@ -1857,10 +1797,7 @@ public class DataModelListener extends DbcBaseListener
      */
     @Override public void exitSignalComment(DbcParser.SignalCommentContext ctx)
     {
-        Signal s = mapSignalByIdAndName_.get(Pair.create( parseCanId(ctx.msgId.getText())
-                                                        , ctx.signalName.getText()
-                                                        )
-                                            );
+        Signal s = getSignal(parseCanId(ctx.msgId.getText()), ctx.signalName.getText());
         if(s == null)
         {
             /* No error message, we can have filtered out the frame holding the addressed
@@ -1880,7 +1817,7 @@ public class DataModelListener extends DbcBaseListener
                 string literal. */
             s.desc += " ";
         }
-        s.desc += getStringFromToken(ctx.text, /* asJavaString */ true);
+        s.desc = intern(s.desc + getStringFromToken(ctx.text, /* asJavaString */ true));
         _logger.debug(errorContext(ctx.signalName) + "CM: Signal: " + s.name + ", comment: "
                       + s.desc
                      );
@@ -1901,10 +1838,7 @@ public class DataModelListener extends DbcBaseListener
 
             /* Look for the signal the named values refer to. All signals are already known
                when named signal values appear the first time. */
-            Signal s = mapSignalByIdAndName_.get(Pair.create( parseCanId(ctx.msgId.getText())
-                                                            , ctx.signalName.getText()
-                                                            )
-                                                );
+            Signal s = getSignal(parseCanId(ctx.msgId.getText()), ctx.signalName.getText());
             if(s == null)
             {
                 /* No error message, we can have filtered out the frame holding the addressed
@@ -1925,7 +1859,7 @@ public class DataModelListener extends DbcBaseListener
                 String description = ctxSingleValDesc.description.getText();
                 assert description.length() >= 2  &&  description.startsWith("\"")
                        &&  description.endsWith("\"");
-                description = description.substring(1, description.length()-1);
+                description = intern(description.substring(1, description.length()-1));
                 s.valueDescAry.add
                                (new Signal.ValueDesc
                                            ( description
@@ -2430,7 +2364,7 @@ public class DataModelListener extends DbcBaseListener
                 break;
 
             case signal:
-                collectionNetObjs = mapSignalByIdAndName_.values();
+                collectionNetObjs = getAllSignals();
                 break;
 
             case envVar:
@@ -2441,9 +2375,19 @@ public class DataModelListener extends DbcBaseListener
             default: assert false;
             }
 
-            /* Iterate across the found collection. */
+            /* Iterate across the found collection. The objects, which have got only
+               default values so far, share a table of these values. The table is
+               extended by the new value. */
             if(collectionNetObjs != null)
             {
+                AttributeMap.DefaultTable defaultTable =
+                                    mapDefaultAttribTableByObjType_.get(attribDef.objType);
+                if(defaultTable == null)
+                    defaultTable = new AttributeMap.DefaultTable();
+                final AttributeMap.DefaultTable newDefaultTable =
+                                                    defaultTable.add(attribName, attrib);
+                mapDefaultAttribTableByObjType_.put(attribDef.objType, newDefaultTable);
+
                 for(NetObject netObj: collectionNetObjs)
                 {
                     _logger.debug("Attach default value " + attrib + " of attribute "
@@ -2451,7 +2395,12 @@ public class DataModelListener extends DbcBaseListener
                                   + netObj.name
                                  );
                     assert attribName.compareTo(attrib.name) == 0;
-                    Attribute previousValue = netObj.storeAttribValue(attribName, attrib);
+                    Attribute previousValue = netObj.storeDefaultAttribValue
+                                                                    ( attribName
+                                                                    , attrib
+                                                                    , defaultTable
+                                                                    , newDefaultTable
+                                                                    );
                     if(previousValue != null)
                     {
                         errCnt_.warning();
@@ -2475,6 +2424,39 @@ public class DataModelListener extends DbcBaseListener
 
 
 
+
+    /**
+     * Replace an individual attribute value, which has just been stored in a network
+     * object, with an equal value from another object if there is one. Many objects
+     * typically get the same individual values and can share the Attribute objects.<p>
+     *   The value can be shared only by objects, which have it at the same position of
+     * their attribute map as the position is part of the Attribute object, see {@link
+     * Attribute#i}.
+     *   @param netObj
+     * The network object, which the value has been stored in.
+     *   @param attribName
+     * The name of the attribute.
+     *   @param attrib
+     * The stored value.
+     */
+    private void internAttribute(NetObject netObj, String attribName, Attribute attrib)
+    {
+        assert netObj.attribMap.get(attribName) == attrib  &&  !attrib.isDefVal;
+        /* The key is unambiguous: The name is an identifier and the string value, which
+           can contain any character, is the last element. */
+        final String key = attribName + ":" + attrib.i + ":" + attrib.n + ":" + attrib.str;
+        final Attribute sharedAttrib = mapAttribByNamePosAndValue_.get(key);
+        if(sharedAttrib == null)
+            mapAttribByNamePosAndValue_.put(key, attrib);
+        else
+        {
+            assert sharedAttrib.i == attrib.i;
+            netObj.storeAttribValue(attribName, sharedAttrib);
+        }
+    } /* End of DataModelListener.internAttribute */
+
+
+
     /**
      * {@inheritDoc}<p>
      * Pick the individual attribute values from the parse tree and put them into the
@@ -2484,6 +2466,25 @@ public class DataModelListener extends DbcBaseListener
     {
         final String attribName = getAttribNameFromToken(ctx.attribName);
 
+        /* The values of frame and signal attributes are not evaluated at all if they
+           relate to a frame, which is excluded by the frame filters. */
+        final AttributeDef knownAttribDef = bus_.attribDefMap != null
+                                            ? bus_.attribDefMap.get(attribName)
+                                            : null;
+        if(knownAttribDef != null
+           &&  (knownAttribDef.objType == AttributeDef.ObjectType.frame
+                ||  knownAttribDef.objType == AttributeDef.ObjectType.signal
+               )
+           &&  ctx.msgId != null
+           &&  setOfExcludedFrameIds_.containsKey(parseCanId(ctx.msgId.getText()))
+          )
+        {
+            _logger.debug(errorContext(ctx.attribName) + "Attribute " + attribName
+                          + " relates to an excluded frame. It is ignored"
+                         );
+            return;
+        }
+
         /* Read the value of the attribute by comparing it with the information from the
            attribute definition. Any inconsistencies are reported. If any, we have to
            ignore the value. */
@@ -2559,11 +2560,9 @@ public class DataModelListener extends DbcBaseListener
                                ||  ctx.signalName == null  ||  ctx.envVarName != null;
             if(!syntaxErrBadType)
             {
-                netObj = mapSignalByIdAndName_.get
-                                              (Pair.create( parseCanId(ctx.msgId.getText())
-                                                          , ctx.signalName.getText()
-                                                          )
-                                              );
+                netObj = getSignal( parseCanId(ctx.msgId.getText())
+                                  , ctx.signalName.getText()
+                                  );
                 /* No error message must be emitted if the addressed signal object is not
                    found: It could belong to a not supported frame. */
             }
@@ -2610,6 +2609,7 @@ public class DataModelListener extends DbcBaseListener
                              + previousValue + " is ignored"
                             );
             }
+            internAttribute(netObj, attribName, attrib);
         }
     } /* End of exitAttributeValue */
 
@@ -2638,8 +2638,8 @@ public class DataModelListener extends DbcBaseListener
 
             /* The values 1 and 2 mean floating point numbers.
                  Find the signal the type information relates to. */
-            final CanId canId = parseCanId(ctx.msgId.getText());
-            Signal s = mapSignalByIdAndName_.get(Pair.create(canId, ctx.signalName.getText()));
+            final long canId = parseCanId(ctx.msgId.getText());
+            Signal s = getSignal(canId, ctx.signalName.getText());
             if(s == null)
             {
                 /* No error message, we can have filtered out the frame holding the addressed
@@ -2647,7 +2647,7 @@ public class DataModelListener extends DbcBaseListener
                 return;
             }
 
-            final String signal = "Frame " + canId + ", " + s.name;
+            final String signal = "Frame " + canIdToString(canId) + ", " + s.name;
 
             /* Report the presence of floating point signals globally to the code
                generation templates. */
@@ -2767,7 +2767,11 @@ public class DataModelListener extends DbcBaseListener
                 , noErrBefore = errCnt_.getNoErrors();
 
         /* Visit all net objects, which might have this attribute. Find the appropriate
-           collection that holds all the related objects. */
+           collection that holds all the related objects.
+             Frames and signals are visited in the order of the network file. Earlier
+           revisions had visited them in hash order; the errors come in a different order
+           now and, because of the limit maxErrReports, a different subset of objects may
+           be reported. Nodes are still visited in hash order. */
         Collection<? extends NetObject> collectionNetObjs = null;
         switch(attribDef.objType)
         {
@@ -2786,7 +2790,7 @@ public class DataModelListener extends DbcBaseListener
                 break;
 
             case signal:
-                collectionNetObjs = mapSignalByIdAndName_.values();
+                collectionNetObjs = getAllSignals();
                 break;
 
             case envVar:
@@ -2834,33 +2838,25 @@ public class DataModelListener extends DbcBaseListener
 
 
     /**
-     * Do a walk through a parse tree using this listener.
-     *   The walk picks all relevant information from the parse tree and puts it into the
-     * aimed data model of class {@link Bus}. Some data validation, which was not yet
-     * possible during parsing is done at the same time and can lead to not yet recognized
-     * parse errors.
+     * Create a listener for shaping the data model of a bus.
      *   @return
-     * Get the bus object containing all bus related relevant parse results. Or get null if
-     * an error occured during the walk through the parse tree.
-     *   @param parseTree
-     * The result of a successful parsing of the network database file. The result is
-     * unpredictable if the output of a parse process is passed in that had reported an
-     * error: The listener strongly depends on the checks, which are made during parsing.
+     * Get the new listener.
      *   @param busDescription
-     * A parameter set that describes the bus from the perspective of the user is passed
-     * in. Most important detail is the name of the network node the code generation is
-     * made for.
+     * The user specification of the bus.
      *   @param errCnt
-     * An error counter for reporting data validation problems encountered during the walk.
-     * The returned bus object is valid only if no error is reported.<p>
-     *   Optional. Pass null if no known error counter should be applied.
+     * An error counter for reporting data validation problems or null.
+     *   @param stringPool
+     * The pool of strings, which is shared by all buses of the application run, or null
+     * if strings are not pooled.
      */
-    public static Bus walk( ParseTree parseTree
-                          , final ParameterSet.BusDescription busDescription
-                          , ErrorCounter errCnt
-                          )
+    private static DataModelListener create
+                                    ( final ParameterSet.BusDescription busDescription
+                                    , ErrorCounter errCnt
+                                    , StringPool stringPool
+                                    )
     {
         DataModelListener l = new DataModelListener(errCnt);
+        l.stringPool_ = stringPool;
 
         l.errorContext_ = "Bus " + busDescription.name + ": ";
         l.busDescription_ = busDescription;
@@ -2884,18 +2880,20 @@ public class DataModelListener extends DbcBaseListener
         }
         l.bus_.optionMap = busDescription.optionMap;
 
-        _logger.debug(l.errorContext_ + "Starting walk through parse tree of network database "
-                      + busDescription.networkFileName
-                     );
+        return l;
 
-        /* Create a walker for transformation of parse tree into data model needed
-           for the template engine. */
-        ParseTreeWalker walker = new ParseTreeWalker();
+    } /* End of DataModelListener.create */
 
-        /* Do the walk with this data-transformer-walker to shape the needed data
-           model. */
-        walker.walk(l, parseTree);
 
+
+    /**
+     * Do the final checks and transformations of the data model after all parse events
+     * have been processed.
+     *   @return
+     * Get the bus object or null if an error occured.
+     */
+    private Bus complete()
+    {
         // @todo Sort the signal value lists of all signals in all pdus. Sort order would
         // be the numeric value
         //for signal: all signals
@@ -2905,45 +2903,97 @@ public class DataModelListener extends DbcBaseListener
         //}
 
         /* Emit now collected warnings about uncommon use of floating point signals. */
-        if(l.nameListOfFloatSignals_ != null)
+        if(nameListOfFloatSignals_ != null)
         {
-            l.errCnt_.warning();
-            _logger.warn(l.errorContext_ + "The network database contains frames with"
+            errCnt_.warning();
+            _logger.warn(errorContext_ + "The network database contains frames with"
                          + " floating point signals. Floating point"
                          + " signals are very uncommon and might not be supported by the"
                          + " code generation templates of the application. Consider to"
                          + " use logging level DEBUG to get more details. The affected"
-                         + " signals are: " + l.nameListOfFloatSignals_
+                         + " signals are: " + nameListOfFloatSignals_
                         );
         }
 
         /* Check if all attributes have got default values. */
-        if(l.bus_.attribDefAry != null)
+        if(bus_.attribDefAry != null)
         {
-            for(AttributeDef attribDef: l.bus_.attribDefAry)
+            for(AttributeDef attribDef: bus_.attribDefAry)
             {
                 /* Check for default value. The only problem with a missing default value
                    are network objects not getting an individual value. This is double
                    checked in a second step. */
                 if(attribDef.defVal == null)
                 {
-                    l.errCnt_.warning();
-                    _logger.warn(l.errorContext_
+                    errCnt_.warning();
+                    _logger.warn(errorContext_
                                  + "No default value is defined for attribute "
                                  + attribDef.name + " of object type " + attribDef.objType
                                  + ". This will lead to an error if at least one related"
                                  + " object doesn't get an individual value"
                                 );
-                    l.checkForActualAttribValues(attribDef);
+                    checkForActualAttribValues(attribDef);
                 }
             } /* For(All attribute definitions) */
         }
 
         /* Copy the attributes of the frames to their PDU. */
-        l.pduInheritsFrameAttributes();
+        pduInheritsFrameAttributes();
 
         /* Get the transformed data. */
-        Bus bus = l.getBusData(/* reset */ true);
+        return getBusData(/* reset */ true);
+
+    } /* End of DataModelListener.complete */
+
+
+
+    /**
+     * Do a walk through a parse tree using this listener.
+     *   The walk picks all relevant information from the parse tree and puts it into the
+     * aimed data model of class {@link Bus}. Some data validation, which was not yet
+     * possible during parsing is done at the same time and can lead to not yet recognized
+     * parse errors.
+     *   @return
+     * Get the bus object containing all bus related relevant parse results. Or get null if
+     * an error occured during the walk through the parse tree.
+     *   @param parseTree
+     * The result of a successful parsing of the network database file. The result is
+     * unpredictable if the output of a parse process is passed in that had reported an
+     * error: The listener strongly depends on the checks, which are made during parsing.
+     *   @param busDescription
+     * A parameter set that describes the bus from the perspective of the user is passed
+     * in. Most important detail is the name of the network node the code generation is
+     * made for.
+     *   @param errCnt
+     * An error counter for reporting data validation problems encountered during the walk.
+     * The returned bus object is valid only if no error is reported.<p>
+     *   Optional. Pass null if no known error counter should be applied.
+     *   @param stringPool
+     * The pool of strings, which is shared by all buses of the application run. The
+     * strings of the data model are taken from this pool.<p>
+     *   Optional. Pass null if strings should not be pooled.
+     */
+    public static Bus walk( ParseTree parseTree
+                          , final ParameterSet.BusDescription busDescription
+                          , ErrorCounter errCnt
+                          , StringPool stringPool
+                          )
+    {
+        DataModelListener l = create(busDescription, errCnt, stringPool);
+
+        _logger.debug(l.errorContext_ + "Starting walk through parse tree of network database "
+                      + busDescription.networkFileName
+                     );
+
+        /* Create a walker for transformation of parse tree into data model needed
+           for the template engine. */
+        ParseTreeWalker walker = new ParseTreeWalker();
+
+        /* Do the walk with this data-transformer-walker to shape the needed data
+           model. */
+        walker.walk(l, parseTree);
+
+        Bus bus = l.complete();
 
         _logger.debug(l.errorContext_ + "Walk through parse tree "
                       + (bus!=null? "successfully done": "done with failures")
@@ -2953,4 +3003,121 @@ public class DataModelListener extends DbcBaseListener
 
     } /* End of DataModelListener.walk */
 
+
+
+    /**
+     * Parse a network database file in streaming mode and shape the data model while
+     * parsing. No parse tree is built; this saves a lot of memory for large files. See
+     * {@link DbcParserMain#parseStreaming} for details.<p>
+     *   The parser, the semantic checks and the data model listener work interleaved,
+     * statement by statement. Their log output is held back until the file has been
+     * parsed and then emitted in the order of a walk through the parse tree: First the
+     * problems found by the parser, then those of the semantic checks and last those of
+     * the data model listener. If the parser or the semantic checks found an error then
+     * the problems of the data model listener are neither reported nor counted; a parse
+     * tree with errors wouldn't be walked by the data model listener at all. This way, the
+     * diagnostic output is the same as of {@link #walk}.
+     *   @return
+     * Get the bus object containing all bus related relevant parse results. Or get null if
+     * an error occured during parsing or shaping the data model.
+     *   @param parser
+     * The parser object to use.
+     *   @param busDescription
+     * A parameter set that describes the bus from the perspective of the user is passed
+     * in, including name and character set of the network database file.
+     *   @param errCnt
+     * All problems found by parser, semantic checks and data validation are counted in
+     * this object.
+     *   @param stringPool
+     * The pool of strings, which is shared by all buses of the application run, or null
+     * if strings are not pooled.
+     */
+    public static Bus parse( DbcParserMain parser
+                           , final ParameterSet.BusDescription busDescription
+                           , ErrorCounter errCnt
+                           , StringPool stringPool
+                           )
+    {
+        /* The problems found by the data model listener are counted only if the parse
+           succeeds. */
+        final ErrorCounter errCntModel = new ErrorCounter();
+        DataModelListener l = create(busDescription, errCntModel, stringPool);
+
+        _logger.debug(l.errorContext_ + "Starting streaming parse of network database "
+                      + busDescription.networkFileName
+                     );
+
+        /* The log output is held back by the appender, which is already installed if the
+           buses are parsed concurrently or if the jobs of a batch run concurrently. */
+        DeferredLogAppender logAppender = DeferredLogAppender.getInstalled();
+        final boolean isOwnLogAppender = logAppender == null;
+        if(isOwnLogAppender)
+        {
+            logAppender = new DeferredLogAppender();
+            logAppender.install();
+        }
+        Bus bus = null;
+        boolean success = false;
+        try
+        {
+            List<LoggingEvent> logEventAry;
+            logAppender.beginDeferral();
+            try
+            {
+                success = parser.parseStreaming( busDescription.networkFileName
+                                               , busDescription.networkFileCharset
+                                               , l
+                                               , errCnt
+                                               );
+                if(success)
+                    bus = l.complete();
+            }
+            finally
+            {
+                logEventAry = logAppender.endDeferral();
+            }
+
+            /* Sort the held-back events by their origin. The order of events of same
+               origin is not changed. */
+            final String semanticCheckLoggerName = SemanticCheckListener.class.getName()
+                       , modelLoggerNamePrefix =
+                                    DataModelListener.class.getPackage().getName() + ".";
+            final List<LoggingEvent> parseEventAry = new ArrayList<>()
+                                   , semanticCheckEventAry = new ArrayList<>()
+                                   , modelEventAry = new ArrayList<>();
+            for(LoggingEvent event: logEventAry)
+            {
+                final String loggerName = event.getLoggerName();
+                if(loggerName.equals(semanticCheckLoggerName))
+                    semanticCheckEventAry.add(event);
+                else if(loggerName.startsWith(modelLoggerNamePrefix))
+                    modelEventAry.add(event);
+                else
+                    parseEventAry.add(event);
+            }
+            logAppender.emit(parseEventAry);
+            logAppender.emit(semanticCheckEventAry);
+            if(success)
+            {
+                logAppender.emit(modelEventAry);
+                errCnt.add(errCntModel);
+            }
+        }
+        finally
+        {
+            if(isOwnLogAppender)
+                logAppender.uninstall();
+        }
+
+        if(!success)
+            return null;
+
+        _logger.debug(l.errorContext_ + "Streaming parse "
+                      + (bus!=null? "successfully done": "done with failures")
+                     );
+
+        return bus;
+
+    } /* End of DataModelListener.parse */
+
 } /* End of class DataModelListener definition. */
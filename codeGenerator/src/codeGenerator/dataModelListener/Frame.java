@@ -42,8 +42,9 @@ import org.antlr.v4.runtime.*;
 
 public class Frame extends NetObject implements Comparable<Frame>
 {
-    /** The selectable sort orders. */
-    protected enum SortOrder
+    /** The selectable sort orders. Each of them is a comparator for frames. It is
+        stateless and can be shared by concurrent sort operations. */
+    protected enum SortOrder implements Comparator<Frame>
     { 
         /** Sort a collection of frames by name, ascending. */
         byName,
@@ -73,12 +74,16 @@ public class Frame extends NetObject implements Comparable<Frame>
         sentFirst,
 
         /** Sort a collection of frames Rx before Tx. */
-        receivedFirst
+        receivedFirst;
+
+        /** The comparison method, which yields this sort-order.
+              @return {@code <0, 0, >0} depending on relation of the frames.
+              @param frame The frame to compare.
+              @param otherFrame The other frame. */
+        @Override public int compare(Frame frame, Frame otherFrame)
+            { return Frame.compare(this, frame, otherFrame); }
     }
     
-    /** The currently selected sort order. */
-    static private SortOrder sortOrder = SortOrder.byName;
-
     /** The ID of the frame. */
     public int id = -1;
     
@@ -123,31 +128,43 @@ public class Frame extends NetObject implements Comparable<Frame>
         { return pduAry != null? pduAry.length: 0; }
 
 
-    /** The comparison method, which yields the currently selected sort-order.
+    /** The comparison method, which yields the default sort-order, which is by name.
           @return {@code <0, 0, >0} depending on relation of this to the other object.
           @param otherFrame The other object. */
     @Override public int compareTo(Frame otherFrame)
+    {
+        return compare(SortOrder.byName, this, otherFrame);
+
+    } /* End of compareTo */
+
+
+    /** The comparison method, which yields a selected sort-order.
+          @return {@code <0, 0, >0} depending on relation of frame to the other object.
+          @param sortOrder The wanted sort order.
+          @param frame The frame to compare.
+          @param otherFrame The other object. */
+    private static int compare(SortOrder sortOrder, Frame frame, Frame otherFrame)
     {
         switch(sortOrder)
         {
         case byName:
-            return this.name.compareToIgnoreCase(otherFrame.name);
+            return frame.name.compareToIgnoreCase(otherFrame.name);
         
         case byNameInverse:
-            return otherFrame.name.compareToIgnoreCase(this.name);
+            return otherFrame.name.compareToIgnoreCase(frame.name);
 
         case byId:
             {
-                final int deltaId = this.id - otherFrame.id;
+                final int deltaId = frame.id - otherFrame.id;
                 if(deltaId != 0)
                     return deltaId;
                 else
                 {
                     /* If they have same ID then an extended ID is considered the larger
                        one. */
-                    if(this.isExtId && !otherFrame.isExtId)
+                    if(frame.isExtId && !otherFrame.isExtId)
                         return 1;
-                    else if(!this.isExtId && otherFrame.isExtId)
+                    else if(!frame.isExtId && otherFrame.isExtId)
                         return -1;
                     else
                         return 0;
@@ -155,62 +172,62 @@ public class Frame extends NetObject implements Comparable<Frame>
             }   
         case byIdInverse:
             {
-                final int deltaId = otherFrame.id - this.id;
+                final int deltaId = otherFrame.id - frame.id;
                 if(deltaId != 0)
                     return deltaId;
                 else
                 {
                     /* If they have same ID then an extended ID is considered the larger one
                        and it comes first. */
-                    if(!this.isExtId && otherFrame.isExtId)
+                    if(!frame.isExtId && otherFrame.isExtId)
                         return 1;
-                    else if(this.isExtId && !otherFrame.isExtId)
+                    else if(frame.isExtId && !otherFrame.isExtId)
                         return -1;
                     else
                         return 0;
                 }
             }
         case byIsExtId:
-            if(this.isExtId && !otherFrame.isExtId)
+            if(frame.isExtId && !otherFrame.isExtId)
                 return 1;
-            else if(!this.isExtId && otherFrame.isExtId)
+            else if(!frame.isExtId && otherFrame.isExtId)
                 return -1;
             else
                 return 0;
         
         case byIsExtIdInverse:
-            if(!this.isExtId && otherFrame.isExtId)
+            if(!frame.isExtId && otherFrame.isExtId)
                 return 1;
-            else if(this.isExtId && !otherFrame.isExtId)
+            else if(frame.isExtId && !otherFrame.isExtId)
                 return -1;
             else
                 return 0;
         
         case bySize:
-            return this.size - otherFrame.size;
+            return frame.size - otherFrame.size;
 
         case bySizeInverse:
-            return otherFrame.size - this.size;
+            return otherFrame.size - frame.size;
 
         case sentFirst:
-            if(this.isSent && !otherFrame.isSent)
+            if(frame.isSent && !otherFrame.isSent)
                 return 1;
-            if(otherFrame.isSent && !this.isSent)
+            if(otherFrame.isSent && !frame.isSent)
                 return -1;
-            if(this.isReceived && (!otherFrame.isSent && !otherFrame.isReceived))
+            if(frame.isReceived && (!otherFrame.isSent && !otherFrame.isReceived))
                 return 1;
-            if(otherFrame.isReceived && (!this.isSent && !this.isReceived))
+            if(otherFrame.isReceived && (!frame.isSent && !frame.isReceived))
                 return -1;
             return 0;
 
         case receivedFirst:
-            if(this.isReceived && !otherFrame.isReceived)
+            if(frame.isReceived && !otherFrame.isReceived)
                 return 1;
-            if(otherFrame.isReceived && !this.isReceived)
+            if(otherFrame.isReceived && !frame.isReceived)
                 return -1;
-            if(this.isSent && (!otherFrame.isReceived && !otherFrame.isSent))
+            if(frame.isSent && (!otherFrame.isReceived && !otherFrame.isSent))
                 return 1;
-            if(otherFrame.isSent && (!this.isReceived && !this.isSent))
+            if(otherFrame.isSent && (!frame.isReceived && !frame.isSent))
                 return -1;
             return 0;
         
@@ -218,16 +235,9 @@ public class Frame extends NetObject implements Comparable<Frame>
             assert false: "Bad sort order selected";
             return 0;
         }
-    } /* End of compareTo */
+    } /* End of compare */
 
 
-    /** Select the wanted order. This method should be used prior to running a sort method
-        on a collection of Frame objects. The setting made with this method holds for
-        the whole class of Frame objects.
-          @param newSortOrder The selected new sort order, applied to future collection
-        sorts. */
-    static protected void setSortOrder(SortOrder newSortOrder)
-        { sortOrder = newSortOrder; }
     
 } /* End of class Frame definition. */
 
@@ -45,8 +45,9 @@ import org.antlr.v4.runtime.*;
 
 public class FrameRef implements Comparable<FrameRef>
 {
-    /** The selectable sort orders. */
-    protected enum SortOrder
+    /** The selectable sort orders. Each of them is a stateless comparator for frame
+        references. */
+    protected enum SortOrder implements Comparator<FrameRef>
     {
         /** Sort a collection of frame references by name, ascending. */
         sortOrderByName,
@@ -61,12 +62,16 @@ public class FrameRef implements Comparable<FrameRef>
         sortOrderByIsExtId,
         
         /** Sort a collection of frame references by payload size, ascending. */
-        sortOrderSize      
+        sortOrderSize;
+
+        /** The comparison method, which yields this sort-order.
+              @return -1, 0, 1 depending on relation of the frame references.
+              @param frameRef The frame reference to compare.
+              @param otherFrameRef The other frame reference. */
+        @Override public int compare(FrameRef frameRef, FrameRef otherFrameRef)
+            { return FrameRef.compare(this, frameRef, otherFrameRef); }
     }
 
-    /** The currently selected sort order. */
-    static private SortOrder sortOrder = SortOrder.sortOrderNatural;
-
     /** The reference to the Frame object. */
     public Frame frame = null;
 
@@ -97,61 +102,66 @@ public class FrameRef implements Comparable<FrameRef>
         busIs.put(bus.name, Boolean.valueOf(true));
     }
 
-    /** The comparison method, which yields the currently selected sort-order.
+    /** The comparison method, which yields the default sort-order, which is the file
+        order.
           @return -1, 0, 1 depending on relation of this to the other object.
           @param otherFrameRef The other object. */
     @Override public int compareTo(FrameRef otherFrameRef)
+    {
+        return compare(SortOrder.sortOrderNatural, this, otherFrameRef);
+
+    } /* End of compareTo */
+
+    /** The comparison method, which yields a selected sort-order.
+          @return -1, 0, 1 depending on relation of frameRef to the other object.
+          @param sortOrder The wanted sort order.
+          @param frameRef The frame reference to compare.
+          @param otherFrameRef The other object. */
+    private static int compare(SortOrder sortOrder, FrameRef frameRef, FrameRef otherFrameRef)
     {
         switch(sortOrder)
         {
         case sortOrderByName:
-            return this.frame.name.compareToIgnoreCase(otherFrameRef.frame.name);
+            return frameRef.frame.name.compareToIgnoreCase(otherFrameRef.frame.name);
 
         case sortOrderNatural:
-            assert(this.frame.objId - otherFrameRef.frame.objId != 0);
-            return this.frame.objId - otherFrameRef.frame.objId;
+            assert(frameRef.frame.objId - otherFrameRef.frame.objId != 0);
+            return frameRef.frame.objId - otherFrameRef.frame.objId;
 
         case sortOrderById:
             {
-                final int deltaId = this.frame.id - otherFrameRef.frame.id;
+                final int deltaId = frameRef.frame.id - otherFrameRef.frame.id;
                 if(deltaId != 0)
                     return deltaId;
                 else
                 {
                     /* If they have same ID then an extended ID is considered the larger
                        one. */
-                    if(this.frame.isExtId && !otherFrameRef.frame.isExtId)
+                    if(frameRef.frame.isExtId && !otherFrameRef.frame.isExtId)
                         return 1;
-                    else if(!this.frame.isExtId && otherFrameRef.frame.isExtId)
+                    else if(!frameRef.frame.isExtId && otherFrameRef.frame.isExtId)
                         return -1;
                     else
                         return 0;
                 }
             }
         case sortOrderByIsExtId:
-            if(this.frame.isExtId && !otherFrameRef.frame.isExtId)
+            if(frameRef.frame.isExtId && !otherFrameRef.frame.isExtId)
                 return 1;
-            else if(!this.frame.isExtId && otherFrameRef.frame.isExtId)
+            else if(!frameRef.frame.isExtId && otherFrameRef.frame.isExtId)
                 return -1;
             else
                 return 0;
 
         case sortOrderSize:
-            return this.frame.size - otherFrameRef.frame.size;
+            return frameRef.frame.size - otherFrameRef.frame.size;
 
         default:
             assert(false);
             return 0;
         }
-    } /* End of compareTo */
+    } /* End of compare */
 
-    /** Select the wanted order. This method should be used prior to running a sort method
-        on a collection of FrameRef objects. The setting made with this method holds for
-        the whole class of FrameRef objects.
-          @param newSortOrder The selected new sort order, applied to future collection
-        sorts. */
-    static protected void setSortOrder(SortOrder newSortOrder)
-        { sortOrder = newSortOrder; }
 
 } /* End of class FrameRef definition. */
 
@@ -0,0 +1,190 @@
+/**
+ * @file IndexMap.java
+ * A read-only map, which gives StringTemplate V4 templates a lookup of objects of the data
+ * model by name or by number.
+ *
+ * Copyright (C) 2025 Peter Vranken (mailto:Peter_Vranken@Yahoo.de)
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+/* Interface of class IndexMap
+ *   IndexMap
+ *   getKey
+ *   add
+ *   addToList
+ *   entrySet
+ *   containsKey
+ *   get
+ */
+
+package codeGenerator.dataModelListener;
+
+import java.util.*;
+
+
+/**
+ * A read-only map, which gives StringTemplate V4 templates a lookup of objects of the data
+ * model.<p>
+ *   StringTemplate V4 has no lookup operation of its own. Finding a particular frame or
+ * signal requires nested iterations along the lists of the data model. A template can
+ * instead use the map operator with the wanted name or number as key, e.g., {@code
+ * <cluster.frameByName.(name)>}. The map is a hash map; the lookup has constant cost.<p>
+ *   The keys are Java String objects. Keys of a numeric map are numbers and the template
+ * can use the number either as decimal or as hexadecimal literal with prefix 0x, e.g.
+ * {@code <bus.frameById.("0x1A0")>}, or as an integer attribute of the data model, e.g.
+ * {@code <bus.frameById.(frame.id)>}.<p>
+ *   The StringTemplate V4 engine first queries the map with the key object of its own
+ * internal representation. Like {@link ST4CmdInterpreter}, the map only accepts String
+ * and Integer keys and waits for the second query, which is made with the key rendered as
+ * String.
+ *   @param <V>
+ * The type of the mapped objects.
+ */
+
+class IndexMap<V> extends AbstractMap<String,V>
+{
+    /** The map of all entries. The keys of a numeric map are decimal literals. */
+    private final HashMap<String,V> map_ = new HashMap<>();
+
+    /** Whether the keys are numbers. */
+    private final boolean isNumericKey_;
+
+    /**
+     * A new, empty instance of IndexMap is created.
+     *   @param isNumericKey
+     * Pass true if the keys are numbers. A numeric key can be looked up in decimal and in
+     * hexadecimal notation.
+     */
+    IndexMap(boolean isNumericKey)
+    {
+        isNumericKey_ = isNumericKey;
+
+    } /* End of IndexMap.IndexMap */
+
+
+
+    /**
+     * Get the key of the internal map, which is used for a key of a lookup.
+     *   @return Get the key or null if the key object can't be a key of the map.
+     *   @param key
+     * The key from the template.
+     */
+    private String getKey(Object key)
+    {
+        if(key instanceof Integer)
+            return isNumericKey_? key.toString(): null;
+        else if(!(key instanceof String))
+            return null;
+
+        final String keyStr = (String)key;
+        if(isNumericKey_  &&  (keyStr.startsWith("0x")  ||  keyStr.startsWith("0X")))
+        {
+            try
+            {
+                return Long.toString(Long.parseLong(keyStr.substring(2), 16));
+            }
+            catch(NumberFormatException e)
+            {
+                return null;
+            }
+        }
+        return keyStr;
+
+    } /* End of IndexMap.getKey */
+
+
+
+    /**
+     * Add an entry to the map. An already existing entry is not replaced.
+     *   @param key
+     * The key. For a numeric map, this is the decimal representation of the number.
+     *   @param value
+     * The value.
+     */
+    void add(String key, V value)
+    {
+        map_.putIfAbsent(key, value);
+
+    } /* End of IndexMap.add */
+
+
+
+    /**
+     * Add an element to the list, which is the value of a map entry.
+     *   @param <E>
+     * The type of the list elements.
+     *   @param indexMap
+     * The map with lists of elements as values.
+     *   @param key
+     * The key. For a numeric map, this is the decimal representation of the number.
+     *   @param element
+     * The element to add to the list of the entry. The list is created if the entry
+     * doesn't exist yet.
+     */
+    static <E> void addToList(IndexMap<List<E>> indexMap, String key, E element)
+    {
+        List<E> list = indexMap.map_.get(key);
+        if(list == null)
+        {
+            list = new ArrayList<>(1);
+            indexMap.map_.put(key, list);
+        }
+        list.add(element);
+
+    } /* End of IndexMap.addToList */
+
+
+
+    /**
+     * Get the set of entries of the map. A template can iterate the keys or the values of
+     * the map.
+     *   @return Get a read-only view of the entries. The order is undefined.
+     */
+    @Override public Set<Map.Entry<String,V>> entrySet()
+    {
+        return Collections.unmodifiableMap(map_).entrySet();
+
+    } /* End of IndexMap.entrySet */
+
+
+
+    /**
+     * Check if an object can be looked up.
+     *   @return Get true if the map contains the key.
+     *   @param key
+     * The key attribute from the template.
+     */
+    @Override public boolean containsKey(Object key)
+    {
+        final String k = getKey(key);
+        return k != null  &&  map_.containsKey(k);
+
+    } /* End of IndexMap.containsKey */
+
+
+
+    /**
+     * Look an object up.
+     *   @return Get the object or null if the map doesn't contain the key.
+     *   @param key
+     * The key attribute from the template.
+     */
+    @Override public V get(Object key)
+    {
+        final String k = getKey(key);
+        return k != null? map_.get(k): null;
+
+    } /* End of IndexMap.get */
+
+} /* End of class IndexMap definition. */
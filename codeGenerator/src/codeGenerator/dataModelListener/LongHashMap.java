@@ -0,0 +1,269 @@
+/**
+ * @file LongHashMap.java
+ * A map with primitive long keys, implemented as hash table with open addressing.
+ *
+ * Copyright (C) 2025 Peter Vranken (mailto:Peter_Vranken@Yahoo.de)
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+/* Interface of class LongHashMap
+ *   LongHashMap
+ *   hash
+ *   find
+ *   size
+ *   isEmpty
+ *   get
+ *   containsKey
+ *   put
+ *   insertIntoTable
+ *   clear
+ *   values
+ */
+
+package codeGenerator.dataModelListener;
+
+import java.util.*;
+
+
+/**
+ * A map with primitive long keys.<p>
+ *   The parser looks up frames and signals many times by numeric IDs. With a
+ * java.util.HashMap, each lookup would allocate a boxed key object. This map stores the
+ * keys as primitive values and lookups don't allocate anything.<p>
+ *   The entries are stored in insertion order in dense arrays; a hash table with open
+ * addressing and linear probing holds the indexes of the entries. Entries can't be
+ * removed individually, which is not required by the parser. The iteration order of
+ * {@link #values} is the insertion order.
+ *   @param <V>
+ * The type of the values.
+ */
+
+class LongHashMap<V>
+{
+    /** The keys of the entries in insertion order. */
+    private long[] keyAry_;
+
+    /** The values of the entries in insertion order. */
+    private Object[] valueAry_;
+
+    /** The number of entries. */
+    private int size_ = 0;
+
+    /** The hash table. An element is the index of an entry plus one or zero if the
+        element is unused. The size is a power of two and at least twice the capacity of
+        the entry arrays. */
+    private int[] table_;
+
+    /**
+     * A new, empty instance of LongHashMap is created.
+     */
+    LongHashMap()
+    {
+        keyAry_ = new long[8];
+        valueAry_ = new Object[8];
+        table_ = new int[16];
+
+    } /* End of LongHashMap.LongHashMap */
+
+
+
+    /**
+     * Get the index of the hash table, where the search for a key begins.
+     *   @return Get the index.
+     *   @param key
+     * The key.
+     */
+    private int hash(long key)
+    {
+        final int h = (int)(key ^ (key >>> 32)) * 0x9e3779b9;
+        return (h ^ (h >>> 16)) & (table_.length-1);
+
+    } /* End of LongHashMap.hash */
+
+
+
+    /**
+     * Find an entry.
+     *   @return Get the index of the entry or -1 if the key is not in the map.
+     *   @param key
+     * The key.
+     */
+    private int find(long key)
+    {
+        final int mask = table_.length - 1;
+        int idxTable = hash(key)
+          , idxEntry;
+        while((idxEntry = table_[idxTable]) != 0)
+        {
+            if(keyAry_[idxEntry-1] == key)
+                return idxEntry - 1;
+            idxTable = (idxTable + 1) & mask;
+        }
+        return -1;
+
+    } /* End of LongHashMap.find */
+
+
+
+    /**
+     * Get the number of entries.
+     *   @return Get the number of entries.
+     */
+    int size()
+    {
+        return size_;
+
+    } /* End of LongHashMap.size */
+
+
+
+    /**
+     * Test if the map is empty.
+     *   @return Get true if the map doesn't contain any entry.
+     */
+    boolean isEmpty()
+    {
+        return size_ == 0;
+
+    } /* End of LongHashMap.isEmpty */
+
+
+
+    /**
+     * Get the value of a key.
+     *   @return Get the value or null if the key is not in the map.
+     *   @param key
+     * The key.
+     */
+    @SuppressWarnings("unchecked")
+    V get(long key)
+    {
+        final int idxEntry = find(key);
+        return idxEntry >= 0? (V)valueAry_[idxEntry]: null;
+
+    } /* End of LongHashMap.get */
+
+
+
+    /**
+     * Test if a key is in the map.
+     *   @return Get true if the map contains an entry with the key.
+     *   @param key
+     * The key.
+     */
+    boolean containsKey(long key)
+    {
+        return find(key) >= 0;
+
+    } /* End of LongHashMap.containsKey */
+
+
+
+    /**
+     * Put a value into the map. A value, which is already associated with the key, is
+     * replaced; the entry keeps its position in the iteration order.
+     *   @return Get the replaced value or null if the key is new to the map.
+     *   @param key
+     * The key.
+     *   @param value
+     * The value.
+     */
+    @SuppressWarnings("unchecked")
+    V put(long key, V value)
+    {
+        final int idxEntry = find(key);
+        if(idxEntry >= 0)
+        {
+            final V previousValue = (V)valueAry_[idxEntry];
+            valueAry_[idxEntry] = value;
+            return previousValue;
+        }
+
+        if(size_ == keyAry_.length)
+        {
+            /* Grow the entry arrays and rebuild the hash table with doubled size. */
+            keyAry_ = Arrays.copyOf(keyAry_, 2*size_);
+            valueAry_ = Arrays.copyOf(valueAry_, 2*size_);
+            table_ = new int[4*size_];
+            for(int i=0; i<size_; ++i)
+                insertIntoTable(i);
+        }
+
+        keyAry_[size_] = key;
+        valueAry_[size_] = value;
+        insertIntoTable(size_);
+        ++ size_;
+        return null;
+
+    } /* End of LongHashMap.put */
+
+
+
+    /**
+     * Enter an entry into the hash table.
+     *   @param idxEntry
+     * The index of the entry.
+     */
+    private void insertIntoTable(int idxEntry)
+    {
+        final int mask = table_.length - 1;
+        int idxTable = hash(keyAry_[idxEntry]);
+        while(table_[idxTable] != 0)
+            idxTable = (idxTable + 1) & mask;
+        table_[idxTable] = idxEntry + 1;
+
+    } /* End of LongHashMap.insertIntoTable */
+
+
+
+    /**
+     * Remove all entries from the map. The capacity of the map is retained.
+     */
+    void clear()
+    {
+        if(size_ > 0)
+        {
+            Arrays.fill(table_, 0);
+            Arrays.fill(valueAry_, 0, size_, null);
+            size_ = 0;
+        }
+    } /* End of LongHashMap.clear */
+
+
+
+    /**
+     * Get the values of the map.
+     *   @return Get the values in insertion order as a read-only view of the map. The view
+     * must not be used after modifications of the map.
+     */
+    List<V> values()
+    {
+        return new AbstractList<V>()
+            {
+                @SuppressWarnings("unchecked")
+                @Override public V get(int index)
+                {
+                    if(index < 0  ||  index >= size_)
+                        throw new IndexOutOfBoundsException("Index: " + index);
+                    return (V)valueAry_[index];
+                }
+
+                @Override public int size()
+                {
+                    return size_;
+                }
+            };
+    } /* End of LongHashMap.values */
+
+} /* End of class LongHashMap definition. */
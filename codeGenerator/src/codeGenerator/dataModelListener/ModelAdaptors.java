@@ -0,0 +1,401 @@
+/**
+ * @file ModelAdaptors.java
+ * The StringTemplate V4 model adaptors of the classes of the data model, which give the
+ * templates access to the properties of the network objects without Java reflection.
+ *
+ * Copyright (C) 2025 Peter Vranken (mailto:Peter_Vranken@Yahoo.de)
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+/* Interface of class ModelAdaptors
+ *   DataModelAdaptor.getMember
+ *   DataModelAdaptor.getProperty
+ *   getNetObjectMember
+ *   SignalAdaptor.getMember
+ *   FrameAdaptor.getMember
+ *   PduAdaptor.getMember
+ *   BusAdaptor.getMember
+ *   ClusterAdaptor.getMember
+ *   AttributeAdaptor.getMember
+ *   FrameRefAdaptor.getMember
+ *   SignalRefAdaptor.getMember
+ *   registerWith
+ */
+
+package codeGenerator.dataModelListener;
+
+import org.stringtemplate.v4.*;
+import org.stringtemplate.v4.misc.ObjectModelAdaptor;
+import org.stringtemplate.v4.misc.STNoSuchPropertyException;
+
+
+/**
+ * The StringTemplate V4 model adaptors of the classes of the data model.<p>
+ *   A template accesses a property of an object of the data model, like {@code
+ * <signal.length>} or {@code <pdu.signalAry>}, through the model adaptor, which is
+ * registered for the class of the object. The default adaptor of StringTemplate V4 looks
+ * the property up by Java reflection; it searches for a getter method and for a public
+ * field of the given name, caches the result and invokes it. The lookup in the shared
+ * cache is synchronized, so that concurrently rendering threads serialize on each and
+ * every property access.<p>
+ *   The adaptors of this class know the properties of the frequently accessed classes of
+ * the data model and resolve a property name by a switch statement and a plain field
+ * access or method call. They resolve the same names to the same members as the default
+ * adaptor would: A getter {@code getX()} hides a field {@code x}. Names, which are not
+ * known, e.g., because they are written with a capital first character, are forwarded
+ * to the default adaptor. The rendered output is identical with and without the adaptors
+ * of this class.<p>
+ *   The adaptors are registered only if the user demands them with command line argument
+ * --model-adaptors; by default, the templates use the reflective adaptor.<p>
+ *   Note, when adding a public field or getter to one of the classes of the data model,
+ * then the adaptor of the class should be extended, too. Otherwise, the new property is
+ * still accessible from a template but through the slower default adaptor.
+ */
+
+public class ModelAdaptors
+{
+    /** The result of a member lookup if the adaptor doesn't know the property. */
+    private static final Object _noSuchMember = new Object();
+
+    /**
+     * The common base of all adaptors. A property, which is not known by the derived
+     * adaptor, is resolved by the default adaptor of StringTemplate V4.
+     *   @param <T>
+     * The class of the data model, which is served by the adaptor.
+     */
+    private static abstract class DataModelAdaptor<T> implements ModelAdaptor<T>
+    {
+        /** The default adaptor, which resolves the unknown properties. */
+        private final ObjectModelAdaptor<T> fallback_ = new ObjectModelAdaptor<>();
+
+        /**
+         * Get the value of a property.
+         *   @return Get the value or {@link ModelAdaptors#_noSuchMember} if the property
+         * is not known by the adaptor.
+         *   @param model
+         * The object of the data model.
+         *   @param propertyName
+         * The name of the property as written in the template.
+         */
+        abstract Object getMember(T model, String propertyName);
+
+        /**
+         * Get the value of a property. Called by the StringTemplate V4 engine.
+         *   @return Get the value.
+         *   @throws STNoSuchPropertyException
+         * The object doesn't have the property.
+         *   @param interp
+         * The StringTemplate V4 interpreter.
+         *   @param self
+         * The rendered template.
+         *   @param model
+         * The object of the data model.
+         *   @param property
+         * The property object as evaluated from the template.
+         *   @param propertyName
+         * The property as string.
+         */
+        @Override public Object getProperty( Interpreter interp
+                                           , ST self
+                                           , T model
+                                           , Object property
+                                           , String propertyName
+                                           )
+            throws STNoSuchPropertyException
+        {
+            if(propertyName != null)
+            {
+                final Object value = getMember(model, propertyName);
+                if(value != _noSuchMember)
+                    return value;
+            }
+            return fallback_.getProperty(interp, self, model, property, propertyName);
+
+        } /* End of DataModelAdaptor.getProperty */
+
+    } /* End of class DataModelAdaptor */
+
+
+    /**
+     * Get the value of a property, which all network objects have in common.
+     *   @return Get the value or {@link #_noSuchMember} if the property is not known.
+     *   @param netObj
+     * The network object.
+     *   @param propertyName
+     * The name of the property as written in the template.
+     */
+    private static Object getNetObjectMember(NetObject netObj, String propertyName)
+    {
+        switch(propertyName)
+        {
+        case "objId": return netObj.objId;
+        case "name": return netObj.name;
+        case "i0": return netObj.i0;
+        case "i": return netObj.i;
+        case "desc": return netObj.desc;
+        case "attribMap": return netObj.attribMap;
+        case "noAttribs": return netObj.getNoAttribs();
+        default: return _noSuchMember;
+        }
+    } /* End of ModelAdaptors.getNetObjectMember */
+
+
+    /** The adaptor of class Signal. */
+    private static class SignalAdaptor extends DataModelAdaptor<Signal>
+    {
+        @Override Object getMember(Signal s, String propertyName)
+        {
+            switch(propertyName)
+            {
+            case "isReceived": return s.isReceived;
+            case "isMuxSelector": return s.isMuxSelector;
+            case "isMuxedSignal": return s.isMuxedSignal;
+            case "muxValue": return s.muxValue;
+            case "is": return s.is;
+            case "length": return s.length;
+            case "startBit": return s.startBit;
+            case "idxByteLSB": return s.idxByteLSB;
+            case "idxBitInByteLSB": return s.idxBitInByteLSB;
+            case "isInteger": return s.isInteger;
+            case "isFloat": return s.isFloat;
+            case "isDouble": return s.isDouble;
+            case "isMotorola": return s.isMotorola;
+            case "min": return s.min;
+            case "max": return s.max;
+            case "factor": return s.factor;
+            case "offset": return s.offset;
+            case "isVoidScaling": return s.isVoidScaling;
+            case "isVoidFactor": return s.isVoidFactor;
+            case "isVoidOffset": return s.isVoidOffset;
+            case "unit": return s.unit;
+            case "valueDescAry": return s.valueDescAry;
+            case "noValueDescs": return s.getNoValueDescs();
+            case "isSigned": return s.isSigned;
+            case "type": return s.type;
+            case "byteAry": return s.byteAry;
+            case "maskAry": return s.maskAry;
+            case "accType": return s.accType;
+            case "shiftLeft": return s.shiftLeft;
+            case "shiftRight": return s.shiftRight;
+            case "receiverAry": return s.receiverAry;
+            case "noReceivers": return s.getNoReceivers();
+            default: return getNetObjectMember(s, propertyName);
+            }
+        } /* End of SignalAdaptor.getMember */
+
+    } /* End of class SignalAdaptor */
+
+
+    /** The adaptor of class Frame. */
+    private static class FrameAdaptor extends DataModelAdaptor<Frame>
+    {
+        @Override Object getMember(Frame f, String propertyName)
+        {
+            switch(propertyName)
+            {
+            case "id": return f.id;
+            case "isExtId": return f.isExtId;
+            case "sender": return f.sender;
+            case "isSent": return f.isSent;
+            case "isReceived": return f.isReceived;
+            case "size": return f.size;
+            case "DLC": return f.DLC;
+            case "pduAry": return f.pduAry;
+            case "noPdus": return f.getNoPdus();
+            default: return getNetObjectMember(f, propertyName);
+            }
+        } /* End of FrameAdaptor.getMember */
+
+    } /* End of class FrameAdaptor */
+
+
+    /** The adaptor of class Pdu. */
+    private static class PduAdaptor extends DataModelAdaptor<Pdu>
+    {
+        @Override Object getMember(Pdu p, String propertyName)
+        {
+            switch(propertyName)
+            {
+            case "id": return p.id;
+            case "isExtId": return p.isExtId;
+            case "sender": return p.sender;
+            case "isSent": return p.isSent;
+            case "isReceived": return p.isReceived;
+            case "maxSize": return Pdu.maxSize;
+            case "size": return p.size;
+            case "idxByteInitialNullAry": return p.idxByteInitialNullAry;
+            case "offsetInFrame": return p.offsetInFrame;
+            case "signalAry": return p.signalAry;
+            case "noSignals": return p.getNoSignals();
+            case "totalNoSignals": return p.getTotalNoSignals();
+            case "muxSelector": return p.muxSelector;
+            case "muxSignalSetAry": return p.muxSignalSetAry;
+            case "noMuxSignalSets": return p.getNoMuxSignalSets();
+            case "specialSignalMap": return p.specialSignalMap;
+            default: return getNetObjectMember(p, propertyName);
+            }
+        } /* End of PduAdaptor.getMember */
+
+    } /* End of class PduAdaptor */
+
+
+    /** The adaptor of class Bus. */
+    private static class BusAdaptor extends DataModelAdaptor<Bus>
+    {
+        @Override Object getMember(Bus b, String propertyName)
+        {
+            switch(propertyName)
+            {
+            case "networkFile": return b.networkFile;
+            case "attribDefMap": return b.attribDefMap;
+            case "attribDefAry": return b.attribDefAry;
+            case "noAttribDefs": return b.getNoAttribDefs();
+            case "nodeAry": return b.nodeAry;
+            case "frameAry": return b.frameAry;
+            case "noFrames": return b.getNoFrames();
+            case "sortFrameAry": return b.sortFrameAry;
+            case "isTransmissionDirectionInverted":
+                return b.isTransmissionDirectionInverted;
+            case "hasFloatingPointSignals": return b.hasFloatingPointSignals;
+            case "hasScaledFloatingPointSignals": return b.hasScaledFloatingPointSignals;
+            case "optionMap": return b.optionMap;
+            case "noOptions": return b.getNoOptions();
+            case "frameById": return b.getFrameById();
+            case "frameByName": return b.getFrameByName();
+            case "signalByName": return b.getSignalByName();
+            default: return getNetObjectMember(b, propertyName);
+            }
+        } /* End of BusAdaptor.getMember */
+
+    } /* End of class BusAdaptor */
+
+
+    /** The adaptor of class Cluster. */
+    private static class ClusterAdaptor extends DataModelAdaptor<Cluster>
+    {
+        @Override Object getMember(Cluster c, String propertyName)
+        {
+            switch(propertyName)
+            {
+            case "name": return c.name;
+            case "nodeName": return c.nodeName;
+            case "busAry": return c.busAry;
+            case "noBuses": return c.getNoBuses();
+            case "frameByNameAry": return c.getFrameByNameAry();
+            case "frameByIdAry": return c.getFrameByIdAry();
+            case "frameInFileOrderAry": return c.frameInFileOrderAry;
+            case "noFrames": return c.getNoFrames();
+            case "hasFloatingPointSignals": return c.hasFloatingPointSignals;
+            case "hasScaledFloatingPointSignals": return c.hasScaledFloatingPointSignals;
+            case "frameById": return c.getFrameById();
+            case "frameByName": return c.getFrameByName();
+            case "signalByName": return c.getSignalByName();
+            case "routedSignalByName": return c.getRoutedSignalByName();
+            default: return _noSuchMember;
+            }
+        } /* End of ClusterAdaptor.getMember */
+
+    } /* End of class ClusterAdaptor */
+
+
+    /** The adaptor of class Attribute. */
+    private static class AttributeAdaptor extends DataModelAdaptor<Attribute>
+    {
+        @Override Object getMember(Attribute a, String propertyName)
+        {
+            switch(propertyName)
+            {
+            case "name": return a.name;
+            case "i0": return a.i0;
+            case "i": return a.i;
+            case "n": return a.n;
+            case "doubleValue": return a.getDoubleValue();
+            case "intValue": return a.getIntValue();
+            case "isZero": return a.getIsZero();
+            case "str": return a.str;
+            case "isDefVal": return a.isDefVal;
+            case "is": return a.is;
+            default: return _noSuchMember;
+            }
+        } /* End of AttributeAdaptor.getMember */
+
+    } /* End of class AttributeAdaptor */
+
+
+    /** The adaptor of class FrameRef. */
+    private static class FrameRefAdaptor extends DataModelAdaptor<FrameRef>
+    {
+        @Override Object getMember(FrameRef fr, String propertyName)
+        {
+            switch(propertyName)
+            {
+            case "frame": return fr.frame;
+            case "bus": return fr.bus;
+            case "busIs": return fr.busIs;
+            default: return _noSuchMember;
+            }
+        } /* End of FrameRefAdaptor.getMember */
+
+    } /* End of class FrameRefAdaptor */
+
+
+    /** The adaptor of class SignalRef. */
+    private static class SignalRefAdaptor extends DataModelAdaptor<SignalRef>
+    {
+        @Override Object getMember(SignalRef sr, String propertyName)
+        {
+            switch(propertyName)
+            {
+            case "signal": return sr.signal;
+            case "pdu": return sr.pdu;
+            case "frame": return sr.frame;
+            case "bus": return sr.bus;
+            default: return _noSuchMember;
+            }
+        } /* End of SignalRefAdaptor.getMember */
+
+    } /* End of class SignalRefAdaptor */
+
+
+    /**
+     * Private constructor: This class only has static members.
+     */
+    private ModelAdaptors()
+    {
+    } /* End of ModelAdaptors.ModelAdaptors */
+
+
+
+    /**
+     * Register the model adaptors with a template group.<p>
+     *   Note, StringTemplate V4 takes the adaptor from the group, which a template is
+     * defined in. The adaptors need to be registered with each imported group, too. The
+     * adaptors are stateless and the same group can be used for concurrent renderings.
+     *   @param stg
+     * The template group.
+     */
+    public static void registerWith(STGroup stg)
+    {
+        stg.registerModelAdaptor(Signal.class, new SignalAdaptor());
+        stg.registerModelAdaptor(Frame.class, new FrameAdaptor());
+        stg.registerModelAdaptor(Pdu.class, new PduAdaptor());
+        stg.registerModelAdaptor(Bus.class, new BusAdaptor());
+        stg.registerModelAdaptor(Cluster.class, new ClusterAdaptor());
+        stg.registerModelAdaptor(Attribute.class, new AttributeAdaptor());
+        stg.registerModelAdaptor(FrameRef.class, new FrameRefAdaptor());
+        stg.registerModelAdaptor(SignalRef.class, new SignalRefAdaptor());
+
+    } /* End of ModelAdaptors.registerWith */
+
+} /* End of class ModelAdaptors definition. */
@@ -19,7 +19,13 @@
  * along with this program. If not, see <http://www.gnu.org/licenses/>.
  */
 /* Interface of class NetObject
+ *   beginThreadLocalObjIds
+ *   endThreadLocalObjIds
+ *   reserveObjIds
+ *   rewindObjIds
+ *   resetObjIds
  *   storeAttribValue
+ *   storeDefaultAttribValue
  */
 
 package codeGenerator.dataModelListener;
@@ -42,12 +48,25 @@ import java.util.*;
 
 public class NetObject
 {
-    /** The ID generator. */
-    private static int _nextObjId = 1;
+    /** The ID generator. An application run resets the generator for its thread, see
+        {@link #resetObjIds}, and the threads it creates inherit it. Application runs, which
+        are executed concurrently in the same process, have independent ID generators. */
+    private static final InheritableThreadLocal<int[]> _nextObjId =
+                                                new InheritableThreadLocal<int[]>()
+                                                {
+                                                    @Override protected int[] initialValue()
+                                                        { return new int[]{1}; }
+                                                };
+
+    /** The ID generator for threads, which parse a network database file concurrently to
+        others. If set for a thread then the objects created by this thread get
+        preliminary IDs, which count from zero. The IDs are made unique later by {@link
+        Bus#rebaseObjIds}. */
+    private static final ThreadLocal<int[]> _nextThreadLocalObjId = new ThreadLocal<>();
 
     /** The ID of this object. Each instance of a NetObject has its unique ID, which can be
         useful for having related data objects in the generated code with individual names. */
-    public int objId = _nextObjId++;
+    public int objId;
 
     /** The name of the object. */
     public String name = "";
@@ -92,7 +111,139 @@ public class NetObject
     
     /** Default constructor. */
     public NetObject()
-    {}
+    {
+        objId = nextObjId();
+    }
+    
+    /**
+     * Copy constructor. The new object is a shallow copy of the original; it shares the
+     * attributes with the original. The copy doesn't get a new ID but has the same ID as
+     * the original; it stands for the same network object.
+     *   @param original The copied object.
+     */
+    protected NetObject(NetObject original)
+    {
+        objId = original.objId;
+        name = original.name;
+        i0 = original.i0;
+        i = original.i;
+        desc = original.desc;
+        attribMap = original.attribMap;
+    }
+    
+    /**
+     * Get the ID generator of the calling thread, either the global or the thread's local
+     * ID generator.
+     *   @return Get the generator; element 0 is the next ID to assign.
+     */
+    private static int[] getObjIdGenerator()
+    {
+        final int[] nextThreadLocalObjId = _nextThreadLocalObjId.get();
+        return nextThreadLocalObjId != null? nextThreadLocalObjId: _nextObjId.get();
+
+    } /* End of NetObject.getObjIdGenerator */
+    
+    
+    /**
+     * Get the next object ID, either from the global or from the thread's local ID
+     * generator.
+     *   @return The ID for the next created object.
+     */
+    private static int nextObjId()
+    {
+        return getObjIdGenerator()[0]++;
+
+    } /* End of NetObject.nextObjId */
+    
+    
+    /**
+     * Make the calling thread use its own ID generator. All objects, which are created by
+     * this thread until {@link #endThreadLocalObjIds} is called get the preliminary IDs
+     * 0, 1, 2, ...<p>
+     *   This is used if several network database files are parsed concurrently. The
+     * order of creation of objects in different threads is not deterministic and the
+     * global ID generator can't be used.
+     */
+    public static void beginThreadLocalObjIds()
+    {
+        assert _nextThreadLocalObjId.get() == null: "Thread local IDs are already in use";
+        _nextThreadLocalObjId.set(new int[]{0});
+
+    } /* End of NetObject.beginThreadLocalObjIds */
+    
+    
+    /**
+     * Return to the global ID generator for the calling thread.
+     *   @return Get the number of preliminary IDs, which have been consumed by the
+     * calling thread since {@link #beginThreadLocalObjIds}.
+     */
+    public static int endThreadLocalObjIds()
+    {
+        final int[] nextThreadLocalObjId = _nextThreadLocalObjId.get();
+        assert nextThreadLocalObjId != null: "Thread local IDs are not in use";
+        _nextThreadLocalObjId.remove();
+        return nextThreadLocalObjId[0];
+
+    } /* End of NetObject.endThreadLocalObjIds */
+    
+    
+    /**
+     * Take a contiguous range of IDs from the ID generator of the calling thread. This is
+     * the global ID generator unless the thread uses thread local IDs. The range can be
+     * used to replace the preliminary IDs of the objects, which have been created with
+     * thread local IDs, see {@link #beginThreadLocalObjIds} and {@link
+     * Bus#rebaseObjIds}.<p>
+     *   Passing zero doesn't consume any ID; it just tells the next ID to be assigned.<p>
+     *   The method must not be called concurrently to the creation of objects, which use
+     * the global ID generator.
+     *   @return Get the first ID of the reserved range.
+     *   @param noObjIds
+     * The number of IDs to reserve.
+     */
+    public static int reserveObjIds(int noObjIds)
+    {
+        assert noObjIds >= 0;
+        final int[] nextObjId = getObjIdGenerator();
+        final int firstObjId = nextObjId[0];
+        nextObjId[0] += noObjIds;
+        return firstObjId;
+
+    } /* End of NetObject.reserveObjIds */
+    
+    
+    /**
+     * Undo the consumption of IDs by the calling thread. Used if the creation of a set of
+     * objects fails and the created objects are discarded; later created objects get the
+     * same IDs as if the discarded objects had never been created.<p>
+     *   The method must not be called concurrently to the creation of objects, which use
+     * the global ID generator.
+     *   @param nextObjId
+     * The next ID to assign as got from {@link #reserveObjIds reserveObjIds(0)} before
+     * the discarded objects had been created.
+     */
+    public static void rewindObjIds(int nextObjId)
+    {
+        final int[] objIdGenerator = getObjIdGenerator();
+        assert nextObjId <= objIdGenerator[0];
+        objIdGenerator[0] = nextObjId;
+
+    } /* End of NetObject.rewindObjIds */
+    
+    
+    /**
+     * Reset the global ID generator of the calling thread. The next created object gets
+     * the ID 1 again. This is required if more than one application run is done in the
+     * same process; the IDs seen by the templates must not depend on previous or
+     * concurrent runs.<p>
+     *   The threads, which are created by the calling thread after the reset, share the
+     * generator with the calling thread. The method must not be called while objects are
+     * being created.
+     */
+    public static void resetObjIds()
+    {
+        _nextObjId.set(new int[]{1});
+
+    } /* End of NetObject.resetObjIds */
     
     /**
      * The number of elements in the attribute map as a get function. Access it from a
@@ -149,4 +300,45 @@ public class NetObject
 
     } /* End of NetObject.storeValue */
     
+    
+    /**
+     * Store the default value of an attribute in a NetObject. The value is stored in all
+     * objects of the same kind one after another.<p>
+     *   An object, which has got only default values so far, doesn't store the new value
+     * itself but shares the table of default values with all other objects of the same
+     * kind. Other objects store the value like {@link #storeAttribValue} does.
+     *   @return Should normally be null. Get the reference to the overridden, discarded
+     * attribute if an attribute of given name had already been stored before.
+     *   @param name The name of the attribute.
+     *   @param attrib The default value.
+     *   @param defaultTable The table of the default values, which have been stored in
+     * the objects of the same kind so far.
+     *   @param newDefaultTable The table {@code defaultTable} extended by the new default
+     * value.
+     */
+    Attribute storeDefaultAttribValue( String name
+                                     , Attribute attrib
+                                     , AttributeMap.DefaultTable defaultTable
+                                     , AttributeMap.DefaultTable newDefaultTable
+                                     )
+    {
+        if(attribMap == null  &&  defaultTable.size() == 0)
+            attribMap = new AttributeMap(newDefaultTable);
+        else if(attribMap instanceof AttributeMap
+                &&  ((AttributeMap)attribMap).getDefaultTable() == defaultTable
+               )
+        {
+            ((AttributeMap)attribMap).setDefaultTable(newDefaultTable);
+        }
+        else
+            return storeAttribValue(name, attrib);
+
+        /* The new value is the last one in the table. */
+        assert attribMap.size() == newDefaultTable.size();
+        attrib.i = attribMap.size();
+        attrib.i0 = attrib.i - 1;
+        return null;
+
+    } /* End of NetObject.storeDefaultAttribValue */
+    
 } /* End class NetObject */
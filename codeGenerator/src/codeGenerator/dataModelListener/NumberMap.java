@@ -27,6 +27,8 @@
  *   getOperand
  *   containsKey
  *   get
+ *   toLong
+ *   getCommand
  *   testParser
  *   NumberCommand
  */
@@ -133,6 +135,16 @@ public class NumberMap extends ST4CmdInterpreter<Object,Object>
     static private final Pattern rePatternPseudoNumberName =
                                                     Pattern.compile(rePseudoNumberName);
 
+    /** The values returned to the template are Java Long objects. Counters in iterations
+        along frames and signals mostly have small non negative values, for which the
+        boxed objects are taken from this table. */
+    static private final Long[] _longCache = new Long[1024];
+    static
+    {
+        for(int i=0; i<_longCache.length; ++i)
+            _longCache[i] = Long.valueOf(i);
+    }
+
     /**
      * The details of an operation on a number are modelled by this sub-class.
      */
@@ -158,6 +170,19 @@ public class NumberMap extends ST4CmdInterpreter<Object,Object>
             map stored number. If null then the literal value {@link #operand_} applies. */
         public String operandNum_ = null;
 
+        /** The parse result can be reused for all later occurrences of the same command
+            string. This is not the case if parsing reported a problem, which needs to be
+            reported again at each use of the command. */
+        public boolean isCacheable_ = true;
+
+        /** The addressed number or null if it has not been looked up yet. Numbers are
+            never removed from the map; the reference stays valid once it is found. */
+        private Number number_ = null;
+
+        /** The number, which is the operand, or null if it has not been looked up yet or
+            if {@link #operandNum_} is null. */
+        private Number operandNumber_ = null;
+
 
         /**
          * Creating a new object means to perform the parsing and to fill the public fields
@@ -233,6 +258,7 @@ public class NumberMap extends ST4CmdInterpreter<Object,Object>
                             {
                                 if(operand_ < 0)
                                 {
+                                    isCacheable_ = false;
                                     errCnt_.warning();
                                     _logger.warn( logContext_
                                                   + "Suspicious numeric operand "
@@ -655,6 +681,9 @@ public class NumberMap extends ST4CmdInterpreter<Object,Object>
     /** This is the actual map of numbers stored in this NumberMap. */
     private final Map<String,NumberMap.Number> mapNumberByName_;
 
+    /** The valid commands, which had been parsed so far, by command string. */
+    private final HashMap<String,NumberCommand> mapCmdByString_ = new HashMap<>();
+
 
     /**
      * Query the number of numbers currently stored in this number map. This overridden
@@ -749,7 +778,9 @@ public class NumberMap extends ST4CmdInterpreter<Object,Object>
             {
                 /* The operand is another number. It needs to be already defined, we
                    don't want to create the object by side-effect. */
-                Number operandNum = (Number)mapNumberByName_.get(cmd.operandNum_);
+                if(cmd.operandNumber_ == null)
+                    cmd.operandNumber_ = mapNumberByName_.get(cmd.operandNum_);
+                final Number operandNum = cmd.operandNumber_;
                 if(operandNum != null)
                 {
                     /* We read the number without applying the post operations on the
@@ -784,6 +815,45 @@ public class NumberMap extends ST4CmdInterpreter<Object,Object>
 
 
 
+    /**
+     * Get the Java Long object for a value, which is returned to the template engine.
+     *   @return Get the boxed value. Frequent values are taken from a table of objects.
+     *   @param value The value.
+     */
+    private static Long toLong(long value)
+    {
+        if(value >= 0  &&  value < _longCache.length)
+            return _longCache[(int)value];
+        else
+            return Long.valueOf(value);
+
+    } /* End of toLong */
+
+
+
+    /**
+     * Get the parsed command for a command string. The templates use the same few
+     * commands over and over again, typically in iterations along frames and signals, and
+     * the parse result is taken from a cache if the command string had been seen before.
+     *   @return Get the parsed command. It may be invalid.
+     *   @param cmdString
+     * The command string.
+     */
+    private NumberCommand getCommand(String cmdString)
+    {
+        NumberCommand cmd = mapCmdByString_.get(cmdString);
+        if(cmd == null)
+        {
+            cmd = new NumberCommand(cmdString);
+            if(cmd.isValid_  &&  cmd.isCacheable_)
+                mapCmdByString_.put(cmdString, cmd);
+        }
+        return cmd;
+
+    } /* End of getCommand */
+
+
+
     /**
      * Exceute a command on a number.
      *   @return The value of an arithemic operation is returned as Long object, which is a
@@ -800,7 +870,9 @@ public class NumberMap extends ST4CmdInterpreter<Object,Object>
            doesn't harm neither. */
         long operand = getOperand(cmd);
 
-        Number number = (Number)mapNumberByName_.get(cmd.name_);
+        if(cmd.number_ == null)
+            cmd.number_ = mapNumberByName_.get(cmd.name_);
+        Number number = cmd.number_;
         if(number != null)
         {
             switch(cmd.operation_)
@@ -808,11 +880,11 @@ public class NumberMap extends ST4CmdInterpreter<Object,Object>
             case read:
                 /* Normal operation: Read and return value, implicitly do the post
                    processing for the next reading. */
-                return Long.valueOf(number.read(/* doPostOp */ true));
+                return toLong(number.read(/* doPostOp */ true));
 
             case get:
                 /* Read a number without applying the post operation and return the value. */
-                return Long.valueOf(number.read(/* doPostOp */ false));
+                return toLong(number.read(/* doPostOp */ false));
 
             case isGE:
                 /* Comparison: Return a Java Boolean. Checking a number must not trigger
@@ -1035,12 +1107,13 @@ public class NumberMap extends ST4CmdInterpreter<Object,Object>
             /* Create the new object and store it in this number map. */
             number = new Number(initVal, postInc, postFactor);
             mapNumberByName_.put(cmd.name_, number);
+            cmd.number_ = number;
 
             /* Return null instead of a numeric value to the template engine for all
                modifying commands; only the read operation yields a result (and changes the
                value by post operations). */
             if(cmd.operation_ == Operation.read)
-                return Long.valueOf(number.read(/* doPostOp */ true));
+                return toLong(number.read(/* doPostOp */ true));
             else
                 return null;
 
@@ -1071,20 +1144,25 @@ public class NumberMap extends ST4CmdInterpreter<Object,Object>
            implement a default behavior - we could e.g. return the string "invalid number
            addressed". */
 
-        NumberCommand cmd = new NumberCommand(cmdString);
+        NumberCommand cmd = getCommand(cmdString);
         if(cmd.isValid_)
         {
-            _logger.debug("get: Operation " + cmd.operation_
-                          + (cmd.operation_ != Operation.read
-                             ? "(" + (cmd.operandNum_ != null
-                                      ? cmd.operandNum_
-                                      : ""+cmd.operand_
-                                     )
-                               + ")"
-                             : ""
-                            )
-                          + " is applied to number " + cmd.name_
-                         );
+            /* The message is not even composed if it is not logged. This method is called
+               for each and every access of a number by the templates. */
+            if(_logger.isDebugEnabled())
+            {
+                _logger.debug("get: Operation " + cmd.operation_
+                              + (cmd.operation_ != Operation.read
+                                 ? "(" + (cmd.operandNum_ != null
+                                          ? cmd.operandNum_
+                                          : ""+cmd.operand_
+                                         )
+                                   + ")"
+                                 : ""
+                                )
+                              + " is applied to number " + cmd.name_
+                             );
+            }
             return exec(cmd);
         }
         else
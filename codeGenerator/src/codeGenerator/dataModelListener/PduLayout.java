@@ -0,0 +1,331 @@
+/**
+ * @file PduLayout.java
+ * The occupation of the bits of a PDU by its signals. Used to detect overlapping signals
+ * and to find the bytes, which need initialization in the generated pack functions.
+ *
+ * Copyright (C) 2025 Peter Vranken (mailto:Peter_Vranken@Yahoo.de)
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+/* Interface of class PduLayout
+ *   PduLayout
+ *   getMaskOfRun
+ *   getBytesOfBits
+ *   setRun
+ *   countOverlappingBytes
+ *   addRun
+ *   addSignal
+ *   getIdxByteInitialNullAry
+ */
+
+package codeGenerator.dataModelListener;
+
+import java.util.*;
+
+
+/**
+ * The occupation of the bits of a PDU by its signals.<p>
+ *   All sets of bits are held as arrays of 64 Bit words. Bit j of byte i of the PDU is
+ * bit 8*i+j of the set, which is the normal bit grid of the network database file. A
+ * signal occupies a contiguous run of bits in this grid if it has Intel byte order. A
+ * Motorola signal has a contiguous run in the other grid, which counts the bits of a byte
+ * from MSB to LSB; in the normal grid, this are up to three runs: the lower bits of the
+ * first byte, the bytes in between and the upper bits of the last byte. Runs of bits are
+ * tested and marked with a few word operations, regardless of the length of the signal
+ * and of the number of multiplexed signal sets.<p>
+ *   The normal signals and each set of multiplexed signals have their own set of
+ * occupied bits. A normal signal must not overlap with any other signal. A multiplexed
+ * signal must not overlap with a normal signal or with another signal of the same set,
+ * but the alternative sets of multiplexed signals naturally overlap.
+ */
+
+class PduLayout
+{
+    /** The number of bits of the PDU. */
+    private final int noBits_;
+
+    /** The bits occupied by the normal signals, including the multiplex selector. */
+    private final long[] bitsOfSignals_;
+
+    /** The bits occupied by all multiplexed signals, regardless of their set. */
+    private final long[] bitsOfAllMuxSignals_;
+
+    /** The bits occupied by the signals of a set of multiplexed signals by multiplex
+        selector value. */
+    private final LongHashMap<long[]> bitsOfMuxSignalSetByMuxValue_ = new LongHashMap<>();
+
+    /** The set of bytes, which are completely occupied by a single normal signal. Bit i
+        of the set stands for byte i of the PDU. */
+    private final long[] setOfSigBytes_;
+
+    /** The set of bytes, which are touched by at least one multiplexed signal. Bit i of
+        the set stands for byte i of the PDU. */
+    private final long[] setOfMuxedSigBytes_;
+
+    /**
+     * A new instance of PduLayout is created for an empty PDU without signals.
+     *   @param size
+     * The size of the PDU in Byte.
+     */
+    PduLayout(int size)
+    {
+        assert size >= 0  &&  size <= Pdu.maxSize;
+        noBits_ = 8*size;
+        bitsOfSignals_ = new long[(noBits_+63) / 64];
+        bitsOfAllMuxSignals_ = new long[bitsOfSignals_.length];
+        setOfSigBytes_ = new long[(size+63) / 64];
+        setOfMuxedSigBytes_ = new long[setOfSigBytes_.length];
+
+    } /* End of PduLayout.PduLayout */
+
+
+
+    /**
+     * Get the mask of the bits of a run, which are in a given word of a bit set.
+     *   @return Get the mask.
+     *   @param idxWord
+     * The index of the word.
+     *   @param from
+     * The index of the first bit of the run.
+     *   @param to
+     * The index of the last bit of the run; the bit is included.
+     */
+    private static long getMaskOfRun(int idxWord, int from, int to)
+    {
+        final int firstBit = Math.max(from, 64*idxWord) - 64*idxWord
+                , lastBit = Math.min(to, 64*idxWord+63) - 64*idxWord;
+        return (-1L >>> (63-(lastBit-firstBit))) << firstBit;
+
+    } /* End of PduLayout.getMaskOfRun */
+
+
+
+    /**
+     * Reduce the set bits of a word to one bit per byte: Bit 0 of a byte of the result is
+     * set if any bit of the same byte of the argument is set.
+     *   @return Get the word with set bits in bit 0 of a byte only.
+     *   @param bits
+     * The word.
+     */
+    private static long getBytesOfBits(long bits)
+    {
+        bits |= bits >>> 4;
+        bits |= bits >>> 2;
+        bits |= bits >>> 1;
+        return bits & 0x0101010101010101L;
+
+    } /* End of PduLayout.getBytesOfBits */
+
+
+
+    /**
+     * Set a run of bits in a bit set.
+     *   @param bitSet
+     * The bit set.
+     *   @param from
+     * The index of the first bit of the run.
+     *   @param to
+     * The index of the last bit of the run; the bit is included. If {@code to} is less
+     * than {@code from} then the run is empty.
+     */
+    private static void setRun(long[] bitSet, int from, int to)
+    {
+        if(from <= to)
+        {
+            for(int idxWord=from/64; idxWord<=to/64; ++idxWord)
+                bitSet[idxWord] |= getMaskOfRun(idxWord, from, to);
+        }
+    } /* End of PduLayout.setRun */
+
+
+
+    /**
+     * Count the bytes, in which a run of bits overlaps with a bit set.
+     *   @return Get the number of bytes, which contain at least one bit of the run, which
+     * is already set in the bit set.
+     *   @param bitSet
+     * The bit set or null for an empty set.
+     *   @param from
+     * The index of the first bit of the run.
+     *   @param to
+     * The index of the last bit of the run; the bit is included.
+     */
+    private static int countOverlappingBytes(long[] bitSet, int from, int to)
+    {
+        int noBytes = 0;
+        if(bitSet != null)
+        {
+            for(int idxWord=from/64; idxWord<=to/64; ++idxWord)
+            {
+                final long overlap = bitSet[idxWord] & getMaskOfRun(idxWord, from, to);
+                if(overlap != 0)
+                    noBytes += Long.bitCount(getBytesOfBits(overlap));
+            }
+        }
+        return noBytes;
+
+    } /* End of PduLayout.countOverlappingBytes */
+
+
+
+    /**
+     * Add a run of bits of a signal to the layout. The run is clipped at the end of the
+     * PDU.
+     *   @return Get the number of bytes, in which the run overlaps with the bits of other
+     * signals.
+     *   @param from
+     * The index of the first bit of the run.
+     *   @param to
+     * The index of the last bit of the run; the bit is included.
+     *   @param bitsOfMuxSignalSet
+     * The bit set of the multiplexed signal set of the signal or null for a normal
+     * signal.
+     */
+    private int addRun(int from, int to, long[] bitsOfMuxSignalSet)
+    {
+        if(to >= noBits_)
+            to = noBits_ - 1;
+        if(from > to)
+            return 0;
+
+        int noOverlappingBytes;
+        if(bitsOfMuxSignalSet == null)
+        {
+            /* A normal signal must not overlap with any other signal. A byte is counted
+               once even if it overlaps with several other signals. */
+            noOverlappingBytes = 0;
+            for(int idxWord=from/64; idxWord<=to/64; ++idxWord)
+            {
+                final long bitsOfOtherSignals = bitsOfSignals_[idxWord]
+                                                | bitsOfAllMuxSignals_[idxWord];
+                final long overlap = bitsOfOtherSignals & getMaskOfRun(idxWord, from, to);
+                if(overlap != 0)
+                    noOverlappingBytes += Long.bitCount(getBytesOfBits(overlap));
+            }
+            setRun(bitsOfSignals_, from, to);
+
+            /* Bytes, which are entirely inside a single signal will be written by
+               assignment and don't require initialization in the pack functions. */
+            setRun(setOfSigBytes_, (from+7)/8, (to+1)/8 - 1);
+        }
+        else
+        {
+            /* A multiplexed signal must neither overlap with normal signals nor with the
+               other signals of its own set. Each of both overlaps is counted. */
+            noOverlappingBytes = countOverlappingBytes(bitsOfSignals_, from, to)
+                                 + countOverlappingBytes(bitsOfMuxSignalSet, from, to);
+            setRun(bitsOfMuxSignalSet, from, to);
+            setRun(bitsOfAllMuxSignals_, from, to);
+
+            /* Bytes touched by multiplexed signals always need initialization as they
+               might be written by some but not all of the multiplexed signals. */
+            setRun(setOfMuxedSigBytes_, from/8, to/8);
+        }
+        return noOverlappingBytes;
+
+    } /* End of PduLayout.addRun */
+
+
+
+    /**
+     * Add a signal to the layout. The bits of the signal are marked as occupied and
+     * overlaps with the signals added before are detected. Bits outside the PDU are
+     * ignored.
+     *   @return Get the number of bytes of the PDU, in which the signal overlaps with
+     * other signals. A normal signal counts each byte once. A multiplexed signal counts a
+     * byte twice if it overlaps with a normal signal and with a signal of its own set.
+     *   @param isMotorola
+     * The byte order of the signal.
+     *   @param msb
+     * The index of the most significant bit of the signal in the normal grid.
+     *   @param lsb
+     * The index of the least significant bit of the signal in the normal grid.
+     *   @param isMuxedSignal
+     * true for a multiplexed signal, false for a normal signal and for the multiplex
+     * selector.
+     *   @param muxValue
+     * The multiplex selector value of a multiplexed signal. Not used for other signals.
+     */
+    int addSignal( boolean isMotorola
+                 , int msb
+                 , int lsb
+                 , boolean isMuxedSignal
+                 , int muxValue
+                 )
+    {
+        long[] bitsOfMuxSignalSet = null;
+        if(isMuxedSignal)
+        {
+            bitsOfMuxSignalSet = bitsOfMuxSignalSetByMuxValue_.get(muxValue);
+            if(bitsOfMuxSignalSet == null)
+            {
+                bitsOfMuxSignalSet = new long[bitsOfSignals_.length];
+                bitsOfMuxSignalSetByMuxValue_.put(muxValue, bitsOfMuxSignalSet);
+            }
+        }
+
+        if(!isMotorola)
+        {
+            /* Intel: The bits from LSB to MSB are contiguous in the normal grid. */
+            return addRun(lsb, msb, bitsOfMuxSignalSet);
+        }
+        else
+        {
+            /* Motorola: The MSB is in the first byte and the signal continues with the
+               lower bits of this byte, the bytes in between and the upper bits of the last
+               byte, which contains the LSB. */
+            final int firstByteIdx = msb / 8
+                    , lastByteIdx = lsb / 8;
+            if(firstByteIdx == lastByteIdx)
+                return addRun(lsb, msb, bitsOfMuxSignalSet);
+            else
+            {
+                return addRun(8*firstByteIdx, msb, bitsOfMuxSignalSet)
+                       + addRun(8*(firstByteIdx+1), 8*lastByteIdx-1, bitsOfMuxSignalSet)
+                       + addRun(lsb, 8*lastByteIdx+7, bitsOfMuxSignalSet);
+            }
+        }
+    } /* End of PduLayout.addSignal */
+
+
+
+    /**
+     * Get the bytes of the PDU, which need initialization in the generated pack
+     * functions. These are all bytes, which are touched by multiplexed signals and all
+     * bytes, which are not entirely inside a single normal signal.
+     *   @return Get the ascending indexes of the bytes or null if no byte needs
+     * initialization.
+     */
+    int[] getIdxByteInitialNullAry()
+    {
+        final int size = noBits_ / 8;
+        int[] idxByteAry = new int[size];
+        int noBytes = 0;
+        for(int idxWord=0; idxWord<setOfSigBytes_.length; ++idxWord)
+        {
+            long bytesToInit = setOfMuxedSigBytes_[idxWord] | ~setOfSigBytes_[idxWord];
+            if(64*idxWord + 64 > size)
+                bytesToInit &= (1L << (size - 64*idxWord)) - 1;
+            while(bytesToInit != 0)
+            {
+                idxByteAry[noBytes++] = 64*idxWord
+                                        + Long.numberOfTrailingZeros(bytesToInit);
+                bytesToInit &= bytesToInit - 1;
+            }
+        }
+        return noBytes > 0? Arrays.copyOf(idxByteAry, noBytes): null;
+
+    } /* End of PduLayout.getIdxByteInitialNullAry */
+
+} /* End of class PduLayout definition. */
@@ -19,6 +19,7 @@
  * along with this program. If not, see <http://www.gnu.org/licenses/>.
  */
 /* Interface of class Signal
+ *   freeze
  */
 
 package codeGenerator.dataModelListener;
@@ -179,7 +180,7 @@ public class Signal extends NetObject implements Comparable<Signal>
     } /* End class Signal.ValueDesc */
 
     /** The list of named signal values. */
-    public ArrayList<ValueDesc> valueDescAry = null;
+    public List<ValueDesc> valueDescAry = null;
 
     /** The number of named signal values. From a StringTemplate V4 template this member is
         accessed as {@code <pdu.noValueDescs>}.
@@ -237,6 +238,17 @@ public class Signal extends NetObject implements Comparable<Signal>
     public int getNoReceivers()
         { return receiverAry != null? receiverAry.length: 0; }
 
+    /** Make the list of value descriptions and the map of special signal queries
+        unmodifiable after parsing, see {@link Cluster#freeze}. */
+    void freeze()
+    {
+        if(valueDescAry != null)
+            valueDescAry = Collections.unmodifiableList(valueDescAry);
+        if(is != null)
+            is = Collections.unmodifiableMap(is);
+
+    } /* End of freeze */
+
     /** The comparison method, which yields the predefined sort-order.
           @return {@code >0, 0, <0} depending on the relation of this to the other object.
           @param otherSignal The other object. */
@@ -0,0 +1,65 @@
+/**
+ * @file SignalRef.java
+ * Part of the output data model for information rendering by StringTemplate: The reference
+ * to an object of class Signal.
+ *
+ * Copyright (C) 2025 Peter Vranken (mailto:Peter_Vranken@Yahoo.de)
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+/* Interface of class SignalRef
+ *   SignalRef
+ */
+
+package codeGenerator.dataModelListener;
+
+
+/**
+ * The data structure holding the reference to the description of a signal together with
+ * the PDU, frame and bus, which it is transmitted in. A Signal object doesn't know its
+ * PDU, frame or bus. Lookups of signals by name, see {@link Bus#getSignalByName} and
+ * {@link Cluster#getSignalByName}, yield SignalRef objects so that the template can still
+ * access the containing objects.<p>
+ *   Objects of this class are part of the nested data structure passed to the template
+ * engine for rendering the information in the wanted format.
+ */
+
+public class SignalRef
+{
+    /** The reference to the Signal object. */
+    public Signal signal = null;
+
+    /** The PDU, which contains the signal. */
+    public Pdu pdu = null;
+
+    /** The frame, which contains the PDU. */
+    public Frame frame = null;
+
+    /** The bus the frame is transmitted on. */
+    public Bus bus = null;
+
+    /** Create a new signal reference.
+          @param busObj The bus the frame is transmitted on.
+          @param frameObj The frame, which contains the PDU.
+          @param pduObj The PDU, which contains the signal.
+          @param signalObj The signal. */
+    SignalRef(Bus busObj, Frame frameObj, Pdu pduObj, Signal signalObj)
+    {
+        bus = busObj;
+        frame = frameObj;
+        pdu = pduObj;
+        signal = signalObj;
+    }
+
+} /* End of class SignalRef definition. */
@@ -0,0 +1,131 @@
+/**
+ * @file StringPool.java
+ * A pool of strings, which lets all network objects of an application run share equal
+ * strings.
+ *
+ * Copyright (C) 2025 Peter Vranken (mailto:Peter_Vranken@Yahoo.de)
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+/* Interface of class StringPool
+ *   StringPool
+ *   intern
+ *   getNoStrings
+ *   getNoSharedStrings
+ *   getNoSavedBytes
+ */
+
+package codeGenerator.dataModelListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A pool of strings.<p>
+ *   The parser creates a new String object for each token it takes from a network
+ * database file. Signal names, units, comments, value descriptions and attribute values
+ * repeat heavily, within a file and across the files of a cluster, e.g., because gateway
+ * frames appear on several buses. The data model listener replaces all strings it stores
+ * in the data model by the equal string from the pool, which is shared by all buses of
+ * an application run. Only one copy of each distinct string is kept.<p>
+ *   The pool can be used by concurrent parse tasks.
+ */
+
+public class StringPool
+{
+    /** The estimated size in Byte of a String object without its characters, including
+        the header of the character array. */
+    private static final int _sizeOfStringObject = 40;
+
+    /** The pooled strings. A string is the key and the value of its entry. */
+    private final ConcurrentHashMap<String,String> stringMap_ = new ConcurrentHashMap<>();
+
+    /** The number of strings, which had been replaced by an equal, pooled string. */
+    private final AtomicLong noSharedStrings_ = new AtomicLong(0);
+
+    /** The estimated number of bytes of all replaced strings. */
+    private final AtomicLong noSavedBytes_ = new AtomicLong(0);
+
+    /**
+     * A new, empty instance of StringPool is created.
+     */
+    public StringPool()
+    {
+    } /* End of StringPool.StringPool */
+
+
+
+    /**
+     * Get the pooled string, which is equal to a given string.
+     *   @return Get the pooled string. It is the passed string itself if the pool didn't
+     * contain an equal string yet.
+     *   @param s
+     * The string or null.
+     */
+    public String intern(String s)
+    {
+        if(s == null)
+            return null;
+
+        final String pooledString = stringMap_.putIfAbsent(s, s);
+        if(pooledString == null)
+            return s;
+
+        if(pooledString != s)
+        {
+            noSharedStrings_.incrementAndGet();
+            noSavedBytes_.addAndGet(_sizeOfStringObject + 2*s.length());
+        }
+        return pooledString;
+
+    } /* End of StringPool.intern */
+
+
+
+    /**
+     * Get the number of distinct strings in the pool.
+     *   @return Get the number.
+     */
+    public int getNoStrings()
+    {
+        return stringMap_.size();
+
+    } /* End of StringPool.getNoStrings */
+
+
+
+    /**
+     * Get the number of strings, which had been replaced by an equal, pooled string.
+     *   @return Get the number.
+     */
+    public long getNoSharedStrings()
+    {
+        return noSharedStrings_.get();
+
+    } /* End of StringPool.getNoSharedStrings */
+
+
+
+    /**
+     * Get the estimated memory, which is saved by using the pooled strings.
+     *   @return Get the number of Byte.
+     */
+    public long getNoSavedBytes()
+    {
+        return noSavedBytes_.get();
+
+    } /* End of StringPool.getNoSavedBytes */
+
+} /* End of class StringPool definition. */
@@ -62,6 +62,39 @@ dbc : EOL* version?
       EOF
       ;
 
+// A large DBC file can be split into parts at the beginning of top level statements and
+// the parts can be parsed concurrently. The first part is parsed with rule dbcHead, all
+// others with dbcStatementList. The statements of all parts are joined to the same parse
+// tree as got from rule dbc, after checking that they appear in the order demanded by
+// rule dbc. See DbcParserMain for details
+dbcHead : EOL* version?
+          EOL* newSymbols?
+          EOL* 'BS_:' (baudRate=Integer ':' btr1=Integer ',' btr2=Integer)? EOL
+          nodes
+          dbcStatement*
+          EOL*
+          EOF
+          ;
+dbcStatementList : dbcStatement* EOL* EOF ;
+dbcStatement : valueTable
+               | msg | pseudoMsg
+               | messageTransmitter
+               | environmentVariable
+               | environmentVariableData
+               | signalType
+               | comment
+               | attributeDefinition | attributeDefault | attributeValue
+               | unrecognizedStatement
+               | valueDescription
+               | categoryDefinition
+               | category
+               | filter
+               | signalTypeRef
+               | signalGroup
+               | signalExtendedValueTypeList
+               | multiplexedSignal
+               ;
+
 // Section 4, Version and New Symbol Specification
 version : 'VERSION' title=String EOL ;
 
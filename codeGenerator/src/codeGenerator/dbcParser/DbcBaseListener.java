@@ -24,6 +24,42 @@ public class DbcBaseListener implements DbcListener {
 	 * <p>The default implementation does nothing.</p>
 	 */
 	@Override public void exitDbc(DbcParser.DbcContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterDbcHead(DbcParser.DbcHeadContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitDbcHead(DbcParser.DbcHeadContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterDbcStatementList(DbcParser.DbcStatementListContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitDbcStatementList(DbcParser.DbcStatementListContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void enterDbcStatement(DbcParser.DbcStatementContext ctx) { }
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>The default implementation does nothing.</p>
+	 */
+	@Override public void exitDbcStatement(DbcParser.DbcStatementContext ctx) { }
 	/**
 	 * {@inheritDoc}
 	 *
@@ -17,6 +17,36 @@ public interface DbcListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitDbc(DbcParser.DbcContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link DbcParser#dbcHead}.
+	 * @param ctx the parse tree
+	 */
+	void enterDbcHead(DbcParser.DbcHeadContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link DbcParser#dbcHead}.
+	 * @param ctx the parse tree
+	 */
+	void exitDbcHead(DbcParser.DbcHeadContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link DbcParser#dbcStatementList}.
+	 * @param ctx the parse tree
+	 */
+	void enterDbcStatementList(DbcParser.DbcStatementListContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link DbcParser#dbcStatementList}.
+	 * @param ctx the parse tree
+	 */
+	void exitDbcStatementList(DbcParser.DbcStatementListContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link DbcParser#dbcStatement}.
+	 * @param ctx the parse tree
+	 */
+	void enterDbcStatement(DbcParser.DbcStatementContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link DbcParser#dbcStatement}.
+	 * @param ctx the parse tree
+	 */
+	void exitDbcStatement(DbcParser.DbcStatementContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link DbcParser#version}.
 	 * @param ctx the parse tree
@@ -27,24 +27,26 @@ public class DbcParser extends Parser {
 		T__52=53, T__53=54, T__54=55, T__55=56, EOL=57, String=58, ID=59, Sign=60, 
 		Minus=61, Plus=62, Float=63, Integer=64, WS=65, BLOCK_COMMENT=66, LINE_COMMENT=67;
 	public static final int
-		RULE_dbc = 0, RULE_version = 1, RULE_keyword = 2, RULE_newSymbol = 3, 
-		RULE_newSymbols = 4, RULE_nodes = 5, RULE_valueTable = 6, RULE_msg = 7, 
-		RULE_pseudoMsg = 8, RULE_signal = 9, RULE_dummyNode = 10, RULE_signalExtendedValueTypeList = 11, 
-		RULE_messageTransmitter = 12, RULE_valueDescription = 13, RULE_singleValueDescription = 14, 
-		RULE_environmentVariable = 15, RULE_environmentVariableData = 16, RULE_categoryDefinition = 17, 
-		RULE_category = 18, RULE_filter = 19, RULE_signalType = 20, RULE_signalTypeRef = 21, 
-		RULE_signalGroup = 22, RULE_comment = 23, RULE_globalComment = 24, RULE_nodeComment = 25, 
-		RULE_msgComment = 26, RULE_signalComment = 27, RULE_envVarComment = 28, 
-		RULE_attributeDefinition = 29, RULE_attribTypeInt = 30, RULE_attribTypeFloat = 31, 
-		RULE_attribTypeString = 32, RULE_attribTypeEnum = 33, RULE_attributeDefault = 34, 
-		RULE_attributeValue = 35, RULE_attribVal = 36, RULE_unrecognizedStatement = 37, 
-		RULE_unrecognizedAttributeDefinitionNodeSpecific = 38, RULE_multiplexedSignal = 39, 
-		RULE_number = 40, RULE_signedInteger = 41;
+		RULE_dbc = 0, RULE_dbcHead = 1, RULE_dbcStatementList = 2, RULE_dbcStatement = 3, 
+		RULE_version = 4, RULE_keyword = 5, RULE_newSymbol = 6, RULE_newSymbols = 7, 
+		RULE_nodes = 8, RULE_valueTable = 9, RULE_msg = 10, RULE_pseudoMsg = 11, 
+		RULE_signal = 12, RULE_dummyNode = 13, RULE_signalExtendedValueTypeList = 14, 
+		RULE_messageTransmitter = 15, RULE_valueDescription = 16, RULE_singleValueDescription = 17, 
+		RULE_environmentVariable = 18, RULE_environmentVariableData = 19, RULE_categoryDefinition = 20, 
+		RULE_category = 21, RULE_filter = 22, RULE_signalType = 23, RULE_signalTypeRef = 24, 
+		RULE_signalGroup = 25, RULE_comment = 26, RULE_globalComment = 27, RULE_nodeComment = 28, 
+		RULE_msgComment = 29, RULE_signalComment = 30, RULE_envVarComment = 31, 
+		RULE_attributeDefinition = 32, RULE_attribTypeInt = 33, RULE_attribTypeFloat = 34, 
+		RULE_attribTypeString = 35, RULE_attribTypeEnum = 36, RULE_attributeDefault = 37, 
+		RULE_attributeValue = 38, RULE_attribVal = 39, RULE_unrecognizedStatement = 40, 
+		RULE_unrecognizedAttributeDefinitionNodeSpecific = 41, RULE_multiplexedSignal = 42, 
+		RULE_number = 43, RULE_signedInteger = 44;
 	private static String[] makeRuleNames() {
 		return new String[] {
-			"dbc", "version", "keyword", "newSymbol", "newSymbols", "nodes", "valueTable", 
-			"msg", "pseudoMsg", "signal", "dummyNode", "signalExtendedValueTypeList", 
-			"messageTransmitter", "valueDescription", "singleValueDescription", "environmentVariable", 
+			"dbc", "dbcHead", "dbcStatementList", "dbcStatement", "version", "keyword", 
+			"newSymbol", "newSymbols", "nodes", "valueTable", "msg", "pseudoMsg", 
+			"signal", "dummyNode", "signalExtendedValueTypeList", "messageTransmitter", 
+			"valueDescription", "singleValueDescription", "environmentVariable", 
 			"environmentVariableData", "categoryDefinition", "category", "filter", 
 			"signalType", "signalTypeRef", "signalGroup", "comment", "globalComment", 
 			"nodeComment", "msgComment", "signalComment", "envVarComment", "attributeDefinition", 
@@ -304,448 +306,965 @@ public class DbcParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(87);
+			setState(93);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,0,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(84);
+					setState(90);
 					match(EOL);
 					}
 					} 
 				}
-				setState(89);
+				setState(95);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,0,_ctx);
 			}
-			setState(91);
+			setState(97);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==T__3) {
 				{
-				setState(90);
+				setState(96);
 				version();
 				}
 			}
 
-			setState(96);
+			setState(102);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,2,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(93);
+					setState(99);
 					match(EOL);
 					}
 					} 
 				}
-				setState(98);
+				setState(104);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,2,_ctx);
 			}
-			setState(100);
+			setState(106);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==T__4 || _la==T__40) {
 				{
-				setState(99);
+				setState(105);
 				newSymbols();
 				}
 			}
 
-			setState(105);
+			setState(111);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==EOL) {
 				{
 				{
-				setState(102);
+				setState(108);
 				match(EOL);
 				}
 				}
-				setState(107);
+				setState(113);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(108);
-			match(T__0);
 			setState(114);
+			match(T__0);
+			setState(120);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Integer) {
 				{
-				setState(109);
+				setState(115);
 				((DbcContext)_localctx).baudRate = match(Integer);
-				setState(110);
+				setState(116);
 				match(T__1);
-				setState(111);
+				setState(117);
 				((DbcContext)_localctx).btr1 = match(Integer);
-				setState(112);
+				setState(118);
 				match(T__2);
-				setState(113);
+				setState(119);
 				((DbcContext)_localctx).btr2 = match(Integer);
 				}
 			}
 
-			setState(116);
+			setState(122);
 			match(EOL);
-			setState(117);
+			setState(123);
 			nodes();
-			setState(121);
+			setState(127);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,6,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(118);
+					setState(124);
 					valueTable();
 					}
 					} 
 				}
-				setState(123);
+				setState(129);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,6,_ctx);
 			}
-			setState(128);
+			setState(134);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,8,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
-					setState(126);
+					setState(132);
 					_errHandler.sync(this);
 					switch ( getInterpreter().adaptivePredict(_input,7,_ctx) ) {
 					case 1:
 						{
-						setState(124);
+						setState(130);
 						msg();
 						}
 						break;
 					case 2:
 						{
-						setState(125);
+						setState(131);
 						pseudoMsg();
 						}
 						break;
 					}
 					} 
 				}
-				setState(130);
+				setState(136);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,8,_ctx);
 			}
-			setState(134);
+			setState(140);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,9,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(131);
+					setState(137);
 					messageTransmitter();
 					}
 					} 
 				}
-				setState(136);
+				setState(142);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,9,_ctx);
 			}
-			setState(140);
+			setState(146);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,10,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(137);
+					setState(143);
 					environmentVariable();
 					}
 					} 
 				}
-				setState(142);
+				setState(148);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,10,_ctx);
 			}
-			setState(146);
+			setState(152);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,11,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(143);
+					setState(149);
 					environmentVariableData();
 					}
 					} 
 				}
-				setState(148);
+				setState(154);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,11,_ctx);
 			}
-			setState(152);
+			setState(158);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,12,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(149);
+					setState(155);
 					signalType();
 					}
 					} 
 				}
-				setState(154);
+				setState(160);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,12,_ctx);
 			}
-			setState(158);
+			setState(164);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,13,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(155);
+					setState(161);
 					comment();
 					}
 					} 
 				}
-				setState(160);
+				setState(166);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,13,_ctx);
 			}
-			setState(165);
+			setState(171);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,15,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
-					setState(163);
+					setState(169);
 					_errHandler.sync(this);
 					switch ( getInterpreter().adaptivePredict(_input,14,_ctx) ) {
 					case 1:
 						{
-						setState(161);
+						setState(167);
 						attributeDefinition();
 						}
 						break;
 					case 2:
 						{
-						setState(162);
+						setState(168);
 						unrecognizedStatement();
 						}
 						break;
 					}
 					} 
 				}
-				setState(167);
+				setState(173);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,15,_ctx);
 			}
-			setState(172);
+			setState(178);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,17,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
-					setState(170);
+					setState(176);
 					_errHandler.sync(this);
 					switch ( getInterpreter().adaptivePredict(_input,16,_ctx) ) {
 					case 1:
 						{
-						setState(168);
+						setState(174);
 						attributeDefault();
 						}
 						break;
 					case 2:
 						{
-						setState(169);
+						setState(175);
 						unrecognizedStatement();
 						}
 						break;
 					}
 					} 
 				}
-				setState(174);
+				setState(180);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,17,_ctx);
 			}
-			setState(179);
+			setState(185);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,19,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
-					setState(177);
+					setState(183);
 					_errHandler.sync(this);
 					switch ( getInterpreter().adaptivePredict(_input,18,_ctx) ) {
 					case 1:
 						{
-						setState(175);
+						setState(181);
 						attributeValue();
 						}
 						break;
 					case 2:
 						{
-						setState(176);
+						setState(182);
 						unrecognizedStatement();
 						}
 						break;
 					}
 					} 
 				}
-				setState(181);
+				setState(187);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,19,_ctx);
 			}
-			setState(185);
+			setState(191);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,20,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(182);
+					setState(188);
 					valueDescription();
 					}
 					} 
 				}
-				setState(187);
+				setState(193);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,20,_ctx);
 			}
-			setState(191);
+			setState(197);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,21,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(188);
+					setState(194);
 					categoryDefinition();
 					}
 					} 
 				}
-				setState(193);
+				setState(199);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,21,_ctx);
 			}
-			setState(197);
+			setState(203);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,22,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(194);
+					setState(200);
 					category();
 					}
 					} 
 				}
-				setState(199);
+				setState(205);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,22,_ctx);
 			}
-			setState(203);
+			setState(209);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,23,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(200);
+					setState(206);
 					filter();
 					}
 					} 
 				}
-				setState(205);
+				setState(211);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,23,_ctx);
 			}
-			setState(209);
+			setState(215);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,24,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(206);
+					setState(212);
 					signalTypeRef();
 					}
 					} 
 				}
-				setState(211);
+				setState(217);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,24,_ctx);
 			}
-			setState(215);
+			setState(221);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,25,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(212);
+					setState(218);
 					signalGroup();
 					}
 					} 
 				}
-				setState(217);
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,25,_ctx);
-			}
-			setState(221);
-			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,26,_ctx);
-			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-				if ( _alt==1 ) {
-					{
-					{
-					setState(218);
-					signalExtendedValueTypeList();
-					}
-					} 
+				setState(223);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,25,_ctx);
+			}
+			setState(227);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,26,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(224);
+					signalExtendedValueTypeList();
+					}
+					} 
+				}
+				setState(229);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,26,_ctx);
+			}
+			setState(233);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,27,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(230);
+					multiplexedSignal();
+					}
+					} 
+				}
+				setState(235);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,27,_ctx);
+			}
+			setState(239);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==EOL) {
+				{
+				{
+				setState(236);
+				match(EOL);
+				}
+				}
+				setState(241);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(242);
+			match(EOF);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class DbcHeadContext extends ParserRuleContext {
+		public Token baudRate;
+		public Token btr1;
+		public Token btr2;
+		public List<TerminalNode> EOL() { return getTokens(DbcParser.EOL); }
+		public TerminalNode EOL(int i) {
+			return getToken(DbcParser.EOL, i);
+		}
+		public NodesContext nodes() {
+			return getRuleContext(NodesContext.class,0);
+		}
+		public TerminalNode EOF() { return getToken(DbcParser.EOF, 0); }
+		public VersionContext version() {
+			return getRuleContext(VersionContext.class,0);
+		}
+		public NewSymbolsContext newSymbols() {
+			return getRuleContext(NewSymbolsContext.class,0);
+		}
+		public List<DbcStatementContext> dbcStatement() {
+			return getRuleContexts(DbcStatementContext.class);
+		}
+		public DbcStatementContext dbcStatement(int i) {
+			return getRuleContext(DbcStatementContext.class,i);
+		}
+		public List<TerminalNode> Integer() { return getTokens(DbcParser.Integer); }
+		public TerminalNode Integer(int i) {
+			return getToken(DbcParser.Integer, i);
+		}
+		public DbcHeadContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_dbcHead; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof DbcListener ) ((DbcListener)listener).enterDbcHead(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof DbcListener ) ((DbcListener)listener).exitDbcHead(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof DbcVisitor ) return ((DbcVisitor<? extends T>)visitor).visitDbcHead(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final DbcHeadContext dbcHead() throws RecognitionException {
+		DbcHeadContext _localctx = new DbcHeadContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_dbcHead);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(247);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,29,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(244);
+					match(EOL);
+					}
+					} 
+				}
+				setState(249);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,29,_ctx);
+			}
+			setState(251);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==T__3) {
+				{
+				setState(250);
+				version();
+				}
+			}
+
+			setState(256);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,31,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(253);
+					match(EOL);
+					}
+					} 
+				}
+				setState(258);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,31,_ctx);
+			}
+			setState(260);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==T__4 || _la==T__40) {
+				{
+				setState(259);
+				newSymbols();
+				}
+			}
+
+			setState(265);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==EOL) {
+				{
+				{
+				setState(262);
+				match(EOL);
+				}
+				}
+				setState(267);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(268);
+			match(T__0);
+			setState(274);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==Integer) {
+				{
+				setState(269);
+				((DbcHeadContext)_localctx).baudRate = match(Integer);
+				setState(270);
+				match(T__1);
+				setState(271);
+				((DbcHeadContext)_localctx).btr1 = match(Integer);
+				setState(272);
+				match(T__2);
+				setState(273);
+				((DbcHeadContext)_localctx).btr2 = match(Integer);
+				}
+			}
+
+			setState(276);
+			match(EOL);
+			setState(277);
+			nodes();
+			setState(281);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,35,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(278);
+					dbcStatement();
+					}
+					} 
+				}
+				setState(283);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,35,_ctx);
+			}
+			setState(287);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==EOL) {
+				{
+				{
+				setState(284);
+				match(EOL);
+				}
+				}
+				setState(289);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(290);
+			match(EOF);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class DbcStatementListContext extends ParserRuleContext {
+		public TerminalNode EOF() { return getToken(DbcParser.EOF, 0); }
+		public List<DbcStatementContext> dbcStatement() {
+			return getRuleContexts(DbcStatementContext.class);
+		}
+		public DbcStatementContext dbcStatement(int i) {
+			return getRuleContext(DbcStatementContext.class,i);
+		}
+		public List<TerminalNode> EOL() { return getTokens(DbcParser.EOL); }
+		public TerminalNode EOL(int i) {
+			return getToken(DbcParser.EOL, i);
+		}
+		public DbcStatementListContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_dbcStatementList; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof DbcListener ) ((DbcListener)listener).enterDbcStatementList(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof DbcListener ) ((DbcListener)listener).exitDbcStatementList(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof DbcVisitor ) return ((DbcVisitor<? extends T>)visitor).visitDbcStatementList(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final DbcStatementListContext dbcStatementList() throws RecognitionException {
+		DbcStatementListContext _localctx = new DbcStatementListContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_dbcStatementList);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(295);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,37,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(292);
+					dbcStatement();
+					}
+					} 
+				}
+				setState(297);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,37,_ctx);
+			}
+			setState(301);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==EOL) {
+				{
+				{
+				setState(298);
+				match(EOL);
+				}
+				}
+				setState(303);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(304);
+			match(EOF);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	@SuppressWarnings("CheckReturnValue")
+	public static class DbcStatementContext extends ParserRuleContext {
+		public ValueTableContext valueTable() {
+			return getRuleContext(ValueTableContext.class,0);
+		}
+		public MsgContext msg() {
+			return getRuleContext(MsgContext.class,0);
+		}
+		public PseudoMsgContext pseudoMsg() {
+			return getRuleContext(PseudoMsgContext.class,0);
+		}
+		public MessageTransmitterContext messageTransmitter() {
+			return getRuleContext(MessageTransmitterContext.class,0);
+		}
+		public EnvironmentVariableContext environmentVariable() {
+			return getRuleContext(EnvironmentVariableContext.class,0);
+		}
+		public EnvironmentVariableDataContext environmentVariableData() {
+			return getRuleContext(EnvironmentVariableDataContext.class,0);
+		}
+		public SignalTypeContext signalType() {
+			return getRuleContext(SignalTypeContext.class,0);
+		}
+		public CommentContext comment() {
+			return getRuleContext(CommentContext.class,0);
+		}
+		public AttributeDefinitionContext attributeDefinition() {
+			return getRuleContext(AttributeDefinitionContext.class,0);
+		}
+		public AttributeDefaultContext attributeDefault() {
+			return getRuleContext(AttributeDefaultContext.class,0);
+		}
+		public AttributeValueContext attributeValue() {
+			return getRuleContext(AttributeValueContext.class,0);
+		}
+		public UnrecognizedStatementContext unrecognizedStatement() {
+			return getRuleContext(UnrecognizedStatementContext.class,0);
+		}
+		public ValueDescriptionContext valueDescription() {
+			return getRuleContext(ValueDescriptionContext.class,0);
+		}
+		public CategoryDefinitionContext categoryDefinition() {
+			return getRuleContext(CategoryDefinitionContext.class,0);
+		}
+		public CategoryContext category() {
+			return getRuleContext(CategoryContext.class,0);
+		}
+		public FilterContext filter() {
+			return getRuleContext(FilterContext.class,0);
+		}
+		public SignalTypeRefContext signalTypeRef() {
+			return getRuleContext(SignalTypeRefContext.class,0);
+		}
+		public SignalGroupContext signalGroup() {
+			return getRuleContext(SignalGroupContext.class,0);
+		}
+		public SignalExtendedValueTypeListContext signalExtendedValueTypeList() {
+			return getRuleContext(SignalExtendedValueTypeListContext.class,0);
+		}
+		public MultiplexedSignalContext multiplexedSignal() {
+			return getRuleContext(MultiplexedSignalContext.class,0);
+		}
+		public DbcStatementContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_dbcStatement; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof DbcListener ) ((DbcListener)listener).enterDbcStatement(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof DbcListener ) ((DbcListener)listener).exitDbcStatement(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof DbcVisitor ) return ((DbcVisitor<? extends T>)visitor).visitDbcStatement(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final DbcStatementContext dbcStatement() throws RecognitionException {
+		DbcStatementContext _localctx = new DbcStatementContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_dbcStatement);
+		try {
+			setState(326);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,39,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(306);
+				valueTable();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(307);
+				msg();
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(308);
+				pseudoMsg();
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(309);
+				messageTransmitter();
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(310);
+				environmentVariable();
+				}
+				break;
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(311);
+				environmentVariableData();
+				}
+				break;
+			case 7:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(312);
+				signalType();
+				}
+				break;
+			case 8:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(313);
+				comment();
+				}
+				break;
+			case 9:
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(314);
+				attributeDefinition();
+				}
+				break;
+			case 10:
+				enterOuterAlt(_localctx, 10);
+				{
+				setState(315);
+				attributeDefault();
+				}
+				break;
+			case 11:
+				enterOuterAlt(_localctx, 11);
+				{
+				setState(316);
+				attributeValue();
+				}
+				break;
+			case 12:
+				enterOuterAlt(_localctx, 12);
+				{
+				setState(317);
+				unrecognizedStatement();
+				}
+				break;
+			case 13:
+				enterOuterAlt(_localctx, 13);
+				{
+				setState(318);
+				valueDescription();
+				}
+				break;
+			case 14:
+				enterOuterAlt(_localctx, 14);
+				{
+				setState(319);
+				categoryDefinition();
 				}
-				setState(223);
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,26,_ctx);
-			}
-			setState(227);
-			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,27,_ctx);
-			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-				if ( _alt==1 ) {
-					{
-					{
-					setState(224);
-					multiplexedSignal();
-					}
-					} 
+				break;
+			case 15:
+				enterOuterAlt(_localctx, 15);
+				{
+				setState(320);
+				category();
 				}
-				setState(229);
-				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,27,_ctx);
-			}
-			setState(233);
-			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==EOL) {
+				break;
+			case 16:
+				enterOuterAlt(_localctx, 16);
+				{
+				setState(321);
+				filter();
+				}
+				break;
+			case 17:
+				enterOuterAlt(_localctx, 17);
 				{
+				setState(322);
+				signalTypeRef();
+				}
+				break;
+			case 18:
+				enterOuterAlt(_localctx, 18);
 				{
-				setState(230);
-				match(EOL);
+				setState(323);
+				signalGroup();
 				}
+				break;
+			case 19:
+				enterOuterAlt(_localctx, 19);
+				{
+				setState(324);
+				signalExtendedValueTypeList();
 				}
-				setState(235);
-				_errHandler.sync(this);
-				_la = _input.LA(1);
-			}
-			setState(236);
-			match(EOF);
+				break;
+			case 20:
+				enterOuterAlt(_localctx, 20);
+				{
+				setState(325);
+				multiplexedSignal();
+				}
+				break;
 			}
 		}
 		catch (RecognitionException re) {
@@ -785,15 +1304,15 @@ public class DbcParser extends Parser {
 
 	public final VersionContext version() throws RecognitionException {
 		VersionContext _localctx = new VersionContext(_ctx, getState());
-		enterRule(_localctx, 2, RULE_version);
+		enterRule(_localctx, 8, RULE_version);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(238);
+			setState(328);
 			match(T__3);
-			setState(239);
+			setState(329);
 			((VersionContext)_localctx).title = match(String);
-			setState(240);
+			setState(330);
 			match(EOL);
 			}
 		}
@@ -834,85 +1353,85 @@ public class DbcParser extends Parser {
 
 	public final KeywordContext keyword() throws RecognitionException {
 		KeywordContext _localctx = new KeywordContext(_ctx, getState());
-		enterRule(_localctx, 4, RULE_keyword);
+		enterRule(_localctx, 10, RULE_keyword);
 		try {
-			setState(253);
+			setState(343);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,29,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,40,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(242);
+				setState(332);
 				match(T__3);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(243);
+				setState(333);
 				match(T__4);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(244);
+				setState(334);
 				match(T__5);
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(245);
+				setState(335);
 				newSymbol();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(246);
+				setState(336);
 				match(T__6);
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(247);
+				setState(337);
 				match(T__7);
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(248);
+				setState(338);
 				match(T__8);
 				}
 				break;
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(249);
+				setState(339);
 				match(T__9);
 				}
 				break;
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(250);
+				setState(340);
 				match(T__10);
 				}
 				break;
 			case 10:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(251);
+				setState(341);
 				match(T__11);
 				}
 				break;
 			case 11:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(252);
+				setState(342);
 				match(T__12);
 				}
 				break;
@@ -952,12 +1471,12 @@ public class DbcParser extends Parser {
 
 	public final NewSymbolContext newSymbol() throws RecognitionException {
 		NewSymbolContext _localctx = new NewSymbolContext(_ctx, getState());
-		enterRule(_localctx, 6, RULE_newSymbol);
+		enterRule(_localctx, 12, RULE_newSymbol);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(255);
+			setState(345);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 2199023239232L) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -1013,12 +1532,12 @@ public class DbcParser extends Parser {
 
 	public final NewSymbolsContext newSymbols() throws RecognitionException {
 		NewSymbolsContext _localctx = new NewSymbolsContext(_ctx, getState());
-		enterRule(_localctx, 8, RULE_newSymbols);
+		enterRule(_localctx, 14, RULE_newSymbols);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(257);
+			setState(347);
 			_la = _input.LA(1);
 			if ( !(_la==T__4 || _la==T__40) ) {
 			_errHandler.recoverInline(this);
@@ -1028,42 +1547,42 @@ public class DbcParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(258);
+			setState(348);
 			match(T__1);
-			setState(270);
+			setState(360);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,32,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,43,_ctx) ) {
 			case 1:
 				{
-				setState(259);
+				setState(349);
 				match(EOL);
 				}
 				break;
 			case 2:
 				{
-				setState(261);
+				setState(351);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==EOL) {
 					{
-					setState(260);
+					setState(350);
 					match(EOL);
 					}
 				}
 
-				setState(266); 
+				setState(356); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				do {
 					{
 					{
-					setState(263);
+					setState(353);
 					newSymbol();
-					setState(264);
+					setState(354);
 					match(EOL);
 					}
 					}
-					setState(268); 
+					setState(358); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & 2199023239232L) != 0) );
@@ -1122,45 +1641,45 @@ public class DbcParser extends Parser {
 
 	public final NodesContext nodes() throws RecognitionException {
 		NodesContext _localctx = new NodesContext(_ctx, getState());
-		enterRule(_localctx, 10, RULE_nodes);
+		enterRule(_localctx, 16, RULE_nodes);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(275);
+			setState(365);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==EOL) {
 				{
 				{
-				setState(272);
+				setState(362);
 				match(EOL);
 				}
 				}
-				setState(277);
+				setState(367);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(278);
+			setState(368);
 			match(T__41);
-			setState(283);
+			setState(373);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__49 || _la==ID) {
 				{
-				setState(281);
+				setState(371);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case ID:
 					{
-					setState(279);
+					setState(369);
 					((NodesContext)_localctx).ID = match(ID);
 					((NodesContext)_localctx).nodeList.add(((NodesContext)_localctx).ID);
 					}
 					break;
 				case T__49:
 					{
-					setState(280);
+					setState(370);
 					dummyNode();
 					}
 					break;
@@ -1168,7 +1687,7 @@ public class DbcParser extends Parser {
 					throw new NoViableAltException(this);
 				}
 				}
-				setState(285);
+				setState(375);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1220,44 +1739,44 @@ public class DbcParser extends Parser {
 
 	public final ValueTableContext valueTable() throws RecognitionException {
 		ValueTableContext _localctx = new ValueTableContext(_ctx, getState());
-		enterRule(_localctx, 12, RULE_valueTable);
+		enterRule(_localctx, 18, RULE_valueTable);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(287); 
+			setState(377); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(286);
+				setState(376);
 				match(EOL);
 				}
 				}
-				setState(289); 
+				setState(379); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==EOL );
-			setState(291);
+			setState(381);
 			match(T__28);
-			setState(292);
+			setState(382);
 			((ValueTableContext)_localctx).name = match(ID);
-			setState(296);
+			setState(386);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==Sign || _la==Integer) {
 				{
 				{
-				setState(293);
+				setState(383);
 				singleValueDescription();
 				}
 				}
-				setState(298);
+				setState(388);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(299);
+			setState(389);
 			match(T__42);
 			}
 		}
@@ -1320,69 +1839,69 @@ public class DbcParser extends Parser {
 
 	public final MsgContext msg() throws RecognitionException {
 		MsgContext _localctx = new MsgContext(_ctx, getState());
-		enterRule(_localctx, 14, RULE_msg);
+		enterRule(_localctx, 20, RULE_msg);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(302); 
+			setState(392); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(301);
+				setState(391);
 				match(EOL);
 				}
 				}
-				setState(304); 
+				setState(394); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==EOL );
-			setState(306);
+			setState(396);
 			match(T__8);
-			setState(307);
+			setState(397);
 			((MsgContext)_localctx).id = match(Integer);
-			setState(308);
+			setState(398);
 			((MsgContext)_localctx).name = match(ID);
-			setState(309);
+			setState(399);
 			match(T__1);
-			setState(310);
+			setState(400);
 			((MsgContext)_localctx).length = match(Integer);
-			setState(313);
+			setState(403);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case ID:
 				{
-				setState(311);
+				setState(401);
 				((MsgContext)_localctx).sender = match(ID);
 				}
 				break;
 			case T__49:
 				{
-				setState(312);
+				setState(402);
 				dummyNode();
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(318);
+			setState(408);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,40,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,51,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(315);
+					setState(405);
 					signal();
 					}
 					} 
 				}
-				setState(320);
+				setState(410);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,40,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,51,_ctx);
 			}
 			}
 		}
@@ -1440,69 +1959,69 @@ public class DbcParser extends Parser {
 
 	public final PseudoMsgContext pseudoMsg() throws RecognitionException {
 		PseudoMsgContext _localctx = new PseudoMsgContext(_ctx, getState());
-		enterRule(_localctx, 16, RULE_pseudoMsg);
+		enterRule(_localctx, 22, RULE_pseudoMsg);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(322); 
+			setState(412); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(321);
+				setState(411);
 				match(EOL);
 				}
 				}
-				setState(324); 
+				setState(414); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==EOL );
-			setState(326);
+			setState(416);
 			match(T__8);
-			setState(327);
+			setState(417);
 			match(Integer);
-			setState(328);
+			setState(418);
 			match(T__11);
-			setState(329);
+			setState(419);
 			match(T__1);
-			setState(330);
+			setState(420);
 			((PseudoMsgContext)_localctx).length = match(Integer);
-			setState(333);
+			setState(423);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case ID:
 				{
-				setState(331);
+				setState(421);
 				((PseudoMsgContext)_localctx).sender = match(ID);
 				}
 				break;
 			case T__49:
 				{
-				setState(332);
+				setState(422);
 				dummyNode();
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(338);
+			setState(428);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,43,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,54,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(335);
+					setState(425);
 					signal();
 					}
 					} 
 				}
-				setState(340);
+				setState(430);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,43,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,54,_ctx);
 			}
 			}
 		}
@@ -1576,103 +2095,103 @@ public class DbcParser extends Parser {
 
 	public final SignalContext signal() throws RecognitionException {
 		SignalContext _localctx = new SignalContext(_ctx, getState());
-		enterRule(_localctx, 18, RULE_signal);
+		enterRule(_localctx, 24, RULE_signal);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(341);
+			setState(431);
 			match(EOL);
-			setState(342);
+			setState(432);
 			match(T__9);
-			setState(343);
+			setState(433);
 			((SignalContext)_localctx).name = match(ID);
-			setState(345);
+			setState(435);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==ID) {
 				{
-				setState(344);
+				setState(434);
 				((SignalContext)_localctx).mpxIndicator = match(ID);
 				}
 			}
 
-			setState(347);
+			setState(437);
 			match(T__1);
-			setState(348);
+			setState(438);
 			((SignalContext)_localctx).startBit = match(Integer);
-			setState(349);
+			setState(439);
 			match(T__43);
-			setState(350);
+			setState(440);
 			((SignalContext)_localctx).length = match(Integer);
-			setState(351);
+			setState(441);
 			match(T__44);
-			setState(352);
+			setState(442);
 			((SignalContext)_localctx).byteOrder = match(Integer);
-			setState(353);
+			setState(443);
 			((SignalContext)_localctx).signed = match(Sign);
-			setState(354);
+			setState(444);
 			match(T__45);
-			setState(355);
+			setState(445);
 			((SignalContext)_localctx).factor = number();
-			setState(356);
+			setState(446);
 			match(T__2);
-			setState(357);
+			setState(447);
 			((SignalContext)_localctx).offset = number();
-			setState(358);
+			setState(448);
 			match(T__46);
-			setState(359);
+			setState(449);
 			match(T__47);
-			setState(360);
+			setState(450);
 			((SignalContext)_localctx).min = number();
-			setState(361);
+			setState(451);
 			match(T__43);
-			setState(362);
+			setState(452);
 			((SignalContext)_localctx).max = number();
-			setState(363);
+			setState(453);
 			match(T__48);
-			setState(364);
+			setState(454);
 			((SignalContext)_localctx).unit = match(String);
-			setState(367);
+			setState(457);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case ID:
 				{
-				setState(365);
+				setState(455);
 				((SignalContext)_localctx).ID = match(ID);
 				((SignalContext)_localctx).recList.add(((SignalContext)_localctx).ID);
 				}
 				break;
 			case T__49:
 				{
-				setState(366);
+				setState(456);
 				dummyNode();
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(376);
+			setState(466);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__2) {
 				{
 				{
-				setState(369);
+				setState(459);
 				match(T__2);
-				setState(372);
+				setState(462);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case ID:
 					{
-					setState(370);
+					setState(460);
 					((SignalContext)_localctx).ID = match(ID);
 					((SignalContext)_localctx).recList.add(((SignalContext)_localctx).ID);
 					}
 					break;
 				case T__49:
 					{
-					setState(371);
+					setState(461);
 					dummyNode();
 					}
 					break;
@@ -1681,7 +2200,7 @@ public class DbcParser extends Parser {
 				}
 				}
 				}
-				setState(378);
+				setState(468);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1721,11 +2240,11 @@ public class DbcParser extends Parser {
 
 	public final DummyNodeContext dummyNode() throws RecognitionException {
 		DummyNodeContext _localctx = new DummyNodeContext(_ctx, getState());
-		enterRule(_localctx, 20, RULE_dummyNode);
+		enterRule(_localctx, 26, RULE_dummyNode);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(379);
+			setState(469);
 			match(T__49);
 			}
 		}
@@ -1775,34 +2294,34 @@ public class DbcParser extends Parser {
 
 	public final SignalExtendedValueTypeListContext signalExtendedValueTypeList() throws RecognitionException {
 		SignalExtendedValueTypeListContext _localctx = new SignalExtendedValueTypeListContext(_ctx, getState());
-		enterRule(_localctx, 22, RULE_signalExtendedValueTypeList);
+		enterRule(_localctx, 28, RULE_signalExtendedValueTypeList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(382); 
+			setState(472); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(381);
+				setState(471);
 				match(EOL);
 				}
 				}
-				setState(384); 
+				setState(474); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==EOL );
-			setState(386);
+			setState(476);
 			match(T__30);
-			setState(387);
+			setState(477);
 			((SignalExtendedValueTypeListContext)_localctx).msgId = match(Integer);
-			setState(388);
+			setState(478);
 			((SignalExtendedValueTypeListContext)_localctx).signalName = match(ID);
-			setState(389);
+			setState(479);
 			((SignalExtendedValueTypeListContext)_localctx).signalExtendedValueType = match(Integer);
-			setState(390);
+			setState(480);
 			match(T__42);
 			}
 		}
@@ -1849,58 +2368,58 @@ public class DbcParser extends Parser {
 
 	public final MessageTransmitterContext messageTransmitter() throws RecognitionException {
 		MessageTransmitterContext _localctx = new MessageTransmitterContext(_ctx, getState());
-		enterRule(_localctx, 24, RULE_messageTransmitter);
+		enterRule(_localctx, 30, RULE_messageTransmitter);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(393); 
+			setState(483); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(392);
+				setState(482);
 				match(EOL);
 				}
 				}
-				setState(395); 
+				setState(485); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==EOL );
-			setState(397);
+			setState(487);
 			match(T__32);
-			setState(398);
+			setState(488);
 			match(Integer);
-			setState(399);
+			setState(489);
 			match(T__1);
-			setState(408);
+			setState(498);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==ID) {
 				{
-				setState(400);
+				setState(490);
 				match(ID);
-				setState(405);
+				setState(495);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==T__2) {
 					{
 					{
-					setState(401);
+					setState(491);
 					match(T__2);
-					setState(402);
+					setState(492);
 					match(ID);
 					}
 					}
-					setState(407);
+					setState(497);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
 				}
 			}
 
-			setState(410);
+			setState(500);
 			match(T__42);
 			}
 		}
@@ -1953,62 +2472,62 @@ public class DbcParser extends Parser {
 
 	public final ValueDescriptionContext valueDescription() throws RecognitionException {
 		ValueDescriptionContext _localctx = new ValueDescriptionContext(_ctx, getState());
-		enterRule(_localctx, 26, RULE_valueDescription);
+		enterRule(_localctx, 32, RULE_valueDescription);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(413); 
+			setState(503); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(412);
+				setState(502);
 				match(EOL);
 				}
 				}
-				setState(415); 
+				setState(505); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==EOL );
-			setState(417);
+			setState(507);
 			match(T__16);
-			setState(421);
+			setState(511);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case Integer:
 				{
-				setState(418);
+				setState(508);
 				((ValueDescriptionContext)_localctx).msgId = match(Integer);
-				setState(419);
+				setState(509);
 				((ValueDescriptionContext)_localctx).signalName = match(ID);
 				}
 				break;
 			case ID:
 				{
-				setState(420);
+				setState(510);
 				((ValueDescriptionContext)_localctx).envVarName = match(ID);
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(426);
+			setState(516);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==Sign || _la==Integer) {
 				{
 				{
-				setState(423);
+				setState(513);
 				singleValueDescription();
 				}
 				}
-				setState(428);
+				setState(518);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(429);
+			setState(519);
 			match(T__42);
 			}
 		}
@@ -2052,13 +2571,13 @@ public class DbcParser extends Parser {
 
 	public final SingleValueDescriptionContext singleValueDescription() throws RecognitionException {
 		SingleValueDescriptionContext _localctx = new SingleValueDescriptionContext(_ctx, getState());
-		enterRule(_localctx, 28, RULE_singleValueDescription);
+		enterRule(_localctx, 34, RULE_singleValueDescription);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(431);
+			setState(521);
 			((SingleValueDescriptionContext)_localctx).value = signedInteger();
-			setState(432);
+			setState(522);
 			((SingleValueDescriptionContext)_localctx).description = match(String);
 			}
 		}
@@ -2130,103 +2649,103 @@ public class DbcParser extends Parser {
 
 	public final EnvironmentVariableContext environmentVariable() throws RecognitionException {
 		EnvironmentVariableContext _localctx = new EnvironmentVariableContext(_ctx, getState());
-		enterRule(_localctx, 30, RULE_environmentVariable);
+		enterRule(_localctx, 36, RULE_environmentVariable);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(435); 
+			setState(525); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(434);
+				setState(524);
 				match(EOL);
 				}
 				}
-				setState(437); 
+				setState(527); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==EOL );
-			setState(439);
+			setState(529);
 			match(T__10);
-			setState(440);
+			setState(530);
 			((EnvironmentVariableContext)_localctx).varName = match(ID);
-			setState(441);
+			setState(531);
 			match(T__1);
-			setState(442);
+			setState(532);
 			((EnvironmentVariableContext)_localctx).type = match(Integer);
-			setState(443);
+			setState(533);
 			match(T__47);
-			setState(444);
+			setState(534);
 			((EnvironmentVariableContext)_localctx).min = number();
-			setState(445);
+			setState(535);
 			match(T__43);
-			setState(446);
+			setState(536);
 			((EnvironmentVariableContext)_localctx).max = number();
-			setState(447);
+			setState(537);
 			match(T__48);
-			setState(448);
+			setState(538);
 			((EnvironmentVariableContext)_localctx).unit = match(String);
-			setState(449);
+			setState(539);
 			((EnvironmentVariableContext)_localctx).initValue = number();
-			setState(450);
+			setState(540);
 			match(Integer);
-			setState(451);
+			setState(541);
 			((EnvironmentVariableContext)_localctx).accessType = match(ID);
-			setState(455);
+			setState(545);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case ID:
 				{
-				setState(452);
+				setState(542);
 				((EnvironmentVariableContext)_localctx).ID = match(ID);
 				((EnvironmentVariableContext)_localctx).accessNodeList.add(((EnvironmentVariableContext)_localctx).ID);
 				}
 				break;
 			case T__12:
 				{
-				setState(453);
+				setState(543);
 				match(T__12);
 				}
 				break;
 			case T__49:
 				{
-				setState(454);
+				setState(544);
 				dummyNode();
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(465);
+			setState(555);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__2) {
 				{
 				{
-				setState(457);
+				setState(547);
 				match(T__2);
-				setState(461);
+				setState(551);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case ID:
 					{
-					setState(458);
+					setState(548);
 					((EnvironmentVariableContext)_localctx).ID = match(ID);
 					((EnvironmentVariableContext)_localctx).accessNodeList.add(((EnvironmentVariableContext)_localctx).ID);
 					}
 					break;
 				case T__12:
 					{
-					setState(459);
+					setState(549);
 					match(T__12);
 					}
 					break;
 				case T__49:
 					{
-					setState(460);
+					setState(550);
 					dummyNode();
 					}
 					break;
@@ -2235,11 +2754,11 @@ public class DbcParser extends Parser {
 				}
 				}
 				}
-				setState(467);
+				setState(557);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(468);
+			setState(558);
 			match(T__42);
 			}
 		}
@@ -2285,34 +2804,34 @@ public class DbcParser extends Parser {
 
 	public final EnvironmentVariableDataContext environmentVariableData() throws RecognitionException {
 		EnvironmentVariableDataContext _localctx = new EnvironmentVariableDataContext(_ctx, getState());
-		enterRule(_localctx, 32, RULE_environmentVariableData);
+		enterRule(_localctx, 38, RULE_environmentVariableData);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(471); 
+			setState(561); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(470);
+				setState(560);
 				match(EOL);
 				}
 				}
-				setState(473); 
+				setState(563); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==EOL );
-			setState(475);
+			setState(565);
 			match(T__22);
-			setState(476);
+			setState(566);
 			((EnvironmentVariableDataContext)_localctx).varName = match(ID);
-			setState(477);
+			setState(567);
 			match(T__1);
-			setState(478);
+			setState(568);
 			((EnvironmentVariableDataContext)_localctx).sizeOfData = match(Integer);
-			setState(479);
+			setState(569);
 			match(T__42);
 			}
 		}
@@ -2358,34 +2877,34 @@ public class DbcParser extends Parser {
 
 	public final CategoryDefinitionContext categoryDefinition() throws RecognitionException {
 		CategoryDefinitionContext _localctx = new CategoryDefinitionContext(_ctx, getState());
-		enterRule(_localctx, 34, RULE_categoryDefinition);
+		enterRule(_localctx, 40, RULE_categoryDefinition);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(482); 
+			setState(572); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(481);
+				setState(571);
 				match(EOL);
 				}
 				}
-				setState(484); 
+				setState(574); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==EOL );
-			setState(486);
+			setState(576);
 			match(T__17);
-			setState(490);
+			setState(580);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & -144115188075855874L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 15L) != 0)) {
 				{
 				{
-				setState(487);
+				setState(577);
 				_la = _input.LA(1);
 				if ( _la <= 0 || (_la==EOF || _la==EOL) ) {
 				_errHandler.recoverInline(this);
@@ -2397,7 +2916,7 @@ public class DbcParser extends Parser {
 				}
 				}
 				}
-				setState(492);
+				setState(582);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2445,34 +2964,34 @@ public class DbcParser extends Parser {
 
 	public final CategoryContext category() throws RecognitionException {
 		CategoryContext _localctx = new CategoryContext(_ctx, getState());
-		enterRule(_localctx, 36, RULE_category);
+		enterRule(_localctx, 42, RULE_category);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(494); 
+			setState(584); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(493);
+				setState(583);
 				match(EOL);
 				}
 				}
-				setState(496); 
+				setState(586); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==EOL );
-			setState(498);
+			setState(588);
 			match(T__50);
-			setState(502);
+			setState(592);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & -144115188075855874L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 15L) != 0)) {
 				{
 				{
-				setState(499);
+				setState(589);
 				_la = _input.LA(1);
 				if ( _la <= 0 || (_la==EOF || _la==EOL) ) {
 				_errHandler.recoverInline(this);
@@ -2484,7 +3003,7 @@ public class DbcParser extends Parser {
 				}
 				}
 				}
-				setState(504);
+				setState(594);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2532,34 +3051,34 @@ public class DbcParser extends Parser {
 
 	public final FilterContext filter() throws RecognitionException {
 		FilterContext _localctx = new FilterContext(_ctx, getState());
-		enterRule(_localctx, 38, RULE_filter);
+		enterRule(_localctx, 44, RULE_filter);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(506); 
+			setState(596); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(505);
+				setState(595);
 				match(EOL);
 				}
 				}
-				setState(508); 
+				setState(598); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==EOL );
-			setState(510);
+			setState(600);
 			match(T__19);
-			setState(514);
+			setState(604);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & -144115188075855874L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 15L) != 0)) {
 				{
 				{
-				setState(511);
+				setState(601);
 				_la = _input.LA(1);
 				if ( _la <= 0 || (_la==EOF || _la==EOL) ) {
 				_errHandler.recoverInline(this);
@@ -2571,7 +3090,7 @@ public class DbcParser extends Parser {
 				}
 				}
 				}
-				setState(516);
+				setState(606);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2631,68 +3150,68 @@ public class DbcParser extends Parser {
 
 	public final SignalTypeContext signalType() throws RecognitionException {
 		SignalTypeContext _localctx = new SignalTypeContext(_ctx, getState());
-		enterRule(_localctx, 40, RULE_signalType);
+		enterRule(_localctx, 46, RULE_signalType);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(518); 
+			setState(608); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(517);
+				setState(607);
 				match(EOL);
 				}
 				}
-				setState(520); 
+				setState(610); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==EOL );
-			setState(522);
+			setState(612);
 			match(T__23);
-			setState(523);
+			setState(613);
 			match(ID);
-			setState(524);
+			setState(614);
 			match(T__1);
-			setState(525);
+			setState(615);
 			match(Integer);
-			setState(526);
+			setState(616);
 			match(T__44);
-			setState(527);
+			setState(617);
 			match(Integer);
-			setState(528);
+			setState(618);
 			match(Sign);
-			setState(529);
+			setState(619);
 			match(T__45);
-			setState(530);
+			setState(620);
 			number();
-			setState(531);
+			setState(621);
 			match(T__2);
-			setState(532);
+			setState(622);
 			number();
-			setState(533);
+			setState(623);
 			match(T__46);
-			setState(534);
+			setState(624);
 			match(T__47);
-			setState(535);
+			setState(625);
 			number();
-			setState(536);
+			setState(626);
 			match(T__43);
-			setState(537);
+			setState(627);
 			number();
-			setState(538);
+			setState(628);
 			match(T__48);
-			setState(539);
+			setState(629);
 			match(String);
-			setState(540);
+			setState(630);
 			number();
-			setState(541);
+			setState(631);
 			match(T__2);
-			setState(542);
+			setState(632);
 			match(ID);
-			setState(543);
+			setState(633);
 			match(T__42);
 			}
 		}
@@ -2739,26 +3258,26 @@ public class DbcParser extends Parser {
 
 	public final SignalTypeRefContext signalTypeRef() throws RecognitionException {
 		SignalTypeRefContext _localctx = new SignalTypeRefContext(_ctx, getState());
-		enterRule(_localctx, 42, RULE_signalTypeRef);
+		enterRule(_localctx, 48, RULE_signalTypeRef);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(546); 
+			setState(636); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(545);
+				setState(635);
 				match(EOL);
 				}
 				}
-				setState(548); 
+				setState(638); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==EOL );
-			setState(550);
+			setState(640);
 			_la = _input.LA(1);
 			if ( !(_la==T__23 || _la==T__27) ) {
 			_errHandler.recoverInline(this);
@@ -2768,15 +3287,15 @@ public class DbcParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(551);
+			setState(641);
 			match(Integer);
-			setState(552);
+			setState(642);
 			match(ID);
-			setState(553);
+			setState(643);
 			match(T__1);
-			setState(554);
+			setState(644);
 			match(ID);
-			setState(555);
+			setState(645);
 			match(T__42);
 			}
 		}
@@ -2831,51 +3350,51 @@ public class DbcParser extends Parser {
 
 	public final SignalGroupContext signalGroup() throws RecognitionException {
 		SignalGroupContext _localctx = new SignalGroupContext(_ctx, getState());
-		enterRule(_localctx, 44, RULE_signalGroup);
+		enterRule(_localctx, 50, RULE_signalGroup);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(558); 
+			setState(648); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(557);
+				setState(647);
 				match(EOL);
 				}
 				}
-				setState(560); 
+				setState(650); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==EOL );
-			setState(562);
+			setState(652);
 			match(T__29);
-			setState(563);
+			setState(653);
 			((SignalGroupContext)_localctx).msgId = match(Integer);
-			setState(564);
+			setState(654);
 			((SignalGroupContext)_localctx).groupName = match(ID);
-			setState(565);
+			setState(655);
 			((SignalGroupContext)_localctx).repetitions = match(Integer);
-			setState(566);
+			setState(656);
 			match(T__1);
-			setState(570);
+			setState(660);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==ID) {
 				{
 				{
-				setState(567);
+				setState(657);
 				((SignalGroupContext)_localctx).ID = match(ID);
 				((SignalGroupContext)_localctx).signalName.add(((SignalGroupContext)_localctx).ID);
 				}
 				}
-				setState(572);
+				setState(662);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(573);
+			setState(663);
 			match(T__42);
 			}
 		}
@@ -2932,64 +3451,64 @@ public class DbcParser extends Parser {
 
 	public final CommentContext comment() throws RecognitionException {
 		CommentContext _localctx = new CommentContext(_ctx, getState());
-		enterRule(_localctx, 46, RULE_comment);
+		enterRule(_localctx, 52, RULE_comment);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(576); 
+			setState(666); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(575);
+				setState(665);
 				match(EOL);
 				}
 				}
-				setState(578); 
+				setState(668); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==EOL );
-			setState(580);
+			setState(670);
 			match(T__13);
-			setState(586);
+			setState(676);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case String:
 				{
-				setState(581);
+				setState(671);
 				globalComment();
 				}
 				break;
 			case T__7:
 				{
-				setState(582);
+				setState(672);
 				nodeComment();
 				}
 				break;
 			case T__8:
 				{
-				setState(583);
+				setState(673);
 				msgComment();
 				}
 				break;
 			case T__9:
 				{
-				setState(584);
+				setState(674);
 				signalComment();
 				}
 				break;
 			case T__10:
 				{
-				setState(585);
+				setState(675);
 				envVarComment();
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(588);
+			setState(678);
 			match(T__42);
 			}
 		}
@@ -3029,11 +3548,11 @@ public class DbcParser extends Parser {
 
 	public final GlobalCommentContext globalComment() throws RecognitionException {
 		GlobalCommentContext _localctx = new GlobalCommentContext(_ctx, getState());
-		enterRule(_localctx, 48, RULE_globalComment);
+		enterRule(_localctx, 54, RULE_globalComment);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(590);
+			setState(680);
 			((GlobalCommentContext)_localctx).text = match(String);
 			}
 		}
@@ -3075,15 +3594,15 @@ public class DbcParser extends Parser {
 
 	public final NodeCommentContext nodeComment() throws RecognitionException {
 		NodeCommentContext _localctx = new NodeCommentContext(_ctx, getState());
-		enterRule(_localctx, 50, RULE_nodeComment);
+		enterRule(_localctx, 56, RULE_nodeComment);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(592);
+			setState(682);
 			match(T__7);
-			setState(593);
+			setState(683);
 			((NodeCommentContext)_localctx).nodeName = match(ID);
-			setState(594);
+			setState(684);
 			((NodeCommentContext)_localctx).text = match(String);
 			}
 		}
@@ -3125,15 +3644,15 @@ public class DbcParser extends Parser {
 
 	public final MsgCommentContext msgComment() throws RecognitionException {
 		MsgCommentContext _localctx = new MsgCommentContext(_ctx, getState());
-		enterRule(_localctx, 52, RULE_msgComment);
+		enterRule(_localctx, 58, RULE_msgComment);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(596);
+			setState(686);
 			match(T__8);
-			setState(597);
+			setState(687);
 			((MsgCommentContext)_localctx).msgId = match(Integer);
-			setState(598);
+			setState(688);
 			((MsgCommentContext)_localctx).text = match(String);
 			}
 		}
@@ -3177,17 +3696,17 @@ public class DbcParser extends Parser {
 
 	public final SignalCommentContext signalComment() throws RecognitionException {
 		SignalCommentContext _localctx = new SignalCommentContext(_ctx, getState());
-		enterRule(_localctx, 54, RULE_signalComment);
+		enterRule(_localctx, 60, RULE_signalComment);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(600);
+			setState(690);
 			match(T__9);
-			setState(601);
+			setState(691);
 			((SignalCommentContext)_localctx).msgId = match(Integer);
-			setState(602);
+			setState(692);
 			((SignalCommentContext)_localctx).signalName = match(ID);
-			setState(603);
+			setState(693);
 			((SignalCommentContext)_localctx).text = match(String);
 			}
 		}
@@ -3229,15 +3748,15 @@ public class DbcParser extends Parser {
 
 	public final EnvVarCommentContext envVarComment() throws RecognitionException {
 		EnvVarCommentContext _localctx = new EnvVarCommentContext(_ctx, getState());
-		enterRule(_localctx, 56, RULE_envVarComment);
+		enterRule(_localctx, 62, RULE_envVarComment);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(605);
+			setState(695);
 			match(T__10);
-			setState(606);
+			setState(696);
 			((EnvVarCommentContext)_localctx).envVarName = match(ID);
-			setState(607);
+			setState(697);
 			((EnvVarCommentContext)_localctx).text = match(String);
 			}
 		}
@@ -3294,33 +3813,33 @@ public class DbcParser extends Parser {
 
 	public final AttributeDefinitionContext attributeDefinition() throws RecognitionException {
 		AttributeDefinitionContext _localctx = new AttributeDefinitionContext(_ctx, getState());
-		enterRule(_localctx, 58, RULE_attributeDefinition);
+		enterRule(_localctx, 64, RULE_attributeDefinition);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(610); 
+			setState(700); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(609);
+				setState(699);
 				match(EOL);
 				}
 				}
-				setState(612); 
+				setState(702); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==EOL );
-			setState(614);
+			setState(704);
 			match(T__14);
-			setState(616);
+			setState(706);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 3840L) != 0)) {
 				{
-				setState(615);
+				setState(705);
 				((AttributeDefinitionContext)_localctx).objectType = _input.LT(1);
 				_la = _input.LA(1);
 				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 3840L) != 0)) ) {
@@ -3334,40 +3853,40 @@ public class DbcParser extends Parser {
 				}
 			}
 
-			setState(618);
+			setState(708);
 			((AttributeDefinitionContext)_localctx).attribName = match(String);
-			setState(623);
+			setState(713);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__51:
 			case T__52:
 				{
-				setState(619);
+				setState(709);
 				attribTypeInt();
 				}
 				break;
 			case T__53:
 				{
-				setState(620);
+				setState(710);
 				attribTypeFloat();
 				}
 				break;
 			case T__54:
 				{
-				setState(621);
+				setState(711);
 				attribTypeString();
 				}
 				break;
 			case T__55:
 				{
-				setState(622);
+				setState(712);
 				attribTypeEnum();
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(625);
+			setState(715);
 			match(T__42);
 			}
 		}
@@ -3414,12 +3933,12 @@ public class DbcParser extends Parser {
 
 	public final AttribTypeIntContext attribTypeInt() throws RecognitionException {
 		AttribTypeIntContext _localctx = new AttribTypeIntContext(_ctx, getState());
-		enterRule(_localctx, 60, RULE_attribTypeInt);
+		enterRule(_localctx, 66, RULE_attribTypeInt);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(627);
+			setState(717);
 			((AttribTypeIntContext)_localctx).type = _input.LT(1);
 			_la = _input.LA(1);
 			if ( !(_la==T__51 || _la==T__52) ) {
@@ -3430,9 +3949,9 @@ public class DbcParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(628);
+			setState(718);
 			((AttribTypeIntContext)_localctx).min = signedInteger();
-			setState(629);
+			setState(719);
 			((AttribTypeIntContext)_localctx).max = signedInteger();
 			}
 		}
@@ -3478,15 +3997,15 @@ public class DbcParser extends Parser {
 
 	public final AttribTypeFloatContext attribTypeFloat() throws RecognitionException {
 		AttribTypeFloatContext _localctx = new AttribTypeFloatContext(_ctx, getState());
-		enterRule(_localctx, 62, RULE_attribTypeFloat);
+		enterRule(_localctx, 68, RULE_attribTypeFloat);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(631);
+			setState(721);
 			match(T__53);
-			setState(632);
+			setState(722);
 			((AttribTypeFloatContext)_localctx).min = number();
-			setState(633);
+			setState(723);
 			((AttribTypeFloatContext)_localctx).max = number();
 			}
 		}
@@ -3524,11 +4043,11 @@ public class DbcParser extends Parser {
 
 	public final AttribTypeStringContext attribTypeString() throws RecognitionException {
 		AttribTypeStringContext _localctx = new AttribTypeStringContext(_ctx, getState());
-		enterRule(_localctx, 64, RULE_attribTypeString);
+		enterRule(_localctx, 70, RULE_attribTypeString);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(635);
+			setState(725);
 			match(T__54);
 			}
 		}
@@ -3572,35 +4091,35 @@ public class DbcParser extends Parser {
 
 	public final AttribTypeEnumContext attribTypeEnum() throws RecognitionException {
 		AttribTypeEnumContext _localctx = new AttribTypeEnumContext(_ctx, getState());
-		enterRule(_localctx, 66, RULE_attribTypeEnum);
+		enterRule(_localctx, 72, RULE_attribTypeEnum);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(637);
+			setState(727);
 			match(T__55);
-			setState(646);
+			setState(736);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==String) {
 				{
-				setState(638);
+				setState(728);
 				((AttribTypeEnumContext)_localctx).String = match(String);
 				((AttribTypeEnumContext)_localctx).enumValList.add(((AttribTypeEnumContext)_localctx).String);
-				setState(643);
+				setState(733);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==T__2) {
 					{
 					{
-					setState(639);
+					setState(729);
 					match(T__2);
-					setState(640);
+					setState(730);
 					((AttribTypeEnumContext)_localctx).String = match(String);
 					((AttribTypeEnumContext)_localctx).enumValList.add(((AttribTypeEnumContext)_localctx).String);
 					}
 					}
-					setState(645);
+					setState(735);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -3652,32 +4171,32 @@ public class DbcParser extends Parser {
 
 	public final AttributeDefaultContext attributeDefault() throws RecognitionException {
 		AttributeDefaultContext _localctx = new AttributeDefaultContext(_ctx, getState());
-		enterRule(_localctx, 68, RULE_attributeDefault);
+		enterRule(_localctx, 74, RULE_attributeDefault);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(649); 
+			setState(739); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(648);
+				setState(738);
 				match(EOL);
 				}
 				}
-				setState(651); 
+				setState(741); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==EOL );
-			setState(653);
+			setState(743);
 			match(T__20);
-			setState(654);
+			setState(744);
 			((AttributeDefaultContext)_localctx).attribName = match(String);
-			setState(655);
+			setState(745);
 			attribVal();
-			setState(656);
+			setState(746);
 			match(T__42);
 			}
 		}
@@ -3730,63 +4249,63 @@ public class DbcParser extends Parser {
 
 	public final AttributeValueContext attributeValue() throws RecognitionException {
 		AttributeValueContext _localctx = new AttributeValueContext(_ctx, getState());
-		enterRule(_localctx, 70, RULE_attributeValue);
+		enterRule(_localctx, 76, RULE_attributeValue);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(659); 
+			setState(749); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(658);
+				setState(748);
 				match(EOL);
 				}
 				}
-				setState(661); 
+				setState(751); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==EOL );
-			setState(663);
+			setState(753);
 			match(T__15);
-			setState(664);
+			setState(754);
 			((AttributeValueContext)_localctx).attribName = match(String);
-			setState(674);
+			setState(764);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__7:
 				{
-				setState(665);
+				setState(755);
 				match(T__7);
-				setState(666);
+				setState(756);
 				((AttributeValueContext)_localctx).nodeName = match(ID);
 				}
 				break;
 			case T__8:
 				{
-				setState(667);
+				setState(757);
 				match(T__8);
-				setState(668);
+				setState(758);
 				((AttributeValueContext)_localctx).msgId = match(Integer);
 				}
 				break;
 			case T__9:
 				{
-				setState(669);
+				setState(759);
 				match(T__9);
-				setState(670);
+				setState(760);
 				((AttributeValueContext)_localctx).msgId = match(Integer);
-				setState(671);
+				setState(761);
 				((AttributeValueContext)_localctx).signalName = match(ID);
 				}
 				break;
 			case T__10:
 				{
-				setState(672);
+				setState(762);
 				match(T__10);
-				setState(673);
+				setState(763);
 				((AttributeValueContext)_localctx).envVarName = match(ID);
 				}
 				break;
@@ -3798,9 +4317,9 @@ public class DbcParser extends Parser {
 			default:
 				break;
 			}
-			setState(676);
+			setState(766);
 			attribVal();
-			setState(677);
+			setState(767);
 			match(T__42);
 			}
 		}
@@ -3844,9 +4363,9 @@ public class DbcParser extends Parser {
 
 	public final AttribValContext attribVal() throws RecognitionException {
 		AttribValContext _localctx = new AttribValContext(_ctx, getState());
-		enterRule(_localctx, 72, RULE_attribVal);
+		enterRule(_localctx, 78, RULE_attribVal);
 		try {
-			setState(681);
+			setState(771);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case Sign:
@@ -3854,14 +4373,14 @@ public class DbcParser extends Parser {
 			case Integer:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(679);
+				setState(769);
 				((AttribValContext)_localctx).numVal = number();
 				}
 				break;
 			case String:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(680);
+				setState(770);
 				((AttribValContext)_localctx).stringVal = match(String);
 				}
 				break;
@@ -3912,26 +4431,26 @@ public class DbcParser extends Parser {
 
 	public final UnrecognizedStatementContext unrecognizedStatement() throws RecognitionException {
 		UnrecognizedStatementContext _localctx = new UnrecognizedStatementContext(_ctx, getState());
-		enterRule(_localctx, 74, RULE_unrecognizedStatement);
+		enterRule(_localctx, 80, RULE_unrecognizedStatement);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(684); 
+			setState(774); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(683);
+				setState(773);
 				match(EOL);
 				}
 				}
-				setState(686); 
+				setState(776); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==EOL );
-			setState(688);
+			setState(778);
 			((UnrecognizedStatementContext)_localctx).statement = _input.LT(1);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 1082331758592L) != 0)) ) {
@@ -3942,13 +4461,13 @@ public class DbcParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(692);
+			setState(782);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & -144115188075855874L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 15L) != 0)) {
 				{
 				{
-				setState(689);
+				setState(779);
 				_la = _input.LA(1);
 				if ( _la <= 0 || (_la==EOF || _la==EOL) ) {
 				_errHandler.recoverInline(this);
@@ -3960,7 +4479,7 @@ public class DbcParser extends Parser {
 				}
 				}
 				}
-				setState(694);
+				setState(784);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -4009,34 +4528,34 @@ public class DbcParser extends Parser {
 
 	public final UnrecognizedAttributeDefinitionNodeSpecificContext unrecognizedAttributeDefinitionNodeSpecific() throws RecognitionException {
 		UnrecognizedAttributeDefinitionNodeSpecificContext _localctx = new UnrecognizedAttributeDefinitionNodeSpecificContext(_ctx, getState());
-		enterRule(_localctx, 76, RULE_unrecognizedAttributeDefinitionNodeSpecific);
+		enterRule(_localctx, 82, RULE_unrecognizedAttributeDefinitionNodeSpecific);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(696); 
+			setState(786); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(695);
+				setState(785);
 				match(EOL);
 				}
 				}
-				setState(698); 
+				setState(788); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==EOL );
-			setState(700);
+			setState(790);
 			((UnrecognizedAttributeDefinitionNodeSpecificContext)_localctx).statement = match(T__33);
-			setState(704);
+			setState(794);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & -144115188075855874L) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & 15L) != 0)) {
 				{
 				{
-				setState(701);
+				setState(791);
 				_la = _input.LA(1);
 				if ( _la <= 0 || (_la==EOF || _la==EOL) ) {
 				_errHandler.recoverInline(this);
@@ -4048,7 +4567,7 @@ public class DbcParser extends Parser {
 				}
 				}
 				}
-				setState(706);
+				setState(796);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -4110,54 +4629,54 @@ public class DbcParser extends Parser {
 
 	public final MultiplexedSignalContext multiplexedSignal() throws RecognitionException {
 		MultiplexedSignalContext _localctx = new MultiplexedSignalContext(_ctx, getState());
-		enterRule(_localctx, 78, RULE_multiplexedSignal);
+		enterRule(_localctx, 84, RULE_multiplexedSignal);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(708); 
+			setState(798); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(707);
+				setState(797);
 				match(EOL);
 				}
 				}
-				setState(710); 
+				setState(800); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==EOL );
-			setState(712);
+			setState(802);
 			match(T__39);
-			setState(713);
+			setState(803);
 			((MultiplexedSignalContext)_localctx).msgId = match(Integer);
-			setState(714);
+			setState(804);
 			((MultiplexedSignalContext)_localctx).mpxSignalName = match(ID);
-			setState(715);
+			setState(805);
 			((MultiplexedSignalContext)_localctx).mpxSwitchName = match(ID);
-			setState(721);
+			setState(811);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==Integer) {
 				{
 				{
-				setState(716);
+				setState(806);
 				((MultiplexedSignalContext)_localctx).Integer = match(Integer);
 				((MultiplexedSignalContext)_localctx).fromList.add(((MultiplexedSignalContext)_localctx).Integer);
-				setState(717);
+				setState(807);
 				match(Minus);
-				setState(718);
+				setState(808);
 				((MultiplexedSignalContext)_localctx).Integer = match(Integer);
 				((MultiplexedSignalContext)_localctx).toList.add(((MultiplexedSignalContext)_localctx).Integer);
 				}
 				}
-				setState(723);
+				setState(813);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(724);
+			setState(814);
 			match(T__42);
 			}
 		}
@@ -4199,15 +4718,15 @@ public class DbcParser extends Parser {
 
 	public final NumberContext number() throws RecognitionException {
 		NumberContext _localctx = new NumberContext(_ctx, getState());
-		enterRule(_localctx, 80, RULE_number);
+		enterRule(_localctx, 86, RULE_number);
 		try {
-			setState(728);
+			setState(818);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case Float:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(726);
+				setState(816);
 				match(Float);
 				}
 				break;
@@ -4215,7 +4734,7 @@ public class DbcParser extends Parser {
 			case Integer:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(727);
+				setState(817);
 				signedInteger();
 				}
 				break;
@@ -4259,22 +4778,22 @@ public class DbcParser extends Parser {
 
 	public final SignedIntegerContext signedInteger() throws RecognitionException {
 		SignedIntegerContext _localctx = new SignedIntegerContext(_ctx, getState());
-		enterRule(_localctx, 82, RULE_signedInteger);
+		enterRule(_localctx, 88, RULE_signedInteger);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(731);
+			setState(821);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Sign) {
 				{
-				setState(730);
+				setState(820);
 				match(Sign);
 				}
 			}
 
-			setState(733);
+			setState(823);
 			match(Integer);
 			}
 		}
@@ -4290,7 +4809,7 @@ public class DbcParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\u0004\u0001C\u02e0\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
+		"\u0004\u0001C\u033a\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
 		"\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002"+
 		"\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007\u0002"+
 		"\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b\u0007\u000b\u0002"+
@@ -4302,485 +4821,554 @@ public class DbcParser extends Parser {
 		"\u0002\u001c\u0007\u001c\u0002\u001d\u0007\u001d\u0002\u001e\u0007\u001e"+
 		"\u0002\u001f\u0007\u001f\u0002 \u0007 \u0002!\u0007!\u0002\"\u0007\"\u0002"+
 		"#\u0007#\u0002$\u0007$\u0002%\u0007%\u0002&\u0007&\u0002\'\u0007\'\u0002"+
-		"(\u0007(\u0002)\u0007)\u0001\u0000\u0005\u0000V\b\u0000\n\u0000\f\u0000"+
-		"Y\t\u0000\u0001\u0000\u0003\u0000\\\b\u0000\u0001\u0000\u0005\u0000_\b"+
-		"\u0000\n\u0000\f\u0000b\t\u0000\u0001\u0000\u0003\u0000e\b\u0000\u0001"+
-		"\u0000\u0005\u0000h\b\u0000\n\u0000\f\u0000k\t\u0000\u0001\u0000\u0001"+
-		"\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0003\u0000s\b"+
-		"\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0005\u0000x\b\u0000\n\u0000"+
-		"\f\u0000{\t\u0000\u0001\u0000\u0001\u0000\u0005\u0000\u007f\b\u0000\n"+
-		"\u0000\f\u0000\u0082\t\u0000\u0001\u0000\u0005\u0000\u0085\b\u0000\n\u0000"+
-		"\f\u0000\u0088\t\u0000\u0001\u0000\u0005\u0000\u008b\b\u0000\n\u0000\f"+
-		"\u0000\u008e\t\u0000\u0001\u0000\u0005\u0000\u0091\b\u0000\n\u0000\f\u0000"+
-		"\u0094\t\u0000\u0001\u0000\u0005\u0000\u0097\b\u0000\n\u0000\f\u0000\u009a"+
-		"\t\u0000\u0001\u0000\u0005\u0000\u009d\b\u0000\n\u0000\f\u0000\u00a0\t"+
-		"\u0000\u0001\u0000\u0001\u0000\u0005\u0000\u00a4\b\u0000\n\u0000\f\u0000"+
-		"\u00a7\t\u0000\u0001\u0000\u0001\u0000\u0005\u0000\u00ab\b\u0000\n\u0000"+
-		"\f\u0000\u00ae\t\u0000\u0001\u0000\u0001\u0000\u0005\u0000\u00b2\b\u0000"+
-		"\n\u0000\f\u0000\u00b5\t\u0000\u0001\u0000\u0005\u0000\u00b8\b\u0000\n"+
-		"\u0000\f\u0000\u00bb\t\u0000\u0001\u0000\u0005\u0000\u00be\b\u0000\n\u0000"+
-		"\f\u0000\u00c1\t\u0000\u0001\u0000\u0005\u0000\u00c4\b\u0000\n\u0000\f"+
-		"\u0000\u00c7\t\u0000\u0001\u0000\u0005\u0000\u00ca\b\u0000\n\u0000\f\u0000"+
-		"\u00cd\t\u0000\u0001\u0000\u0005\u0000\u00d0\b\u0000\n\u0000\f\u0000\u00d3"+
-		"\t\u0000\u0001\u0000\u0005\u0000\u00d6\b\u0000\n\u0000\f\u0000\u00d9\t"+
-		"\u0000\u0001\u0000\u0005\u0000\u00dc\b\u0000\n\u0000\f\u0000\u00df\t\u0000"+
-		"\u0001\u0000\u0005\u0000\u00e2\b\u0000\n\u0000\f\u0000\u00e5\t\u0000\u0001"+
-		"\u0000\u0005\u0000\u00e8\b\u0000\n\u0000\f\u0000\u00eb\t\u0000\u0001\u0000"+
-		"\u0001\u0000\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0002"+
-		"\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002"+
-		"\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0003\u0002\u00fe\b\u0002"+
-		"\u0001\u0003\u0001\u0003\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004"+
-		"\u0003\u0004\u0106\b\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0004\u0004"+
-		"\u010b\b\u0004\u000b\u0004\f\u0004\u010c\u0003\u0004\u010f\b\u0004\u0001"+
-		"\u0005\u0005\u0005\u0112\b\u0005\n\u0005\f\u0005\u0115\t\u0005\u0001\u0005"+
-		"\u0001\u0005\u0001\u0005\u0005\u0005\u011a\b\u0005\n\u0005\f\u0005\u011d"+
-		"\t\u0005\u0001\u0006\u0004\u0006\u0120\b\u0006\u000b\u0006\f\u0006\u0121"+
-		"\u0001\u0006\u0001\u0006\u0001\u0006\u0005\u0006\u0127\b\u0006\n\u0006"+
-		"\f\u0006\u012a\t\u0006\u0001\u0006\u0001\u0006\u0001\u0007\u0004\u0007"+
-		"\u012f\b\u0007\u000b\u0007\f\u0007\u0130\u0001\u0007\u0001\u0007\u0001"+
-		"\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0003\u0007\u013a"+
-		"\b\u0007\u0001\u0007\u0005\u0007\u013d\b\u0007\n\u0007\f\u0007\u0140\t"+
-		"\u0007\u0001\b\u0004\b\u0143\b\b\u000b\b\f\b\u0144\u0001\b\u0001\b\u0001"+
-		"\b\u0001\b\u0001\b\u0001\b\u0001\b\u0003\b\u014e\b\b\u0001\b\u0005\b\u0151"+
-		"\b\b\n\b\f\b\u0154\t\b\u0001\t\u0001\t\u0001\t\u0001\t\u0003\t\u015a\b"+
-		"\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001"+
-		"\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001"+
-		"\t\u0001\t\u0001\t\u0003\t\u0170\b\t\u0001\t\u0001\t\u0001\t\u0003\t\u0175"+
-		"\b\t\u0005\t\u0177\b\t\n\t\f\t\u017a\t\t\u0001\n\u0001\n\u0001\u000b\u0004"+
-		"\u000b\u017f\b\u000b\u000b\u000b\f\u000b\u0180\u0001\u000b\u0001\u000b"+
-		"\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\f\u0004\f\u018a"+
-		"\b\f\u000b\f\f\f\u018b\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f"+
-		"\u0005\f\u0194\b\f\n\f\f\f\u0197\t\f\u0003\f\u0199\b\f\u0001\f\u0001\f"+
-		"\u0001\r\u0004\r\u019e\b\r\u000b\r\f\r\u019f\u0001\r\u0001\r\u0001\r\u0001"+
-		"\r\u0003\r\u01a6\b\r\u0001\r\u0005\r\u01a9\b\r\n\r\f\r\u01ac\t\r\u0001"+
-		"\r\u0001\r\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000f\u0004\u000f"+
-		"\u01b4\b\u000f\u000b\u000f\f\u000f\u01b5\u0001\u000f\u0001\u000f\u0001"+
-		"\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001"+
-		"\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001"+
-		"\u000f\u0001\u000f\u0003\u000f\u01c8\b\u000f\u0001\u000f\u0001\u000f\u0001"+
-		"\u000f\u0001\u000f\u0003\u000f\u01ce\b\u000f\u0005\u000f\u01d0\b\u000f"+
-		"\n\u000f\f\u000f\u01d3\t\u000f\u0001\u000f\u0001\u000f\u0001\u0010\u0004"+
-		"\u0010\u01d8\b\u0010\u000b\u0010\f\u0010\u01d9\u0001\u0010\u0001\u0010"+
-		"\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0011\u0004\u0011"+
-		"\u01e3\b\u0011\u000b\u0011\f\u0011\u01e4\u0001\u0011\u0001\u0011\u0005"+
-		"\u0011\u01e9\b\u0011\n\u0011\f\u0011\u01ec\t\u0011\u0001\u0012\u0004\u0012"+
-		"\u01ef\b\u0012\u000b\u0012\f\u0012\u01f0\u0001\u0012\u0001\u0012\u0005"+
-		"\u0012\u01f5\b\u0012\n\u0012\f\u0012\u01f8\t\u0012\u0001\u0013\u0004\u0013"+
-		"\u01fb\b\u0013\u000b\u0013\f\u0013\u01fc\u0001\u0013\u0001\u0013\u0005"+
-		"\u0013\u0201\b\u0013\n\u0013\f\u0013\u0204\t\u0013\u0001\u0014\u0004\u0014"+
-		"\u0207\b\u0014\u000b\u0014\f\u0014\u0208\u0001\u0014\u0001\u0014\u0001"+
-		"\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001"+
-		"\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001"+
-		"\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0014\u0001"+
-		"\u0014\u0001\u0014\u0001\u0014\u0001\u0015\u0004\u0015\u0223\b\u0015\u000b"+
-		"\u0015\f\u0015\u0224\u0001\u0015\u0001\u0015\u0001\u0015\u0001\u0015\u0001"+
-		"\u0015\u0001\u0015\u0001\u0015\u0001\u0016\u0004\u0016\u022f\b\u0016\u000b"+
-		"\u0016\f\u0016\u0230\u0001\u0016\u0001\u0016\u0001\u0016\u0001\u0016\u0001"+
-		"\u0016\u0001\u0016\u0005\u0016\u0239\b\u0016\n\u0016\f\u0016\u023c\t\u0016"+
-		"\u0001\u0016\u0001\u0016\u0001\u0017\u0004\u0017\u0241\b\u0017\u000b\u0017"+
-		"\f\u0017\u0242\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017"+
-		"\u0001\u0017\u0003\u0017\u024b\b\u0017\u0001\u0017\u0001\u0017\u0001\u0018"+
-		"\u0001\u0018\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0001\u001a"+
-		"\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001b\u0001\u001b\u0001\u001b"+
-		"\u0001\u001b\u0001\u001b\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001c"+
-		"\u0001\u001d\u0004\u001d\u0263\b\u001d\u000b\u001d\f\u001d\u0264\u0001"+
-		"\u001d\u0001\u001d\u0003\u001d\u0269\b\u001d\u0001\u001d\u0001\u001d\u0001"+
-		"\u001d\u0001\u001d\u0001\u001d\u0003\u001d\u0270\b\u001d\u0001\u001d\u0001"+
-		"\u001d\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001f\u0001"+
-		"\u001f\u0001\u001f\u0001\u001f\u0001 \u0001 \u0001!\u0001!\u0001!\u0001"+
-		"!\u0005!\u0282\b!\n!\f!\u0285\t!\u0003!\u0287\b!\u0001\"\u0004\"\u028a"+
-		"\b\"\u000b\"\f\"\u028b\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001#"+
-		"\u0004#\u0294\b#\u000b#\f#\u0295\u0001#\u0001#\u0001#\u0001#\u0001#\u0001"+
-		"#\u0001#\u0001#\u0001#\u0001#\u0001#\u0003#\u02a3\b#\u0001#\u0001#\u0001"+
-		"#\u0001$\u0001$\u0003$\u02aa\b$\u0001%\u0004%\u02ad\b%\u000b%\f%\u02ae"+
-		"\u0001%\u0001%\u0005%\u02b3\b%\n%\f%\u02b6\t%\u0001&\u0004&\u02b9\b&\u000b"+
-		"&\f&\u02ba\u0001&\u0001&\u0005&\u02bf\b&\n&\f&\u02c2\t&\u0001\'\u0004"+
-		"\'\u02c5\b\'\u000b\'\f\'\u02c6\u0001\'\u0001\'\u0001\'\u0001\'\u0001\'"+
-		"\u0001\'\u0001\'\u0005\'\u02d0\b\'\n\'\f\'\u02d3\t\'\u0001\'\u0001\'\u0001"+
-		"(\u0001(\u0003(\u02d9\b(\u0001)\u0003)\u02dc\b)\u0001)\u0001)\u0001)\u0000"+
-		"\u0000*\u0000\u0002\u0004\u0006\b\n\f\u000e\u0010\u0012\u0014\u0016\u0018"+
-		"\u001a\u001c\u001e \"$&(*,.02468:<>@BDFHJLNPR\u0000\u0007\u0002\u0000"+
-		"\u0006\u0006\u000e(\u0002\u0000\u0005\u0005))\u0001\u000199\u0002\u0000"+
-		"\u0018\u0018\u001c\u001c\u0001\u0000\b\u000b\u0001\u000045\u0001\u0000"+
-		"\"\'\u0321\u0000W\u0001\u0000\u0000\u0000\u0002\u00ee\u0001\u0000\u0000"+
-		"\u0000\u0004\u00fd\u0001\u0000\u0000\u0000\u0006\u00ff\u0001\u0000\u0000"+
-		"\u0000\b\u0101\u0001\u0000\u0000\u0000\n\u0113\u0001\u0000\u0000\u0000"+
-		"\f\u011f\u0001\u0000\u0000\u0000\u000e\u012e\u0001\u0000\u0000\u0000\u0010"+
-		"\u0142\u0001\u0000\u0000\u0000\u0012\u0155\u0001\u0000\u0000\u0000\u0014"+
-		"\u017b\u0001\u0000\u0000\u0000\u0016\u017e\u0001\u0000\u0000\u0000\u0018"+
-		"\u0189\u0001\u0000\u0000\u0000\u001a\u019d\u0001\u0000\u0000\u0000\u001c"+
-		"\u01af\u0001\u0000\u0000\u0000\u001e\u01b3\u0001\u0000\u0000\u0000 \u01d7"+
-		"\u0001\u0000\u0000\u0000\"\u01e2\u0001\u0000\u0000\u0000$\u01ee\u0001"+
-		"\u0000\u0000\u0000&\u01fa\u0001\u0000\u0000\u0000(\u0206\u0001\u0000\u0000"+
-		"\u0000*\u0222\u0001\u0000\u0000\u0000,\u022e\u0001\u0000\u0000\u0000."+
-		"\u0240\u0001\u0000\u0000\u00000\u024e\u0001\u0000\u0000\u00002\u0250\u0001"+
-		"\u0000\u0000\u00004\u0254\u0001\u0000\u0000\u00006\u0258\u0001\u0000\u0000"+
-		"\u00008\u025d\u0001\u0000\u0000\u0000:\u0262\u0001\u0000\u0000\u0000<"+
-		"\u0273\u0001\u0000\u0000\u0000>\u0277\u0001\u0000\u0000\u0000@\u027b\u0001"+
-		"\u0000\u0000\u0000B\u027d\u0001\u0000\u0000\u0000D\u0289\u0001\u0000\u0000"+
-		"\u0000F\u0293\u0001\u0000\u0000\u0000H\u02a9\u0001\u0000\u0000\u0000J"+
-		"\u02ac\u0001\u0000\u0000\u0000L\u02b8\u0001\u0000\u0000\u0000N\u02c4\u0001"+
-		"\u0000\u0000\u0000P\u02d8\u0001\u0000\u0000\u0000R\u02db\u0001\u0000\u0000"+
-		"\u0000TV\u00059\u0000\u0000UT\u0001\u0000\u0000\u0000VY\u0001\u0000\u0000"+
-		"\u0000WU\u0001\u0000\u0000\u0000WX\u0001\u0000\u0000\u0000X[\u0001\u0000"+
-		"\u0000\u0000YW\u0001\u0000\u0000\u0000Z\\\u0003\u0002\u0001\u0000[Z\u0001"+
-		"\u0000\u0000\u0000[\\\u0001\u0000\u0000\u0000\\`\u0001\u0000\u0000\u0000"+
-		"]_\u00059\u0000\u0000^]\u0001\u0000\u0000\u0000_b\u0001\u0000\u0000\u0000"+
-		"`^\u0001\u0000\u0000\u0000`a\u0001\u0000\u0000\u0000ad\u0001\u0000\u0000"+
-		"\u0000b`\u0001\u0000\u0000\u0000ce\u0003\b\u0004\u0000dc\u0001\u0000\u0000"+
-		"\u0000de\u0001\u0000\u0000\u0000ei\u0001\u0000\u0000\u0000fh\u00059\u0000"+
-		"\u0000gf\u0001\u0000\u0000\u0000hk\u0001\u0000\u0000\u0000ig\u0001\u0000"+
-		"\u0000\u0000ij\u0001\u0000\u0000\u0000jl\u0001\u0000\u0000\u0000ki\u0001"+
-		"\u0000\u0000\u0000lr\u0005\u0001\u0000\u0000mn\u0005@\u0000\u0000no\u0005"+
-		"\u0002\u0000\u0000op\u0005@\u0000\u0000pq\u0005\u0003\u0000\u0000qs\u0005"+
-		"@\u0000\u0000rm\u0001\u0000\u0000\u0000rs\u0001\u0000\u0000\u0000st\u0001"+
-		"\u0000\u0000\u0000tu\u00059\u0000\u0000uy\u0003\n\u0005\u0000vx\u0003"+
-		"\f\u0006\u0000wv\u0001\u0000\u0000\u0000x{\u0001\u0000\u0000\u0000yw\u0001"+
-		"\u0000\u0000\u0000yz\u0001\u0000\u0000\u0000z\u0080\u0001\u0000\u0000"+
-		"\u0000{y\u0001\u0000\u0000\u0000|\u007f\u0003\u000e\u0007\u0000}\u007f"+
-		"\u0003\u0010\b\u0000~|\u0001\u0000\u0000\u0000~}\u0001\u0000\u0000\u0000"+
-		"\u007f\u0082\u0001\u0000\u0000\u0000\u0080~\u0001\u0000\u0000\u0000\u0080"+
-		"\u0081\u0001\u0000\u0000\u0000\u0081\u0086\u0001\u0000\u0000\u0000\u0082"+
-		"\u0080\u0001\u0000\u0000\u0000\u0083\u0085\u0003\u0018\f\u0000\u0084\u0083"+
-		"\u0001\u0000\u0000\u0000\u0085\u0088\u0001\u0000\u0000\u0000\u0086\u0084"+
-		"\u0001\u0000\u0000\u0000\u0086\u0087\u0001\u0000\u0000\u0000\u0087\u008c"+
-		"\u0001\u0000\u0000\u0000\u0088\u0086\u0001\u0000\u0000\u0000\u0089\u008b"+
-		"\u0003\u001e\u000f\u0000\u008a\u0089\u0001\u0000\u0000\u0000\u008b\u008e"+
-		"\u0001\u0000\u0000\u0000\u008c\u008a\u0001\u0000\u0000\u0000\u008c\u008d"+
-		"\u0001\u0000\u0000\u0000\u008d\u0092\u0001\u0000\u0000\u0000\u008e\u008c"+
-		"\u0001\u0000\u0000\u0000\u008f\u0091\u0003 \u0010\u0000\u0090\u008f\u0001"+
-		"\u0000\u0000\u0000\u0091\u0094\u0001\u0000\u0000\u0000\u0092\u0090\u0001"+
-		"\u0000\u0000\u0000\u0092\u0093\u0001\u0000\u0000\u0000\u0093\u0098\u0001"+
-		"\u0000\u0000\u0000\u0094\u0092\u0001\u0000\u0000\u0000\u0095\u0097\u0003"+
-		"(\u0014\u0000\u0096\u0095\u0001\u0000\u0000\u0000\u0097\u009a\u0001\u0000"+
-		"\u0000\u0000\u0098\u0096\u0001\u0000\u0000\u0000\u0098\u0099\u0001\u0000"+
-		"\u0000\u0000\u0099\u009e\u0001\u0000\u0000\u0000\u009a\u0098\u0001\u0000"+
-		"\u0000\u0000\u009b\u009d\u0003.\u0017\u0000\u009c\u009b\u0001\u0000\u0000"+
-		"\u0000\u009d\u00a0\u0001\u0000\u0000\u0000\u009e\u009c\u0001\u0000\u0000"+
-		"\u0000\u009e\u009f\u0001\u0000\u0000\u0000\u009f\u00a5\u0001\u0000\u0000"+
-		"\u0000\u00a0\u009e\u0001\u0000\u0000\u0000\u00a1\u00a4\u0003:\u001d\u0000"+
-		"\u00a2\u00a4\u0003J%\u0000\u00a3\u00a1\u0001\u0000\u0000\u0000\u00a3\u00a2"+
-		"\u0001\u0000\u0000\u0000\u00a4\u00a7\u0001\u0000\u0000\u0000\u00a5\u00a3"+
-		"\u0001\u0000\u0000\u0000\u00a5\u00a6\u0001\u0000\u0000\u0000\u00a6\u00ac"+
-		"\u0001\u0000\u0000\u0000\u00a7\u00a5\u0001\u0000\u0000\u0000\u00a8\u00ab"+
-		"\u0003D\"\u0000\u00a9\u00ab\u0003J%\u0000\u00aa\u00a8\u0001\u0000\u0000"+
-		"\u0000\u00aa\u00a9\u0001\u0000\u0000\u0000\u00ab\u00ae\u0001\u0000\u0000"+
-		"\u0000\u00ac\u00aa\u0001\u0000\u0000\u0000\u00ac\u00ad\u0001\u0000\u0000"+
-		"\u0000\u00ad\u00b3\u0001\u0000\u0000\u0000\u00ae\u00ac\u0001\u0000\u0000"+
-		"\u0000\u00af\u00b2\u0003F#\u0000\u00b0\u00b2\u0003J%\u0000\u00b1\u00af"+
-		"\u0001\u0000\u0000\u0000\u00b1\u00b0\u0001\u0000\u0000\u0000\u00b2\u00b5"+
-		"\u0001\u0000\u0000\u0000\u00b3\u00b1\u0001\u0000\u0000\u0000\u00b3\u00b4"+
-		"\u0001\u0000\u0000\u0000\u00b4\u00b9\u0001\u0000\u0000\u0000\u00b5\u00b3"+
-		"\u0001\u0000\u0000\u0000\u00b6\u00b8\u0003\u001a\r\u0000\u00b7\u00b6\u0001"+
-		"\u0000\u0000\u0000\u00b8\u00bb\u0001\u0000\u0000\u0000\u00b9\u00b7\u0001"+
-		"\u0000\u0000\u0000\u00b9\u00ba\u0001\u0000\u0000\u0000\u00ba\u00bf\u0001"+
-		"\u0000\u0000\u0000\u00bb\u00b9\u0001\u0000\u0000\u0000\u00bc\u00be\u0003"+
-		"\"\u0011\u0000\u00bd\u00bc\u0001\u0000\u0000\u0000\u00be\u00c1\u0001\u0000"+
-		"\u0000\u0000\u00bf\u00bd\u0001\u0000\u0000\u0000\u00bf\u00c0\u0001\u0000"+
-		"\u0000\u0000\u00c0\u00c5\u0001\u0000\u0000\u0000\u00c1\u00bf\u0001\u0000"+
-		"\u0000\u0000\u00c2\u00c4\u0003$\u0012\u0000\u00c3\u00c2\u0001\u0000\u0000"+
-		"\u0000\u00c4\u00c7\u0001\u0000\u0000\u0000\u00c5\u00c3\u0001\u0000\u0000"+
-		"\u0000\u00c5\u00c6\u0001\u0000\u0000\u0000\u00c6\u00cb\u0001\u0000\u0000"+
-		"\u0000\u00c7\u00c5\u0001\u0000\u0000\u0000\u00c8\u00ca\u0003&\u0013\u0000"+
-		"\u00c9\u00c8\u0001\u0000\u0000\u0000\u00ca\u00cd\u0001\u0000\u0000\u0000"+
-		"\u00cb\u00c9\u0001\u0000\u0000\u0000\u00cb\u00cc\u0001\u0000\u0000\u0000"+
-		"\u00cc\u00d1\u0001\u0000\u0000\u0000\u00cd\u00cb\u0001\u0000\u0000\u0000"+
-		"\u00ce\u00d0\u0003*\u0015\u0000\u00cf\u00ce\u0001\u0000\u0000\u0000\u00d0"+
-		"\u00d3\u0001\u0000\u0000\u0000\u00d1\u00cf\u0001\u0000\u0000\u0000\u00d1"+
-		"\u00d2\u0001\u0000\u0000\u0000\u00d2\u00d7\u0001\u0000\u0000\u0000\u00d3"+
-		"\u00d1\u0001\u0000\u0000\u0000\u00d4\u00d6\u0003,\u0016\u0000\u00d5\u00d4"+
-		"\u0001\u0000\u0000\u0000\u00d6\u00d9\u0001\u0000\u0000\u0000\u00d7\u00d5"+
-		"\u0001\u0000\u0000\u0000\u00d7\u00d8\u0001\u0000\u0000\u0000\u00d8\u00dd"+
-		"\u0001\u0000\u0000\u0000\u00d9\u00d7\u0001\u0000\u0000\u0000\u00da\u00dc"+
-		"\u0003\u0016\u000b\u0000\u00db\u00da\u0001\u0000\u0000\u0000\u00dc\u00df"+
-		"\u0001\u0000\u0000\u0000\u00dd\u00db\u0001\u0000\u0000\u0000\u00dd\u00de"+
-		"\u0001\u0000\u0000\u0000\u00de\u00e3\u0001\u0000\u0000\u0000\u00df\u00dd"+
-		"\u0001\u0000\u0000\u0000\u00e0\u00e2\u0003N\'\u0000\u00e1\u00e0\u0001"+
-		"\u0000\u0000\u0000\u00e2\u00e5\u0001\u0000\u0000\u0000\u00e3\u00e1\u0001"+
-		"\u0000\u0000\u0000\u00e3\u00e4\u0001\u0000\u0000\u0000\u00e4\u00e9\u0001"+
-		"\u0000\u0000\u0000\u00e5\u00e3\u0001\u0000\u0000\u0000\u00e6\u00e8\u0005"+
-		"9\u0000\u0000\u00e7\u00e6\u0001\u0000\u0000\u0000\u00e8\u00eb\u0001\u0000"+
-		"\u0000\u0000\u00e9\u00e7\u0001\u0000\u0000\u0000\u00e9\u00ea\u0001\u0000"+
-		"\u0000\u0000\u00ea\u00ec\u0001\u0000\u0000\u0000\u00eb\u00e9\u0001\u0000"+
-		"\u0000\u0000\u00ec\u00ed\u0005\u0000\u0000\u0001\u00ed\u0001\u0001\u0000"+
-		"\u0000\u0000\u00ee\u00ef\u0005\u0004\u0000\u0000\u00ef\u00f0\u0005:\u0000"+
-		"\u0000\u00f0\u00f1\u00059\u0000\u0000\u00f1\u0003\u0001\u0000\u0000\u0000"+
-		"\u00f2\u00fe\u0005\u0004\u0000\u0000\u00f3\u00fe\u0005\u0005\u0000\u0000"+
-		"\u00f4\u00fe\u0005\u0006\u0000\u0000\u00f5\u00fe\u0003\u0006\u0003\u0000"+
-		"\u00f6\u00fe\u0005\u0007\u0000\u0000\u00f7\u00fe\u0005\b\u0000\u0000\u00f8"+
-		"\u00fe\u0005\t\u0000\u0000\u00f9\u00fe\u0005\n\u0000\u0000\u00fa\u00fe"+
-		"\u0005\u000b\u0000\u0000\u00fb\u00fe\u0005\f\u0000\u0000\u00fc\u00fe\u0005"+
-		"\r\u0000\u0000\u00fd\u00f2\u0001\u0000\u0000\u0000\u00fd\u00f3\u0001\u0000"+
-		"\u0000\u0000\u00fd\u00f4\u0001\u0000\u0000\u0000\u00fd\u00f5\u0001\u0000"+
-		"\u0000\u0000\u00fd\u00f6\u0001\u0000\u0000\u0000\u00fd\u00f7\u0001\u0000"+
-		"\u0000\u0000\u00fd\u00f8\u0001\u0000\u0000\u0000\u00fd\u00f9\u0001\u0000"+
-		"\u0000\u0000\u00fd\u00fa\u0001\u0000\u0000\u0000\u00fd\u00fb\u0001\u0000"+
-		"\u0000\u0000\u00fd\u00fc\u0001\u0000\u0000\u0000\u00fe\u0005\u0001\u0000"+
-		"\u0000\u0000\u00ff\u0100\u0007\u0000\u0000\u0000\u0100\u0007\u0001\u0000"+
-		"\u0000\u0000\u0101\u0102\u0007\u0001\u0000\u0000\u0102\u010e\u0005\u0002"+
-		"\u0000\u0000\u0103\u010f\u00059\u0000\u0000\u0104\u0106\u00059\u0000\u0000"+
-		"\u0105\u0104\u0001\u0000\u0000\u0000\u0105\u0106\u0001\u0000\u0000\u0000"+
-		"\u0106\u010a\u0001\u0000\u0000\u0000\u0107\u0108\u0003\u0006\u0003\u0000"+
-		"\u0108\u0109\u00059\u0000\u0000\u0109\u010b\u0001\u0000\u0000\u0000\u010a"+
-		"\u0107\u0001\u0000\u0000\u0000\u010b\u010c\u0001\u0000\u0000\u0000\u010c"+
-		"\u010a\u0001\u0000\u0000\u0000\u010c\u010d\u0001\u0000\u0000\u0000\u010d"+
-		"\u010f\u0001\u0000\u0000\u0000\u010e\u0103\u0001\u0000\u0000\u0000\u010e"+
-		"\u0105\u0001\u0000\u0000\u0000\u010f\t\u0001\u0000\u0000\u0000\u0110\u0112"+
-		"\u00059\u0000\u0000\u0111\u0110\u0001\u0000\u0000\u0000\u0112\u0115\u0001"+
-		"\u0000\u0000\u0000\u0113\u0111\u0001\u0000\u0000\u0000\u0113\u0114\u0001"+
-		"\u0000\u0000\u0000\u0114\u0116\u0001\u0000\u0000\u0000\u0115\u0113\u0001"+
-		"\u0000\u0000\u0000\u0116\u011b\u0005*\u0000\u0000\u0117\u011a\u0005;\u0000"+
-		"\u0000\u0118\u011a\u0003\u0014\n\u0000\u0119\u0117\u0001\u0000\u0000\u0000"+
-		"\u0119\u0118\u0001\u0000\u0000\u0000\u011a\u011d\u0001\u0000\u0000\u0000"+
-		"\u011b\u0119\u0001\u0000\u0000\u0000\u011b\u011c\u0001\u0000\u0000\u0000"+
-		"\u011c\u000b\u0001\u0000\u0000\u0000\u011d\u011b\u0001\u0000\u0000\u0000"+
-		"\u011e\u0120\u00059\u0000\u0000\u011f\u011e\u0001\u0000\u0000\u0000\u0120"+
-		"\u0121\u0001\u0000\u0000\u0000\u0121\u011f\u0001\u0000\u0000\u0000\u0121"+
-		"\u0122\u0001\u0000\u0000\u0000\u0122\u0123\u0001\u0000\u0000\u0000\u0123"+
-		"\u0124\u0005\u001d\u0000\u0000\u0124\u0128\u0005;\u0000\u0000\u0125\u0127"+
-		"\u0003\u001c\u000e\u0000\u0126\u0125\u0001\u0000\u0000\u0000\u0127\u012a"+
-		"\u0001\u0000\u0000\u0000\u0128\u0126\u0001\u0000\u0000\u0000\u0128\u0129"+
-		"\u0001\u0000\u0000\u0000\u0129\u012b\u0001\u0000\u0000\u0000\u012a\u0128"+
-		"\u0001\u0000\u0000\u0000\u012b\u012c\u0005+\u0000\u0000\u012c\r\u0001"+
-		"\u0000\u0000\u0000\u012d\u012f\u00059\u0000\u0000\u012e\u012d\u0001\u0000"+
-		"\u0000\u0000\u012f\u0130\u0001\u0000\u0000\u0000\u0130\u012e\u0001\u0000"+
-		"\u0000\u0000\u0130\u0131\u0001\u0000\u0000\u0000\u0131\u0132\u0001\u0000"+
-		"\u0000\u0000\u0132\u0133\u0005\t\u0000\u0000\u0133\u0134\u0005@\u0000"+
-		"\u0000\u0134\u0135\u0005;\u0000\u0000\u0135\u0136\u0005\u0002\u0000\u0000"+
-		"\u0136\u0139\u0005@\u0000\u0000\u0137\u013a\u0005;\u0000\u0000\u0138\u013a"+
-		"\u0003\u0014\n\u0000\u0139\u0137\u0001\u0000\u0000\u0000\u0139\u0138\u0001"+
-		"\u0000\u0000\u0000\u013a\u013e\u0001\u0000\u0000\u0000\u013b\u013d\u0003"+
-		"\u0012\t\u0000\u013c\u013b\u0001\u0000\u0000\u0000\u013d\u0140\u0001\u0000"+
-		"\u0000\u0000\u013e\u013c\u0001\u0000\u0000\u0000\u013e\u013f\u0001\u0000"+
-		"\u0000\u0000\u013f\u000f\u0001\u0000\u0000\u0000\u0140\u013e\u0001\u0000"+
-		"\u0000\u0000\u0141\u0143\u00059\u0000\u0000\u0142\u0141\u0001\u0000\u0000"+
-		"\u0000\u0143\u0144\u0001\u0000\u0000\u0000\u0144\u0142\u0001\u0000\u0000"+
-		"\u0000\u0144\u0145\u0001\u0000\u0000\u0000\u0145\u0146\u0001\u0000\u0000"+
-		"\u0000\u0146\u0147\u0005\t\u0000\u0000\u0147\u0148\u0005@\u0000\u0000"+
-		"\u0148\u0149\u0005\f\u0000\u0000\u0149\u014a\u0005\u0002\u0000\u0000\u014a"+
-		"\u014d\u0005@\u0000\u0000\u014b\u014e\u0005;\u0000\u0000\u014c\u014e\u0003"+
-		"\u0014\n\u0000\u014d\u014b\u0001\u0000\u0000\u0000\u014d\u014c\u0001\u0000"+
-		"\u0000\u0000\u014e\u0152\u0001\u0000\u0000\u0000\u014f\u0151\u0003\u0012"+
-		"\t\u0000\u0150\u014f\u0001\u0000\u0000\u0000\u0151\u0154\u0001\u0000\u0000"+
-		"\u0000\u0152\u0150\u0001\u0000\u0000\u0000\u0152\u0153\u0001\u0000\u0000"+
-		"\u0000\u0153\u0011\u0001\u0000\u0000\u0000\u0154\u0152\u0001\u0000\u0000"+
-		"\u0000\u0155\u0156\u00059\u0000\u0000\u0156\u0157\u0005\n\u0000\u0000"+
-		"\u0157\u0159\u0005;\u0000\u0000\u0158\u015a\u0005;\u0000\u0000\u0159\u0158"+
-		"\u0001\u0000\u0000\u0000\u0159\u015a\u0001\u0000\u0000\u0000\u015a\u015b"+
-		"\u0001\u0000\u0000\u0000\u015b\u015c\u0005\u0002\u0000\u0000\u015c\u015d"+
-		"\u0005@\u0000\u0000\u015d\u015e\u0005,\u0000\u0000\u015e\u015f\u0005@"+
-		"\u0000\u0000\u015f\u0160\u0005-\u0000\u0000\u0160\u0161\u0005@\u0000\u0000"+
-		"\u0161\u0162\u0005<\u0000\u0000\u0162\u0163\u0005.\u0000\u0000\u0163\u0164"+
-		"\u0003P(\u0000\u0164\u0165\u0005\u0003\u0000\u0000\u0165\u0166\u0003P"+
-		"(\u0000\u0166\u0167\u0005/\u0000\u0000\u0167\u0168\u00050\u0000\u0000"+
-		"\u0168\u0169\u0003P(\u0000\u0169\u016a\u0005,\u0000\u0000\u016a\u016b"+
-		"\u0003P(\u0000\u016b\u016c\u00051\u0000\u0000\u016c\u016f\u0005:\u0000"+
-		"\u0000\u016d\u0170\u0005;\u0000\u0000\u016e\u0170\u0003\u0014\n\u0000"+
-		"\u016f\u016d\u0001\u0000\u0000\u0000\u016f\u016e\u0001\u0000\u0000\u0000"+
-		"\u0170\u0178\u0001\u0000\u0000\u0000\u0171\u0174\u0005\u0003\u0000\u0000"+
-		"\u0172\u0175\u0005;\u0000\u0000\u0173\u0175\u0003\u0014\n\u0000\u0174"+
-		"\u0172\u0001\u0000\u0000\u0000\u0174\u0173\u0001\u0000\u0000\u0000\u0175"+
-		"\u0177\u0001\u0000\u0000\u0000\u0176\u0171\u0001\u0000\u0000\u0000\u0177"+
-		"\u017a\u0001\u0000\u0000\u0000\u0178\u0176\u0001\u0000\u0000\u0000\u0178"+
-		"\u0179\u0001\u0000\u0000\u0000\u0179\u0013\u0001\u0000\u0000\u0000\u017a"+
-		"\u0178\u0001\u0000\u0000\u0000\u017b\u017c\u00052\u0000\u0000\u017c\u0015"+
-		"\u0001\u0000\u0000\u0000\u017d\u017f\u00059\u0000\u0000\u017e\u017d\u0001"+
-		"\u0000\u0000\u0000\u017f\u0180\u0001\u0000\u0000\u0000\u0180\u017e\u0001"+
-		"\u0000\u0000\u0000\u0180\u0181\u0001\u0000\u0000\u0000\u0181\u0182\u0001"+
-		"\u0000\u0000\u0000\u0182\u0183\u0005\u001f\u0000\u0000\u0183\u0184\u0005"+
-		"@\u0000\u0000\u0184\u0185\u0005;\u0000\u0000\u0185\u0186\u0005@\u0000"+
-		"\u0000\u0186\u0187\u0005+\u0000\u0000\u0187\u0017\u0001\u0000\u0000\u0000"+
-		"\u0188\u018a\u00059\u0000\u0000\u0189\u0188\u0001\u0000\u0000\u0000\u018a"+
-		"\u018b\u0001\u0000\u0000\u0000\u018b\u0189\u0001\u0000\u0000\u0000\u018b"+
-		"\u018c\u0001\u0000\u0000\u0000\u018c\u018d\u0001\u0000\u0000\u0000\u018d"+
-		"\u018e\u0005!\u0000\u0000\u018e\u018f\u0005@\u0000\u0000\u018f\u0198\u0005"+
-		"\u0002\u0000\u0000\u0190\u0195\u0005;\u0000\u0000\u0191\u0192\u0005\u0003"+
-		"\u0000\u0000\u0192\u0194\u0005;\u0000\u0000\u0193\u0191\u0001\u0000\u0000"+
-		"\u0000\u0194\u0197\u0001\u0000\u0000\u0000\u0195\u0193\u0001\u0000\u0000"+
-		"\u0000\u0195\u0196\u0001\u0000\u0000\u0000\u0196\u0199\u0001\u0000\u0000"+
-		"\u0000\u0197\u0195\u0001\u0000\u0000\u0000\u0198\u0190\u0001\u0000\u0000"+
-		"\u0000\u0198\u0199\u0001\u0000\u0000\u0000\u0199\u019a\u0001\u0000\u0000"+
-		"\u0000\u019a\u019b\u0005+\u0000\u0000\u019b\u0019\u0001\u0000\u0000\u0000"+
-		"\u019c\u019e\u00059\u0000\u0000\u019d\u019c\u0001\u0000\u0000\u0000\u019e"+
-		"\u019f\u0001\u0000\u0000\u0000\u019f\u019d\u0001\u0000\u0000\u0000\u019f"+
-		"\u01a0\u0001\u0000\u0000\u0000\u01a0\u01a1\u0001\u0000\u0000\u0000\u01a1"+
-		"\u01a5\u0005\u0011\u0000\u0000\u01a2\u01a3\u0005@\u0000\u0000\u01a3\u01a6"+
-		"\u0005;\u0000\u0000\u01a4\u01a6\u0005;\u0000\u0000\u01a5\u01a2\u0001\u0000"+
-		"\u0000\u0000\u01a5\u01a4\u0001\u0000\u0000\u0000\u01a6\u01aa\u0001\u0000"+
-		"\u0000\u0000\u01a7\u01a9\u0003\u001c\u000e\u0000\u01a8\u01a7\u0001\u0000"+
-		"\u0000\u0000\u01a9\u01ac\u0001\u0000\u0000\u0000\u01aa\u01a8\u0001\u0000"+
-		"\u0000\u0000\u01aa\u01ab\u0001\u0000\u0000\u0000\u01ab\u01ad\u0001\u0000"+
-		"\u0000\u0000\u01ac\u01aa\u0001\u0000\u0000\u0000\u01ad\u01ae\u0005+\u0000"+
-		"\u0000\u01ae\u001b\u0001\u0000\u0000\u0000\u01af\u01b0\u0003R)\u0000\u01b0"+
-		"\u01b1\u0005:\u0000\u0000\u01b1\u001d\u0001\u0000\u0000\u0000\u01b2\u01b4"+
-		"\u00059\u0000\u0000\u01b3\u01b2\u0001\u0000\u0000\u0000\u01b4\u01b5\u0001"+
-		"\u0000\u0000\u0000\u01b5\u01b3\u0001\u0000\u0000\u0000\u01b5\u01b6\u0001"+
-		"\u0000\u0000\u0000\u01b6\u01b7\u0001\u0000\u0000\u0000\u01b7\u01b8\u0005"+
-		"\u000b\u0000\u0000\u01b8\u01b9\u0005;\u0000\u0000\u01b9\u01ba\u0005\u0002"+
-		"\u0000\u0000\u01ba\u01bb\u0005@\u0000\u0000\u01bb\u01bc\u00050\u0000\u0000"+
-		"\u01bc\u01bd\u0003P(\u0000\u01bd\u01be\u0005,\u0000\u0000\u01be\u01bf"+
-		"\u0003P(\u0000\u01bf\u01c0\u00051\u0000\u0000\u01c0\u01c1\u0005:\u0000"+
-		"\u0000\u01c1\u01c2\u0003P(\u0000\u01c2\u01c3\u0005@\u0000\u0000\u01c3"+
-		"\u01c7\u0005;\u0000\u0000\u01c4\u01c8\u0005;\u0000\u0000\u01c5\u01c8\u0005"+
-		"\r\u0000\u0000\u01c6\u01c8\u0003\u0014\n\u0000\u01c7\u01c4\u0001\u0000"+
-		"\u0000\u0000\u01c7\u01c5\u0001\u0000\u0000\u0000\u01c7\u01c6\u0001\u0000"+
-		"\u0000\u0000\u01c8\u01d1\u0001\u0000\u0000\u0000\u01c9\u01cd\u0005\u0003"+
-		"\u0000\u0000\u01ca\u01ce\u0005;\u0000\u0000\u01cb\u01ce\u0005\r\u0000"+
-		"\u0000\u01cc\u01ce\u0003\u0014\n\u0000\u01cd\u01ca\u0001\u0000\u0000\u0000"+
-		"\u01cd\u01cb\u0001\u0000\u0000\u0000\u01cd\u01cc\u0001\u0000\u0000\u0000"+
-		"\u01ce\u01d0\u0001\u0000\u0000\u0000\u01cf\u01c9\u0001\u0000\u0000\u0000"+
-		"\u01d0\u01d3\u0001\u0000\u0000\u0000\u01d1\u01cf\u0001\u0000\u0000\u0000"+
-		"\u01d1\u01d2\u0001\u0000\u0000\u0000\u01d2\u01d4\u0001\u0000\u0000\u0000"+
-		"\u01d3\u01d1\u0001\u0000\u0000\u0000\u01d4\u01d5\u0005+\u0000\u0000\u01d5"+
-		"\u001f\u0001\u0000\u0000\u0000\u01d6\u01d8\u00059\u0000\u0000\u01d7\u01d6"+
-		"\u0001\u0000\u0000\u0000\u01d8\u01d9\u0001\u0000\u0000\u0000\u01d9\u01d7"+
-		"\u0001\u0000\u0000\u0000\u01d9\u01da\u0001\u0000\u0000\u0000\u01da\u01db"+
-		"\u0001\u0000\u0000\u0000\u01db\u01dc\u0005\u0017\u0000\u0000\u01dc\u01dd"+
-		"\u0005;\u0000\u0000\u01dd\u01de\u0005\u0002\u0000\u0000\u01de\u01df\u0005"+
-		"@\u0000\u0000\u01df\u01e0\u0005+\u0000\u0000\u01e0!\u0001\u0000\u0000"+
-		"\u0000\u01e1\u01e3\u00059\u0000\u0000\u01e2\u01e1\u0001\u0000\u0000\u0000"+
-		"\u01e3\u01e4\u0001\u0000\u0000\u0000\u01e4\u01e2\u0001\u0000\u0000\u0000"+
-		"\u01e4\u01e5\u0001\u0000\u0000\u0000\u01e5\u01e6\u0001\u0000\u0000\u0000"+
-		"\u01e6\u01ea\u0005\u0012\u0000\u0000\u01e7\u01e9\b\u0002\u0000\u0000\u01e8"+
-		"\u01e7\u0001\u0000\u0000\u0000\u01e9\u01ec\u0001\u0000\u0000\u0000\u01ea"+
-		"\u01e8\u0001\u0000\u0000\u0000\u01ea\u01eb\u0001\u0000\u0000\u0000\u01eb"+
-		"#\u0001\u0000\u0000\u0000\u01ec\u01ea\u0001\u0000\u0000\u0000\u01ed\u01ef"+
-		"\u00059\u0000\u0000\u01ee\u01ed\u0001\u0000\u0000\u0000\u01ef\u01f0\u0001"+
-		"\u0000\u0000\u0000\u01f0\u01ee\u0001\u0000\u0000\u0000\u01f0\u01f1\u0001"+
-		"\u0000\u0000\u0000\u01f1\u01f2\u0001\u0000\u0000\u0000\u01f2\u01f6\u0005"+
-		"3\u0000\u0000\u01f3\u01f5\b\u0002\u0000\u0000\u01f4\u01f3\u0001\u0000"+
-		"\u0000\u0000\u01f5\u01f8\u0001\u0000\u0000\u0000\u01f6\u01f4\u0001\u0000"+
-		"\u0000\u0000\u01f6\u01f7\u0001\u0000\u0000\u0000\u01f7%\u0001\u0000\u0000"+
-		"\u0000\u01f8\u01f6\u0001\u0000\u0000\u0000\u01f9\u01fb\u00059\u0000\u0000"+
-		"\u01fa\u01f9\u0001\u0000\u0000\u0000\u01fb\u01fc\u0001\u0000\u0000\u0000"+
-		"\u01fc\u01fa\u0001\u0000\u0000\u0000\u01fc\u01fd\u0001\u0000\u0000\u0000"+
-		"\u01fd\u01fe\u0001\u0000\u0000\u0000\u01fe\u0202\u0005\u0014\u0000\u0000"+
-		"\u01ff\u0201\b\u0002\u0000\u0000\u0200\u01ff\u0001\u0000\u0000\u0000\u0201"+
-		"\u0204\u0001\u0000\u0000\u0000\u0202\u0200\u0001\u0000\u0000\u0000\u0202"+
-		"\u0203\u0001\u0000\u0000\u0000\u0203\'\u0001\u0000\u0000\u0000\u0204\u0202"+
-		"\u0001\u0000\u0000\u0000\u0205\u0207\u00059\u0000\u0000\u0206\u0205\u0001"+
-		"\u0000\u0000\u0000\u0207\u0208\u0001\u0000\u0000\u0000\u0208\u0206\u0001"+
-		"\u0000\u0000\u0000\u0208\u0209\u0001\u0000\u0000\u0000\u0209\u020a\u0001"+
-		"\u0000\u0000\u0000\u020a\u020b\u0005\u0018\u0000\u0000\u020b\u020c\u0005"+
-		";\u0000\u0000\u020c\u020d\u0005\u0002\u0000\u0000\u020d\u020e\u0005@\u0000"+
-		"\u0000\u020e\u020f\u0005-\u0000\u0000\u020f\u0210\u0005@\u0000\u0000\u0210"+
-		"\u0211\u0005<\u0000\u0000\u0211\u0212\u0005.\u0000\u0000\u0212\u0213\u0003"+
-		"P(\u0000\u0213\u0214\u0005\u0003\u0000\u0000\u0214\u0215\u0003P(\u0000"+
-		"\u0215\u0216\u0005/\u0000\u0000\u0216\u0217\u00050\u0000\u0000\u0217\u0218"+
-		"\u0003P(\u0000\u0218\u0219\u0005,\u0000\u0000\u0219\u021a\u0003P(\u0000"+
-		"\u021a\u021b\u00051\u0000\u0000\u021b\u021c\u0005:\u0000\u0000\u021c\u021d"+
-		"\u0003P(\u0000\u021d\u021e\u0005\u0003\u0000\u0000\u021e\u021f\u0005;"+
-		"\u0000\u0000\u021f\u0220\u0005+\u0000\u0000\u0220)\u0001\u0000\u0000\u0000"+
-		"\u0221\u0223\u00059\u0000\u0000\u0222\u0221\u0001\u0000\u0000\u0000\u0223"+
-		"\u0224\u0001\u0000\u0000\u0000\u0224\u0222\u0001\u0000\u0000\u0000\u0224"+
-		"\u0225\u0001\u0000\u0000\u0000\u0225\u0226\u0001\u0000\u0000\u0000\u0226"+
-		"\u0227\u0007\u0003\u0000\u0000\u0227\u0228\u0005@\u0000\u0000\u0228\u0229"+
-		"\u0005;\u0000\u0000\u0229\u022a\u0005\u0002\u0000\u0000\u022a\u022b\u0005"+
-		";\u0000\u0000\u022b\u022c\u0005+\u0000\u0000\u022c+\u0001\u0000\u0000"+
-		"\u0000\u022d\u022f\u00059\u0000\u0000\u022e\u022d\u0001\u0000\u0000\u0000"+
-		"\u022f\u0230\u0001\u0000\u0000\u0000\u0230\u022e\u0001\u0000\u0000\u0000"+
-		"\u0230\u0231\u0001\u0000\u0000\u0000\u0231\u0232\u0001\u0000\u0000\u0000"+
-		"\u0232\u0233\u0005\u001e\u0000\u0000\u0233\u0234\u0005@\u0000\u0000\u0234"+
-		"\u0235\u0005;\u0000\u0000\u0235\u0236\u0005@\u0000\u0000\u0236\u023a\u0005"+
-		"\u0002\u0000\u0000\u0237\u0239\u0005;\u0000\u0000\u0238\u0237\u0001\u0000"+
-		"\u0000\u0000\u0239\u023c\u0001\u0000\u0000\u0000\u023a\u0238\u0001\u0000"+
-		"\u0000\u0000\u023a\u023b\u0001\u0000\u0000\u0000\u023b\u023d\u0001\u0000"+
-		"\u0000\u0000\u023c\u023a\u0001\u0000\u0000\u0000\u023d\u023e\u0005+\u0000"+
-		"\u0000\u023e-\u0001\u0000\u0000\u0000\u023f\u0241\u00059\u0000\u0000\u0240"+
-		"\u023f\u0001\u0000\u0000\u0000\u0241\u0242\u0001\u0000\u0000\u0000\u0242"+
-		"\u0240\u0001\u0000\u0000\u0000\u0242\u0243\u0001\u0000\u0000\u0000\u0243"+
-		"\u0244\u0001\u0000\u0000\u0000\u0244\u024a\u0005\u000e\u0000\u0000\u0245"+
-		"\u024b\u00030\u0018\u0000\u0246\u024b\u00032\u0019\u0000\u0247\u024b\u0003"+
-		"4\u001a\u0000\u0248\u024b\u00036\u001b\u0000\u0249\u024b\u00038\u001c"+
-		"\u0000\u024a\u0245\u0001\u0000\u0000\u0000\u024a\u0246\u0001\u0000\u0000"+
-		"\u0000\u024a\u0247\u0001\u0000\u0000\u0000\u024a\u0248\u0001\u0000\u0000"+
-		"\u0000\u024a\u0249\u0001\u0000\u0000\u0000\u024b\u024c\u0001\u0000\u0000"+
-		"\u0000\u024c\u024d\u0005+\u0000\u0000\u024d/\u0001\u0000\u0000\u0000\u024e"+
-		"\u024f\u0005:\u0000\u0000\u024f1\u0001\u0000\u0000\u0000\u0250\u0251\u0005"+
-		"\b\u0000\u0000\u0251\u0252\u0005;\u0000\u0000\u0252\u0253\u0005:\u0000"+
-		"\u0000\u02533\u0001\u0000\u0000\u0000\u0254\u0255\u0005\t\u0000\u0000"+
-		"\u0255\u0256\u0005@\u0000\u0000\u0256\u0257\u0005:\u0000\u0000\u02575"+
-		"\u0001\u0000\u0000\u0000\u0258\u0259\u0005\n\u0000\u0000\u0259\u025a\u0005"+
-		"@\u0000\u0000\u025a\u025b\u0005;\u0000\u0000\u025b\u025c\u0005:\u0000"+
-		"\u0000\u025c7\u0001\u0000\u0000\u0000\u025d\u025e\u0005\u000b\u0000\u0000"+
-		"\u025e\u025f\u0005;\u0000\u0000\u025f\u0260\u0005:\u0000\u0000\u02609"+
-		"\u0001\u0000\u0000\u0000\u0261\u0263\u00059\u0000\u0000\u0262\u0261\u0001"+
-		"\u0000\u0000\u0000\u0263\u0264\u0001\u0000\u0000\u0000\u0264\u0262\u0001"+
-		"\u0000\u0000\u0000\u0264\u0265\u0001\u0000\u0000\u0000\u0265\u0266\u0001"+
-		"\u0000\u0000\u0000\u0266\u0268\u0005\u000f\u0000\u0000\u0267\u0269\u0007"+
-		"\u0004\u0000\u0000\u0268\u0267\u0001\u0000\u0000\u0000\u0268\u0269\u0001"+
-		"\u0000\u0000\u0000\u0269\u026a\u0001\u0000\u0000\u0000\u026a\u026f\u0005"+
-		":\u0000\u0000\u026b\u0270\u0003<\u001e\u0000\u026c\u0270\u0003>\u001f"+
-		"\u0000\u026d\u0270\u0003@ \u0000\u026e\u0270\u0003B!\u0000\u026f\u026b"+
-		"\u0001\u0000\u0000\u0000\u026f\u026c\u0001\u0000\u0000\u0000\u026f\u026d"+
-		"\u0001\u0000\u0000\u0000\u026f\u026e\u0001\u0000\u0000\u0000\u0270\u0271"+
-		"\u0001\u0000\u0000\u0000\u0271\u0272\u0005+\u0000\u0000\u0272;\u0001\u0000"+
-		"\u0000\u0000\u0273\u0274\u0007\u0005\u0000\u0000\u0274\u0275\u0003R)\u0000"+
-		"\u0275\u0276\u0003R)\u0000\u0276=\u0001\u0000\u0000\u0000\u0277\u0278"+
-		"\u00056\u0000\u0000\u0278\u0279\u0003P(\u0000\u0279\u027a\u0003P(\u0000"+
-		"\u027a?\u0001\u0000\u0000\u0000\u027b\u027c\u00057\u0000\u0000\u027cA"+
-		"\u0001\u0000\u0000\u0000\u027d\u0286\u00058\u0000\u0000\u027e\u0283\u0005"+
-		":\u0000\u0000\u027f\u0280\u0005\u0003\u0000\u0000\u0280\u0282\u0005:\u0000"+
-		"\u0000\u0281\u027f\u0001\u0000\u0000\u0000\u0282\u0285\u0001\u0000\u0000"+
-		"\u0000\u0283\u0281\u0001\u0000\u0000\u0000\u0283\u0284\u0001\u0000\u0000"+
-		"\u0000\u0284\u0287\u0001\u0000\u0000\u0000\u0285\u0283\u0001\u0000\u0000"+
-		"\u0000\u0286\u027e\u0001\u0000\u0000\u0000\u0286\u0287\u0001\u0000\u0000"+
-		"\u0000\u0287C\u0001\u0000\u0000\u0000\u0288\u028a\u00059\u0000\u0000\u0289"+
-		"\u0288\u0001\u0000\u0000\u0000\u028a\u028b\u0001\u0000\u0000\u0000\u028b"+
-		"\u0289\u0001\u0000\u0000\u0000\u028b\u028c\u0001\u0000\u0000\u0000\u028c"+
-		"\u028d\u0001\u0000\u0000\u0000\u028d\u028e\u0005\u0015\u0000\u0000\u028e"+
-		"\u028f\u0005:\u0000\u0000\u028f\u0290\u0003H$\u0000\u0290\u0291\u0005"+
-		"+\u0000\u0000\u0291E\u0001\u0000\u0000\u0000\u0292\u0294\u00059\u0000"+
-		"\u0000\u0293\u0292\u0001\u0000\u0000\u0000\u0294\u0295\u0001\u0000\u0000"+
-		"\u0000\u0295\u0293\u0001\u0000\u0000\u0000\u0295\u0296\u0001\u0000\u0000"+
-		"\u0000\u0296\u0297\u0001\u0000\u0000\u0000\u0297\u0298\u0005\u0010\u0000"+
-		"\u0000\u0298\u02a2\u0005:\u0000\u0000\u0299\u029a\u0005\b\u0000\u0000"+
-		"\u029a\u02a3\u0005;\u0000\u0000\u029b\u029c\u0005\t\u0000\u0000\u029c"+
-		"\u02a3\u0005@\u0000\u0000\u029d\u029e\u0005\n\u0000\u0000\u029e\u029f"+
-		"\u0005@\u0000\u0000\u029f\u02a3\u0005;\u0000\u0000\u02a0\u02a1\u0005\u000b"+
-		"\u0000\u0000\u02a1\u02a3\u0005;\u0000\u0000\u02a2\u0299\u0001\u0000\u0000"+
-		"\u0000\u02a2\u029b\u0001\u0000\u0000\u0000\u02a2\u029d\u0001\u0000\u0000"+
-		"\u0000\u02a2\u02a0\u0001\u0000\u0000\u0000\u02a2\u02a3\u0001\u0000\u0000"+
-		"\u0000\u02a3\u02a4\u0001\u0000\u0000\u0000\u02a4\u02a5\u0003H$\u0000\u02a5"+
-		"\u02a6\u0005+\u0000\u0000\u02a6G\u0001\u0000\u0000\u0000\u02a7\u02aa\u0003"+
-		"P(\u0000\u02a8\u02aa\u0005:\u0000\u0000\u02a9\u02a7\u0001\u0000\u0000"+
-		"\u0000\u02a9\u02a8\u0001\u0000\u0000\u0000\u02aaI\u0001\u0000\u0000\u0000"+
-		"\u02ab\u02ad\u00059\u0000\u0000\u02ac\u02ab\u0001\u0000\u0000\u0000\u02ad"+
-		"\u02ae\u0001\u0000\u0000\u0000\u02ae\u02ac\u0001\u0000\u0000\u0000\u02ae"+
-		"\u02af\u0001\u0000\u0000\u0000\u02af\u02b0\u0001\u0000\u0000\u0000\u02b0"+
-		"\u02b4\u0007\u0006\u0000\u0000\u02b1\u02b3\b\u0002\u0000\u0000\u02b2\u02b1"+
-		"\u0001\u0000\u0000\u0000\u02b3\u02b6\u0001\u0000\u0000\u0000\u02b4\u02b2"+
-		"\u0001\u0000\u0000\u0000\u02b4\u02b5\u0001\u0000\u0000\u0000\u02b5K\u0001"+
-		"\u0000\u0000\u0000\u02b6\u02b4\u0001\u0000\u0000\u0000\u02b7\u02b9\u0005"+
-		"9\u0000\u0000\u02b8\u02b7\u0001\u0000\u0000\u0000\u02b9\u02ba\u0001\u0000"+
-		"\u0000\u0000\u02ba\u02b8\u0001\u0000\u0000\u0000\u02ba\u02bb\u0001\u0000"+
-		"\u0000\u0000\u02bb\u02bc\u0001\u0000\u0000\u0000\u02bc\u02c0\u0005\"\u0000"+
-		"\u0000\u02bd\u02bf\b\u0002\u0000\u0000\u02be\u02bd\u0001\u0000\u0000\u0000"+
-		"\u02bf\u02c2\u0001\u0000\u0000\u0000\u02c0\u02be\u0001\u0000\u0000\u0000"+
-		"\u02c0\u02c1\u0001\u0000\u0000\u0000\u02c1M\u0001\u0000\u0000\u0000\u02c2"+
-		"\u02c0\u0001\u0000\u0000\u0000\u02c3\u02c5\u00059\u0000\u0000\u02c4\u02c3"+
-		"\u0001\u0000\u0000\u0000\u02c5\u02c6\u0001\u0000\u0000\u0000\u02c6\u02c4"+
-		"\u0001\u0000\u0000\u0000\u02c6\u02c7\u0001\u0000\u0000\u0000\u02c7\u02c8"+
-		"\u0001\u0000\u0000\u0000\u02c8\u02c9\u0005(\u0000\u0000\u02c9\u02ca\u0005"+
-		"@\u0000\u0000\u02ca\u02cb\u0005;\u0000\u0000\u02cb\u02d1\u0005;\u0000"+
-		"\u0000\u02cc\u02cd\u0005@\u0000\u0000\u02cd\u02ce\u0005=\u0000\u0000\u02ce"+
-		"\u02d0\u0005@\u0000\u0000\u02cf\u02cc\u0001\u0000\u0000\u0000\u02d0\u02d3"+
-		"\u0001\u0000\u0000\u0000\u02d1\u02cf\u0001\u0000\u0000\u0000\u02d1\u02d2"+
-		"\u0001\u0000\u0000\u0000\u02d2\u02d4\u0001\u0000\u0000\u0000\u02d3\u02d1"+
-		"\u0001\u0000\u0000\u0000\u02d4\u02d5\u0005+\u0000\u0000\u02d5O\u0001\u0000"+
-		"\u0000\u0000\u02d6\u02d9\u0005?\u0000\u0000\u02d7\u02d9\u0003R)\u0000"+
-		"\u02d8\u02d6\u0001\u0000\u0000\u0000\u02d8\u02d7\u0001\u0000\u0000\u0000"+
-		"\u02d9Q\u0001\u0000\u0000\u0000\u02da\u02dc\u0005<\u0000\u0000\u02db\u02da"+
-		"\u0001\u0000\u0000\u0000\u02db\u02dc\u0001\u0000\u0000\u0000\u02dc\u02dd"+
-		"\u0001\u0000\u0000\u0000\u02dd\u02de\u0005@\u0000\u0000\u02deS\u0001\u0000"+
-		"\u0000\u0000YW[`diry~\u0080\u0086\u008c\u0092\u0098\u009e\u00a3\u00a5"+
-		"\u00aa\u00ac\u00b1\u00b3\u00b9\u00bf\u00c5\u00cb\u00d1\u00d7\u00dd\u00e3"+
-		"\u00e9\u00fd\u0105\u010c\u010e\u0113\u0119\u011b\u0121\u0128\u0130\u0139"+
-		"\u013e\u0144\u014d\u0152\u0159\u016f\u0174\u0178\u0180\u018b\u0195\u0198"+
-		"\u019f\u01a5\u01aa\u01b5\u01c7\u01cd\u01d1\u01d9\u01e4\u01ea\u01f0\u01f6"+
-		"\u01fc\u0202\u0208\u0224\u0230\u023a\u0242\u024a\u0264\u0268\u026f\u0283"+
-		"\u0286\u028b\u0295\u02a2\u02a9\u02ae\u02b4\u02ba\u02c0\u02c6\u02d1\u02d8"+
-		"\u02db";
+		"(\u0007(\u0002)\u0007)\u0002*\u0007*\u0002+\u0007+\u0002,\u0007,\u0001"+
+		"\u0000\u0005\u0000\\\b\u0000\n\u0000\f\u0000_\t\u0000\u0001\u0000\u0003"+
+		"\u0000b\b\u0000\u0001\u0000\u0005\u0000e\b\u0000\n\u0000\f\u0000h\t\u0000"+
+		"\u0001\u0000\u0003\u0000k\b\u0000\u0001\u0000\u0005\u0000n\b\u0000\n\u0000"+
+		"\f\u0000q\t\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001"+
+		"\u0000\u0001\u0000\u0003\u0000y\b\u0000\u0001\u0000\u0001\u0000\u0001"+
+		"\u0000\u0005\u0000~\b\u0000\n\u0000\f\u0000\u0081\t\u0000\u0001\u0000"+
+		"\u0001\u0000\u0005\u0000\u0085\b\u0000\n\u0000\f\u0000\u0088\t\u0000\u0001"+
+		"\u0000\u0005\u0000\u008b\b\u0000\n\u0000\f\u0000\u008e\t\u0000\u0001\u0000"+
+		"\u0005\u0000\u0091\b\u0000\n\u0000\f\u0000\u0094\t\u0000\u0001\u0000\u0005"+
+		"\u0000\u0097\b\u0000\n\u0000\f\u0000\u009a\t\u0000\u0001\u0000\u0005\u0000"+
+		"\u009d\b\u0000\n\u0000\f\u0000\u00a0\t\u0000\u0001\u0000\u0005\u0000\u00a3"+
+		"\b\u0000\n\u0000\f\u0000\u00a6\t\u0000\u0001\u0000\u0001\u0000\u0005\u0000"+
+		"\u00aa\b\u0000\n\u0000\f\u0000\u00ad\t\u0000\u0001\u0000\u0001\u0000\u0005"+
+		"\u0000\u00b1\b\u0000\n\u0000\f\u0000\u00b4\t\u0000\u0001\u0000\u0001\u0000"+
+		"\u0005\u0000\u00b8\b\u0000\n\u0000\f\u0000\u00bb\t\u0000\u0001\u0000\u0005"+
+		"\u0000\u00be\b\u0000\n\u0000\f\u0000\u00c1\t\u0000\u0001\u0000\u0005\u0000"+
+		"\u00c4\b\u0000\n\u0000\f\u0000\u00c7\t\u0000\u0001\u0000\u0005\u0000\u00ca"+
+		"\b\u0000\n\u0000\f\u0000\u00cd\t\u0000\u0001\u0000\u0005\u0000\u00d0\b"+
+		"\u0000\n\u0000\f\u0000\u00d3\t\u0000\u0001\u0000\u0005\u0000\u00d6\b\u0000"+
+		"\n\u0000\f\u0000\u00d9\t\u0000\u0001\u0000\u0005\u0000\u00dc\b\u0000\n"+
+		"\u0000\f\u0000\u00df\t\u0000\u0001\u0000\u0005\u0000\u00e2\b\u0000\n\u0000"+
+		"\f\u0000\u00e5\t\u0000\u0001\u0000\u0005\u0000\u00e8\b\u0000\n\u0000\f"+
+		"\u0000\u00eb\t\u0000\u0001\u0000\u0005\u0000\u00ee\b\u0000\n\u0000\f\u0000"+
+		"\u00f1\t\u0000\u0001\u0000\u0001\u0000\u0001\u0001\u0005\u0001\u00f6\b"+
+		"\u0001\n\u0001\f\u0001\u00f9\t\u0001\u0001\u0001\u0003\u0001\u00fc\b\u0001"+
+		"\u0001\u0001\u0005\u0001\u00ff\b\u0001\n\u0001\f\u0001\u0102\t\u0001\u0001"+
+		"\u0001\u0003\u0001\u0105\b\u0001\u0001\u0001\u0005\u0001\u0108\b\u0001"+
+		"\n\u0001\f\u0001\u010b\t\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001"+
+		"\u0001\u0001\u0001\u0001\u0001\u0003\u0001\u0113\b\u0001\u0001\u0001\u0001"+
+		"\u0001\u0001\u0001\u0005\u0001\u0118\b\u0001\n\u0001\f\u0001\u011b\t\u0001"+
+		"\u0001\u0001\u0005\u0001\u011e\b\u0001\n\u0001\f\u0001\u0121\t\u0001\u0001"+
+		"\u0001\u0001\u0001\u0001\u0002\u0005\u0002\u0126\b\u0002\n\u0002\f\u0002"+
+		"\u0129\t\u0002\u0001\u0002\u0005\u0002\u012c\b\u0002\n\u0002\f\u0002\u012f"+
+		"\t\u0002\u0001\u0002\u0001\u0002\u0001\u0003\u0001\u0003\u0001\u0003\u0001"+
+		"\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001"+
+		"\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001"+
+		"\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0003\u0003\u0147"+
+		"\b\u0003\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0005\u0001"+
+		"\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001"+
+		"\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0003\u0005\u0158\b\u0005\u0001"+
+		"\u0006\u0001\u0006\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0003"+
+		"\u0007\u0160\b\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0004\u0007\u0165"+
+		"\b\u0007\u000b\u0007\f\u0007\u0166\u0003\u0007\u0169\b\u0007\u0001\b\u0005"+
+		"\b\u016c\b\b\n\b\f\b\u016f\t\b\u0001\b\u0001\b\u0001\b\u0005\b\u0174\b"+
+		"\b\n\b\f\b\u0177\t\b\u0001\t\u0004\t\u017a\b\t\u000b\t\f\t\u017b\u0001"+
+		"\t\u0001\t\u0001\t\u0005\t\u0181\b\t\n\t\f\t\u0184\t\t\u0001\t\u0001\t"+
+		"\u0001\n\u0004\n\u0189\b\n\u000b\n\f\n\u018a\u0001\n\u0001\n\u0001\n\u0001"+
+		"\n\u0001\n\u0001\n\u0001\n\u0003\n\u0194\b\n\u0001\n\u0005\n\u0197\b\n"+
+		"\n\n\f\n\u019a\t\n\u0001\u000b\u0004\u000b\u019d\b\u000b\u000b\u000b\f"+
+		"\u000b\u019e\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b\u0001\u000b"+
+		"\u0001\u000b\u0001\u000b\u0003\u000b\u01a8\b\u000b\u0001\u000b\u0005\u000b"+
+		"\u01ab\b\u000b\n\u000b\f\u000b\u01ae\t\u000b\u0001\f\u0001\f\u0001\f\u0001"+
+		"\f\u0003\f\u01b4\b\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001"+
+		"\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001"+
+		"\f\u0001\f\u0001\f\u0001\f\u0001\f\u0003\f\u01ca\b\f\u0001\f\u0001\f\u0001"+
+		"\f\u0003\f\u01cf\b\f\u0005\f\u01d1\b\f\n\f\f\f\u01d4\t\f\u0001\r\u0001"+
+		"\r\u0001\u000e\u0004\u000e\u01d9\b\u000e\u000b\u000e\f\u000e\u01da\u0001"+
+		"\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001"+
+		"\u000f\u0004\u000f\u01e4\b\u000f\u000b\u000f\f\u000f\u01e5\u0001\u000f"+
+		"\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0005\u000f"+
+		"\u01ee\b\u000f\n\u000f\f\u000f\u01f1\t\u000f\u0003\u000f\u01f3\b\u000f"+
+		"\u0001\u000f\u0001\u000f\u0001\u0010\u0004\u0010\u01f8\b\u0010\u000b\u0010"+
+		"\f\u0010\u01f9\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0003\u0010"+
+		"\u0200\b\u0010\u0001\u0010\u0005\u0010\u0203\b\u0010\n\u0010\f\u0010\u0206"+
+		"\t\u0010\u0001\u0010\u0001\u0010\u0001\u0011\u0001\u0011\u0001\u0011\u0001"+
+		"\u0012\u0004\u0012\u020e\b\u0012\u000b\u0012\f\u0012\u020f\u0001\u0012"+
+		"\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012"+
+		"\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0012"+
+		"\u0001\u0012\u0001\u0012\u0001\u0012\u0003\u0012\u0222\b\u0012\u0001\u0012"+
+		"\u0001\u0012\u0001\u0012\u0001\u0012\u0003\u0012\u0228\b\u0012\u0005\u0012"+
+		"\u022a\b\u0012\n\u0012\f\u0012\u022d\t\u0012\u0001\u0012\u0001\u0012\u0001"+
+		"\u0013\u0004\u0013\u0232\b\u0013\u000b\u0013\f\u0013\u0233\u0001\u0013"+
+		"\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0013\u0001\u0014"+
+		"\u0004\u0014\u023d\b\u0014\u000b\u0014\f\u0014\u023e\u0001\u0014\u0001"+
+		"\u0014\u0005\u0014\u0243\b\u0014\n\u0014\f\u0014\u0246\t\u0014\u0001\u0015"+
+		"\u0004\u0015\u0249\b\u0015\u000b\u0015\f\u0015\u024a\u0001\u0015\u0001"+
+		"\u0015\u0005\u0015\u024f\b\u0015\n\u0015\f\u0015\u0252\t\u0015\u0001\u0016"+
+		"\u0004\u0016\u0255\b\u0016\u000b\u0016\f\u0016\u0256\u0001\u0016\u0001"+
+		"\u0016\u0005\u0016\u025b\b\u0016\n\u0016\f\u0016\u025e\t\u0016\u0001\u0017"+
+		"\u0004\u0017\u0261\b\u0017\u000b\u0017\f\u0017\u0262\u0001\u0017\u0001"+
+		"\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001"+
+		"\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001"+
+		"\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001"+
+		"\u0017\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0018\u0004\u0018\u027d"+
+		"\b\u0018\u000b\u0018\f\u0018\u027e\u0001\u0018\u0001\u0018\u0001\u0018"+
+		"\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0018\u0001\u0019\u0004\u0019"+
+		"\u0289\b\u0019\u000b\u0019\f\u0019\u028a\u0001\u0019\u0001\u0019\u0001"+
+		"\u0019\u0001\u0019\u0001\u0019\u0001\u0019\u0005\u0019\u0293\b\u0019\n"+
+		"\u0019\f\u0019\u0296\t\u0019\u0001\u0019\u0001\u0019\u0001\u001a\u0004"+
+		"\u001a\u029b\b\u001a\u000b\u001a\f\u001a\u029c\u0001\u001a\u0001\u001a"+
+		"\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001a\u0003\u001a\u02a5\b\u001a"+
+		"\u0001\u001a\u0001\u001a\u0001\u001b\u0001\u001b\u0001\u001c\u0001\u001c"+
+		"\u0001\u001c\u0001\u001c\u0001\u001d\u0001\u001d\u0001\u001d\u0001\u001d"+
+		"\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001f"+
+		"\u0001\u001f\u0001\u001f\u0001\u001f\u0001 \u0004 \u02bd\b \u000b \f "+
+		"\u02be\u0001 \u0001 \u0003 \u02c3\b \u0001 \u0001 \u0001 \u0001 \u0001"+
+		" \u0003 \u02ca\b \u0001 \u0001 \u0001!\u0001!\u0001!\u0001!\u0001\"\u0001"+
+		"\"\u0001\"\u0001\"\u0001#\u0001#\u0001$\u0001$\u0001$\u0001$\u0005$\u02dc"+
+		"\b$\n$\f$\u02df\t$\u0003$\u02e1\b$\u0001%\u0004%\u02e4\b%\u000b%\f%\u02e5"+
+		"\u0001%\u0001%\u0001%\u0001%\u0001%\u0001&\u0004&\u02ee\b&\u000b&\f&\u02ef"+
+		"\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001&\u0001"+
+		"&\u0001&\u0003&\u02fd\b&\u0001&\u0001&\u0001&\u0001\'\u0001\'\u0003\'"+
+		"\u0304\b\'\u0001(\u0004(\u0307\b(\u000b(\f(\u0308\u0001(\u0001(\u0005"+
+		"(\u030d\b(\n(\f(\u0310\t(\u0001)\u0004)\u0313\b)\u000b)\f)\u0314\u0001"+
+		")\u0001)\u0005)\u0319\b)\n)\f)\u031c\t)\u0001*\u0004*\u031f\b*\u000b*"+
+		"\f*\u0320\u0001*\u0001*\u0001*\u0001*\u0001*\u0001*\u0001*\u0005*\u032a"+
+		"\b*\n*\f*\u032d\t*\u0001*\u0001*\u0001+\u0001+\u0003+\u0333\b+\u0001,"+
+		"\u0003,\u0336\b,\u0001,\u0001,\u0001,\u0000\u0000-\u0000\u0002\u0004\u0006"+
+		"\b\n\f\u000e\u0010\u0012\u0014\u0016\u0018\u001a\u001c\u001e \"$&(*,."+
+		"02468:<>@BDFHJLNPRTVX\u0000\u0007\u0002\u0000\u0006\u0006\u000e(\u0002"+
+		"\u0000\u0005\u0005))\u0001\u000199\u0002\u0000\u0018\u0018\u001c\u001c"+
+		"\u0001\u0000\b\u000b\u0001\u000045\u0001\u0000\"\'\u0395\u0000]\u0001"+
+		"\u0000\u0000\u0000\u0002\u00f7\u0001\u0000\u0000\u0000\u0004\u0127\u0001"+
+		"\u0000\u0000\u0000\u0006\u0146\u0001\u0000\u0000\u0000\b\u0148\u0001\u0000"+
+		"\u0000\u0000\n\u0157\u0001\u0000\u0000\u0000\f\u0159\u0001\u0000\u0000"+
+		"\u0000\u000e\u015b\u0001\u0000\u0000\u0000\u0010\u016d\u0001\u0000\u0000"+
+		"\u0000\u0012\u0179\u0001\u0000\u0000\u0000\u0014\u0188\u0001\u0000\u0000"+
+		"\u0000\u0016\u019c\u0001\u0000\u0000\u0000\u0018\u01af\u0001\u0000\u0000"+
+		"\u0000\u001a\u01d5\u0001\u0000\u0000\u0000\u001c\u01d8\u0001\u0000\u0000"+
+		"\u0000\u001e\u01e3\u0001\u0000\u0000\u0000 \u01f7\u0001\u0000\u0000\u0000"+
+		"\"\u0209\u0001\u0000\u0000\u0000$\u020d\u0001\u0000\u0000\u0000&\u0231"+
+		"\u0001\u0000\u0000\u0000(\u023c\u0001\u0000\u0000\u0000*\u0248\u0001\u0000"+
+		"\u0000\u0000,\u0254\u0001\u0000\u0000\u0000.\u0260\u0001\u0000\u0000\u0000"+
+		"0\u027c\u0001\u0000\u0000\u00002\u0288\u0001\u0000\u0000\u00004\u029a"+
+		"\u0001\u0000\u0000\u00006\u02a8\u0001\u0000\u0000\u00008\u02aa\u0001\u0000"+
+		"\u0000\u0000:\u02ae\u0001\u0000\u0000\u0000<\u02b2\u0001\u0000\u0000\u0000"+
+		">\u02b7\u0001\u0000\u0000\u0000@\u02bc\u0001\u0000\u0000\u0000B\u02cd"+
+		"\u0001\u0000\u0000\u0000D\u02d1\u0001\u0000\u0000\u0000F\u02d5\u0001\u0000"+
+		"\u0000\u0000H\u02d7\u0001\u0000\u0000\u0000J\u02e3\u0001\u0000\u0000\u0000"+
+		"L\u02ed\u0001\u0000\u0000\u0000N\u0303\u0001\u0000\u0000\u0000P\u0306"+
+		"\u0001\u0000\u0000\u0000R\u0312\u0001\u0000\u0000\u0000T\u031e\u0001\u0000"+
+		"\u0000\u0000V\u0332\u0001\u0000\u0000\u0000X\u0335\u0001\u0000\u0000\u0000"+
+		"Z\\\u00059\u0000\u0000[Z\u0001\u0000\u0000\u0000\\_\u0001\u0000\u0000"+
+		"\u0000][\u0001\u0000\u0000\u0000]^\u0001\u0000\u0000\u0000^a\u0001\u0000"+
+		"\u0000\u0000_]\u0001\u0000\u0000\u0000`b\u0003\b\u0004\u0000a`\u0001\u0000"+
+		"\u0000\u0000ab\u0001\u0000\u0000\u0000bf\u0001\u0000\u0000\u0000ce\u0005"+
+		"9\u0000\u0000dc\u0001\u0000\u0000\u0000eh\u0001\u0000\u0000\u0000fd\u0001"+
+		"\u0000\u0000\u0000fg\u0001\u0000\u0000\u0000gj\u0001\u0000\u0000\u0000"+
+		"hf\u0001\u0000\u0000\u0000ik\u0003\u000e\u0007\u0000ji\u0001\u0000\u0000"+
+		"\u0000jk\u0001\u0000\u0000\u0000ko\u0001\u0000\u0000\u0000ln\u00059\u0000"+
+		"\u0000ml\u0001\u0000\u0000\u0000nq\u0001\u0000\u0000\u0000om\u0001\u0000"+
+		"\u0000\u0000op\u0001\u0000\u0000\u0000pr\u0001\u0000\u0000\u0000qo\u0001"+
+		"\u0000\u0000\u0000rx\u0005\u0001\u0000\u0000st\u0005@\u0000\u0000tu\u0005"+
+		"\u0002\u0000\u0000uv\u0005@\u0000\u0000vw\u0005\u0003\u0000\u0000wy\u0005"+
+		"@\u0000\u0000xs\u0001\u0000\u0000\u0000xy\u0001\u0000\u0000\u0000yz\u0001"+
+		"\u0000\u0000\u0000z{\u00059\u0000\u0000{\u007f\u0003\u0010\b\u0000|~\u0003"+
+		"\u0012\t\u0000}|\u0001\u0000\u0000\u0000~\u0081\u0001\u0000\u0000\u0000"+
+		"\u007f}\u0001\u0000\u0000\u0000\u007f\u0080\u0001\u0000\u0000\u0000\u0080"+
+		"\u0086\u0001\u0000\u0000\u0000\u0081\u007f\u0001\u0000\u0000\u0000\u0082"+
+		"\u0085\u0003\u0014\n\u0000\u0083\u0085\u0003\u0016\u000b\u0000\u0084\u0082"+
+		"\u0001\u0000\u0000\u0000\u0084\u0083\u0001\u0000\u0000\u0000\u0085\u0088"+
+		"\u0001\u0000\u0000\u0000\u0086\u0084\u0001\u0000\u0000\u0000\u0086\u0087"+
+		"\u0001\u0000\u0000\u0000\u0087\u008c\u0001\u0000\u0000\u0000\u0088\u0086"+
+		"\u0001\u0000\u0000\u0000\u0089\u008b\u0003\u001e\u000f\u0000\u008a\u0089"+
+		"\u0001\u0000\u0000\u0000\u008b\u008e\u0001\u0000\u0000\u0000\u008c\u008a"+
+		"\u0001\u0000\u0000\u0000\u008c\u008d\u0001\u0000\u0000\u0000\u008d\u0092"+
+		"\u0001\u0000\u0000\u0000\u008e\u008c\u0001\u0000\u0000\u0000\u008f\u0091"+
+		"\u0003$\u0012\u0000\u0090\u008f\u0001\u0000\u0000\u0000\u0091\u0094\u0001"+
+		"\u0000\u0000\u0000\u0092\u0090\u0001\u0000\u0000\u0000\u0092\u0093\u0001"+
+		"\u0000\u0000\u0000\u0093\u0098\u0001\u0000\u0000\u0000\u0094\u0092\u0001"+
+		"\u0000\u0000\u0000\u0095\u0097\u0003&\u0013\u0000\u0096\u0095\u0001\u0000"+
+		"\u0000\u0000\u0097\u009a\u0001\u0000\u0000\u0000\u0098\u0096\u0001\u0000"+
+		"\u0000\u0000\u0098\u0099\u0001\u0000\u0000\u0000\u0099\u009e\u0001\u0000"+
+		"\u0000\u0000\u009a\u0098\u0001\u0000\u0000\u0000\u009b\u009d\u0003.\u0017"+
+		"\u0000\u009c\u009b\u0001\u0000\u0000\u0000\u009d\u00a0\u0001\u0000\u0000"+
+		"\u0000\u009e\u009c\u0001\u0000\u0000\u0000\u009e\u009f\u0001\u0000\u0000"+
+		"\u0000\u009f\u00a4\u0001\u0000\u0000\u0000\u00a0\u009e\u0001\u0000\u0000"+
+		"\u0000\u00a1\u00a3\u00034\u001a\u0000\u00a2\u00a1\u0001\u0000\u0000\u0000"+
+		"\u00a3\u00a6\u0001\u0000\u0000\u0000\u00a4\u00a2\u0001\u0000\u0000\u0000"+
+		"\u00a4\u00a5\u0001\u0000\u0000\u0000\u00a5\u00ab\u0001\u0000\u0000\u0000"+
+		"\u00a6\u00a4\u0001\u0000\u0000\u0000\u00a7\u00aa\u0003@ \u0000\u00a8\u00aa"+
+		"\u0003P(\u0000\u00a9\u00a7\u0001\u0000\u0000\u0000\u00a9\u00a8\u0001\u0000"+
+		"\u0000\u0000\u00aa\u00ad\u0001\u0000\u0000\u0000\u00ab\u00a9\u0001\u0000"+
+		"\u0000\u0000\u00ab\u00ac\u0001\u0000\u0000\u0000\u00ac\u00b2\u0001\u0000"+
+		"\u0000\u0000\u00ad\u00ab\u0001\u0000\u0000\u0000\u00ae\u00b1\u0003J%\u0000"+
+		"\u00af\u00b1\u0003P(\u0000\u00b0\u00ae\u0001\u0000\u0000\u0000\u00b0\u00af"+
+		"\u0001\u0000\u0000\u0000\u00b1\u00b4\u0001\u0000\u0000\u0000\u00b2\u00b0"+
+		"\u0001\u0000\u0000\u0000\u00b2\u00b3\u0001\u0000\u0000\u0000\u00b3\u00b9"+
+		"\u0001\u0000\u0000\u0000\u00b4\u00b2\u0001\u0000\u0000\u0000\u00b5\u00b8"+
+		"\u0003L&\u0000\u00b6\u00b8\u0003P(\u0000\u00b7\u00b5\u0001\u0000\u0000"+
+		"\u0000\u00b7\u00b6\u0001\u0000\u0000\u0000\u00b8\u00bb\u0001\u0000\u0000"+
+		"\u0000\u00b9\u00b7\u0001\u0000\u0000\u0000\u00b9\u00ba\u0001\u0000\u0000"+
+		"\u0000\u00ba\u00bf\u0001\u0000\u0000\u0000\u00bb\u00b9\u0001\u0000\u0000"+
+		"\u0000\u00bc\u00be\u0003 \u0010\u0000\u00bd\u00bc\u0001\u0000\u0000\u0000"+
+		"\u00be\u00c1\u0001\u0000\u0000\u0000\u00bf\u00bd\u0001\u0000\u0000\u0000"+
+		"\u00bf\u00c0\u0001\u0000\u0000\u0000\u00c0\u00c5\u0001\u0000\u0000\u0000"+
+		"\u00c1\u00bf\u0001\u0000\u0000\u0000\u00c2\u00c4\u0003(\u0014\u0000\u00c3"+
+		"\u00c2\u0001\u0000\u0000\u0000\u00c4\u00c7\u0001\u0000\u0000\u0000\u00c5"+
+		"\u00c3\u0001\u0000\u0000\u0000\u00c5\u00c6\u0001\u0000\u0000\u0000\u00c6"+
+		"\u00cb\u0001\u0000\u0000\u0000\u00c7\u00c5\u0001\u0000\u0000\u0000\u00c8"+
+		"\u00ca\u0003*\u0015\u0000\u00c9\u00c8\u0001\u0000\u0000\u0000\u00ca\u00cd"+
+		"\u0001\u0000\u0000\u0000\u00cb\u00c9\u0001\u0000\u0000\u0000\u00cb\u00cc"+
+		"\u0001\u0000\u0000\u0000\u00cc\u00d1\u0001\u0000\u0000\u0000\u00cd\u00cb"+
+		"\u0001\u0000\u0000\u0000\u00ce\u00d0\u0003,\u0016\u0000\u00cf\u00ce\u0001"+
+		"\u0000\u0000\u0000\u00d0\u00d3\u0001\u0000\u0000\u0000\u00d1\u00cf\u0001"+
+		"\u0000\u0000\u0000\u00d1\u00d2\u0001\u0000\u0000\u0000\u00d2\u00d7\u0001"+
+		"\u0000\u0000\u0000\u00d3\u00d1\u0001\u0000\u0000\u0000\u00d4\u00d6\u0003"+
+		"0\u0018\u0000\u00d5\u00d4\u0001\u0000\u0000\u0000\u00d6\u00d9\u0001\u0000"+
+		"\u0000\u0000\u00d7\u00d5\u0001\u0000\u0000\u0000\u00d7\u00d8\u0001\u0000"+
+		"\u0000\u0000\u00d8\u00dd\u0001\u0000\u0000\u0000\u00d9\u00d7\u0001\u0000"+
+		"\u0000\u0000\u00da\u00dc\u00032\u0019\u0000\u00db\u00da\u0001\u0000\u0000"+
+		"\u0000\u00dc\u00df\u0001\u0000\u0000\u0000\u00dd\u00db\u0001\u0000\u0000"+
+		"\u0000\u00dd\u00de\u0001\u0000\u0000\u0000\u00de\u00e3\u0001\u0000\u0000"+
+		"\u0000\u00df\u00dd\u0001\u0000\u0000\u0000\u00e0\u00e2\u0003\u001c\u000e"+
+		"\u0000\u00e1\u00e0\u0001\u0000\u0000\u0000\u00e2\u00e5\u0001\u0000\u0000"+
+		"\u0000\u00e3\u00e1\u0001\u0000\u0000\u0000\u00e3\u00e4\u0001\u0000\u0000"+
+		"\u0000\u00e4\u00e9\u0001\u0000\u0000\u0000\u00e5\u00e3\u0001\u0000\u0000"+
+		"\u0000\u00e6\u00e8\u0003T*\u0000\u00e7\u00e6\u0001\u0000\u0000\u0000\u00e8"+
+		"\u00eb\u0001\u0000\u0000\u0000\u00e9\u00e7\u0001\u0000\u0000\u0000\u00e9"+
+		"\u00ea\u0001\u0000\u0000\u0000\u00ea\u00ef\u0001\u0000\u0000\u0000\u00eb"+
+		"\u00e9\u0001\u0000\u0000\u0000\u00ec\u00ee\u00059\u0000\u0000\u00ed\u00ec"+
+		"\u0001\u0000\u0000\u0000\u00ee\u00f1\u0001\u0000\u0000\u0000\u00ef\u00ed"+
+		"\u0001\u0000\u0000\u0000\u00ef\u00f0\u0001\u0000\u0000\u0000\u00f0\u00f2"+
+		"\u0001\u0000\u0000\u0000\u00f1\u00ef\u0001\u0000\u0000\u0000\u00f2\u00f3"+
+		"\u0005\u0000\u0000\u0001\u00f3\u0001\u0001\u0000\u0000\u0000\u00f4\u00f6"+
+		"\u00059\u0000\u0000\u00f5\u00f4\u0001\u0000\u0000\u0000\u00f6\u00f9\u0001"+
+		"\u0000\u0000\u0000\u00f7\u00f5\u0001\u0000\u0000\u0000\u00f7\u00f8\u0001"+
+		"\u0000\u0000\u0000\u00f8\u00fb\u0001\u0000\u0000\u0000\u00f9\u00f7\u0001"+
+		"\u0000\u0000\u0000\u00fa\u00fc\u0003\b\u0004\u0000\u00fb\u00fa\u0001\u0000"+
+		"\u0000\u0000\u00fb\u00fc\u0001\u0000\u0000\u0000\u00fc\u0100\u0001\u0000"+
+		"\u0000\u0000\u00fd\u00ff\u00059\u0000\u0000\u00fe\u00fd\u0001\u0000\u0000"+
+		"\u0000\u00ff\u0102\u0001\u0000\u0000\u0000\u0100\u00fe\u0001\u0000\u0000"+
+		"\u0000\u0100\u0101\u0001\u0000\u0000\u0000\u0101\u0104\u0001\u0000\u0000"+
+		"\u0000\u0102\u0100\u0001\u0000\u0000\u0000\u0103\u0105\u0003\u000e\u0007"+
+		"\u0000\u0104\u0103\u0001\u0000\u0000\u0000\u0104\u0105\u0001\u0000\u0000"+
+		"\u0000\u0105\u0109\u0001\u0000\u0000\u0000\u0106\u0108\u00059\u0000\u0000"+
+		"\u0107\u0106\u0001\u0000\u0000\u0000\u0108\u010b\u0001\u0000\u0000\u0000"+
+		"\u0109\u0107\u0001\u0000\u0000\u0000\u0109\u010a\u0001\u0000\u0000\u0000"+
+		"\u010a\u010c\u0001\u0000\u0000\u0000\u010b\u0109\u0001\u0000\u0000\u0000"+
+		"\u010c\u0112\u0005\u0001\u0000\u0000\u010d\u010e\u0005@\u0000\u0000\u010e"+
+		"\u010f\u0005\u0002\u0000\u0000\u010f\u0110\u0005@\u0000\u0000\u0110\u0111"+
+		"\u0005\u0003\u0000\u0000\u0111\u0113\u0005@\u0000\u0000\u0112\u010d\u0001"+
+		"\u0000\u0000\u0000\u0112\u0113\u0001\u0000\u0000\u0000\u0113\u0114\u0001"+
+		"\u0000\u0000\u0000\u0114\u0115\u00059\u0000\u0000\u0115\u0119\u0003\u0010"+
+		"\b\u0000\u0116\u0118\u0003\u0006\u0003\u0000\u0117\u0116\u0001\u0000\u0000"+
+		"\u0000\u0118\u011b\u0001\u0000\u0000\u0000\u0119\u0117\u0001\u0000\u0000"+
+		"\u0000\u0119\u011a\u0001\u0000\u0000\u0000\u011a\u011f\u0001\u0000\u0000"+
+		"\u0000\u011b\u0119\u0001\u0000\u0000\u0000\u011c\u011e\u00059\u0000\u0000"+
+		"\u011d\u011c\u0001\u0000\u0000\u0000\u011e\u0121\u0001\u0000\u0000\u0000"+
+		"\u011f\u011d\u0001\u0000\u0000\u0000\u011f\u0120\u0001\u0000\u0000\u0000"+
+		"\u0120\u0122\u0001\u0000\u0000\u0000\u0121\u011f\u0001\u0000\u0000\u0000"+
+		"\u0122\u0123\u0005\u0000\u0000\u0001\u0123\u0003\u0001\u0000\u0000\u0000"+
+		"\u0124\u0126\u0003\u0006\u0003\u0000\u0125\u0124\u0001\u0000\u0000\u0000"+
+		"\u0126\u0129\u0001\u0000\u0000\u0000\u0127\u0125\u0001\u0000\u0000\u0000"+
+		"\u0127\u0128\u0001\u0000\u0000\u0000\u0128\u012d\u0001\u0000\u0000\u0000"+
+		"\u0129\u0127\u0001\u0000\u0000\u0000\u012a\u012c\u00059\u0000\u0000\u012b"+
+		"\u012a\u0001\u0000\u0000\u0000\u012c\u012f\u0001\u0000\u0000\u0000\u012d"+
+		"\u012b\u0001\u0000\u0000\u0000\u012d\u012e\u0001\u0000\u0000\u0000\u012e"+
+		"\u0130\u0001\u0000\u0000\u0000\u012f\u012d\u0001\u0000\u0000\u0000\u0130"+
+		"\u0131\u0005\u0000\u0000\u0001\u0131\u0005\u0001\u0000\u0000\u0000\u0132"+
+		"\u0147\u0003\u0012\t\u0000\u0133\u0147\u0003\u0014\n\u0000\u0134\u0147"+
+		"\u0003\u0016\u000b\u0000\u0135\u0147\u0003\u001e\u000f\u0000\u0136\u0147"+
+		"\u0003$\u0012\u0000\u0137\u0147\u0003&\u0013\u0000\u0138\u0147\u0003."+
+		"\u0017\u0000\u0139\u0147\u00034\u001a\u0000\u013a\u0147\u0003@ \u0000"+
+		"\u013b\u0147\u0003J%\u0000\u013c\u0147\u0003L&\u0000\u013d\u0147\u0003"+
+		"P(\u0000\u013e\u0147\u0003 \u0010\u0000\u013f\u0147\u0003(\u0014\u0000"+
+		"\u0140\u0147\u0003*\u0015\u0000\u0141\u0147\u0003,\u0016\u0000\u0142\u0147"+
+		"\u00030\u0018\u0000\u0143\u0147\u00032\u0019\u0000\u0144\u0147\u0003\u001c"+
+		"\u000e\u0000\u0145\u0147\u0003T*\u0000\u0146\u0132\u0001\u0000\u0000\u0000"+
+		"\u0146\u0133\u0001\u0000\u0000\u0000\u0146\u0134\u0001\u0000\u0000\u0000"+
+		"\u0146\u0135\u0001\u0000\u0000\u0000\u0146\u0136\u0001\u0000\u0000\u0000"+
+		"\u0146\u0137\u0001\u0000\u0000\u0000\u0146\u0138\u0001\u0000\u0000\u0000"+
+		"\u0146\u0139\u0001\u0000\u0000\u0000\u0146\u013a\u0001\u0000\u0000\u0000"+
+		"\u0146\u013b\u0001\u0000\u0000\u0000\u0146\u013c\u0001\u0000\u0000\u0000"+
+		"\u0146\u013d\u0001\u0000\u0000\u0000\u0146\u013e\u0001\u0000\u0000\u0000"+
+		"\u0146\u013f\u0001\u0000\u0000\u0000\u0146\u0140\u0001\u0000\u0000\u0000"+
+		"\u0146\u0141\u0001\u0000\u0000\u0000\u0146\u0142\u0001\u0000\u0000\u0000"+
+		"\u0146\u0143\u0001\u0000\u0000\u0000\u0146\u0144\u0001\u0000\u0000\u0000"+
+		"\u0146\u0145\u0001\u0000\u0000\u0000\u0147\u0007\u0001\u0000\u0000\u0000"+
+		"\u0148\u0149\u0005\u0004\u0000\u0000\u0149\u014a\u0005:\u0000\u0000\u014a"+
+		"\u014b\u00059\u0000\u0000\u014b\t\u0001\u0000\u0000\u0000\u014c\u0158"+
+		"\u0005\u0004\u0000\u0000\u014d\u0158\u0005\u0005\u0000\u0000\u014e\u0158"+
+		"\u0005\u0006\u0000\u0000\u014f\u0158\u0003\f\u0006\u0000\u0150\u0158\u0005"+
+		"\u0007\u0000\u0000\u0151\u0158\u0005\b\u0000\u0000\u0152\u0158\u0005\t"+
+		"\u0000\u0000\u0153\u0158\u0005\n\u0000\u0000\u0154\u0158\u0005\u000b\u0000"+
+		"\u0000\u0155\u0158\u0005\f\u0000\u0000\u0156\u0158\u0005\r\u0000\u0000"+
+		"\u0157\u014c\u0001\u0000\u0000\u0000\u0157\u014d\u0001\u0000\u0000\u0000"+
+		"\u0157\u014e\u0001\u0000\u0000\u0000\u0157\u014f\u0001\u0000\u0000\u0000"+
+		"\u0157\u0150\u0001\u0000\u0000\u0000\u0157\u0151\u0001\u0000\u0000\u0000"+
+		"\u0157\u0152\u0001\u0000\u0000\u0000\u0157\u0153\u0001\u0000\u0000\u0000"+
+		"\u0157\u0154\u0001\u0000\u0000\u0000\u0157\u0155\u0001\u0000\u0000\u0000"+
+		"\u0157\u0156\u0001\u0000\u0000\u0000\u0158\u000b\u0001\u0000\u0000\u0000"+
+		"\u0159\u015a\u0007\u0000\u0000\u0000\u015a\r\u0001\u0000\u0000\u0000\u015b"+
+		"\u015c\u0007\u0001\u0000\u0000\u015c\u0168\u0005\u0002\u0000\u0000\u015d"+
+		"\u0169\u00059\u0000\u0000\u015e\u0160\u00059\u0000\u0000\u015f\u015e\u0001"+
+		"\u0000\u0000\u0000\u015f\u0160\u0001\u0000\u0000\u0000\u0160\u0164\u0001"+
+		"\u0000\u0000\u0000\u0161\u0162\u0003\f\u0006\u0000\u0162\u0163\u00059"+
+		"\u0000\u0000\u0163\u0165\u0001\u0000\u0000\u0000\u0164\u0161\u0001\u0000"+
+		"\u0000\u0000\u0165\u0166\u0001\u0000\u0000\u0000\u0166\u0164\u0001\u0000"+
+		"\u0000\u0000\u0166\u0167\u0001\u0000\u0000\u0000\u0167\u0169\u0001\u0000"+
+		"\u0000\u0000\u0168\u015d\u0001\u0000\u0000\u0000\u0168\u015f\u0001\u0000"+
+		"\u0000\u0000\u0169\u000f\u0001\u0000\u0000\u0000\u016a\u016c\u00059\u0000"+
+		"\u0000\u016b\u016a\u0001\u0000\u0000\u0000\u016c\u016f\u0001\u0000\u0000"+
+		"\u0000\u016d\u016b\u0001\u0000\u0000\u0000\u016d\u016e\u0001\u0000\u0000"+
+		"\u0000\u016e\u0170\u0001\u0000\u0000\u0000\u016f\u016d\u0001\u0000\u0000"+
+		"\u0000\u0170\u0175\u0005*\u0000\u0000\u0171\u0174\u0005;\u0000\u0000\u0172"+
+		"\u0174\u0003\u001a\r\u0000\u0173\u0171\u0001\u0000\u0000\u0000\u0173\u0172"+
+		"\u0001\u0000\u0000\u0000\u0174\u0177\u0001\u0000\u0000\u0000\u0175\u0173"+
+		"\u0001\u0000\u0000\u0000\u0175\u0176\u0001\u0000\u0000\u0000\u0176\u0011"+
+		"\u0001\u0000\u0000\u0000\u0177\u0175\u0001\u0000\u0000\u0000\u0178\u017a"+
+		"\u00059\u0000\u0000\u0179\u0178\u0001\u0000\u0000\u0000\u017a\u017b\u0001"+
+		"\u0000\u0000\u0000\u017b\u0179\u0001\u0000\u0000\u0000\u017b\u017c\u0001"+
+		"\u0000\u0000\u0000\u017c\u017d\u0001\u0000\u0000\u0000\u017d\u017e\u0005"+
+		"\u001d\u0000\u0000\u017e\u0182\u0005;\u0000\u0000\u017f\u0181\u0003\""+
+		"\u0011\u0000\u0180\u017f\u0001\u0000\u0000\u0000\u0181\u0184\u0001\u0000"+
+		"\u0000\u0000\u0182\u0180\u0001\u0000\u0000\u0000\u0182\u0183\u0001\u0000"+
+		"\u0000\u0000\u0183\u0185\u0001\u0000\u0000\u0000\u0184\u0182\u0001\u0000"+
+		"\u0000\u0000\u0185\u0186\u0005+\u0000\u0000\u0186\u0013\u0001\u0000\u0000"+
+		"\u0000\u0187\u0189\u00059\u0000\u0000\u0188\u0187\u0001\u0000\u0000\u0000"+
+		"\u0189\u018a\u0001\u0000\u0000\u0000\u018a\u0188\u0001\u0000\u0000\u0000"+
+		"\u018a\u018b\u0001\u0000\u0000\u0000\u018b\u018c\u0001\u0000\u0000\u0000"+
+		"\u018c\u018d\u0005\t\u0000\u0000\u018d\u018e\u0005@\u0000\u0000\u018e"+
+		"\u018f\u0005;\u0000\u0000\u018f\u0190\u0005\u0002\u0000\u0000\u0190\u0193"+
+		"\u0005@\u0000\u0000\u0191\u0194\u0005;\u0000\u0000\u0192\u0194\u0003\u001a"+
+		"\r\u0000\u0193\u0191\u0001\u0000\u0000\u0000\u0193\u0192\u0001\u0000\u0000"+
+		"\u0000\u0194\u0198\u0001\u0000\u0000\u0000\u0195\u0197\u0003\u0018\f\u0000"+
+		"\u0196\u0195\u0001\u0000\u0000\u0000\u0197\u019a\u0001\u0000\u0000\u0000"+
+		"\u0198\u0196\u0001\u0000\u0000\u0000\u0198\u0199\u0001\u0000\u0000\u0000"+
+		"\u0199\u0015\u0001\u0000\u0000\u0000\u019a\u0198\u0001\u0000\u0000\u0000"+
+		"\u019b\u019d\u00059\u0000\u0000\u019c\u019b\u0001\u0000\u0000\u0000\u019d"+
+		"\u019e\u0001\u0000\u0000\u0000\u019e\u019c\u0001\u0000\u0000\u0000\u019e"+
+		"\u019f\u0001\u0000\u0000\u0000\u019f\u01a0\u0001\u0000\u0000\u0000\u01a0"+
+		"\u01a1\u0005\t\u0000\u0000\u01a1\u01a2\u0005@\u0000\u0000\u01a2\u01a3"+
+		"\u0005\f\u0000\u0000\u01a3\u01a4\u0005\u0002\u0000\u0000\u01a4\u01a7\u0005"+
+		"@\u0000\u0000\u01a5\u01a8\u0005;\u0000\u0000\u01a6\u01a8\u0003\u001a\r"+
+		"\u0000\u01a7\u01a5\u0001\u0000\u0000\u0000\u01a7\u01a6\u0001\u0000\u0000"+
+		"\u0000\u01a8\u01ac\u0001\u0000\u0000\u0000\u01a9\u01ab\u0003\u0018\f\u0000"+
+		"\u01aa\u01a9\u0001\u0000\u0000\u0000\u01ab\u01ae\u0001\u0000\u0000\u0000"+
+		"\u01ac\u01aa\u0001\u0000\u0000\u0000\u01ac\u01ad\u0001\u0000\u0000\u0000"+
+		"\u01ad\u0017\u0001\u0000\u0000\u0000\u01ae\u01ac\u0001\u0000\u0000\u0000"+
+		"\u01af\u01b0\u00059\u0000\u0000\u01b0\u01b1\u0005\n\u0000\u0000\u01b1"+
+		"\u01b3\u0005;\u0000\u0000\u01b2\u01b4\u0005;\u0000\u0000\u01b3\u01b2\u0001"+
+		"\u0000\u0000\u0000\u01b3\u01b4\u0001\u0000\u0000\u0000\u01b4\u01b5\u0001"+
+		"\u0000\u0000\u0000\u01b5\u01b6\u0005\u0002\u0000\u0000\u01b6\u01b7\u0005"+
+		"@\u0000\u0000\u01b7\u01b8\u0005,\u0000\u0000\u01b8\u01b9\u0005@\u0000"+
+		"\u0000\u01b9\u01ba\u0005-\u0000\u0000\u01ba\u01bb\u0005@\u0000\u0000\u01bb"+
+		"\u01bc\u0005<\u0000\u0000\u01bc\u01bd\u0005.\u0000\u0000\u01bd\u01be\u0003"+
+		"V+\u0000\u01be\u01bf\u0005\u0003\u0000\u0000\u01bf\u01c0\u0003V+\u0000"+
+		"\u01c0\u01c1\u0005/\u0000\u0000\u01c1\u01c2\u00050\u0000\u0000\u01c2\u01c3"+
+		"\u0003V+\u0000\u01c3\u01c4\u0005,\u0000\u0000\u01c4\u01c5\u0003V+\u0000"+
+		"\u01c5\u01c6\u00051\u0000\u0000\u01c6\u01c9\u0005:\u0000\u0000\u01c7\u01ca"+
+		"\u0005;\u0000\u0000\u01c8\u01ca\u0003\u001a\r\u0000\u01c9\u01c7\u0001"+
+		"\u0000\u0000\u0000\u01c9\u01c8\u0001\u0000\u0000\u0000\u01ca\u01d2\u0001"+
+		"\u0000\u0000\u0000\u01cb\u01ce\u0005\u0003\u0000\u0000\u01cc\u01cf\u0005"+
+		";\u0000\u0000\u01cd\u01cf\u0003\u001a\r\u0000\u01ce\u01cc\u0001\u0000"+
+		"\u0000\u0000\u01ce\u01cd\u0001\u0000\u0000\u0000\u01cf\u01d1\u0001\u0000"+
+		"\u0000\u0000\u01d0\u01cb\u0001\u0000\u0000\u0000\u01d1\u01d4\u0001\u0000"+
+		"\u0000\u0000\u01d2\u01d0\u0001\u0000\u0000\u0000\u01d2\u01d3\u0001\u0000"+
+		"\u0000\u0000\u01d3\u0019\u0001\u0000\u0000\u0000\u01d4\u01d2\u0001\u0000"+
+		"\u0000\u0000\u01d5\u01d6\u00052\u0000\u0000\u01d6\u001b\u0001\u0000\u0000"+
+		"\u0000\u01d7\u01d9\u00059\u0000\u0000\u01d8\u01d7\u0001\u0000\u0000\u0000"+
+		"\u01d9\u01da\u0001\u0000\u0000\u0000\u01da\u01d8\u0001\u0000\u0000\u0000"+
+		"\u01da\u01db\u0001\u0000\u0000\u0000\u01db\u01dc\u0001\u0000\u0000\u0000"+
+		"\u01dc\u01dd\u0005\u001f\u0000\u0000\u01dd\u01de\u0005@\u0000\u0000\u01de"+
+		"\u01df\u0005;\u0000\u0000\u01df\u01e0\u0005@\u0000\u0000\u01e0\u01e1\u0005"+
+		"+\u0000\u0000\u01e1\u001d\u0001\u0000\u0000\u0000\u01e2\u01e4\u00059\u0000"+
+		"\u0000\u01e3\u01e2\u0001\u0000\u0000\u0000\u01e4\u01e5\u0001\u0000\u0000"+
+		"\u0000\u01e5\u01e3\u0001\u0000\u0000\u0000\u01e5\u01e6\u0001\u0000\u0000"+
+		"\u0000\u01e6\u01e7\u0001\u0000\u0000\u0000\u01e7\u01e8\u0005!\u0000\u0000"+
+		"\u01e8\u01e9\u0005@\u0000\u0000\u01e9\u01f2\u0005\u0002\u0000\u0000\u01ea"+
+		"\u01ef\u0005;\u0000\u0000\u01eb\u01ec\u0005\u0003\u0000\u0000\u01ec\u01ee"+
+		"\u0005;\u0000\u0000\u01ed\u01eb\u0001\u0000\u0000\u0000\u01ee\u01f1\u0001"+
+		"\u0000\u0000\u0000\u01ef\u01ed\u0001\u0000\u0000\u0000\u01ef\u01f0\u0001"+
+		"\u0000\u0000\u0000\u01f0\u01f3\u0001\u0000\u0000\u0000\u01f1\u01ef\u0001"+
+		"\u0000\u0000\u0000\u01f2\u01ea\u0001\u0000\u0000\u0000\u01f2\u01f3\u0001"+
+		"\u0000\u0000\u0000\u01f3\u01f4\u0001\u0000\u0000\u0000\u01f4\u01f5\u0005"+
+		"+\u0000\u0000\u01f5\u001f\u0001\u0000\u0000\u0000\u01f6\u01f8\u00059\u0000"+
+		"\u0000\u01f7\u01f6\u0001\u0000\u0000\u0000\u01f8\u01f9\u0001\u0000\u0000"+
+		"\u0000\u01f9\u01f7\u0001\u0000\u0000\u0000\u01f9\u01fa\u0001\u0000\u0000"+
+		"\u0000\u01fa\u01fb\u0001\u0000\u0000\u0000\u01fb\u01ff\u0005\u0011\u0000"+
+		"\u0000\u01fc\u01fd\u0005@\u0000\u0000\u01fd\u0200\u0005;\u0000\u0000\u01fe"+
+		"\u0200\u0005;\u0000\u0000\u01ff\u01fc\u0001\u0000\u0000\u0000\u01ff\u01fe"+
+		"\u0001\u0000\u0000\u0000\u0200\u0204\u0001\u0000\u0000\u0000\u0201\u0203"+
+		"\u0003\"\u0011\u0000\u0202\u0201\u0001\u0000\u0000\u0000\u0203\u0206\u0001"+
+		"\u0000\u0000\u0000\u0204\u0202\u0001\u0000\u0000\u0000\u0204\u0205\u0001"+
+		"\u0000\u0000\u0000\u0205\u0207\u0001\u0000\u0000\u0000\u0206\u0204\u0001"+
+		"\u0000\u0000\u0000\u0207\u0208\u0005+\u0000\u0000\u0208!\u0001\u0000\u0000"+
+		"\u0000\u0209\u020a\u0003X,\u0000\u020a\u020b\u0005:\u0000\u0000\u020b"+
+		"#\u0001\u0000\u0000\u0000\u020c\u020e\u00059\u0000\u0000\u020d\u020c\u0001"+
+		"\u0000\u0000\u0000\u020e\u020f\u0001\u0000\u0000\u0000\u020f\u020d\u0001"+
+		"\u0000\u0000\u0000\u020f\u0210\u0001\u0000\u0000\u0000\u0210\u0211\u0001"+
+		"\u0000\u0000\u0000\u0211\u0212\u0005\u000b\u0000\u0000\u0212\u0213\u0005"+
+		";\u0000\u0000\u0213\u0214\u0005\u0002\u0000\u0000\u0214\u0215\u0005@\u0000"+
+		"\u0000\u0215\u0216\u00050\u0000\u0000\u0216\u0217\u0003V+\u0000\u0217"+
+		"\u0218\u0005,\u0000\u0000\u0218\u0219\u0003V+\u0000\u0219\u021a\u0005"+
+		"1\u0000\u0000\u021a\u021b\u0005:\u0000\u0000\u021b\u021c\u0003V+\u0000"+
+		"\u021c\u021d\u0005@\u0000\u0000\u021d\u0221\u0005;\u0000\u0000\u021e\u0222"+
+		"\u0005;\u0000\u0000\u021f\u0222\u0005\r\u0000\u0000\u0220\u0222\u0003"+
+		"\u001a\r\u0000\u0221\u021e\u0001\u0000\u0000\u0000\u0221\u021f\u0001\u0000"+
+		"\u0000\u0000\u0221\u0220\u0001\u0000\u0000\u0000\u0222\u022b\u0001\u0000"+
+		"\u0000\u0000\u0223\u0227\u0005\u0003\u0000\u0000\u0224\u0228\u0005;\u0000"+
+		"\u0000\u0225\u0228\u0005\r\u0000\u0000\u0226\u0228\u0003\u001a\r\u0000"+
+		"\u0227\u0224\u0001\u0000\u0000\u0000\u0227\u0225\u0001\u0000\u0000\u0000"+
+		"\u0227\u0226\u0001\u0000\u0000\u0000\u0228\u022a\u0001\u0000\u0000\u0000"+
+		"\u0229\u0223\u0001\u0000\u0000\u0000\u022a\u022d\u0001\u0000\u0000\u0000"+
+		"\u022b\u0229\u0001\u0000\u0000\u0000\u022b\u022c\u0001\u0000\u0000\u0000"+
+		"\u022c\u022e\u0001\u0000\u0000\u0000\u022d\u022b\u0001\u0000\u0000\u0000"+
+		"\u022e\u022f\u0005+\u0000\u0000\u022f%\u0001\u0000\u0000\u0000\u0230\u0232"+
+		"\u00059\u0000\u0000\u0231\u0230\u0001\u0000\u0000\u0000\u0232\u0233\u0001"+
+		"\u0000\u0000\u0000\u0233\u0231\u0001\u0000\u0000\u0000\u0233\u0234\u0001"+
+		"\u0000\u0000\u0000\u0234\u0235\u0001\u0000\u0000\u0000\u0235\u0236\u0005"+
+		"\u0017\u0000\u0000\u0236\u0237\u0005;\u0000\u0000\u0237\u0238\u0005\u0002"+
+		"\u0000\u0000\u0238\u0239\u0005@\u0000\u0000\u0239\u023a\u0005+\u0000\u0000"+
+		"\u023a\'\u0001\u0000\u0000\u0000\u023b\u023d\u00059\u0000\u0000\u023c"+
+		"\u023b\u0001\u0000\u0000\u0000\u023d\u023e\u0001\u0000\u0000\u0000\u023e"+
+		"\u023c\u0001\u0000\u0000\u0000\u023e\u023f\u0001\u0000\u0000\u0000\u023f"+
+		"\u0240\u0001\u0000\u0000\u0000\u0240\u0244\u0005\u0012\u0000\u0000\u0241"+
+		"\u0243\b\u0002\u0000\u0000\u0242\u0241\u0001\u0000\u0000\u0000\u0243\u0246"+
+		"\u0001\u0000\u0000\u0000\u0244\u0242\u0001\u0000\u0000\u0000\u0244\u0245"+
+		"\u0001\u0000\u0000\u0000\u0245)\u0001\u0000\u0000\u0000\u0246\u0244\u0001"+
+		"\u0000\u0000\u0000\u0247\u0249\u00059\u0000\u0000\u0248\u0247\u0001\u0000"+
+		"\u0000\u0000\u0249\u024a\u0001\u0000\u0000\u0000\u024a\u0248\u0001\u0000"+
+		"\u0000\u0000\u024a\u024b\u0001\u0000\u0000\u0000\u024b\u024c\u0001\u0000"+
+		"\u0000\u0000\u024c\u0250\u00053\u0000\u0000\u024d\u024f\b\u0002\u0000"+
+		"\u0000\u024e\u024d\u0001\u0000\u0000\u0000\u024f\u0252\u0001\u0000\u0000"+
+		"\u0000\u0250\u024e\u0001\u0000\u0000\u0000\u0250\u0251\u0001\u0000\u0000"+
+		"\u0000\u0251+\u0001\u0000\u0000\u0000\u0252\u0250\u0001\u0000\u0000\u0000"+
+		"\u0253\u0255\u00059\u0000\u0000\u0254\u0253\u0001\u0000\u0000\u0000\u0255"+
+		"\u0256\u0001\u0000\u0000\u0000\u0256\u0254\u0001\u0000\u0000\u0000\u0256"+
+		"\u0257\u0001\u0000\u0000\u0000\u0257\u0258\u0001\u0000\u0000\u0000\u0258"+
+		"\u025c\u0005\u0014\u0000\u0000\u0259\u025b\b\u0002\u0000\u0000\u025a\u0259"+
+		"\u0001\u0000\u0000\u0000\u025b\u025e\u0001\u0000\u0000\u0000\u025c\u025a"+
+		"\u0001\u0000\u0000\u0000\u025c\u025d\u0001\u0000\u0000\u0000\u025d-\u0001"+
+		"\u0000\u0000\u0000\u025e\u025c\u0001\u0000\u0000\u0000\u025f\u0261\u0005"+
+		"9\u0000\u0000\u0260\u025f\u0001\u0000\u0000\u0000\u0261\u0262\u0001\u0000"+
+		"\u0000\u0000\u0262\u0260\u0001\u0000\u0000\u0000\u0262\u0263\u0001\u0000"+
+		"\u0000\u0000\u0263\u0264\u0001\u0000\u0000\u0000\u0264\u0265\u0005\u0018"+
+		"\u0000\u0000\u0265\u0266\u0005;\u0000\u0000\u0266\u0267\u0005\u0002\u0000"+
+		"\u0000\u0267\u0268\u0005@\u0000\u0000\u0268\u0269\u0005-\u0000\u0000\u0269"+
+		"\u026a\u0005@\u0000\u0000\u026a\u026b\u0005<\u0000\u0000\u026b\u026c\u0005"+
+		".\u0000\u0000\u026c\u026d\u0003V+\u0000\u026d\u026e\u0005\u0003\u0000"+
+		"\u0000\u026e\u026f\u0003V+\u0000\u026f\u0270\u0005/\u0000\u0000\u0270"+
+		"\u0271\u00050\u0000\u0000\u0271\u0272\u0003V+\u0000\u0272\u0273\u0005"+
+		",\u0000\u0000\u0273\u0274\u0003V+\u0000\u0274\u0275\u00051\u0000\u0000"+
+		"\u0275\u0276\u0005:\u0000\u0000\u0276\u0277\u0003V+\u0000\u0277\u0278"+
+		"\u0005\u0003\u0000\u0000\u0278\u0279\u0005;\u0000\u0000\u0279\u027a\u0005"+
+		"+\u0000\u0000\u027a/\u0001\u0000\u0000\u0000\u027b\u027d\u00059\u0000"+
+		"\u0000\u027c\u027b\u0001\u0000\u0000\u0000\u027d\u027e\u0001\u0000\u0000"+
+		"\u0000\u027e\u027c\u0001\u0000\u0000\u0000\u027e\u027f\u0001\u0000\u0000"+
+		"\u0000\u027f\u0280\u0001\u0000\u0000\u0000\u0280\u0281\u0007\u0003\u0000"+
+		"\u0000\u0281\u0282\u0005@\u0000\u0000\u0282\u0283\u0005;\u0000\u0000\u0283"+
+		"\u0284\u0005\u0002\u0000\u0000\u0284\u0285\u0005;\u0000\u0000\u0285\u0286"+
+		"\u0005+\u0000\u0000\u02861\u0001\u0000\u0000\u0000\u0287\u0289\u00059"+
+		"\u0000\u0000\u0288\u0287\u0001\u0000\u0000\u0000\u0289\u028a\u0001\u0000"+
+		"\u0000\u0000\u028a\u0288\u0001\u0000\u0000\u0000\u028a\u028b\u0001\u0000"+
+		"\u0000\u0000\u028b\u028c\u0001\u0000\u0000\u0000\u028c\u028d\u0005\u001e"+
+		"\u0000\u0000\u028d\u028e\u0005@\u0000\u0000\u028e\u028f\u0005;\u0000\u0000"+
+		"\u028f\u0290\u0005@\u0000\u0000\u0290\u0294\u0005\u0002\u0000\u0000\u0291"+
+		"\u0293\u0005;\u0000\u0000\u0292\u0291\u0001\u0000\u0000\u0000\u0293\u0296"+
+		"\u0001\u0000\u0000\u0000\u0294\u0292\u0001\u0000\u0000\u0000\u0294\u0295"+
+		"\u0001\u0000\u0000\u0000\u0295\u0297\u0001\u0000\u0000\u0000\u0296\u0294"+
+		"\u0001\u0000\u0000\u0000\u0297\u0298\u0005+\u0000\u0000\u02983\u0001\u0000"+
+		"\u0000\u0000\u0299\u029b\u00059\u0000\u0000\u029a\u0299\u0001\u0000\u0000"+
+		"\u0000\u029b\u029c\u0001\u0000\u0000\u0000\u029c\u029a\u0001\u0000\u0000"+
+		"\u0000\u029c\u029d\u0001\u0000\u0000\u0000\u029d\u029e\u0001\u0000\u0000"+
+		"\u0000\u029e\u02a4\u0005\u000e\u0000\u0000\u029f\u02a5\u00036\u001b\u0000"+
+		"\u02a0\u02a5\u00038\u001c\u0000\u02a1\u02a5\u0003:\u001d\u0000\u02a2\u02a5"+
+		"\u0003<\u001e\u0000\u02a3\u02a5\u0003>\u001f\u0000\u02a4\u029f\u0001\u0000"+
+		"\u0000\u0000\u02a4\u02a0\u0001\u0000\u0000\u0000\u02a4\u02a1\u0001\u0000"+
+		"\u0000\u0000\u02a4\u02a2\u0001\u0000\u0000\u0000\u02a4\u02a3\u0001\u0000"+
+		"\u0000\u0000\u02a5\u02a6\u0001\u0000\u0000\u0000\u02a6\u02a7\u0005+\u0000"+
+		"\u0000\u02a75\u0001\u0000\u0000\u0000\u02a8\u02a9\u0005:\u0000\u0000\u02a9"+
+		"7\u0001\u0000\u0000\u0000\u02aa\u02ab\u0005\b\u0000\u0000\u02ab\u02ac"+
+		"\u0005;\u0000\u0000\u02ac\u02ad\u0005:\u0000\u0000\u02ad9\u0001\u0000"+
+		"\u0000\u0000\u02ae\u02af\u0005\t\u0000\u0000\u02af\u02b0\u0005@\u0000"+
+		"\u0000\u02b0\u02b1\u0005:\u0000\u0000\u02b1;\u0001\u0000\u0000\u0000\u02b2"+
+		"\u02b3\u0005\n\u0000\u0000\u02b3\u02b4\u0005@\u0000\u0000\u02b4\u02b5"+
+		"\u0005;\u0000\u0000\u02b5\u02b6\u0005:\u0000\u0000\u02b6=\u0001\u0000"+
+		"\u0000\u0000\u02b7\u02b8\u0005\u000b\u0000\u0000\u02b8\u02b9\u0005;\u0000"+
+		"\u0000\u02b9\u02ba\u0005:\u0000\u0000\u02ba?\u0001\u0000\u0000\u0000\u02bb"+
+		"\u02bd\u00059\u0000\u0000\u02bc\u02bb\u0001\u0000\u0000\u0000\u02bd\u02be"+
+		"\u0001\u0000\u0000\u0000\u02be\u02bc\u0001\u0000\u0000\u0000\u02be\u02bf"+
+		"\u0001\u0000\u0000\u0000\u02bf\u02c0\u0001\u0000\u0000\u0000\u02c0\u02c2"+
+		"\u0005\u000f\u0000\u0000\u02c1\u02c3\u0007\u0004\u0000\u0000\u02c2\u02c1"+
+		"\u0001\u0000\u0000\u0000\u02c2\u02c3\u0001\u0000\u0000\u0000\u02c3\u02c4"+
+		"\u0001\u0000\u0000\u0000\u02c4\u02c9\u0005:\u0000\u0000\u02c5\u02ca\u0003"+
+		"B!\u0000\u02c6\u02ca\u0003D\"\u0000\u02c7\u02ca\u0003F#\u0000\u02c8\u02ca"+
+		"\u0003H$\u0000\u02c9\u02c5\u0001\u0000\u0000\u0000\u02c9\u02c6\u0001\u0000"+
+		"\u0000\u0000\u02c9\u02c7\u0001\u0000\u0000\u0000\u02c9\u02c8\u0001\u0000"+
+		"\u0000\u0000\u02ca\u02cb\u0001\u0000\u0000\u0000\u02cb\u02cc\u0005+\u0000"+
+		"\u0000\u02ccA\u0001\u0000\u0000\u0000\u02cd\u02ce\u0007\u0005\u0000\u0000"+
+		"\u02ce\u02cf\u0003X,\u0000\u02cf\u02d0\u0003X,\u0000\u02d0C\u0001\u0000"+
+		"\u0000\u0000\u02d1\u02d2\u00056\u0000\u0000\u02d2\u02d3\u0003V+\u0000"+
+		"\u02d3\u02d4\u0003V+\u0000\u02d4E\u0001\u0000\u0000\u0000\u02d5\u02d6"+
+		"\u00057\u0000\u0000\u02d6G\u0001\u0000\u0000\u0000\u02d7\u02e0\u00058"+
+		"\u0000\u0000\u02d8\u02dd\u0005:\u0000\u0000\u02d9\u02da\u0005\u0003\u0000"+
+		"\u0000\u02da\u02dc\u0005:\u0000\u0000\u02db\u02d9\u0001\u0000\u0000\u0000"+
+		"\u02dc\u02df\u0001\u0000\u0000\u0000\u02dd\u02db\u0001\u0000\u0000\u0000"+
+		"\u02dd\u02de\u0001\u0000\u0000\u0000\u02de\u02e1\u0001\u0000\u0000\u0000"+
+		"\u02df\u02dd\u0001\u0000\u0000\u0000\u02e0\u02d8\u0001\u0000\u0000\u0000"+
+		"\u02e0\u02e1\u0001\u0000\u0000\u0000\u02e1I\u0001\u0000\u0000\u0000\u02e2"+
+		"\u02e4\u00059\u0000\u0000\u02e3\u02e2\u0001\u0000\u0000\u0000\u02e4\u02e5"+
+		"\u0001\u0000\u0000\u0000\u02e5\u02e3\u0001\u0000\u0000\u0000\u02e5\u02e6"+
+		"\u0001\u0000\u0000\u0000\u02e6\u02e7\u0001\u0000\u0000\u0000\u02e7\u02e8"+
+		"\u0005\u0015\u0000\u0000\u02e8\u02e9\u0005:\u0000\u0000\u02e9\u02ea\u0003"+
+		"N\'\u0000\u02ea\u02eb\u0005+\u0000\u0000\u02ebK\u0001\u0000\u0000\u0000"+
+		"\u02ec\u02ee\u00059\u0000\u0000\u02ed\u02ec\u0001\u0000\u0000\u0000\u02ee"+
+		"\u02ef\u0001\u0000\u0000\u0000\u02ef\u02ed\u0001\u0000\u0000\u0000\u02ef"+
+		"\u02f0\u0001\u0000\u0000\u0000\u02f0\u02f1\u0001\u0000\u0000\u0000\u02f1"+
+		"\u02f2\u0005\u0010\u0000\u0000\u02f2\u02fc\u0005:\u0000\u0000\u02f3\u02f4"+
+		"\u0005\b\u0000\u0000\u02f4\u02fd\u0005;\u0000\u0000\u02f5\u02f6\u0005"+
+		"\t\u0000\u0000\u02f6\u02fd\u0005@\u0000\u0000\u02f7\u02f8\u0005\n\u0000"+
+		"\u0000\u02f8\u02f9\u0005@\u0000\u0000\u02f9\u02fd\u0005;\u0000\u0000\u02fa"+
+		"\u02fb\u0005\u000b\u0000\u0000\u02fb\u02fd\u0005;\u0000\u0000\u02fc\u02f3"+
+		"\u0001\u0000\u0000\u0000\u02fc\u02f5\u0001\u0000\u0000\u0000\u02fc\u02f7"+
+		"\u0001\u0000\u0000\u0000\u02fc\u02fa\u0001\u0000\u0000\u0000\u02fc\u02fd"+
+		"\u0001\u0000\u0000\u0000\u02fd\u02fe\u0001\u0000\u0000\u0000\u02fe\u02ff"+
+		"\u0003N\'\u0000\u02ff\u0300\u0005+\u0000\u0000\u0300M\u0001\u0000\u0000"+
+		"\u0000\u0301\u0304\u0003V+\u0000\u0302\u0304\u0005:\u0000\u0000\u0303"+
+		"\u0301\u0001\u0000\u0000\u0000\u0303\u0302\u0001\u0000\u0000\u0000\u0304"+
+		"O\u0001\u0000\u0000\u0000\u0305\u0307\u00059\u0000\u0000\u0306\u0305\u0001"+
+		"\u0000\u0000\u0000\u0307\u0308\u0001\u0000\u0000\u0000\u0308\u0306\u0001"+
+		"\u0000\u0000\u0000\u0308\u0309\u0001\u0000\u0000\u0000\u0309\u030a\u0001"+
+		"\u0000\u0000\u0000\u030a\u030e\u0007\u0006\u0000\u0000\u030b\u030d\b\u0002"+
+		"\u0000\u0000\u030c\u030b\u0001\u0000\u0000\u0000\u030d\u0310\u0001\u0000"+
+		"\u0000\u0000\u030e\u030c\u0001\u0000\u0000\u0000\u030e\u030f\u0001\u0000"+
+		"\u0000\u0000\u030fQ\u0001\u0000\u0000\u0000\u0310\u030e\u0001\u0000\u0000"+
+		"\u0000\u0311\u0313\u00059\u0000\u0000\u0312\u0311\u0001\u0000\u0000\u0000"+
+		"\u0313\u0314\u0001\u0000\u0000\u0000\u0314\u0312\u0001\u0000\u0000\u0000"+
+		"\u0314\u0315\u0001\u0000\u0000\u0000\u0315\u0316\u0001\u0000\u0000\u0000"+
+		"\u0316\u031a\u0005\"\u0000\u0000\u0317\u0319\b\u0002\u0000\u0000\u0318"+
+		"\u0317\u0001\u0000\u0000\u0000\u0319\u031c\u0001\u0000\u0000\u0000\u031a"+
+		"\u0318\u0001\u0000\u0000\u0000\u031a\u031b\u0001\u0000\u0000\u0000\u031b"+
+		"S\u0001\u0000\u0000\u0000\u031c\u031a\u0001\u0000\u0000\u0000\u031d\u031f"+
+		"\u00059\u0000\u0000\u031e\u031d\u0001\u0000\u0000\u0000\u031f\u0320\u0001"+
+		"\u0000\u0000\u0000\u0320\u031e\u0001\u0000\u0000\u0000\u0320\u0321\u0001"+
+		"\u0000\u0000\u0000\u0321\u0322\u0001\u0000\u0000\u0000\u0322\u0323\u0005"+
+		"(\u0000\u0000\u0323\u0324\u0005@\u0000\u0000\u0324\u0325\u0005;\u0000"+
+		"\u0000\u0325\u032b\u0005;\u0000\u0000\u0326\u0327\u0005@\u0000\u0000\u0327"+
+		"\u0328\u0005=\u0000\u0000\u0328\u032a\u0005@\u0000\u0000\u0329\u0326\u0001"+
+		"\u0000\u0000\u0000\u032a\u032d\u0001\u0000\u0000\u0000\u032b\u0329\u0001"+
+		"\u0000\u0000\u0000\u032b\u032c\u0001\u0000\u0000\u0000\u032c\u032e\u0001"+
+		"\u0000\u0000\u0000\u032d\u032b\u0001\u0000\u0000\u0000\u032e\u032f\u0005"+
+		"+\u0000\u0000\u032fU\u0001\u0000\u0000\u0000\u0330\u0333\u0005?\u0000"+
+		"\u0000\u0331\u0333\u0003X,\u0000\u0332\u0330\u0001\u0000\u0000\u0000\u0332"+
+		"\u0331\u0001\u0000\u0000\u0000\u0333W\u0001\u0000\u0000\u0000\u0334\u0336"+
+		"\u0005<\u0000\u0000\u0335\u0334\u0001\u0000\u0000\u0000\u0335\u0336\u0001"+
+		"\u0000\u0000\u0000\u0336\u0337\u0001\u0000\u0000\u0000\u0337\u0338\u0005"+
+		"@\u0000\u0000\u0338Y\u0001\u0000\u0000\u0000d]afjox\u007f\u0084\u0086"+
+		"\u008c\u0092\u0098\u009e\u00a4\u00a9\u00ab\u00b0\u00b2\u00b7\u00b9\u00bf"+
+		"\u00c5\u00cb\u00d1\u00d7\u00dd\u00e3\u00e9\u00ef\u00f7\u00fb\u0100\u0104"+
+		"\u0109\u0112\u0119\u011f\u0127\u012d\u0146\u0157\u015f\u0166\u0168\u016d"+
+		"\u0173\u0175\u017b\u0182\u018a\u0193\u0198\u019e\u01a7\u01ac\u01b3\u01c9"+
+		"\u01ce\u01d2\u01da\u01e5\u01ef\u01f2\u01f9\u01ff\u0204\u020f\u0221\u0227"+
+		"\u022b\u0233\u023e\u0244\u024a\u0250\u0256\u025c\u0262\u027e\u028a\u0294"+
+		"\u029c\u02a4\u02be\u02c2\u02c9\u02dd\u02e0\u02e5\u02ef\u02fc\u0303\u0308"+
+		"\u030e\u0314\u031a\u0320\u032b\u0332\u0335";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
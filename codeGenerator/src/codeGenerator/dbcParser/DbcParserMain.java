@@ -20,15 +20,33 @@
  */
 /* Interface of class DbcParserMain
  *   DbcParserMain
+ *   createLexer
+ *   readFile
+ *   openCharStream
+ *   splitText
+ *   parsePart
+ *   joinParts
+ *   parseConcurrently
+ *   runParser
+ *   reportProfile
+ *   reportUncaughtException
  *   parse
+ *   parseStreaming
  */
 
 package codeGenerator.dbcParser;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.io.*;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.charset.*;
+import java.nio.file.*;
 
 import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.*;
 import org.apache.log4j.*;
 
@@ -42,25 +60,182 @@ public class DbcParserMain
     private ParseErrorListener parseErrListener_ = null;
 
     /** The lexer that knows our grammar. */
-    private DbcLexer lexer_ = null;
+    private Lexer lexer_ = null;
 
-    /** The last recent parse result can be found here. */
-    private ParseTree parseTree_ = null;
+    /** If true then the hand-coded lexer {@link FastDbcLexer} is used instead of the
+        lexer, which is generated from the grammar. */
+    private final boolean isFastLexer_;
+
+    /** If true then the grammar decisions are profiled and the costliest decisions are
+        reported after each parsed file. */
+    private final boolean isProfiling_;
+
+    /** The number of grammar decisions, which are reported in profiling mode. */
+    private static final int _noReportedDecisions = 10;
+
+    /** The number of threads, which parse the parts of a single file concurrently. If one
+        then the files are parsed sequentially. */
+    private final int noFileParseThreads_;
+
+    /** The minimum number of characters of a part of a file, which is parsed
+        concurrently. Smaller files are parsed sequentially. */
+    private static final int _minPartSize = 64*1024;
+
+    /** The number of parts per thread, which a large file is split into. Several parts
+        per thread balance the load of the threads. */
+    private static final int _noPartsPerThread = 4;
+
+    /** The keywords, which begin a top level statement of a DBC file after the node
+        definition. A file may be split at the beginning of a line, which starts with one
+        of these keywords. */
+    private static final Set<String> _statementKeywordSet = new HashSet<>(Arrays.asList
+        ( "VAL_TABLE_", "BO_", "BO_TX_BU_", "EV_", "ENVVAR_DATA_", "SGTYPE_", "CM_"
+        , "BA_DEF_", "BA_DEF_DEF_", "BA_", "BA_DEF_REL_", "BA_REL_", "BA_DEF_DEF_REL_"
+        , "BU_SG_REL_", "BU_EV_REL_", "BU_BO_REL_", "VAL_", "CAT_DEF_", "CAT", "FILTER"
+        , "SIG_TYPE_REF_", "SIG_GROUP_", "SIG_VALTYPE_", "SG_MUL_VAL_"
+        ));
+
+    /** A part of a file, which is parsed concurrently with the other parts. */
+    private static class Part
+    {
+        /** The index of the first character of the part in the text of the file. */
+        int start;
+
+        /** The index of the first character after the part. */
+        int end;
+
+        /** The line and the position in the line of the first character of the part. The
+            tokens of the part report their location in the file. */
+        int line, charPositionInLine;
+    }
+
+    /**
+     * The listener, which is notified by the parser in streaming mode. Whenever the parser
+     * has completed a statement of the DBC file, i.e., a direct child of the root rule
+     * dbc, the listener walks the statement with the semantic checks and the data model
+     * listener and removes it from the parse tree. The parse tree never holds more than
+     * the statement, which is currently parsed.
+     */
+    private static class StreamingListener implements ParseTreeListener
+    {
+        /** The walker, which emits the events of a completed statement. */
+        private final ParseTreeWalker walker_ = new ParseTreeWalker();
+
+        /** The semantic checks. They get all events. */
+        private final SemanticCheckListener semanticCheckListener_;
+
+        /** The listener, which shapes the data model. It gets the events only as long as
+            neither the parser nor the semantic checks have found an error. */
+        private final ParseTreeListener modelListener_;
+
+        /** The problems found by parser and semantic checks are counted in this object. */
+        private final ErrorCounter errCntParse_;
+
+        StreamingListener( SemanticCheckListener semanticCheckListener
+                         , ParseTreeListener modelListener
+                         , ErrorCounter errCntParse
+                         )
+        {
+            semanticCheckListener_ = semanticCheckListener;
+            modelListener_ = modelListener;
+            errCntParse_ = errCntParse;
+        }
+
+        /** Get the listeners, which the next event is forwarded to. */
+        private ParseTreeListener[] getListenerAry()
+        {
+            if(errCntParse_.getNoErrors() == 0)
+                return new ParseTreeListener[] {semanticCheckListener_, modelListener_};
+            else
+                return new ParseTreeListener[] {semanticCheckListener_};
+        }
+
+        @Override public void enterEveryRule(ParserRuleContext ctx)
+        {
+            /* The root context is entered before any of its children have been parsed. All
+               other contexts are walked, when they are complete. */
+            if(ctx instanceof DbcParser.DbcContext)
+            {
+                for(ParseTreeListener l: getListenerAry())
+                {
+                    l.enterEveryRule(ctx);
+                    ctx.enterRule(l);
+                }
+            }
+        }
+
+        @Override public void exitEveryRule(ParserRuleContext ctx)
+        {
+            if(ctx instanceof DbcParser.DbcContext)
+            {
+                for(ParseTreeListener l: getListenerAry())
+                {
+                    ctx.exitRule(l);
+                    l.exitEveryRule(ctx);
+                }
+            }
+            else if(ctx.getParent() instanceof DbcParser.DbcContext)
+            {
+                /* The checks of the statement need to be complete before it is decided
+                   whether the data model listener still gets it. */
+                walker_.walk(semanticCheckListener_, ctx);
+                if(errCntParse_.getNoErrors() == 0)
+                    walker_.walk(modelListener_, ctx);
+                ctx.getParent().removeLastChild();
+            }
+        }
+
+        @Override public void visitTerminal(TerminalNode node)
+        {
+            if(node.getParent() instanceof DbcParser.DbcContext)
+            {
+                for(ParseTreeListener l: getListenerAry())
+                    l.visitTerminal(node);
+                ((DbcParser.DbcContext)node.getParent()).removeLastChild();
+            }
+        }
+
+        @Override public void visitErrorNode(ErrorNode node)
+        {
+            if(node.getParent() instanceof DbcParser.DbcContext)
+            {
+                for(ParseTreeListener l: getListenerAry())
+                    l.visitErrorNode(node);
+                ((DbcParser.DbcContext)node.getParent()).removeLastChild();
+            }
+        }
+    } /* End of class StreamingListener */
 
 
     /**
      * Create a new parser wrapper.
      *   This parser can be reused for multiple files to be parsed. Just re-run its main
      * method #parse.
+     *   @param isProfiling
+     * If true then the parser runs in diagnostic mode: The prediction of all grammar
+     * decisions is profiled and the costliest decisions are reported at log level INFO
+     * after each parsed file. Parsing becomes significantly slower.
+     *   @param noFileParseThreads
+     * The number of threads, which parse the parts of a single, large file concurrently,
+     * see {@link #parse(String, Charset, ErrorCounter)}. Pass one to parse all files
+     * sequentially. Files are always parsed sequentially in profiling mode.
+     *   @param isFastLexer
+     * If true then the files are tokenized by the hand-coded lexer {@link FastDbcLexer}
+     * instead of the lexer, which is generated from the grammar. Both lexers produce the
+     * same tokens.
      */
-    public DbcParserMain()
+    public DbcParserMain(boolean isProfiling, int noFileParseThreads, boolean isFastLexer)
     {
+        isProfiling_ = isProfiling;
+        noFileParseThreads_ = noFileParseThreads;
+        isFastLexer_ = isFastLexer;
+
         /* Get an error listener for the parsing process. This listener integrates the parser
            in our application by redirecting the antlr output into our logging. */
         parseErrListener_ = new ParseErrorListener(/* errCnt */ null);
 
         /* Create a lexer that knows our grammar. */
-        lexer_ = new DbcLexer(null);
+        lexer_ = createLexer(/* input */ null);
 
         /* Install listener for error reporting. */
         lexer_.removeErrorListeners();
@@ -70,46 +245,692 @@ public class DbcParserMain
 
 
 
+    /**
+     * Create a new parser wrapper, which parses the files sequentially with the generated
+     * lexer and which doesn't profile the grammar decisions.
+     *   This parser can be reused for multiple files to be parsed. Just re-run its main
+     * method #parse.
+     */
+    public DbcParserMain()
+    {
+        this(/* isProfiling */ false, /* noFileParseThreads */ 1, /* isFastLexer */ false);
+
+    } /* End of DbcParserMain */
+
+
+
+    /**
+     * Create a lexer for the grammar of DBC files. It is either the generated or the
+     * hand-coded lexer, depending on the configuration of this parser.
+     *   @return Get the new lexer. It still has the default error listener.
+     *   @param input
+     * The character stream to tokenize or null if it is set later.
+     */
+    private Lexer createLexer(CharStream input)
+    {
+        if(isFastLexer_)
+            return new FastDbcLexer(input);
+        else
+            return new DbcLexer(input);
+
+    } /* End of DbcParserMain.createLexer */
+
+
+
+    /**
+     * Read the text of a DBC file.<p>
+     *   The file is read through a channel into a single buffer and decoded in one step.
+     * The file is not mapped into memory; a mapping is not released before the buffer is
+     * garbage collected and would keep the file locked on Windows, e.g., while the job
+     * server runs. Byte sequences, which are not valid in the character set, are replaced
+     * by the Unicode replacement character.
+     *   @return Get the text of the file. The position of the buffer is zero.
+     *   @throws IOException
+     * The file can't be read.
+     *   @param dbcFileName
+     * The name of the file to be parsed.
+     *   @param charset
+     * The character set of the file.
+     */
+    private static CharBuffer readFile(String dbcFileName, Charset charset)
+        throws IOException
+    {
+        final FileChannel channel = FileChannel.open( Paths.get(dbcFileName)
+                                                    , StandardOpenOption.READ
+                                                    );
+        try
+        {
+            final long size = channel.size();
+            if(size > Integer.MAX_VALUE)
+                throw new IOException("File " + dbcFileName + " is too large");
+            final ByteBuffer byteBuf = ByteBuffer.allocate((int)size);
+            while(byteBuf.hasRemaining()  &&  channel.read(byteBuf) >= 0)
+                ;
+            byteBuf.flip();
+            return charset.newDecoder()
+                          .onMalformedInput(CodingErrorAction.REPLACE)
+                          .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                          .decode(byteBuf);
+        }
+        finally
+        {
+            channel.close();
+        }
+    } /* End of DbcParserMain.readFile */
+
+
+
+    /**
+     * Open the text of a DBC file or a part of it as input of a lexer.
+     *   @return Get the character stream.
+     *   @param text
+     * The text between position and limit of the buffer is the input of the lexer. The
+     * buffer is not altered.
+     *   @param dbcFileName
+     * The name of the file. It is the source name of the stream.
+     */
+    private static CharStream openCharStream(CharBuffer text, String dbcFileName)
+    {
+        /* The antlr code point buffer reads from the beginning of the backing array of
+           the buffer; a part of the text needs to be copied into a buffer of its own. */
+        CharBuffer input = text.duplicate();
+        if(input.position() > 0)
+        {
+            input = CharBuffer.allocate(text.remaining());
+            input.put(text.duplicate());
+            input.flip();
+        }
+
+        /* The characters are copied into the stream, which stores them in the most
+           compact form; it's one Byte per character for most DBC files. */
+        return CodePointCharStream.fromBuffer(CodePointBuffer.withChars(input), dbcFileName);
+    } /* End of DbcParserMain.openCharStream */
+
+
+
+    /**
+     * Split the text of a DBC file into parts, which can be parsed independently.<p>
+     *   A part begins with the line end in front of a line, which starts with the keyword
+     * of a top level statement. Only statements after the node definition are
+     * considered; the first part contains all the rest. Strings and comments are skipped,
+     * they may contain anything. The parts are of about the same size.<p>
+     *   The split doesn't need to be perfect. If the text is split at a wrong location
+     * then parsing the parts fails and the file is parsed sequentially.
+     *   @return Get the parts or null if the text can't be split into at least two parts.
+     *   @param text
+     * The text of the file.
+     *   @param noParts
+     * The wanted number of parts.
+     */
+    private static List<Part> splitText(CharBuffer text, int noParts)
+    {
+        assert text.position() == 0;
+        final int noChars = text.limit()
+                , partSize = noChars / noParts;
+        final List<Part> partAry = new ArrayList<>(noParts);
+        Part part = new Part();
+        part.start = 0;
+        part.line = 1;
+        part.charPositionInLine = 0;
+
+        boolean isInString = false
+              , isInBlockComment = false
+              , isInLineComment = false
+              , isNodeDefinitionFound = false;
+        int line = 1
+          , idxLineStart = 0
+          , nextSplit = partSize;
+        for(int idx=0; idx<noChars; ++idx)
+        {
+            final char c = text.get(idx)
+                     , cNext = idx+1 < noChars? text.get(idx+1): 0;
+            if(isInString)
+            {
+                if(c == '\\'  &&  cNext == '"')
+                    ++ idx;
+                else if(c == '"')
+                    isInString = false;
+            }
+            else if(isInBlockComment)
+            {
+                if(c == '*'  &&  cNext == '/')
+                {
+                    ++ idx;
+                    isInBlockComment = false;
+                }
+            }
+            else if(isInLineComment)
+                isInLineComment = c != '\n';
+            else if(c == '"')
+                isInString = true;
+            else if(c == '/'  &&  cNext == '*')
+            {
+                ++ idx;
+                isInBlockComment = true;
+            }
+            else if(c == '/'  &&  cNext == '/')
+            {
+                ++ idx;
+                isInLineComment = true;
+            }
+
+            /* Line ends are counted in all contexts. */
+            if(c != '\n')
+                continue;
+            final int lineOfEol = line
+                    , charPositionInLineOfEol = idx - idxLineStart;
+            ++ line;
+            idxLineStart = idx + 1;
+            if(isInString  ||  isInBlockComment)
+                continue;
+
+            /* Get the first word of the next line. */
+            int idxWord = idx + 1;
+            while(idxWord < noChars  &&  " \t\r".indexOf(text.get(idxWord)) >= 0)
+                ++ idxWord;
+            int idxWordEnd = idxWord;
+            while(idxWordEnd < noChars
+                  &&  (Character.isLetterOrDigit(text.get(idxWordEnd))
+                       ||  text.get(idxWordEnd) == '_'
+                      )
+                 )
+            {
+                ++ idxWordEnd;
+            }
+            final String word = text.subSequence(idxWord, idxWordEnd).toString();
+
+            if(!isNodeDefinitionFound)
+            {
+                isNodeDefinitionFound = word.equals("BU_")
+                                        &&  idxWordEnd < noChars
+                                        &&  text.get(idxWordEnd) == ':';
+            }
+            else if(idx >= nextSplit  &&  _statementKeywordSet.contains(word))
+            {
+                part.end = idx;
+                partAry.add(part);
+                part = new Part();
+                part.start = idx;
+                part.line = lineOfEol;
+                part.charPositionInLine = charPositionInLineOfEol;
+                nextSplit = idx + partSize;
+            }
+        } /* End for(All characters of the text) */
+
+        part.end = noChars;
+        partAry.add(part);
+
+        return partAry.size() >= 2? partAry: null;
+
+    } /* End of DbcParserMain.splitText */
+
+
+
+    /**
+     * Parse a part of a DBC file. The lexer and the parser stop at the first error
+     * without reporting it.
+     *   @return Get the parse tree of the part or null if an error occurred.
+     *   @param text
+     * The text of the complete file.
+     *   @param dbcFileName
+     * The name of the file.
+     *   @param part
+     * The part to parse.
+     *   @param isFirstPart
+     * The first part is parsed with rule dbcHead, all others with rule dbcStatementList.
+     */
+    private ParserRuleContext parsePart( CharBuffer text
+                                       , String dbcFileName
+                                       , Part part
+                                       , boolean isFirstPart
+                                       )
+    {
+        final CharBuffer textOfPart = text.duplicate();
+        textOfPart.limit(part.end);
+        textOfPart.position(part.start);
+
+        /* The tokens report their location in the complete file. */
+        final Lexer lexer = createLexer(openCharStream(textOfPart, dbcFileName));
+        lexer.setLine(part.line);
+        lexer.setCharPositionInLine(part.charPositionInLine);
+
+        /* Lexer errors abort the parsing of the part, parser errors do so because of the
+           error strategy. */
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(new BaseErrorListener()
+            {
+                @Override public void syntaxError( Recognizer<?,?> recognizer
+                                                 , Object offendingSymbol
+                                                 , int line
+                                                 , int charPositionInLine
+                                                 , String msg
+                                                 , RecognitionException e
+                                                 )
+                {
+                    throw new ParseCancellationException(msg);
+                }
+            });
+        final DbcParser parser = new DbcParser(new CommonTokenStream(lexer));
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+
+        /* The two-stage strategy: SLL first, full LL only if SLL fails. */
+        for(PredictionMode predictionMode: new PredictionMode[] { PredictionMode.SLL
+                                                                , PredictionMode.LL
+                                                                }
+           )
+        {
+            parser.reset();
+            parser.getInterpreter().setPredictionMode(predictionMode);
+            try
+            {
+                return isFirstPart? parser.dbcHead(): parser.dbcStatementList();
+            }
+            catch(ParseCancellationException e)
+            {
+            }
+        }
+
+        return null;
+
+    } /* End of DbcParserMain.parsePart */
+
+
+
+    /**
+     * Join the parse trees of the parts of a file to the parse tree, which rule dbc would
+     * have produced for the complete file. This requires that the top level statements
+     * appear in the order demanded by rule dbc.
+     *   @return Get the root context of the joined tree or null if the statements are
+     * not in the order demanded by rule dbc.
+     *   @param partTreeAry
+     * The parse trees of all parts in the order of the parts in the file.
+     */
+    private static ParseTree joinParts(List<ParserRuleContext> partTreeAry)
+    {
+        final DbcParser.DbcHeadContext head = (DbcParser.DbcHeadContext)partTreeAry.get(0);
+        final DbcParser.DbcContext dbc = new DbcParser.DbcContext
+                                                ( /* parent */ null
+                                                , ATNState.INVALID_STATE_NUMBER
+                                                );
+        dbc.baudRate = head.baudRate;
+        dbc.btr1 = head.btr1;
+        dbc.btr2 = head.btr2;
+        dbc.start = head.start;
+        dbc.stop = partTreeAry.get(partTreeAry.size()-1).stop;
+
+        /* The sections of rule dbc are numbered. The statements need to have a
+           non-decreasing section number. Unrecognized statements may appear in the three
+           attribute sections. */
+        final int sectionAttributeDefinition = 7
+                , sectionAttributeValue = 9;
+        int section = 0;
+        boolean isStatementFound = false;
+        for(ParserRuleContext partTree: partTreeAry)
+        {
+            if(partTree.children == null)
+                continue;
+
+            for(ParseTree child: partTree.children)
+            {
+                if(child instanceof DbcParser.DbcStatementContext)
+                {
+                    final ParserRuleContext statement =
+                                                    (ParserRuleContext)child.getChild(0);
+                    final int sectionOfStatement;
+                    switch(statement.getRuleIndex())
+                    {
+                    case DbcParser.RULE_valueTable: sectionOfStatement = 0; break;
+                    case DbcParser.RULE_msg:
+                    case DbcParser.RULE_pseudoMsg: sectionOfStatement = 1; break;
+                    case DbcParser.RULE_messageTransmitter: sectionOfStatement = 2; break;
+                    case DbcParser.RULE_environmentVariable: sectionOfStatement = 3; break;
+                    case DbcParser.RULE_environmentVariableData:
+                        sectionOfStatement = 4;
+                        break;
+                    case DbcParser.RULE_signalType: sectionOfStatement = 5; break;
+                    case DbcParser.RULE_comment: sectionOfStatement = 6; break;
+                    case DbcParser.RULE_attributeDefinition:
+                        sectionOfStatement = sectionAttributeDefinition;
+                        break;
+                    case DbcParser.RULE_attributeDefault: sectionOfStatement = 8; break;
+                    case DbcParser.RULE_attributeValue:
+                        sectionOfStatement = sectionAttributeValue;
+                        break;
+                    case DbcParser.RULE_unrecognizedStatement:
+                        sectionOfStatement = Math.max(section, sectionAttributeDefinition);
+                        if(sectionOfStatement > sectionAttributeValue)
+                            return null;
+                        break;
+                    case DbcParser.RULE_valueDescription: sectionOfStatement = 10; break;
+                    case DbcParser.RULE_categoryDefinition: sectionOfStatement = 11; break;
+                    case DbcParser.RULE_category: sectionOfStatement = 12; break;
+                    case DbcParser.RULE_filter: sectionOfStatement = 13; break;
+                    case DbcParser.RULE_signalTypeRef: sectionOfStatement = 14; break;
+                    case DbcParser.RULE_signalGroup: sectionOfStatement = 15; break;
+                    case DbcParser.RULE_signalExtendedValueTypeList:
+                        sectionOfStatement = 16;
+                        break;
+                    case DbcParser.RULE_multiplexedSignal: sectionOfStatement = 17; break;
+                    default:
+                        assert false: "Unexpected statement";
+                        return null;
+                    }
+                    if(sectionOfStatement < section)
+                        return null;
+                    section = sectionOfStatement;
+                    isStatementFound = true;
+
+                    statement.setParent(dbc);
+                    dbc.addChild(statement);
+                }
+                else if(!isStatementFound)
+                {
+                    /* The head of the file up to the first statement. */
+                    if(child instanceof TerminalNode)
+                    {
+                        if(((TerminalNode)child).getSymbol().getType() != Token.EOF)
+                            dbc.addChild((TerminalNode)child);
+                    }
+                    else
+                    {
+                        ((ParserRuleContext)child).setParent(dbc);
+                        dbc.addChild((ParserRuleContext)child);
+                    }
+                }
+            } /* End for(All children of the part) */
+        } /* End for(All parts) */
+
+        return dbc;
+
+    } /* End of DbcParserMain.joinParts */
+
+
+
+    /**
+     * Parse a large DBC file concurrently.<p>
+     *   The file is split into parts at the beginning of top level statements. The parts
+     * are lexed and parsed concurrently, each by its own lexer and parser. The parse trees
+     * of the parts are joined to the parse tree of the complete file, which is the same as
+     * got from sequential parsing. The locations of the tokens refer to the complete file.
+     * <p>
+     *   Problems are not reported. If a part can't be parsed without errors or if the
+     * statements are not in the required order then null is returned. The file needs to
+     * be parsed sequentially, which reports the problems as usual.
+     *   @return Get the parse tree or null if the file can't be parsed concurrently.
+     *   @param text
+     * The text of the file.
+     *   @param dbcFileName
+     * The name of the file.
+     */
+    private ParseTree parseConcurrently(final CharBuffer text, final String dbcFileName)
+    {
+        final int noParts = Math.min( _noPartsPerThread * noFileParseThreads_
+                                    , text.limit() / _minPartSize
+                                    );
+        final List<Part> partAry = noParts >= 2? splitText(text, noParts): null;
+        if(partAry == null)
+            return null;
+
+        _logger.debug("Network database file " + dbcFileName + " is split into "
+                      + partAry.size() + " parts, which are parsed concurrently"
+                     );
+        final ExecutorService executor = Executors.newFixedThreadPool
+                                            (Math.min(noFileParseThreads_, partAry.size()));
+        final List<ParserRuleContext> partTreeAry = new ArrayList<>(partAry.size());
+        try
+        {
+            final List<Future<ParserRuleContext>> futureAry =
+                                                            new ArrayList<>(partAry.size());
+            for(final Part part: partAry)
+            {
+                final boolean isFirstPart = futureAry.isEmpty();
+                futureAry.add(executor.submit(new Callable<ParserRuleContext>()
+                    {
+                        @Override public ParserRuleContext call()
+                        {
+                            return parsePart(text, dbcFileName, part, isFirstPart);
+                        }
+                    }));
+            }
+
+            for(Future<ParserRuleContext> future: futureAry)
+            {
+                final ParserRuleContext partTree = future.get();
+                if(partTree == null)
+                {
+                    _logger.debug("Network database file " + dbcFileName + " contains"
+                                  + " errors, it is parsed again sequentially"
+                                 );
+                    return null;
+                }
+                partTreeAry.add(partTree);
+            }
+        }
+        catch(InterruptedException | ExecutionException e)
+        {
+            /* Unexpected problems are reported by the sequential parsing, too. */
+            return null;
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        final ParseTree parseTree = joinParts(partTreeAry);
+        if(parseTree == null)
+        {
+            _logger.debug("The statements of network database file " + dbcFileName
+                          + " are not in the required order, it is parsed again"
+                          + " sequentially"
+                         );
+        }
+        return parseTree;
+
+    } /* End of DbcParserMain.parseConcurrently */
+
+
+
+    /**
+     * Run the parser on the token stream of a DBC file.<p>
+     *   The two-stage strategy of ANTLR is applied. The first stage uses the fast SLL
+     * prediction, which doesn't consider the full parser context. It is sufficient for
+     * nearly all input and yields the same parse tree as full LL prediction. If SLL
+     * prediction fails then the first stage is aborted at the first syntax error without
+     * reporting it. The second stage parses the input again with full LL prediction and
+     * normal error reporting and recovery. It is required for syntactically wrong input
+     * and, very rarely, for correct input, which SLL can't decide.
+     *   @return Get the parse tree.
+     *   @param parser
+     * The parser, which is connected to the token stream of the file.
+     *   @param dbcFileName
+     * The name of the file for progress reporting.
+     */
+    private ParseTree runParser(DbcParser parser, String dbcFileName)
+    {
+        /* Stage 1: SLL prediction, no error reporting, bail out at the first error. The
+           lexer errors are reported as usual; the tokens are buffered and the lexer is
+           not run again by the second stage. */
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        try
+        {
+            return parser.dbc();
+        }
+        catch(ParseCancellationException e)
+        {
+            _logger.debug("Fast SLL parsing of " + dbcFileName + " failed, the file is"
+                          + " parsed again with full LL prediction"
+                         );
+        }
+
+        /* Stage 2: Rewind the token stream and parse again with full LL prediction.
+           Install same listener for error reporting as for lexer. */
+        parser.reset();
+        parser.addErrorListener(parseErrListener_);
+        parser.setErrorHandler(new DefaultErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        return parser.dbc();
+
+    } /* End of DbcParserMain.runParser */
+
+
+
+    /**
+     * Report the result of profiling the grammar decisions. The decisions, which have
+     * consumed most of the prediction time, are logged at level INFO with those key
+     * figures, which point to grammar hot spots: the number and the maximum of the
+     * lookahead tokens in SLL and LL prediction, the number of fallbacks from SLL to LL and
+     * the number of ambiguities.
+     *   @param parser
+     * The parser after having parsed a file in profiling mode.
+     *   @param dbcFileName
+     * The name of the parsed file.
+     */
+    private static void reportProfile(DbcParser parser, String dbcFileName)
+    {
+        final ParseInfo parseInfo = parser.getParseInfo();
+        if(parseInfo == null)
+            return;
+
+        final DecisionInfo[] decisionInfoAry = parseInfo.getDecisionInfo().clone();
+        Arrays.sort(decisionInfoAry, new Comparator<DecisionInfo>()
+            {
+                public int compare(DecisionInfo a, DecisionInfo b)
+                {
+                    return Long.compare(b.timeInPrediction, a.timeInPrediction);
+                }
+            });
+
+        long totalTimeInPrediction = 0;
+        for(DecisionInfo di: decisionInfoAry)
+            totalTimeInPrediction += di.timeInPrediction;
+
+        final String[] ruleNameAry = parser.getRuleNames();
+        final StringBuilder sb = new StringBuilder();
+        sb.append("Parser profile of ").append(dbcFileName).append(": ")
+          .append(String.format("%.3f", totalTimeInPrediction / 1e6))
+          .append(" ms in prediction of ").append(decisionInfoAry.length)
+          .append(" grammar decisions. Costliest decisions:");
+        for(int i=0; i<decisionInfoAry.length && i<_noReportedDecisions; ++i)
+        {
+            final DecisionInfo di = decisionInfoAry[i];
+            if(di.invocations == 0)
+                break;
+            final int idxRule = parser.getATN().getDecisionState(di.decision).ruleIndex;
+            sb.append(String.format( "%n  Decision %d in rule %s: %d invocations, %.3f ms,"
+                                     + " SLL lookahead %d/%d (total/max), LL fallbacks %d,"
+                                     + " LL lookahead %d/%d (total/max), ambiguities %d,"
+                                     + " errors %d"
+                                   , di.decision
+                                   , ruleNameAry[idxRule]
+                                   , di.invocations
+                                   , di.timeInPrediction / 1e6
+                                   , di.SLL_TotalLook
+                                   , di.SLL_MaxLook
+                                   , di.LL_Fallback
+                                   , di.LL_TotalLook
+                                   , di.LL_MaxLook
+                                   , di.ambiguities.size()
+                                   , di.errors.size()
+                                   )
+                     );
+        }
+        _logger.info(sb.toString());
+
+    } /* End of DbcParserMain.reportProfile */
+
+
+
+    /**
+     * Report an exception, which is not anticipated by the parser.
+     *   @param e
+     * The caught exception.
+     *   @param errCnt
+     * The error is counted in this object.
+     */
+    private static void reportUncaughtException(Exception e, ErrorCounter errCnt)
+    {
+        /* If we ever get here it has to be considered an implementation error. This is
+           a not anticipated error. This might be due to a true bug or because of
+           insufficient error handling code. */
+        assert false: "Unexpected exception. It's either a bug or bad error handling code";
+
+        /* If not being in devlopment mode we can try to make the feedback to the user
+           somewhat more convenient then an uncaught error at the application root
+           function .*/
+        errCnt.error();
+        StringBuffer sbStackTrace = new StringBuffer("Call stack:\n");
+        for(StackTraceElement stackTraceElem: e.getStackTrace())
+        {
+            sbStackTrace.append(stackTraceElem.toString());
+            sbStackTrace.append("\n");
+        }
+        _logger.error("Uncaught error during parsing."
+                      + (e.getMessage() != null? " " + e.getMessage(): "")
+                      + " Please look carefully at the call stack; maybe it gives" 
+                      + " an indication where the problem results from:\n"
+                      + sbStackTrace
+                     );
+    } /* End of DbcParserMain.reportUncaughtException */
+
+
+
     /**
      * Parse a DBC file.
-     *   Use this method to run the parser on a single DBC file.
+     *   Use this method to run the parser on a single DBC file.<p>
+     *   If the parser has been created with more than one file parse thread then a large
+     * file is split into parts, which are parsed concurrently, see {@link
+     * #parseConcurrently}. The result is the same as for sequential parsing.
      *   @return
      * Get the parse tree if parsing ends without errors or null otherwise.
      *   @param dbcFileName
      * The name of the file to be parsed.
+     *   @param charset
+     * The character set of the file.
      *   @param errCnt
      * A specific error counter object to be used for this parse. It is not reset, several
      * files can be parsed with continuous counting.
      */
-    public ParseTree parse(String dbcFileName, ErrorCounter errCnt)
+    public ParseTree parse(String dbcFileName, Charset charset, ErrorCounter errCnt)
     {
         /* Use the passed error counter during parsing. */
         parseErrListener_.setErrorCounter(errCnt);
         
+        /* The parse tree is not kept beyond this call. */
+        ParseTree parseTree = null;
         try
         {
-            /* Create a CharStream that reads from the specified input file. */
-            ANTLRInputStream input = new ANTLRFileStream(dbcFileName);
+            /* Read the text of the specified input file. */
+            final CharBuffer text = readFile(dbcFileName, charset);
 
-            /* Feed input stream to the lexer and reset it for parsing next file. */
-            lexer_.setInputStream(input);
+            /* Large files are parsed concurrently if possible. */
+            if(noFileParseThreads_ > 1  &&  !isProfiling_)
+                parseTree = parseConcurrently(text, dbcFileName);
 
-            /* Create a buffer of tokens pulled from the lexer. */
-            CommonTokenStream tokens = new CommonTokenStream(lexer_);
+            if(parseTree == null)
+            {
+                /* Feed input stream to the lexer and reset it for parsing next file. */
+                lexer_.setInputStream(openCharStream(text, dbcFileName));
 
-            /* Create a parser that feeds off the tokens buffer. */
-            DbcParser parser = new DbcParser(tokens);
+                /* Create a buffer of tokens pulled from the lexer. */
+                CommonTokenStream tokens = new CommonTokenStream(lexer_);
 
-            /* Install same listener for error reporting as for lexer. */
-            parser.removeErrorListeners();
-            parser.addErrorListener(parseErrListener_);
+                /* Create a parser that feeds off the tokens buffer. */
+                DbcParser parser = new DbcParser(tokens);
+                if(isProfiling_)
+                    parser.setProfile(true);
 
-            /* Parse according to main grammar rule dbc. */
-            parseTree_ = parser.dbc();
+                /* Parse according to main grammar rule dbc. */
+                parseTree = runParser(parser, dbcFileName);
+                if(isProfiling_)
+                    reportProfile(parser, dbcFileName);
+            }
 
             /* Log parse tree in Lisp style in Debug verbosity. */
 //            if(_logger.isDebugEnabled())
-//                _logger.debug(parseTree_.toStringTree(parser));
+//                _logger.debug(parseTree.toStringTree(parser));
 
             /* Create a standard walker for semantik tests. */
             ParseTreeWalker walker = new ParseTreeWalker();
@@ -117,9 +938,9 @@ public class DbcParserMain
             /* Do the walk with the checker-walker to find syntactic problems not found
                during grammar matching. */
             SemanticCheckListener semanticCheckListener = new SemanticCheckListener(errCnt);
-            walker.walk(semanticCheckListener, parseTree_);
+            walker.walk(semanticCheckListener, parseTree);
         }
-        catch(java.io.FileNotFoundException e)
+        catch(NoSuchFileException | InvalidPathException e)
         {
             errCnt.error();
             _logger.error("Input file not found. " + e.getMessage());
@@ -131,30 +952,11 @@ public class DbcParserMain
         }
         catch(Exception e)
         {
-            /* If we ever get here it has to be considered an implementation error. This is
-               a not anticipated error. This might be due to a true bug or because of
-               insufficient error handling code. */
-            assert false: "Unexpected exception. It's either a bug or bad error handling code";
-
-            /* If not being in devlopment mode we can try to make the feedback to the user
-               somewhat more convenient then an uncaught error at the application root
-               function .*/
-            errCnt.error();
-            StringBuffer sbStackTrace = new StringBuffer("Call stack:\n");
-            for(StackTraceElement stackTraceElem: e.getStackTrace())
-            {
-                sbStackTrace.append(stackTraceElem.toString());
-                sbStackTrace.append("\n");
-            }
-            _logger.error("Uncaught error during parsing."
-                          + (e.getMessage() != null? " " + e.getMessage(): "")
-                          + " Please look carefully at the call stack; maybe it gives" 
-                          + " an indication where the problem results from:\n"
-                          + sbStackTrace
-                         );
+            reportUncaughtException(e, errCnt);
         }
         
-        ParseTree parseTree = errCnt.getNoErrors() == 0? parseTree_: null;
+        if(errCnt.getNoErrors() > 0)
+            parseTree = null;
         
         /* This parser must not take permanent ownership of the error counter. */
         parseErrListener_.setErrorCounter(/* errCnt */ null);
@@ -165,6 +967,116 @@ public class DbcParserMain
     
     
     
+    /**
+     * Parse a DBC file in streaming mode.<p>
+     *   No parse tree is built and the tokens are not buffered, which saves a lot of memory
+     * for large files. Instead, the semantic checks and a listener, which shapes the data
+     * model, are notified while parsing, statement by statement; a statement is discarded
+     * as soon as both have processed it. The listeners see the same events in the same
+     * order as in a walk through the parse tree, with the only exception that the context
+     * of the root rule dbc doesn't have any children.<p>
+     *   The data model listener is no longer notified after the first error found by the
+     * parser or the semantic checks; its result is useless then. Since the listeners work
+     * interleaved, it may already have reported problems about the statements before the
+     * error, which a walk through the tree of a failed parse wouldn't report. The caller
+     * needs to hold back and filter the log output if the diagnostics should be the same
+     * as of {@link #parse}, see DataModelListener.parse.<p>
+     *   The two-stage strategy of {@link #parse} would require buffering all tokens. The
+     * streaming mode only uses the full LL prediction.
+     *   @return
+     * Get true if neither the parser nor the semantic checks found an error. The errors
+     * reported by the data model listener are counted but not considered.
+     *   @param dbcFileName
+     * The name of the file to be parsed.
+     *   @param charset
+     * The character set of the file.
+     *   @param modelListener
+     * The listener, which shapes the data model from the parse events.
+     *   @param errCnt
+     * A specific error counter object to be used for this parse. It is not reset, several
+     * files can be parsed with continuous counting.
+     */
+    public boolean parseStreaming( String dbcFileName
+                                 , Charset charset
+                                 , ParseTreeListener modelListener
+                                 , ErrorCounter errCnt
+                                 )
+    {
+        /* The problems found by parser and semantic checks are counted separately: They
+           decide whether the data model listener gets the next statement. */
+        final ErrorCounter errCntParse = new ErrorCounter();
+        parseErrListener_.setErrorCounter(errCntParse);
+
+        try
+        {
+            /* Feed the specified input file to the lexer and reset it for parsing the next
+               file. */
+            final CharBuffer text = readFile(dbcFileName, charset);
+            lexer_.setInputStream(openCharStream(text, dbcFileName));
+
+            /* The parser pulls the tokens from the lexer without buffering them. */
+            DbcParser parser = new DbcParser(new UnbufferedTokenStream<Token>(lexer_));
+            if(isProfiling_)
+                parser.setProfile(true);
+            parser.removeErrorListeners();
+            parser.addErrorListener(parseErrListener_);
+            parser.addParseListener(new StreamingListener
+                                            ( new SemanticCheckListener(errCntParse)
+                                            , modelListener
+                                            , errCntParse
+                                            )
+                                   );
+
+            /* Parse according to main grammar rule dbc. The returned root context has no
+               children and is of no use. */
+            parser.dbc();
+            if(isProfiling_)
+                reportProfile(parser, dbcFileName);
+        }
+        catch(NoSuchFileException | InvalidPathException e)
+        {
+            errCntParse.error();
+            _logger.error("Input file not found. " + e.getMessage());
+        }
+        catch(java.io.IOException e)
+        {
+            errCntParse.error();
+            _logger.error("Error reading input file. " + e.getMessage());
+        }
+        catch(Exception e)
+        {
+            reportUncaughtException(e, errCntParse);
+        }
+
+        /* This parser must not take permanent ownership of the error counter. */
+        parseErrListener_.setErrorCounter(/* errCnt */ null);
+
+        errCnt.add(errCntParse);
+        return errCntParse.getNoErrors() == 0;
+
+    } /* End of DbcParserMain.parseStreaming */
+
+
+
+    /**
+     * Parse a DBC file, which uses the character set of the platform.
+     *   Use this method to run the parser on a single DBC file.
+     *   @return
+     * Get the parse tree if parsing ends without errors or null otherwise.
+     *   @param dbcFileName
+     * The name of the file to be parsed.
+     *   @param errCnt
+     * A specific error counter object to be used for this parse. It is not reset, several
+     * files can be parsed with continuous counting.
+     */
+    public ParseTree parse(String dbcFileName, ErrorCounter errCnt)
+    {
+        return parse(dbcFileName, Charset.defaultCharset(), errCnt);
+
+    } /* End of DbcParserMain.parse */
+
+
+
     /**
      * Parse a DBC file.
      *   Use this method to run the parser on a single DBC file.
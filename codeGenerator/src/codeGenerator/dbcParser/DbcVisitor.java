@@ -16,6 +16,24 @@ public interface DbcVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitDbc(DbcParser.DbcContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link DbcParser#dbcHead}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDbcHead(DbcParser.DbcHeadContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link DbcParser#dbcStatementList}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDbcStatementList(DbcParser.DbcStatementListContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link DbcParser#dbcStatement}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitDbcStatement(DbcParser.DbcStatementContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link DbcParser#version}.
 	 * @param ctx the parse tree
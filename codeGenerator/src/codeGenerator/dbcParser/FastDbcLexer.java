@@ -0,0 +1,971 @@
+/**
+ * @file FastDbcLexer.java
+ * A hand-coded lexer for network database files. It is an alternative to the lexer
+ * DbcLexer, which is generated by antlr from the grammar Dbc.g4, and it produces the same
+ * token stream.
+ *
+ * Copyright (C) 2025 Peter Vranken (mailto:Peter_Vranken@Yahoo.de)
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+/* Interface of class FastDbcLexer
+ *   FastDbcLexer
+ *   reset
+ *   isIdStart
+ *   isIdPart
+ *   lookupKeyword
+ *   matchInteger
+ *   matchExponent
+ *   matchUnsignedFloat
+ *   matchString
+ *   consume
+ *   consumeWithinLine
+ *   reportError
+ *   nextToken
+ *   getLine
+ *   getCharPositionInLine
+ *   setLine
+ *   setCharPositionInLine
+ *   getText
+ *   getGrammarFileName
+ *   getRuleNames
+ *   getChannelNames
+ *   getModeNames
+ *   getVocabulary
+ *   getSerializedATN
+ *   getATN
+ *   compareLexers
+ *   generateText
+ *   collectDbcFiles
+ *   main
+ */
+
+package codeGenerator.dbcParser;
+
+import java.util.*;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.misc.Interval;
+
+
+/**
+ * A hand-coded lexer for network database files.<p>
+ *   The lexer emits exactly the same tokens as the generated lexer {@link DbcLexer}: the
+ * same token types, character indexes, lines and columns, and it reports the same
+ * recognition errors at the same locations. It can replace the generated lexer as token
+ * source of the parser. The generated lexer simulates the state machine of the lexer
+ * rules of the grammar for each character; this lexer does the same by straight code for
+ * the few and simple rules of the grammar and is significantly faster.<p>
+ *   The keywords and punctuation characters are taken from the vocabulary of the
+ * generated lexer. A change of these literals in the grammar is followed automatically,
+ * but any other change of the lexer rules requires the maintenance of this class. The
+ * method {@link #main} compares the token streams of both lexers and should be run after
+ * such a change.
+ */
+
+public class FastDbcLexer extends Lexer
+{
+    /** The size of the hash table of keywords. It is a power of two and significantly
+        larger than the number of keywords. */
+    private static final int _sizeOfKeywordTable = 512;
+
+    /** The hash table of the keywords of the grammar. The keywords are looked up by the
+        characters of an identifier in the input stream, which avoids creating a string
+        object for each identifier. Unused entries are null. */
+    private static final char[][] _keywordTable = new char[_sizeOfKeywordTable][];
+
+    /** The token types of the keywords in {@link #_keywordTable}. */
+    private static final int[] _keywordTypeTable = new int[_sizeOfKeywordTable];
+
+    /** The characters, which can follow the identifier part of a keyword, like the colon
+        in "BU_:". */
+    private static final boolean[] _isKeywordSuffixAry = new boolean[128];
+
+    /** The length of the longest keyword. */
+    private static int _maxKeywordLen = 0;
+
+    /** The token types of the single character literals of the grammar by character or
+        zero for all other characters. */
+    private static final int[] _punctuationTypeAry = new int[128];
+
+    /* The literals of the grammar are taken from the vocabulary of the generated lexer.
+       Only the implicitly defined tokens are literals; the other tokens have a symbolic
+       name and are recognized by the code of this lexer. */
+    static
+    {
+        final Vocabulary vocabulary = DbcLexer.VOCABULARY;
+        for(int type=Token.MIN_USER_TOKEN_TYPE; type<=vocabulary.getMaxTokenType(); ++type)
+        {
+            final String literalName = vocabulary.getLiteralName(type);
+            if(literalName == null ||  vocabulary.getSymbolicName(type) != null)
+                continue;
+
+            final String literal = literalName.substring(1, literalName.length()-1);
+            final int c = literal.charAt(0);
+            if(isIdStart(c))
+            {
+                /* A keyword is an identifier or an identifier followed by a single
+                   character, like "BU_:". */
+                int len = 1;
+                while(len < literal.length() &&  isIdPart(literal.charAt(len)))
+                    ++ len;
+                if(len < literal.length()-1)
+                {
+                    throw new IllegalStateException("Literal " + literalName + " of the"
+                                                    + " grammar is not supported by"
+                                                    + " FastDbcLexer"
+                                                   );
+                }
+                if(len < literal.length())
+                    _isKeywordSuffixAry[literal.charAt(len)] = true;
+                int idx = literal.hashCode() & (_sizeOfKeywordTable-1);
+                while(_keywordTable[idx] != null)
+                    idx = (idx+1) & (_sizeOfKeywordTable-1);
+                _keywordTable[idx] = literal.toCharArray();
+                _keywordTypeTable[idx] = type;
+                if(literal.length() > _maxKeywordLen)
+                    _maxKeywordLen = literal.length();
+            }
+            else if(literal.length() == 1  &&  c < _punctuationTypeAry.length)
+                _punctuationTypeAry[c] = type;
+            else
+            {
+                throw new IllegalStateException("Literal " + literalName + " of the grammar"
+                                                + " is not supported by FastDbcLexer"
+                                               );
+            }
+        }
+    }
+
+    /** The line of the next character of the input stream. */
+    private int line_ = 1;
+
+    /** The column of the next character of the input stream. */
+    private int charPositionInLine_ = 0;
+
+    /**
+     * A new instance of FastDbcLexer is created.
+     *   @param input
+     * The character stream to tokenize. null may be passed if the stream is set later
+     * using {@link #setInputStream}.
+     */
+    public FastDbcLexer(CharStream input)
+    {
+        super(input);
+
+    } /* End of FastDbcLexer.FastDbcLexer */
+
+
+
+    /**
+     * Reset the lexer to the beginning of its input stream. The base class implementation
+     * can't be used as it resets the state machine simulator of a generated lexer, which
+     * this lexer doesn't have.
+     */
+    @Override
+    public void reset()
+    {
+        if(_input != null)
+            _input.seek(0);
+        _token = null;
+        _type = Token.INVALID_TYPE;
+        _channel = Token.DEFAULT_CHANNEL;
+        _tokenStartCharIndex = -1;
+        _tokenStartCharPositionInLine = -1;
+        _tokenStartLine = -1;
+        _text = null;
+        _hitEOF = false;
+        _mode = Lexer.DEFAULT_MODE;
+        _modeStack.clear();
+        line_ = 1;
+        charPositionInLine_ = 0;
+
+    } /* End of FastDbcLexer.reset */
+
+
+
+    /**
+     * Check if a character can start an identifier.
+     *   @return Get true if the character is a letter or the underscore.
+     *   @param c
+     * The character.
+     */
+    private static boolean isIdStart(int c)
+    {
+        return c >= 'a'  &&  c <= 'z'  ||  c >= 'A'  &&  c <= 'Z'  ||  c == '_';
+
+    } /* End of FastDbcLexer.isIdStart */
+
+
+
+    /**
+     * Check if a character can be part of an identifier.
+     *   @return Get true if the character is a letter, a digit or the underscore.
+     *   @param c
+     * The character.
+     */
+    private static boolean isIdPart(int c)
+    {
+        return isIdStart(c)  ||  c >= '0'  &&  c <= '9';
+
+    } /* End of FastDbcLexer.isIdPart */
+
+
+
+    /**
+     * Look up the keyword at the current position of the input.
+     *   @return Get the token type of the keyword or zero if the characters are no
+     * keyword.
+     *   @param len
+     * The number of characters to look at.
+     *   @param hash
+     * The hash code of the characters, computed like {@link String#hashCode}.
+     */
+    private int lookupKeyword(int len, int hash)
+    {
+        int idx = hash & (_sizeOfKeywordTable-1);
+        char[] keyword;
+        while((keyword = _keywordTable[idx]) != null)
+        {
+            if(keyword.length == len)
+            {
+                int i = 0;
+                while(i < len  &&  _input.LA(1+i) == keyword[i])
+                    ++ i;
+                if(i == len)
+                    return _keywordTypeTable[idx];
+            }
+            idx = (idx+1) & (_sizeOfKeywordTable-1);
+        }
+        return 0;
+
+    } /* End of FastDbcLexer.lookupKeyword */
+
+
+
+    /**
+     * Get the length of the integer number at a given position of the input.
+     *   @return Get the number of decimal digits.
+     *   @param i
+     * The position as look-ahead index, i.e., 1 is the next character.
+     */
+    private int matchInteger(int i)
+    {
+        int len = 0;
+        for(int c=_input.LA(i); c >= '0'  &&  c <= '9'; c=_input.LA(i+len))
+            ++ len;
+        return len;
+
+    } /* End of FastDbcLexer.matchInteger */
+
+
+
+    /**
+     * Get the length of the exponent of a floating point number at a given position of
+     * the input.
+     *   @return Get the length of the exponent or zero if there is no complete exponent.
+     *   @param i
+     * The position as look-ahead index, i.e., 1 is the next character.
+     */
+    private int matchExponent(int i)
+    {
+        final int c = _input.LA(i);
+        if(c != 'e'  &&  c != 'E')
+            return 0;
+        int len = 1;
+        final int s = _input.LA(i+len);
+        if(s == '-'  ||  s == '+')
+            ++ len;
+        final int lenInt = matchInteger(i+len);
+        return lenInt > 0? len+lenInt: 0;
+
+    } /* End of FastDbcLexer.matchExponent */
+
+
+
+    /**
+     * Get the length of the unsigned floating point number at a given position of the
+     * input. A sequence of digits without decimal point and without exponent is not a
+     * floating point number but an integer.
+     *   @return Get the length of the number or zero if there is no floating point number.
+     *   @param i
+     * The position as look-ahead index, i.e., 1 is the next character.
+     */
+    private int matchUnsignedFloat(int i)
+    {
+        final int lenInt = matchInteger(i);
+        if(lenInt > 0)
+        {
+            if(_input.LA(i+lenInt) == '.')
+            {
+                int len = lenInt + 1;
+                len += matchInteger(i+len);
+                return len + matchExponent(i+len);
+            }
+            else
+            {
+                final int lenExp = matchExponent(i+lenInt);
+                return lenExp > 0? lenInt+lenExp: 0;
+            }
+        }
+        else if(_input.LA(i) == '.')
+        {
+            final int lenFrac = matchInteger(i+1);
+            return lenFrac > 0? 1+lenFrac+matchExponent(i+1+lenFrac): 0;
+        }
+        else
+            return 0;
+
+    } /* End of FastDbcLexer.matchUnsignedFloat */
+
+
+
+    /**
+     * Get the length of the string at the current position of the input, which starts
+     * with a double quote.<p>
+     *   An escaped double quote can also be read as a backslash as last character of the
+     * string followed by the closing double quote. Like the generated lexer, the longest
+     * match is taken.
+     *   @return Get the length of the string including the double quotes or the negative
+     * length of the input up to its end if the string is not terminated.
+     */
+    private int matchString()
+    {
+        int len = 1
+          , lenAccepted = 0;
+        boolean isAfterBackslash = false;
+        while(true)
+        {
+            final int c = _input.LA(1+len);
+            if(c == IntStream.EOF)
+                return lenAccepted > 0? lenAccepted: -len;
+
+            ++ len;
+            if(c == '"')
+            {
+                lenAccepted = len;
+                if(!isAfterBackslash)
+                    return lenAccepted;
+            }
+            isAfterBackslash = c == '\\';
+        }
+    } /* End of FastDbcLexer.matchString */
+
+
+
+    /**
+     * Consume a number of characters from the input and update line and column.
+     *   @param noChars
+     * The number of characters to consume.
+     */
+    private void consume(int noChars)
+    {
+        while(noChars-- > 0)
+        {
+            if(_input.LA(1) == '\n')
+            {
+                ++ line_;
+                charPositionInLine_ = 0;
+            }
+            else
+                ++ charPositionInLine_;
+            _input.consume();
+        }
+    } /* End of FastDbcLexer.consume */
+
+
+
+    /**
+     * Consume a number of characters from the input, which don't contain a line break.
+     *   @param noChars
+     * The number of characters to consume.
+     */
+    private void consumeWithinLine(int noChars)
+    {
+        _input.seek(_input.index()+noChars);
+        charPositionInLine_ += noChars;
+
+    } /* End of FastDbcLexer.consumeWithinLine */
+
+
+
+    /**
+     * Report a token recognition error in the same way as the generated lexer does.
+     * Afterwards, the characters up to and including the failing character are consumed.
+     *   @param noChars
+     * The number of characters from the start of the token, which had been matched before
+     * the failing character.
+     */
+    private void reportError(int noChars)
+    {
+        consume(noChars);
+        notifyListeners(new LexerNoViableAltException( this
+                                                     , _input
+                                                     , _tokenStartCharIndex
+                                                     , /* deadEndConfigs */ null
+                                                     )
+                       );
+        if(_input.LA(1) != IntStream.EOF)
+            consume(1);
+
+    } /* End of FastDbcLexer.reportError */
+
+
+
+    /**
+     * Get the next token from the input stream. White space and comments are skipped and
+     * unrecognized characters are reported to the error listeners and skipped.
+     *   @return Get the token. At the end of the input stream, a token of type
+     * {@link Token#EOF} is returned.
+     */
+    @Override
+    public Token nextToken()
+    {
+        while(true)
+        {
+            _tokenStartCharIndex = _input.index();
+            _tokenStartLine = line_;
+            _tokenStartCharPositionInLine = charPositionInLine_;
+            _text = null;
+
+            final int c = _input.LA(1);
+            int type
+              , len;
+            if(c == IntStream.EOF)
+            {
+                _hitEOF = true;
+                return emitEOF();
+            }
+            else if(c == '\n')
+            {
+                type = DbcLexer.EOL;
+                len = 1;
+            }
+            else if(c == ' '  ||  c == '\t'  ||  c == '\r')
+            {
+                int w;
+                len = 1;
+                while((w = _input.LA(1+len)) == ' '  ||  w == '\t'  ||  w == '\r')
+                    ++ len;
+                consumeWithinLine(len);
+                continue;
+            }
+            else if(isIdStart(c))
+            {
+                int hash = c
+                  , cNext;
+                len = 1;
+                while(isIdPart(cNext = _input.LA(1+len)))
+                {
+                    hash = 31*hash + cNext;
+                    ++ len;
+                }
+
+                /* A keyword may include a trailing punctuation character. The longer
+                   match is taken. */
+                type = 0;
+                if(len < _maxKeywordLen
+                   &&  cNext >= 0  &&  cNext < _isKeywordSuffixAry.length
+                   &&  _isKeywordSuffixAry[cNext]
+                  )
+                {
+                    type = lookupKeyword(len+1, 31*hash + cNext);
+                    if(type != 0)
+                        ++ len;
+                }
+                if(type == 0  &&  len <= _maxKeywordLen)
+                    type = lookupKeyword(len, hash);
+                if(type == 0)
+                    type = DbcLexer.ID;
+            }
+            else if(c >= '0'  &&  c <= '9')
+            {
+                final int lenFloat = matchUnsignedFloat(1);
+                if(lenFloat > 0)
+                {
+                    type = DbcLexer.Float;
+                    len = lenFloat;
+                }
+                else
+                {
+                    type = DbcLexer.Integer;
+                    len = matchInteger(1);
+                }
+            }
+            else if(c == '-'  ||  c == '+')
+            {
+                final int lenFloat = matchUnsignedFloat(2);
+                if(lenFloat > 0)
+                {
+                    type = DbcLexer.Float;
+                    len = 1 + lenFloat;
+                }
+                else
+                {
+                    type = DbcLexer.Sign;
+                    len = 1;
+                }
+            }
+            else if(c == '.')
+            {
+                len = matchUnsignedFloat(1);
+                if(len == 0)
+                {
+                    reportError(1);
+                    continue;
+                }
+                type = DbcLexer.Float;
+            }
+            else if(c == '"')
+            {
+                len = matchString();
+                if(len < 0)
+                {
+                    reportError(-len);
+                    continue;
+                }
+                type = DbcLexer.String;
+            }
+            else if(c == '/')
+            {
+                final int c2 = _input.LA(2);
+                if(c2 == '/')
+                {
+                    int t;
+                    len = 2;
+                    while((t = _input.LA(1+len)) != IntStream.EOF  &&  t != '\r'
+                          &&  t != '\n'
+                         )
+                    {
+                        ++ len;
+                    }
+                    consumeWithinLine(len);
+                }
+                else if(c2 == '*')
+                {
+                    /* The comment is terminated by the first occurrence of the end
+                       characters, the shortest possible match. */
+                    int t;
+                    len = 2;
+                    while((t = _input.LA(1+len)) != IntStream.EOF
+                          &&  (t != '*'  ||  _input.LA(2+len) != '/')
+                         )
+                    {
+                        ++ len;
+                    }
+                    if(t == IntStream.EOF)
+                        reportError(len);
+                    else
+                        consume(len+2);
+                }
+                else
+                    reportError(1);
+                continue;
+            }
+            else if(c < _punctuationTypeAry.length  &&  _punctuationTypeAry[c] != 0)
+            {
+                type = _punctuationTypeAry[c];
+                len = 1;
+            }
+            else
+            {
+                reportError(0);
+                continue;
+            }
+
+            /* Only strings can contain a line break, besides the end of line token. */
+            if(type == DbcLexer.EOL)
+            {
+                _input.consume();
+                ++ line_;
+                charPositionInLine_ = 0;
+            }
+            else if(type == DbcLexer.String)
+                consume(len);
+            else
+                consumeWithinLine(len);
+            _type = type;
+            _token = _factory.create( _tokenFactorySourcePair
+                                    , type
+                                    , /* text */ null
+                                    , Token.DEFAULT_CHANNEL
+                                    , _tokenStartCharIndex
+                                    , /* stop */ _input.index()-1
+                                    , _tokenStartLine
+                                    , _tokenStartCharPositionInLine
+                                    );
+            return _token;
+        }
+    } /* End of FastDbcLexer.nextToken */
+
+
+
+    /**
+     * Get the line of the next character of the input stream.
+     *   @return Get the line number. The first line is 1.
+     */
+    @Override
+    public int getLine()
+    {
+        return line_;
+
+    } /* End of FastDbcLexer.getLine */
+
+
+
+    /**
+     * Get the column of the next character of the input stream.
+     *   @return Get the column. The first character in a line is at column 0.
+     */
+    @Override
+    public int getCharPositionInLine()
+    {
+        return charPositionInLine_;
+
+    } /* End of FastDbcLexer.getCharPositionInLine */
+
+
+
+    /**
+     * Set the line of the next character of the input stream. Use this method if the
+     * input stream is a part of a longer text.
+     *   @param line
+     * The line number. The first line is 1.
+     */
+    @Override
+    public void setLine(int line)
+    {
+        line_ = line;
+
+    } /* End of FastDbcLexer.setLine */
+
+
+
+    /**
+     * Set the column of the next character of the input stream. Use this method if the
+     * input stream is a part of a longer text.
+     *   @param charPositionInLine
+     * The column. The first character in a line is at column 0.
+     */
+    @Override
+    public void setCharPositionInLine(int charPositionInLine)
+    {
+        charPositionInLine_ = charPositionInLine;
+
+    } /* End of FastDbcLexer.setCharPositionInLine */
+
+
+
+    /**
+     * Get the text matched so far for the current token.
+     *   @return Get the text.
+     */
+    @Override
+    public String getText()
+    {
+        if(_text != null)
+            return _text;
+        return _input.getText(Interval.of(_tokenStartCharIndex, _input.index()-1));
+
+    } /* End of FastDbcLexer.getText */
+
+
+
+    /**
+     * Get the name of the grammar, which is the same as for the generated lexer.
+     *   @return Get the file name of the grammar.
+     */
+    @Override
+    public String getGrammarFileName()
+    {
+        return "Dbc.g4";
+    }
+
+    /**
+     * Get the names of the lexer rules of the generated lexer.
+     *   @return Get the rule names.
+     */
+    @Override
+    public String[] getRuleNames()
+    {
+        return DbcLexer.ruleNames;
+    }
+
+    /**
+     * Get the names of the token channels of the generated lexer.
+     *   @return Get the channel names.
+     */
+    @Override
+    public String[] getChannelNames()
+    {
+        return DbcLexer.channelNames;
+    }
+
+    /**
+     * Get the names of the lexer modes of the generated lexer.
+     *   @return Get the mode names.
+     */
+    @Override
+    public String[] getModeNames()
+    {
+        return DbcLexer.modeNames;
+    }
+
+    /**
+     * Get the token vocabulary, which is the same as for the generated lexer.
+     *   @return Get the vocabulary.
+     */
+    @Override
+    public Vocabulary getVocabulary()
+    {
+        return DbcLexer.VOCABULARY;
+    }
+
+    /**
+     * Get the serialized state machine of the generated lexer.
+     *   @return Get the serialized ATN.
+     */
+    @Override
+    public String getSerializedATN()
+    {
+        return DbcLexer._serializedATN;
+    }
+
+    /**
+     * Get the state machine of the generated lexer. It is not used by this lexer.
+     *   @return Get the ATN.
+     */
+    @Override
+    public ATN getATN()
+    {
+        return DbcLexer._ATN;
+    }
+
+
+
+    /**
+     * Tokenize a text with both lexers, the generated one and this one, and compare the
+     * token streams and the reported errors.
+     *   @return Get true if both lexers yield the same result.
+     *   @param name
+     * The name of the text, which is used in the feedback.
+     *   @param text
+     * The text to tokenize.
+     */
+    private static boolean compareLexers(String name, String text)
+    {
+        final Lexer[] lexerAry = new Lexer[]
+                                    { new DbcLexer(CharStreams.fromString(text, name))
+                                    , new FastDbcLexer(CharStreams.fromString(text, name))
+                                    };
+        final List<List<Token>> tokenListAry = new ArrayList<>();
+        final List<List<String>> errorListAry = new ArrayList<>();
+        for(int idxLexer=0; idxLexer<lexerAry.length; ++idxLexer)
+        {
+            final List<Token> tokenList = new ArrayList<>();
+            final List<String> errorList = new ArrayList<>();
+            final Lexer lexer = lexerAry[idxLexer];
+            lexer.removeErrorListeners();
+            lexer.addErrorListener(new BaseErrorListener()
+                {
+                    @Override
+                    public void syntaxError( Recognizer<?,?> recognizer
+                                           , Object offendingSymbol
+                                           , int line
+                                           , int charPositionInLine
+                                           , String msg
+                                           , RecognitionException e
+                                           )
+                    {
+                        errorList.add(line + ":" + charPositionInLine + ": " + msg);
+                    }
+                });
+
+            Token token;
+            do
+            {
+                token = lexer.nextToken();
+                tokenList.add(token);
+            }
+            while(token.getType() != Token.EOF);
+
+            tokenListAry.add(tokenList);
+            errorListAry.add(errorList);
+        }
+
+        final List<Token> expTokenList = tokenListAry.get(0)
+                        , tokenList = tokenListAry.get(1);
+        for(int idxToken=0; idxToken<expTokenList.size(); ++idxToken)
+        {
+            final Token expToken = expTokenList.get(idxToken);
+            if(idxToken >= tokenList.size())
+            {
+                System.out.println(name + ": Token " + expToken + " is missing");
+                return false;
+            }
+            final Token token = tokenList.get(idxToken);
+            if(token.getType() != expToken.getType()
+               ||  token.getStartIndex() != expToken.getStartIndex()
+               ||  token.getStopIndex() != expToken.getStopIndex()
+               ||  token.getLine() != expToken.getLine()
+               ||  token.getCharPositionInLine() != expToken.getCharPositionInLine()
+               ||  token.getChannel() != expToken.getChannel()
+               ||  !token.getText().equals(expToken.getText())
+              )
+            {
+                System.out.println(name + ": Token " + token + " differs from expected"
+                                   + " token " + expToken
+                                  );
+                return false;
+            }
+        }
+        if(tokenList.size() != expTokenList.size())
+        {
+            System.out.println(name + ": Unexpected token "
+                               + tokenList.get(expTokenList.size())
+                              );
+            return false;
+        }
+        if(!errorListAry.get(1).equals(errorListAry.get(0)))
+        {
+            System.out.println(name + ": Reported errors " + errorListAry.get(1) + " differ"
+                               + " from expected errors " + errorListAry.get(0)
+                              );
+            return false;
+        }
+        return true;
+
+    } /* End of FastDbcLexer.compareLexers */
+
+
+
+    /**
+     * Generate a random text, which resembles a network database file. It is a random
+     * sequence of fragments, which exercise the rules of the lexers including their corner
+     * cases and errors.
+     *   @return Get the text.
+     *   @param rand
+     * The random number generator.
+     */
+    private static String generateText(Random rand)
+    {
+        final String[] fragmentAry = new String[]
+            { " ", "  ", "\t", "\r\n", "\n", "\n", "\r"
+            , "BO_", "SG_", "BU_", "BU_:", "BS_", "BS_:", "CM_", "BA_", "VAL_", "_NS"
+            , "Vector__XXX", "VECTOR__XXX", "BO_TX_BU_", "INT", "HEX", "ENUM", "NS_DESC_"
+            , "m", "M", "m12", "_", "x_1", "abc", "BO_X", "BU_:x", "e", "E5"
+            , "0", "12", "-1", "+7", "3.5", "3.", ".5", "-.5", "+.5e3", "1e5", "1E-5"
+            , "1e", "1e+", "2.e-", "-", "+", "--1", ".", "-.", "1.2.3", "0x1F", "8|1@1+"
+            , "\"abc\"", "\"\"", "\"a\\\"b\"", "\"C:\\dir\\\"", "\"line\nbreak\"", "\"\\"
+            , "\"", "\"x", "/* c */", "/**/", "/*", "*/", "/* BO_ 1 \"*/", "// c", "//", "/"
+            , ":", ",", ";", "|", "@", "(", ")", "[", "]", "#", "$", "\u00e4", "\u20ac"
+            , "\ud83d\ude00", "\\", "'", "{", "}"
+            };
+        final int noFragments = rand.nextInt(300);
+        final StringBuilder sb = new StringBuilder();
+        for(int i=0; i<noFragments; ++i)
+        {
+            sb.append(fragmentAry[rand.nextInt(fragmentAry.length)]);
+            if(rand.nextInt(3) == 0)
+                sb.append(' ');
+        }
+        return sb.toString();
+
+    } /* End of FastDbcLexer.generateText */
+
+
+
+    /**
+     * Collect the network database files in a file or directory.
+     *   @param file
+     * A file or a directory, which is searched recursively for files with extension
+     * .dbc.
+     *   @param fileList
+     * The found files are appended to this list.
+     */
+    private static void collectDbcFiles(File file, List<File> fileList)
+    {
+        if(file.isDirectory())
+        {
+            final File[] fileAry = file.listFiles();
+            if(fileAry != null)
+            {
+                Arrays.sort(fileAry);
+                for(File f: fileAry)
+                {
+                    if(f.isDirectory()  ||  f.getName().toLowerCase().endsWith(".dbc"))
+                        collectDbcFiles(f, fileList);
+                }
+            }
+        }
+        else
+            fileList.add(file);
+
+    } /* End of FastDbcLexer.collectDbcFiles */
+
+
+
+    /**
+     * Differential check of this lexer against the generated lexer. The token streams and
+     * the reported errors of both lexers are compared for a set of network database files
+     * and for randomly generated texts.<p>
+     *   Usage: FastDbcLexer [-random <noTexts>] {fileOrDirectory}\n
+     * Directories are searched recursively for files with extension .dbc. The files are
+     * read with character set ISO-8859-1, which accepts all input bytes.
+     *   @param argv
+     * The command line arguments.
+     *   @throws IOException
+     * A file can't be read.
+     */
+    public static void main(String[] argv)
+        throws IOException
+    {
+        int noRandomTexts = 0;
+        final List<File> fileList = new ArrayList<>();
+        for(int idxArg=0; idxArg<argv.length; ++idxArg)
+        {
+            if(argv[idxArg].equals("-random")  &&  idxArg+1 < argv.length)
+                noRandomTexts = Integer.parseInt(argv[++idxArg]);
+            else
+                collectDbcFiles(new File(argv[idxArg]), fileList);
+        }
+
+        int noChecks = 0
+          , noFailures = 0;
+        for(File file: fileList)
+        {
+            final String text = new String( java.nio.file.Files.readAllBytes(file.toPath())
+                                          , StandardCharsets.ISO_8859_1
+                                          );
+            ++ noChecks;
+            if(!compareLexers(file.getPath(), text))
+                ++ noFailures;
+        }
+
+        final Random rand = new Random(1);
+        for(int i=0; i<noRandomTexts; ++i)
+        {
+            ++ noChecks;
+            if(!compareLexers("Random text " + i, generateText(rand)))
+                ++ noFailures;
+        }
+
+        System.out.println(noChecks + " texts compared, " + noFailures + " differ");
+        System.exit(noFailures == 0? 0: 1);
+
+    } /* End of FastDbcLexer.main */
+
+} /* End of class FastDbcLexer definition. */
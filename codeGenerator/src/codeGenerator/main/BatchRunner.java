@@ -0,0 +1,528 @@
+/**
+ * @file BatchRunner.java
+ * Execution of a batch of code generator runs, which are specified in a job file.
+ *
+ * Copyright (C) 2025 Peter Vranken (mailto:Peter_Vranken@Yahoo.de)
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+/* Interface of class BatchRunner
+ *   ThreadOutputStream
+ *   defineArguments
+ *   createCmdLineParser
+ *   isBatchCommandLine
+ *   splitCommandLine
+ *   readJobFile
+ *   runJob
+ *   runJobsConcurrently
+ *   runBatch
+ */
+
+package codeGenerator.main;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import cmdLineParser.*;
+import org.apache.log4j.*;
+
+
+/**
+ * The batch runner executes many complete application runs, the jobs, in a single
+ * process. The command lines of the jobs are read from a job file; a typical use case is
+ * code generation for each ECU or variant of a project.<p>
+ *   The job file contains one command line per line. The arguments are separated by
+ * white space; an argument, which contains blanks, is enclosed in double quotes. A double
+ * quote inside a quoted argument is written as two double quotes. Empty lines and lines
+ * starting with # are ignored.<p>
+ *   The jobs share the compiled template groups and the parse trees of the network
+ * database files, see {@link ParseTreeCache}. The logging is configured once for the
+ * entire batch by the command line of the batch; the logging options of the jobs are
+ * ignored.<p>
+ *   The jobs can be run concurrently. The console output of each job is buffered and
+ * printed when the job has completed, in the order of the job file. The lines in the log
+ * file of concurrent jobs may be interleaved. A job, which runs concurrently with others,
+ * parses and renders sequentially.
+ */
+
+public class BatchRunner
+{
+    /** Access the Apache logger object. */
+    private static Logger _logger = Logger.getLogger(BatchRunner.class.getName());
+
+    /** The arguments, which identify a command line as command line of a batch. */
+    private static final String[] _jobFileArgAry = {"-jf", "--job-file"};
+
+    /**
+     * A console stream, which writes into a stream, which is bound to the current thread.
+     * Installed as System.out and System.err, it separates the console output of
+     * concurrent jobs.
+     */
+    private static class ThreadOutputStream extends OutputStream
+    {
+        /** The stream of the thread. */
+        private final ThreadLocal<OutputStream> threadOut_;
+
+        /** The stream, which is used by threads without a bound stream. */
+        private final OutputStream defaultOut_;
+
+        /**
+         * A new instance of ThreadOutputStream is created.
+         *   @param threadOut
+         * The stream of a thread.
+         *   @param defaultOut
+         * The stream, which is used by threads without a bound stream.
+         */
+        ThreadOutputStream(ThreadLocal<OutputStream> threadOut, OutputStream defaultOut)
+        {
+            threadOut_ = threadOut;
+            defaultOut_ = defaultOut;
+        }
+
+        /**
+         * Get the stream to write into.
+         *   @return Get the stream.
+         */
+        private OutputStream getOut()
+        {
+            final OutputStream out = threadOut_.get();
+            return out != null? out: defaultOut_;
+        }
+
+        @Override public void write(int b)
+            throws IOException
+            { getOut().write(b); }
+
+        @Override public void write(byte[] b, int off, int len)
+            throws IOException
+            { getOut().write(b, off, len); }
+
+        @Override public void flush()
+            throws IOException
+            { getOut().flush(); }
+
+    } /* End of class BatchRunner.ThreadOutputStream */
+
+
+
+    /**
+     * Define the command line arguments of a batch.
+     *   @param clp
+     * The arguments are defined in this parser.
+     *   @param isBatch
+     * If true then the arguments are defined for parsing the command line of a batch. If
+     * false then they are defined for the usage text of a normal application run only.
+     */
+    static void defineArguments(CmdLineParser clp, boolean isBatch)
+    {
+        clp.defineArgument( _jobFileArgAry[0].substring(1)
+                          , _jobFileArgAry[1].substring(2)
+                          , /* cntMin, cntMax */ isBatch? 1: 0, 1
+                          , /* defaultValue */ null
+                          , "The name of the job file. Each line of the file holds the"
+                            + " complete command line of an application run. Lines, which"
+                            + " are empty or start with #, are ignored. An argument, which"
+                            + " contains blanks, needs to be enclosed in double quotes; a"
+                            + " double quote inside a quoted argument is written as two"
+                            + " double quotes. The logging arguments of the command lines"
+                            + " in the job file are ignored; the logging is controlled by"
+                            + " the batch command line. A batch command line must not"
+                            + " contain other arguments than "
+                            + _jobFileArgAry[1] + ", --job-threads, --help and the logging"
+                            + " arguments"
+                          );
+        clp.defineArgument( "jt"
+                          , "job-threads"
+                          , /* cntMin, cntMax */ 0, 1
+                          , /* defaultValue */ 1
+                          , "The number of jobs of a batch, which are run concurrently. A"
+                            + " value of zero or less means to use as many threads as there"
+                            + " are processor cores. Optional, default is 1, the jobs are"
+                            + " run one after another. Only used together with "
+                            + _jobFileArgAry[1]
+                          );
+    } /* End of BatchRunner.defineArguments */
+
+
+
+    /**
+     * Create the parser for the command line of a batch.
+     *   @return Get the parser with all arguments defined.
+     */
+    private static CmdLineParser createCmdLineParser()
+    {
+        final CmdLineParser clp = new CmdLineParser();
+        clp.defineArgument( "h"
+                          , "help"
+                          , /* cntMax */ 1
+                          , "Demand this help."
+                          );
+        defineArguments(clp, /* isBatch */ true);
+        CodeGenerator.defineLogArguments(clp);
+        return clp;
+
+    } /* End of BatchRunner.createCmdLineParser */
+
+
+
+    /**
+     * Check if a command line demands a batch of jobs.
+     *   @return Get true if the command line names a job file. The job file argument is
+     * only recognized at the position of an argument of a batch command line, not, e.g.,
+     * as value of another argument or after the first argument of a normal application
+     * run.
+     *   @param argAry
+     * The command line of the application.
+     */
+    static boolean isBatchCommandLine(String[] argAry)
+    {
+        final CmdLineParser clp = createCmdLineParser();
+        try
+        {
+            clp.parseArgs(argAry);
+        }
+        catch(CmdLineParser.InvalidArgException e)
+        {
+            /* The parser stops at the first argument, which doesn't belong to a batch
+               command line, but the arguments before are still evaluated. An erroneous
+               batch command line is reported by runBatch. */
+        }
+        return clp.getNoValues(_jobFileArgAry[1].substring(2)) > 0;
+
+    } /* End of BatchRunner.isBatchCommandLine */
+
+
+
+    /**
+     * Split a line of the job file into the arguments of the command line. Arguments,
+     * which contain white space, are enclosed in double quotes. Inside quotes, two double
+     * quotes stand for a double quote, which is part of the argument.
+     *   @return Get the arguments.
+     *   @throws IllegalArgumentException
+     * A quoted argument is not terminated.
+     *   @param line
+     * The line of the job file.
+     */
+    private static String[] splitCommandLine(String line)
+    {
+        final List<String> argList = new ArrayList<>();
+        final StringBuilder arg = new StringBuilder();
+        boolean isInArg = false
+              , isQuoted = false;
+        for(int i=0; i<line.length(); ++i)
+        {
+            final char c = line.charAt(i);
+            if(c == '"'  &&  isQuoted  &&  i+1 < line.length()  &&  line.charAt(i+1) == '"')
+            {
+                arg.append(c);
+                ++ i;
+            }
+            else if(c == '"')
+            {
+                isQuoted = !isQuoted;
+                isInArg = true;
+            }
+            else if(!isQuoted  &&  Character.isWhitespace(c))
+            {
+                if(isInArg)
+                {
+                    argList.add(arg.toString());
+                    arg.setLength(0);
+                    isInArg = false;
+                }
+            }
+            else
+            {
+                arg.append(c);
+                isInArg = true;
+            }
+        }
+        if(isQuoted)
+            throw new IllegalArgumentException("Missing closing quote");
+        if(isInArg)
+            argList.add(arg.toString());
+
+        return argList.toArray(new String[0]);
+
+    } /* End of BatchRunner.splitCommandLine */
+
+
+
+    /**
+     * Read the job file.
+     *   @return Get the command lines of all jobs or null if the file can't be read. The
+     * problem has been reported.
+     *   @param jobFileName
+     * The name of the job file.
+     */
+    private static List<String[]> readJobFile(String jobFileName)
+    {
+        final List<String> lineList;
+        try
+        {
+            lineList = Files.readAllLines(Paths.get(jobFileName), StandardCharsets.UTF_8);
+        }
+        catch(IOException | InvalidPathException e)
+        {
+            _logger.error("Can't read job file " + jobFileName + ". " + e.getMessage());
+            return null;
+        }
+
+        final List<String[]> jobList = new ArrayList<>(lineList.size());
+        int lineNo = 0;
+        for(String line: lineList)
+        {
+            ++ lineNo;
+            line = line.trim();
+            if(line.isEmpty()  ||  line.startsWith("#"))
+                continue;
+
+            try
+            {
+                jobList.add(splitCommandLine(line));
+            }
+            catch(IllegalArgumentException e)
+            {
+                _logger.error("Job file " + jobFileName + ", line " + lineNo + ": "
+                              + e.getMessage()
+                             );
+                return null;
+            }
+        }
+
+        return jobList;
+
+    } /* End of BatchRunner.readJobFile */
+
+
+
+    /**
+     * Execute a single job.
+     *   @return Get the exit code of the job.
+     *   @param argAry
+     * The command line of the job.
+     *   @param jobContext
+     * The resources, which are shared by all jobs of the batch.
+     */
+    private static int runJob(String[] argAry, JobContext jobContext)
+    {
+        try
+        {
+            return CodeGenerator.runApplication(argAry, jobContext);
+        }
+        catch(RuntimeException e)
+        {
+            /* A failing job must not abort the other jobs of the batch. */
+            e.printStackTrace();
+            return 1;
+        }
+    } /* End of BatchRunner.runJob */
+
+
+
+    /**
+     * Execute all jobs concurrently, using a pool of worker threads.
+     *   @return Get the number of failed jobs.
+     *   @param jobList
+     * The command lines of the jobs.
+     *   @param jobContext
+     * The resources, which are shared by all jobs.
+     *   @param noThreads
+     * The number of worker threads.
+     *   @param threadOut
+     * The console output of the worker threads is bound to this variable.
+     *   @param console
+     * The console of the application. The output of the jobs is printed here.
+     */
+    private static int runJobsConcurrently( List<String[]> jobList
+                                          , final JobContext jobContext
+                                          , int noThreads
+                                          , final ThreadLocal<OutputStream> threadOut
+                                          , PrintStream console
+                                          )
+    {
+        /* The result of a single job. */
+        class JobResult
+        {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            int exitCode = 1;
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(noThreads);
+        int noFailedJobs = 0;
+        try
+        {
+            final List<Future<JobResult>> futureAry = new ArrayList<>(jobList.size());
+            for(final String[] argAry: jobList)
+            {
+                futureAry.add(executor.submit(new Callable<JobResult>()
+                    {
+                        @Override public JobResult call()
+                        {
+                            final JobResult result = new JobResult();
+                            threadOut.set(result.out);
+                            try
+                            {
+                                result.exitCode = runJob(argAry, jobContext);
+                            }
+                            finally
+                            {
+                                threadOut.remove();
+                            }
+                            return result;
+                        }
+                    }));
+            }
+
+            /* Print the console output of the jobs in the order of the job file. */
+            for(Future<JobResult> future: futureAry)
+            {
+                final JobResult result;
+                try
+                {
+                    result = future.get();
+                }
+                catch(InterruptedException | ExecutionException e)
+                {
+                    throw new RuntimeException(e);
+                }
+
+                console.write(result.out.toByteArray(), 0, result.out.size());
+                console.flush();
+                if(result.exitCode != 0)
+                    ++ noFailedJobs;
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        return noFailedJobs;
+
+    } /* End of BatchRunner.runJobsConcurrently */
+
+
+
+    /**
+     * Execute a batch of jobs.
+     *   @return Get the exit code of the batch: 0 if all jobs succeeded or if no
+     * operation was requested, 1 otherwise, including an invalid command line.
+     *   @param argAry
+     * The command line of the batch. It names the job file and specifies the number of
+     * concurrent jobs and the logging.
+     */
+    static int runBatch(String[] argAry)
+    {
+        final CmdLineParser clp = createCmdLineParser();
+
+        try
+        {
+            clp.parseArgs(argAry);
+        }
+        catch(CmdLineParser.InvalidArgException e)
+        {
+            System.out.print(clp.getUsageInfo(CodeGenerator._applicationName)
+                             + System.lineSeparator() + "Invalid command line. "
+                             + e.getMessage() + System.lineSeparator()
+                            );
+            return clp.getBoolean("h")? 0: 1;
+        }
+        if(clp.getBoolean("h"))
+        {
+            System.out.print(clp.getUsageInfo(CodeGenerator._applicationName));
+            return 0;
+        }
+
+        int noThreads = clp.getInteger("jt");
+        if(noThreads <= 0)
+            noThreads = Runtime.getRuntime().availableProcessors();
+
+        /* The console output of concurrent jobs is separated by a stream, which depends
+           on the thread. It needs to be installed before the logging is configured, since
+           the console appender is bound to the console stream at configuration time. */
+        final PrintStream stdout = System.out
+                        , stderr = System.err;
+        final ThreadLocal<OutputStream> threadOut = new ThreadLocal<>();
+        if(noThreads > 1)
+        {
+            System.setOut(new PrintStream(new ThreadOutputStream(threadOut, stdout), true));
+            System.setErr(new PrintStream(new ThreadOutputStream(threadOut, stderr), true));
+        }
+
+        try
+        {
+            CodeGenerator.initLog4j(clp);
+
+            final String jobFileName = clp.getString(_jobFileArgAry[1].substring(2));
+            final List<String[]> jobList = readJobFile(jobFileName);
+            if(jobList == null)
+                return 1;
+            noThreads = Math.min(noThreads, jobList.size());
+            _logger.info("Running " + jobList.size() + " jobs from job file " + jobFileName
+                         + " using " + Math.max(noThreads, 1) + " threads"
+                        );
+
+            final JobContext jobContext = new JobContext( new TemplateGroupCache()
+                                                        , new ParseTreeCache()
+                                                        , /* isLoggingConfigured */ true
+                                                        , /* isConcurrent */ noThreads > 1
+                                                        );
+            int noFailedJobs = 0;
+            if(noThreads > 1)
+            {
+                /* The streaming parse of a job holds back its log output. Concurrent jobs
+                   must not replace the appenders of the root logger on their own; they
+                   share the deferring appender of the batch. */
+                final DeferredLogAppender logAppender = new DeferredLogAppender();
+                logAppender.install();
+                try
+                {
+                    noFailedJobs = runJobsConcurrently( jobList
+                                                      , jobContext
+                                                      , noThreads
+                                                      , threadOut
+                                                      , stdout
+                                                      );
+                }
+                finally
+                {
+                    logAppender.uninstall();
+                }
+            }
+            else
+            {
+                for(String[] jobArgAry: jobList)
+                {
+                    if(runJob(jobArgAry, jobContext) != 0)
+                        ++ noFailedJobs;
+                }
+            }
+
+            _logger.log( noFailedJobs > 0? Level.ERROR: Level.INFO
+                       , "Batch completed: " + (jobList.size()-noFailedJobs) + " of "
+                         + jobList.size() + " jobs succeeded"
+                       );
+            return noFailedJobs > 0? 1: 0;
+        }
+        finally
+        {
+            System.setOut(stdout);
+            System.setErr(stderr);
+        }
+    } /* End of BatchRunner.runBatch */
+
+} /* End of class BatchRunner definition. */
@@ -20,15 +20,27 @@
 /* Interface of class CodeGenerator
  *   CodeGenerator
  *   createDir
+ *   defineLogArguments
  *   parseCmdLine
  *   initLog4j
+ *   parseBus
+ *   addBusToCluster
+ *   getTaskResult
+ *   parseBusesConcurrently
+ *   createGeneratedOutput
+ *   renderOutput
+ *   commitOutput
+ *   renderOutputsConcurrently
+ *   parseAndRender
  *   run
+ *   runApplication
  *   main
  */
 
 package codeGenerator.main;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.io.*;
 
 import cmdLineParser.*;
@@ -38,6 +50,7 @@ import org.antlr.v4.runtime.*;
 import org.antlr.v4.runtime.tree.*;
 import org.stringtemplate.v4.*;
 import org.apache.log4j.*;
+import org.apache.log4j.spi.LoggingEvent;
 //import org.apache.logging.log4j.*;
 
 
@@ -85,6 +98,32 @@ public class CodeGenerator
     /** The global structure that holds all runtime parameters. */
     private ParameterSet parameterSet_ = null;
 
+    /** The command line has been rejected by {@link #parseCmdLine}. */
+    private boolean isCmdLineInvalid_ = false;
+
+    /** The template groups, which have been loaded and compiled in the current run. If
+        set before the run then the cache is shared with other runs in the same process. */
+    private TemplateGroupCache templateGroupCache_ = null;
+
+    /** The resources shared with other application runs in the same process or null if
+        this is the only run. */
+    private JobContext jobContext_ = null;
+
+    /** The cache of data models of parsed network database files or null if it is not
+        used in the current run. */
+    private ModelCache modelCache_ = null;
+
+    /** The pool of strings, which is shared by the data models of all buses of the
+        current run. It is used only while parsing. */
+    private StringPool stringPool_ = null;
+
+    /** The number of output files, which have been written in the current run. */
+    private int noWrittenFiles_ = 0;
+
+    /** The number of output files, which have not been rewritten in the current run since
+        their contents didn't change. */
+    private int noUnchangedFiles_ = 0;
+
     /** The correct EOL in abbreviated form. */
     private final String NL = System.lineSeparator();
 
@@ -115,7 +154,7 @@ public class CodeGenerator
      *   @param fileNameObj
      * The file name of a file to be created as a File object. May be relative or absolute.
      */
-    static private boolean createDir(File fileNameObj)
+    static boolean createDir(File fileNameObj)
     {
         boolean success = true;
 
@@ -133,12 +172,48 @@ public class CodeGenerator
 
 
 
+    /**
+     * Define the command line arguments, which control the logging.
+     *   @param clp
+     * The command line parser, which gets the additional arguments.
+     */
+    static void defineLogArguments(CmdLineParser clp)
+    {
+        clp.defineArgument( "v"
+                          , "verbosity"
+                          , /* cntMin, cntMax */ 0, 1
+                          , /* defaultValue */ "INFO"
+                          , "Verbosity of all logging. Specify one out of OFF, "
+                            + "FATAL, ERROR, WARN, or INFO. Default is INFO."
+                          );
+        clp.defineArgument( "l"
+                          , "log-file"
+                          , /* cntMin, cntMax */ 0, 1
+                          , /* defaultValue */ null
+                          , "If given, a log file is written containing general "
+                            + "program flow messages."
+                          );
+        clp.defineArgument( "p"
+                          , "log4j-pattern"
+                          , /* cntMin, cntMax */ 0, 1
+                          , /* defaultValue */ null
+                          , "A pattern for the log file entries may be specified, "
+                            + "e.g. \"%d %p: [%t]: %m%n\". See "
+                            + "Log4j.PatternLayout for details. The default will "
+                            + "be most often sufficient."
+                          );
+    } /* End of CodeGenerator.defineLogArguments. */
+
+
+
+
     /**
      * Read and check the command line arguments.
      *   The command line is evaluated. If an error is found the usage is displayed.
      * @return true is returned if the method succeeds. Then retrieve all command line
      * options from member cmdLineParser_. If the function fails it returns false. The main
-     * program should end.
+     * program should end. The help demanded is a failure, too; an invalid command line
+     * is distinguished by member isCmdLineInvalid_.
      * @param argAry
      *   The command line arguments of the program.
      */
@@ -153,29 +228,12 @@ public class CodeGenerator
                                      , /* cntMax */ 1
                                      , "Demand this help."
                                      );
-        cmdLineParser_.defineArgument( "v"
-                                     , "verbosity"
-                                     , /* cntMin, cntMax */ 0, 1
-                                     , /* defaultValue */ "INFO"
-                                     , "Verbosity of all logging. Specify one out of OFF, "
-                                       + "FATAL, ERROR, WARN, or INFO. Default is INFO."
-                                     );
-        cmdLineParser_.defineArgument( "l"
-                                     , "log-file"
-                                     , /* cntMin, cntMax */ 0, 1
-                                     , /* defaultValue */ null
-                                     , "If given, a log file is written containing general "
-                                       + "program flow messages."
-                                     );
-        cmdLineParser_.defineArgument( "p"
-                                     , "log4j-pattern"
-                                     , /* cntMin, cntMax */ 0, 1
-                                     , /* defaultValue */ null
-                                     , "A pattern for the log file entries may be specified, "
-                                       + "e.g. \"%d %p: [%t]: %m%n\". See "
-                                       + "Log4j.PatternLayout for details. The default will "
-                                       + "be most often sufficient."
-                                     );
+        defineLogArguments(cmdLineParser_);
+
+        /* The arguments of a batch of application runs are defined only for the sake of
+           a complete usage text. A command line with job file is handled by the batch
+           runner. */
+        BatchRunner.defineArguments(cmdLineParser_, /* isBatch */ false);
 
         /* No unnamed arguments are expected. */
         //cmdLineParser_.defineArgument( /* cntMin, cntMax */ 0, -1
@@ -190,17 +248,37 @@ public class CodeGenerator
         try
         {
             cmdLineParser_.parseArgs(argAry);
+            if(cmdLineParser_.getNoValues("jf") > 0
+               ||  cmdLineParser_.getNoValues("jt") > 0
+              )
+            {
+                throw new CmdLineParser.InvalidArgException
+                            ("The arguments of a batch, --job-file and --job-threads, can't"
+                             + " be combined with the arguments of a single application run"
+                            );
+            }
 
             /* The normal one-global-value (i.e. context free) arguments are immediately
                accessible after parsing. This suffices to initalize the Apache logger,
                which is required to report the progress of the further parsing of the
-               context dependent arguments. */
-            initLog4j();
+               context dependent arguments. A job, whose logging is configured by the
+               batch, ignores the logging options. */
+            if(jobContext_ == null  ||  !jobContext_.isLoggingConfigured)
+                initLog4j(cmdLineParser_);
 
             /* Now parse the context dependent arguments, which may appear repeatly in
                different contexts. */
             parameterSet_.parseCmdLine(cmdLineParser_);
 
+            /* A job, which runs concurrently with other jobs, parses and renders
+               sequentially. The deferred logging, which keeps the log of concurrent tasks in
+               order, is global to the process. */
+            if(jobContext_ != null  &&  jobContext_.isConcurrent)
+            {
+                parameterSet_.noParseThreads = 1;
+                parameterSet_.noRenderThreads = 1;
+            }
+
             if(cmdLineParser_.getBoolean("h"))
             {
                 /* ... and explain them. */
@@ -216,6 +294,10 @@ public class CodeGenerator
         catch(CmdLineParser.InvalidArgException e)
         {
             parameterSet_ = null;
+
+            /* Demanding the help without the otherwise mandatory arguments is not an
+               error. */
+            isCmdLineInvalid_ = !cmdLineParser_.getBoolean("h");
             System.out.print(cmdLineParser_.getUsageInfo(_applicationName)
                              + NL + "Invalid command line. " + e.getMessage() + NL
                             );
@@ -232,12 +314,15 @@ public class CodeGenerator
     /**
      * Initialize the log4j logger module. The basic settings are taken from the members
      * that reflect the respective command line options -v, -l, -p.
+     *   @param clp
+     * The command line parser after successful parsing of the command line. The logging
+     * arguments need to be defined by {@link #defineLogArguments}.
      */
-    private void initLog4j()
+    static void initLog4j(CmdLineParser clp)
     {
-        String verbosity   = cmdLineParser_.getString("v")
-             , logFileName = cmdLineParser_.getString("l")
-             , pattern     = cmdLineParser_.getString("p");
+        String verbosity   = clp.getString("v")
+             , logFileName = clp.getString("l")
+             , pattern     = clp.getString("p");
 
         /* Create the logging directories. */
         if( logFileName != null )
@@ -281,325 +366,847 @@ public class CodeGenerator
 
 
     /**
-     * After setting all parameters (by constructor) call this method to perform the
-     * operation. run is synchronous and does not fork another task or process.
-     *   @return
-     * <b>true</b>, if method succeeded, else <b>false</b>.
+     * Parse the network database file of a single bus and transform the parse result into
+     * the data model of the bus.
+     *   @return Get the data model of the bus or null if an error occurred.
+     *   @param parser
+     * The parser object to use.
+     *   @param isStreaming
+     * If true then the file is parsed in streaming mode, see {@link
+     * DataModelListener#parse}. The parse tree cache is not used.
+     *   @param parseTreeCache
+     * The parse trees of network database files, which are shared with other application
+     * runs, or null if the file is parsed in any case.
+     *   @param modelCache
+     * The snapshots of the data models of previously parsed network database files or null
+     * if the file is parsed in any case.
+     *   @param stringPool
+     * The pool of strings, which is shared by all buses of the run, or null if strings are
+     * not pooled.
+     *   @param busDescription
+     * The user specification of the bus, including the name of the network database file.
+     *   @param errCnt
+     * All problems are counted in this object.
      */
-    public boolean run()
+    private static Bus parseBus( DbcParserMain parser
+                               , boolean isStreaming
+                               , ParseTreeCache parseTreeCache
+                               , ModelCache modelCache
+                               , StringPool stringPool
+                               , ParameterSet.BusDescription busDescription
+                               , ErrorCounter errCnt
+                               )
     {
-        /* A single error counter is used for all operations. Its life cycle ends with the
-           run of the application. However, it'll be repeatedly reset to null. A reference
-           to this error counter is passed to involved modules and objects.
-             A second counter is used to report the total number of issues at the end of
-           the application run. */
-        final ErrorCounter errCnt = new ErrorCounter()
-                         , totalErrCnt = new ErrorCounter();
-
-        /* A single parser object is used for all network specification files. */
-        final DbcParserMain parser = new DbcParserMain();
-
-        /* The cluster object basically is the list of buses, which are got from parsing a
-           single network databse file. We start here with an still emtpy cluster. */
-        Cluster cluster = new Cluster();
-        cluster.name = parameterSet_.clusterName;
-        cluster.nodeName = parameterSet_.nodeName;
-
-        Iterator<ParameterSet.BusDescription> itBus =
-                                                parameterSet_.busDescriptionAry.iterator();
-        int successfullyParsedBuses = 0;
-        boolean success = true;
-        while(itBus.hasNext())
+        File networkDbFile = new File(busDescription.networkFileName);
+
+        /* This will output the full path where the file is read from. */
+        _logger.info("Next network database file: " + networkDbFile.getAbsolutePath());
+
+        /* Try to load the data model from a snapshot. If there's none then the data model
+           is created by parsing and a snapshot is taken afterwards. The object IDs of the
+           snapshot are relative to the next ID at the beginning of parsing. */
+        final String modelKey = modelCache != null? modelCache.computeKey(busDescription)
+                                                  : null;
+        final int firstObjId = NetObject.reserveObjIds(0);
+        if(modelKey != null)
         {
-            assert errCnt.getNoErrors() == 0  &&  errCnt.getNoWarnings() == 0;
-
-            ParameterSet.BusDescription busDescription = itBus.next();
-            File networkDbFile = new File(busDescription.networkFileName);
-
-            /* This will output the full path where the file is read from. */
-            _logger.info("Next network database file: " + networkDbFile.getAbsolutePath());
+            final Bus bus = modelCache.load(modelKey, errCnt);
+            if(bus != null)
+            {
+                /* The fields, which are simply copied from the user's bus specification,
+                   are not part of the snapshot. */
+                bus.name = busDescription.name;
+                bus.networkFile = new FileExt(busDescription.networkFileName);
+                bus.optionMap = busDescription.optionMap;
+
+                _logger.info("Data model of network database file is loaded from model"
+                             + " cache, parsing is skipped"
+                            );
+                return bus;
+            }
+        }
 
-            errCnt.reset();
-            ParseTree parseTree = parser.parse(busDescription.networkFileName, errCnt);
-            Bus bus;
+        Bus bus;
+        if(isStreaming)
+        {
+            /* The data model is shaped while parsing, there's no parse tree. */
+            bus = DataModelListener.parse(parser, busDescription, errCnt, stringPool);
+        }
+        else
+        {
+            ParseTree parseTree;
+            if(parseTreeCache != null)
+            {
+                parseTree = parseTreeCache.parse( parser
+                                                , busDescription.networkFileName
+                                                , busDescription.networkFileCharset
+                                                , errCnt
+                                                );
+            }
+            else
+            {
+                parseTree = parser.parse( busDescription.networkFileName
+                                        , busDescription.networkFileCharset
+                                        , errCnt
+                                        );
+            }
             if(parseTree != null)
             {
                 /* Walk trough the parse tree using a listener and pick out the relevant
                    information. Get the transformed data back. */
-                bus = DataModelListener.walk(parseTree, busDescription, errCnt);
+                bus = DataModelListener.walk(parseTree, busDescription, errCnt, stringPool);
             }
             else
             {
                 assert errCnt.getNoErrors() > 0: "Unreported error";
                 bus = null;
-                success = false;
             }
+        }
 
-            final Level logLevel =
-                    errCnt.getNoErrors() > 0
-                        ? Level.ERROR
-                        : (errCnt.getNoWarnings() > 0? Level.WARN: Level.INFO);
-            _logger.log( logLevel
-                       , "Parsing done with " + errCnt.getNoErrors() + " errors and "
-                         + errCnt.getNoWarnings() + " warnings"
-                       );
+        final Level logLevel =
+                errCnt.getNoErrors() > 0
+                    ? Level.ERROR
+                    : (errCnt.getNoWarnings() > 0? Level.WARN: Level.INFO);
+        _logger.log( logLevel
+                   , "Parsing done with " + errCnt.getNoErrors() + " errors and "
+                     + errCnt.getNoWarnings() + " warnings"
+                   );
+
+        /* Only a data model without any problems is stored; the problems of the others
+           need to be reported again in the next run. */
+        if(modelKey != null
+           &&  bus != null
+           &&  errCnt.getNoErrors() == 0
+           &&  errCnt.getNoWarnings() == 0
+          )
+        {
+            modelCache.store( modelKey
+                            , bus
+                            , firstObjId
+                            , NetObject.reserveObjIds(0) - firstObjId
+                            );
+        }
 
-            /* Add a successfully parsed bus to the cluster object. */
-            if(bus != null)
-            {
-                ++ successfullyParsedBuses;
+        return bus;
 
-                /* Convenience in templates: enumerate all buses. */
-                bus.i = successfullyParsedBuses;
-                bus.i0 = bus.i - 1;
+    } /* End of CodeGenerator.parseBus. */
 
-                /* Add the bus to the bus list. */
-                cluster.addBus(bus);
 
-                /* Propagate the warnings from the bus to the cluster. */
-                if(bus.hasFloatingPointSignals)
-                    cluster.hasFloatingPointSignals = true;
-                if(bus.hasScaledFloatingPointSignals)
-                    cluster.hasScaledFloatingPointSignals = true;
-            }
-            else
-            {
-                assert errCnt.getNoErrors() > 0: "Unreported error";
-                success = false;
-                _logger.error("Parse result from network database "
-                              + networkDbFile.getPath()
-                              + " is rejected due to previous errors. The rendered"
-                              + " data model won't contain information from this"
-                              + " network database file"
-                             );
-            }
 
-            /* Error counting and reporting is done separately for all parsed network
-               specification files. We collect all errors for a final overall result. */
-            totalErrCnt.add(errCnt);
-            errCnt.reset();
 
-        } /* End while(All buses definitions in parameter set) */
+    /**
+     * Add the data model of a parsed bus to the cluster.
+     *   @return Get true if the bus could be added or false if it had been rejected due to
+     * parse errors.
+     *   @param cluster
+     * The cluster object, which collects all buses.
+     *   @param bus
+     * The parse result as got from {@link #parseBus} or null if parsing failed.
+     *   @param busDescription
+     * The user specification of the bus.
+     *   @param errCnt
+     * The error counter, which had been used for parsing the bus.
+     */
+    private static boolean addBusToCluster( Cluster cluster
+                                          , Bus bus
+                                          , ParameterSet.BusDescription busDescription
+                                          , ErrorCounter errCnt
+                                          )
+    {
+        /* Add a successfully parsed bus to the cluster object. */
+        if(bus != null)
+        {
+            /* Convenience in templates: enumerate all buses. */
+            bus.i = cluster.getNoBuses() + 1;
+            bus.i0 = bus.i - 1;
+
+            /* Add the bus to the bus list. */
+            cluster.addBus(bus);
+
+            /* Propagate the warnings from the bus to the cluster. */
+            if(bus.hasFloatingPointSignals)
+                cluster.hasFloatingPointSignals = true;
+            if(bus.hasScaledFloatingPointSignals)
+                cluster.hasScaledFloatingPointSignals = true;
 
-        /* The data model of the network is complete. Pass it to the template engine. Do
-           this repeatedly - different templates will render the information into different
-           output files. */
-        if(successfullyParsedBuses > 0)
+            return true;
+        }
+        else
         {
-            Iterator<ParameterSet.TemplateOutputPair> itOFile =
-                                                parameterSet_.templateOutputPairAry.iterator();
-            while(itOFile.hasNext())
-            {
-                assert errCnt.getNoErrors() == 0  &&  errCnt.getNoWarnings() == 0;
+            assert errCnt.getNoErrors() > 0: "Unreported error";
+            _logger.error("Parse result from network database "
+                          + new File(busDescription.networkFileName).getPath()
+                          + " is rejected due to previous errors. The rendered"
+                          + " data model won't contain information from this"
+                          + " network database file"
+                         );
+            return false;
+        }
+    } /* End of CodeGenerator.addBusToCluster. */
 
-                Info info = new Info(errCnt);
-                info.setApplicationInfo( _applicationName
-                                       , _versionAry
-                                       , _versionDataModel
-                                       );
-
-                ParameterSet.TemplateOutputPair templateOutputPair = itOFile.next();
-                info.setTemplateInfo( templateOutputPair.templateFileName
-                                    , templateOutputPair.templateName
-                                    , templateOutputPair.templateArgNameCluster
-                                    , templateOutputPair.templateArgNameInfo
-                                    , templateOutputPair.templateWrapCol
-                                    );
-                info.setOutputInfo(templateOutputPair.outputFileName);
 
-                /* Pass the output related user attributes from the command line into the
-                   template. */
-                info.setUserOptions(templateOutputPair.optionMap);
 
-                STGroup stg = null;
-                try
-                {
-                    stg = new STGroupFile(templateOutputPair.templateFileName);
-                }
-                catch(Exception e)
-                {
-                    errCnt.error();
-                    _logger.error("Error reading template group file. " + e.getMessage());
-                    success = false;
-                }
 
-                if(stg != null)
-                {
-                    /* By experience, the first true use of the template group object
-                       starts the template compilation - this is not only done at the
-                       obvious locations getInstanceOf or render. Since we use runtime
-                       exceptions in our error listener to abort the template expansion all
-                       of these actions need to be try/catch protected, regadless whether
-                       the ST4 APIs declare a throw or not. */
-                    String generatedCode = null;
-                    try
+    /**
+     * Wait for the completion of a task, which had been submitted to a pool of worker
+     * threads and get its result.
+     *   @return Get the result of the task.
+     *   @param future
+     * The future of the submitted task.
+     *   @param <T>
+     * The type of the task's result.
+     */
+    private static <T> T getTaskResult(Future<T> future)
+    {
+        try
+        {
+            return future.get();
+        }
+        catch(InterruptedException e)
+        {
+            throw new RuntimeException(e);
+        }
+        catch(ExecutionException e)
+        {
+            /* The sequential processing doesn't catch unexpected runtime exceptions
+               either. */
+            if(e.getCause() instanceof RuntimeException)
+                throw (RuntimeException)e.getCause();
+            else if(e.getCause() instanceof Error)
+                throw (Error)e.getCause();
+            else
+                throw new RuntimeException(e.getCause());
+        }
+    } /* End of CodeGenerator.getTaskResult. */
+
+
+
+
+    /**
+     * Parse the network database files of all buses concurrently.<p>
+     *   Each bus is parsed by a task of a pool of worker threads. Each task uses its own
+     * parser and error counter. The results are added to the cluster in the order of the
+     * bus specifications. The application log is held back and emitted in the same
+     * order. The object IDs of the network objects are made the same as for sequential
+     * parsing. The resulting data model and the log are the same as if
+     * the buses had been parsed one after another.
+     *   @return Get true if all buses could be added or false if at least one bus had
+     * been rejected due to parse errors.
+     *   @param cluster
+     * The cluster object, which collects all buses.
+     *   @param totalErrCnt
+     * The problems found during parsing are added to this counter.
+     */
+    private boolean parseBusesConcurrently(Cluster cluster, ErrorCounter totalErrCnt)
+    {
+        /* The result of a single parse task. */
+        class ParseResult
+        {
+            final ErrorCounter errCnt = new ErrorCounter();
+            Bus bus = null;
+            int noObjIds = 0;
+            List<LoggingEvent> logEventAry = null;
+        }
+
+        final List<ParameterSet.BusDescription> busDescriptionAry =
+                                                            parameterSet_.busDescriptionAry;
+        final ParseTreeCache parseTreeCache =
+                                    jobContext_ != null? jobContext_.parseTreeCache: null;
+        final int noThreads = Math.min( parameterSet_.noParseThreads
+                                      , busDescriptionAry.size()
+                                      );
+        _logger.debug("Parsing " + busDescriptionAry.size() + " network database files using "
+                      + noThreads + " threads"
+                     );
+
+        final DeferredLogAppender logAppender = new DeferredLogAppender();
+        final ExecutorService executor = Executors.newFixedThreadPool(noThreads);
+        boolean success = true;
+        logAppender.install();
+        try
+        {
+            List<Future<ParseResult>> futureAry = new ArrayList<>(busDescriptionAry.size());
+            for(final ParameterSet.BusDescription busDescription: busDescriptionAry)
+            {
+                futureAry.add(executor.submit(new Callable<ParseResult>()
                     {
-                        /* Install our listener to get the ST4 messages into our
-                           application log and to count internal ST4 errors, too. */
-                        stg.setListener(new ST4ErrorListener(errCnt));
-
-                        stg.verbose = parameterSet_.stringTemplateVerbose;
-                        stg.registerRenderer(Number.class, new NumberRenderer());
-                        stg.registerRenderer(String.class, new StringRenderer());
-                        ST template = stg.getInstanceOf(templateOutputPair.templateName);
-                        if(template != null)
+                        @Override public ParseResult call()
                         {
-                            if(errCnt.getNoErrors() == 0)
+                            final ParseResult result = new ParseResult();
+                            final DbcParserMain parser =
+                                new DbcParserMain( parameterSet_.profileParser
+                                                 , parameterSet_.noFileParseThreads
+                                                 , parameterSet_.fastLexer
+                                                 );
+                            logAppender.beginDeferral();
+                            NetObject.beginThreadLocalObjIds();
+                            try
                             {
-                                _logger.info("Network information is rendered according to"
-                                             + " template "
-                                             + templateOutputPair.templateFileName + ":"
-                                             + templateOutputPair.templateName + "("
-                                             + templateOutputPair.templateArgNameCluster + ", "
-                                             + templateOutputPair.templateArgNameInfo + ")"
-                                            );
-                                template.add( templateOutputPair.templateArgNameCluster
-                                            , cluster
-                                            );
-                                template.add(templateOutputPair.templateArgNameInfo, info);
-                                if(templateOutputPair.templateWrapCol > 0)
-                                {
-                                    generatedCode = template.render(templateOutputPair
-                                                                    .templateWrapCol
-                                                                   );
-                                }
-                                else
-                                    generatedCode = template.render();
-
-                                /* The error counter had been passed to the data model and
-                                   there it collects template emitted errors and warnings.
-                                   Code generation can have failed even if the template
-                                   expansion succeeded. */
+                                result.bus = parseBus( parser
+                                                     , parameterSet_.streamParse
+                                                     , parseTreeCache
+                                                     , modelCache_
+                                                     , stringPool_
+                                                     , busDescription
+                                                     , result.errCnt
+                                                     );
                             }
-                            else
+                            finally
                             {
-                                errCnt.error();
-                                _logger.error("Template group file "
-                                              + templateOutputPair.templateFileName
-                                              + " is not usable. See previous error messages"
-                                             );
-                                success = false;
+                                result.noObjIds = NetObject.endThreadLocalObjIds();
+                                result.logEventAry = logAppender.endDeferral();
                             }
+                            return result;
                         }
-                        else
-                        {
-                            errCnt.error();
-                            _logger.error("Template " + templateOutputPair.templateFileName
-                                          + ":" + templateOutputPair.templateName
-                                          + " not found. Please, double check file name,"
-                                          + " CLASSPATH (the search path for template files)"
-                                          + " and the name of the template. See command"
-                                          + " line options template-file-name and"
-                                          + " template-name, too"
-                                         );
-                            success = false;
-                        }
+                    }));
+            }
+
+            /* Collect the results in the order of bus specification. */
+            Iterator<ParameterSet.BusDescription> itBus = busDescriptionAry.iterator();
+            for(Future<ParseResult> future: futureAry)
+            {
+                final ParameterSet.BusDescription busDescription = itBus.next();
+                final ParseResult result = getTaskResult(future);
+
+                logAppender.emit(result.logEventAry);
+
+                /* The objects of the bus got preliminary IDs. Replace them with those,
+                   which sequential parsing would have assigned. */
+                final int firstObjId = NetObject.reserveObjIds(result.noObjIds);
+                if(result.bus != null)
+                    result.bus.rebaseObjIds(firstObjId);
+
+                if(!addBusToCluster(cluster, result.bus, busDescription, result.errCnt))
+                    success = false;
+
+                /* Error counting and reporting is done separately for all parsed network
+                   specification files. We collect all errors for a final overall
+                   result. */
+                totalErrCnt.add(result.errCnt);
+
+            } /* End for(All parse tasks) */
+        }
+        finally
+        {
+            executor.shutdownNow();
+            logAppender.uninstall();
+        }
+
+        return success;
+
+    } /* End of CodeGenerator.parseBusesConcurrently. */
+
+
+
+
+    /**
+     * Create the destination of the generated text of a template/output pair.
+     *   @return Get the new, not yet opened output object.
+     *   @param templateOutputPair
+     * The template and output file specification.
+     */
+    private GeneratedOutput createGeneratedOutput
+                                    (ParameterSet.TemplateOutputPair templateOutputPair)
+    {
+        return new GeneratedOutput( templateOutputPair.outputFileName
+                                  , parameterSet_.outputCharset
+                                  , parameterSet_.streamOutput
+                                  , parameterSet_.writeIfChanged
+                                  );
+
+    } /* End of CodeGenerator.createGeneratedOutput. */
+
+
+
+
+    /**
+     * Expand the template of a single template/output pair.
+     *   @return Get true if the template expansion succeeded or false if an error
+     * occurred. The error has been counted and reported. The output has been discarded in
+     * case of errors and needs to be committed otherwise.
+     *   @param cluster
+     * The data model to render. Since the template can sort the frames of the buses, this
+     * should be a view of the cluster, see {@link Cluster#createView}. A view is not
+     * shared by concurrent template expansions.
+     *   @param templateOutputPair
+     * The template and output file specification.
+     *   @param output
+     * The destination of the generated text. It must not have been opened yet.
+     *   @param errCnt
+     * All problems are counted in this object. Should be the same object as the view of
+     * the cluster had been created with.
+     */
+    private boolean renderOutput( Cluster cluster
+                                , ParameterSet.TemplateOutputPair templateOutputPair
+                                , GeneratedOutput output
+                                , ErrorCounter errCnt
+                                )
+    {
+        Info info = new Info(errCnt);
+        info.setTemplateInfo( templateOutputPair.templateFileName
+                            , templateOutputPair.templateName
+                            , templateOutputPair.templateArgNameCluster
+                            , templateOutputPair.templateArgNameInfo
+                            , templateOutputPair.templateWrapCol
+                            );
+        info.setOutputInfo(templateOutputPair.outputFileName);
+
+        /* Pass the output related user attributes from the command line into the
+           template. */
+        info.setUserOptions(templateOutputPair.optionMap);
+
+        /* The template group is shared with all other template/output pairs, which use
+           the same file. */
+        STGroup stg = null;
+        try
+        {
+            stg = templateGroupCache_.getTemplateGroup( templateOutputPair.templateFileName
+                                                      , parameterSet_.stringTemplateVerbose
+                                                      , parameterSet_.modelAdaptors
+                                                      , errCnt
+                                                      );
+        }
+        catch(Exception e)
+        {
+            errCnt.error();
+            _logger.error("Error reading template group file. " + e.getMessage());
+        }
+
+        /* Without template group, we fall through to the final error reporting. */
+        if(stg != null)
+        {
+            /* Install our listener to get the ST4 messages into our application log and
+               to count internal ST4 errors, too. The listener is bound to this expansion
+               only; the group is shared with other expansions.
+                 The template group has already been compiled by the cache. Since we use
+               runtime exceptions in our error listener to abort the template expansion
+               all further actions need to be try/catch protected, regadless whether the
+               ST4 APIs declare a throw or not. */
+            final ST4ErrorListener errorListener = new ST4ErrorListener(errCnt);
+            templateGroupCache_.bindErrorListener(errorListener);
+            try
+            {
+                ST template = stg.getInstanceOf(templateOutputPair.templateName);
+                if(template != null)
+                {
+                    if(errCnt.getNoErrors() == 0)
+                    {
+                        _logger.info("Network information is rendered according to"
+                                     + " template "
+                                     + templateOutputPair.templateFileName + ":"
+                                     + templateOutputPair.templateName + "("
+                                     + templateOutputPair.templateArgNameCluster + ", "
+                                     + templateOutputPair.templateArgNameInfo + ")"
+                                    );
+                        template.add( templateOutputPair.templateArgNameCluster
+                                    , cluster
+                                    );
+                        template.add(templateOutputPair.templateArgNameInfo, info);
+
+                        /* The generated text is written directly into the output, which
+                           may be a file. */
+                        final STWriter stWriter = new AutoIndentWriter(output.open());
+                        if(templateOutputPair.templateWrapCol > 0)
+                            stWriter.setLineWidth(templateOutputPair.templateWrapCol);
+                        template.write(stWriter, Locale.getDefault(), errorListener);
+
+                        /* The error counter had been passed to the data model and there
+                           it collects template emitted errors and warnings. Code
+                           generation can have failed even if the template expansion
+                           succeeded. */
                     }
-                    catch(Exception e)
+                    else
                     {
                         errCnt.error();
-                        _logger.error("Error rendering the information. Template"
-                                      + " expansion failed: " + e.getMessage()
+                        _logger.error("Template group file "
+                                      + templateOutputPair.templateFileName
+                                      + " is not usable. See previous error messages"
                                      );
-                        success = false;
                     }
+                }
+                else
+                {
+                    errCnt.error();
+                    _logger.error("Template " + templateOutputPair.templateFileName
+                                  + ":" + templateOutputPair.templateName
+                                  + " not found. Please, double check file name,"
+                                  + " CLASSPATH (the search path for template files)"
+                                  + " and the name of the template. See command"
+                                  + " line options template-file-name and"
+                                  + " template-name, too"
+                                 );
+                }
+            }
+            catch(Exception e)
+            {
+                errCnt.error();
+                _logger.error("Error rendering the information. Template"
+                              + " expansion failed: " + e.getMessage()
+                             );
+            }
+            finally
+            {
+                templateGroupCache_.unbindErrorListener();
+            }
+        } /* End if(Template group loaded?) */
+
+        final Level logLevel =
+                errCnt.getNoErrors() > 0
+                    ? Level.ERROR
+                    : (errCnt.getNoWarnings() > 0? Level.WARN: Level.INFO);
+        _logger.log( logLevel
+                   , "Template expansion done with " + errCnt.getNoErrors()
+                     + " errors and " + errCnt.getNoWarnings() + " warnings"
+                   );
+
+        if(errCnt.getNoErrors() > 0)
+        {
+            _logger.info("Output file " + templateOutputPair.outputFileName
+                         + " is not generated due to previous errors"
+                        );
+            output.discard();
+            return false;
+        }
+        else
+            return true;
 
-                    final Level logLevel =
-                            errCnt.getNoErrors() > 0
-                                ? Level.ERROR
-                                : (errCnt.getNoWarnings() > 0? Level.WARN: Level.INFO);
-                    _logger.log( logLevel
-                               , "Template expansion done with " + errCnt.getNoErrors()
-                                 + " errors and " + errCnt.getNoWarnings() + " warnings"
-                               );
+    } /* End of CodeGenerator.renderOutput. */
 
-                    if(errCnt.getNoErrors() == 0)
-                    {
-                        final PrintStream out;
-                        if("stdout".equalsIgnoreCase(templateOutputPair.outputFileName))
-                            out = System.out;
-                        else if("stderr".equalsIgnoreCase(templateOutputPair.outputFileName))
-                            out = System.err;
-                        else
-                            out = null;
-
-                        if(out != null)
-                        {
-                            /* Write generated code into a standard console stream. */
-                            out.print(generatedCode);
-                        }
-                        else
-                        {
-                            /* Write generated code into output file. */
-                            File outputFile = new File(templateOutputPair.outputFileName);
 
-                            BufferedWriter writer = null;
-                            try
-                            {
-                                /* This will output the full path where the file is written
-                                   to. */
-                                _logger.info( "Generated code is written into file "
-                                              + outputFile /*.getCanonicalPath()*/
-                                            );
-
-                                /* Ensure that all needed parents exist for the file. */
-                                createDir(outputFile);
-
-                                FileWriter fileWriter = new FileWriter(outputFile);
-                                assert fileWriter != null: "fileWriter is null";
-                                writer = new BufferedWriter(fileWriter);
-
-                                // @todo Consider generation of utf-8 on command line demand. Investigate BOM issue
-                                // http://stackoverflow.com/questions/1001540/how-to-write-a-utf-8-file-with-java
-                                //writer = new BufferedWriter
-                                //                ( new OutputStreamWriter
-                                //                        ( new FileOutputStream(outputFile)
-                                //                        , "UTF-8"
-                                //                        )
-                                //                );
-
-                                writer.write(generatedCode);
-                            }
-                            catch(IOException e)
-                            {
-                                success = false;
-                                _logger.error("Error writing generated file. "
-                                              + e.getMessage()
-                                             );
-                            }
 
-                            /* Close the writer regardless of what happened. */
+
+    /**
+     * Commit the generated text of a template/output pair and count the written and the
+     * unchanged output files.
+     *   @return Get true if writing succeeded or false otherwise. The problem has been
+     * reported.
+     *   @param output
+     * The output after successful template expansion.
+     */
+    private boolean commitOutput(GeneratedOutput output)
+    {
+        final boolean success = output.commit();
+        if(output.isUnchanged())
+            ++ noUnchangedFiles_;
+        else if(success)
+            ++ noWrittenFiles_;
+
+        return success;
+
+    } /* End of CodeGenerator.commitOutput. */
+
+
+
+
+    /**
+     * Render all template/output pairs concurrently.<p>
+     *   Each template is expanded by a task of a pool of worker threads. Each task uses its
+     * own view of the data model, its own Info object, error counter and template group.
+     * The generated text is written in the order of the output specifications and the
+     * application log is held back and emitted in the same order. The generated files and
+     * the log are the same as if the templates had been expanded one after another, with
+     * one exception: An order of frames, which a template establishes with sortFrameAry,
+     * is not seen by the other templates.
+     *   @return Get true if all output files could be generated or false otherwise.
+     *   @param cluster
+     * The data model to render. It is not modified.
+     *   @param totalErrCnt
+     * The problems found during template expansion are added to this counter.
+     */
+    private boolean renderOutputsConcurrently( final Cluster cluster
+                                             , ErrorCounter totalErrCnt
+                                             )
+    {
+        /* The result of a single render task. */
+        class RenderResult
+        {
+            final ErrorCounter errCnt = new ErrorCounter();
+            GeneratedOutput output = null;
+            boolean success = false;
+            List<LoggingEvent> logEventAry = null;
+        }
+
+        final List<ParameterSet.TemplateOutputPair> templateOutputPairAry =
+                                                        parameterSet_.templateOutputPairAry;
+        final int noThreads = Math.min( parameterSet_.noRenderThreads
+                                      , templateOutputPairAry.size()
+                                      );
+        _logger.debug("Rendering " + templateOutputPairAry.size() + " output files using "
+                      + noThreads + " threads"
+                     );
+
+        final DeferredLogAppender logAppender = new DeferredLogAppender();
+        final ExecutorService executor = Executors.newFixedThreadPool(noThreads);
+        boolean success = true;
+        logAppender.install();
+        try
+        {
+            List<Future<RenderResult>> futureAry =
+                                        new ArrayList<>(templateOutputPairAry.size());
+            for(final ParameterSet.TemplateOutputPair templateOutputPair:
+                                                                    templateOutputPairAry)
+            {
+                futureAry.add(executor.submit(new Callable<RenderResult>()
+                    {
+                        @Override public RenderResult call()
+                        {
+                            final RenderResult result = new RenderResult();
+                            logAppender.beginDeferral();
                             try
                             {
-                                if(writer != null)
-                                    writer.close();
+                                result.output = createGeneratedOutput(templateOutputPair);
+                                result.success =
+                                        renderOutput( cluster.createView(result.errCnt)
+                                                    , templateOutputPair
+                                                    , result.output
+                                                    , result.errCnt
+                                                    );
                             }
-                            catch(IOException e)
+                            finally
                             {
-                                success = false;
-                                _logger.error( "Error closing generated file. "
-                                               + e.getMessage()
-                                             );
+                                result.logEventAry = logAppender.endDeferral();
                             }
+                            return result;
                         }
-                    }
-                    else
-                    {
-                        success = false;
-                        _logger.info("Output file " + templateOutputPair.outputFileName
-                                     + " is not generated due to previous errors"
-                                    );
-                    }
-                } /* End if(Template file successfully read) */
+                    }));
+            }
+
+            /* Commit the results in the order of output specification. Pairs, which name
+               the same output file, are committed one after another and the last one wins
+               as in sequential rendering. */
+            for(Future<RenderResult> future: futureAry)
+            {
+                final RenderResult result = getTaskResult(future);
+
+                logAppender.emit(result.logEventAry);
+                if(!result.success  ||  !commitOutput(result.output))
+                    success = false;
 
                 /* Error counting and reporting is done separately for all generated output
                    files. We collect all errors for a final overall result. */
+                totalErrCnt.add(result.errCnt);
+
+            } /* End for(All render tasks) */
+        }
+        finally
+        {
+            executor.shutdownNow();
+            logAppender.uninstall();
+        }
+
+        return success;
+
+    } /* End of CodeGenerator.renderOutputsConcurrently. */
+
+
+
+
+    /**
+     * Parse all network database files and render all template/output pairs.
+     *   @return
+     * <b>true</b>, if method succeeded, else <b>false</b>.
+     *   @param totalErrCnt
+     * The errors and warnings of all operations are added to this counter.
+     */
+    private boolean parseAndRender(ErrorCounter totalErrCnt)
+    {
+        /* A single error counter is used for all operations. Its life cycle ends with the
+           run of the application. However, it'll be repeatedly reset to null. A reference
+           to this error counter is passed to involved modules and objects.
+             A second counter is used to report the total number of issues at the end of
+           the application run. */
+        final ErrorCounter errCnt = new ErrorCounter();
+
+        /* The cluster object basically is the list of buses, which are got from parsing a
+           single network databse file. We start here with an still emtpy cluster. The
+           object IDs start at one, even if this is not the first run in the process. */
+        NetObject.resetObjIds();
+        Cluster cluster = new Cluster();
+        cluster.name = parameterSet_.clusterName;
+        cluster.nodeName = parameterSet_.nodeName;
+
+        if(parameterSet_.modelCacheDirName != null)
+            modelCache_ = new ModelCache(parameterSet_.modelCacheDirName);
+
+        /* Equal strings are shared by the data models of all buses. */
+        stringPool_ = new StringPool();
+
+        /* The network database files are parsed and the results are collected in the
+           cluster object. */
+        boolean success;
+        if(parameterSet_.noParseThreads > 1  &&  parameterSet_.busDescriptionAry.size() > 1)
+            success = parseBusesConcurrently(cluster, totalErrCnt);
+        else
+        {
+            /* A single parser object is used for all network specification files. */
+            final DbcParserMain parser =
+                                new DbcParserMain( parameterSet_.profileParser
+                                                 , parameterSet_.noFileParseThreads
+                                                 , parameterSet_.fastLexer
+                                                 );
+
+            success = true;
+            for(ParameterSet.BusDescription busDescription: parameterSet_.busDescriptionAry)
+            {
+                assert errCnt.getNoErrors() == 0  &&  errCnt.getNoWarnings() == 0;
+
+                errCnt.reset();
+                Bus bus = parseBus( parser
+                                  , parameterSet_.streamParse
+                                  , jobContext_ != null? jobContext_.parseTreeCache: null
+                                  , modelCache_
+                                  , stringPool_
+                                  , busDescription
+                                  , errCnt
+                                  );
+                if(!addBusToCluster(cluster, bus, busDescription, errCnt))
+                    success = false;
+
+                /* Error counting and reporting is done separately for all parsed network
+                   specification files. We collect all errors for a final overall
+                   result. */
                 totalErrCnt.add(errCnt);
                 errCnt.reset();
 
-            } /* End while(All pairs (template, output file)) */
+            } /* End for(All buses definitions in parameter set) */
+        }
+
+        /* The pool is no longer needed; the pooled strings are referenced by the data
+           model. */
+        _logger.debug("String pool: " + stringPool_.getNoStrings() + " distinct strings, "
+                      + stringPool_.getNoSharedStrings() + " duplicates replaced, about "
+                      + (stringPool_.getNoSavedBytes()+512)/1024 + " kByte saved"
+                     );
+        stringPool_ = null;
+
+        /* The data model of the network is complete. It is frozen; all template expansions
+           share it and they only get their own views of it. */
+        cluster.freeze();
+
+        /* Pass the data model to the template engine. Do this repeatedly - different
+           templates will render the information into different output files. */
+        if(cluster.getNoBuses() > 0)
+        {
+            /* The application information is a static part of the Info object. It is the
+               same for all template expansions. */
+            Info.setApplicationInfo(_applicationName, _versionAry, _versionDataModel);
+
+            if(parameterSet_.noRenderThreads > 1
+               &&  parameterSet_.templateOutputPairAry.size() > 1
+              )
+            {
+                if(!renderOutputsConcurrently(cluster, totalErrCnt))
+                    success = false;
+            }
+            else
+            {
+                /* All template expansions share a single view of the data model. The order
+                   of frames, which a template establishes with sortFrameAry, is still
+                   seen by the templates, which are expanded later. The view is bound to
+                   the error counter, which is reused for all template expansions. */
+                final Cluster clusterView = cluster.createView(errCnt);
+                for(ParameterSet.TemplateOutputPair templateOutputPair:
+                                                        parameterSet_.templateOutputPairAry)
+                {
+                    assert errCnt.getNoErrors() == 0  &&  errCnt.getNoWarnings() == 0;
+
+                    final GeneratedOutput output = createGeneratedOutput(templateOutputPair);
+                    if(!renderOutput( clusterView
+                                    , templateOutputPair
+                                    , output
+                                    , errCnt
+                                    )
+                       ||  !commitOutput(output)
+                      )
+                    {
+                        success = false;
+                    }
+
+                    /* Error counting and reporting is done separately for all generated
+                       output files. We collect all errors for a final overall result. */
+                    totalErrCnt.add(errCnt);
+                    errCnt.reset();
+
+                } /* End for(All pairs (template, output file)) */
+            }
+
+            if(parameterSet_.writeIfChanged)
+            {
+                _logger.info(noWrittenFiles_ + " output files have been written, "
+                             + noUnchangedFiles_ + " unchanged output files have been"
+                             + " skipped"
+                            );
+            }
         } /* End if(Do we have to render at least one successfully parsed bus?) */
 
+        return success;
+
+    } /* End of CodeGenerator.parseAndRender. */
+
+
+
+
+    /**
+     * After setting all parameters (by constructor) call this method to perform the
+     * operation. run is synchronous and does not fork another task or process.
+     *   @return
+     * <b>true</b>, if method succeeded, else <b>false</b>.
+     */
+    public boolean run()
+    {
+        final ErrorCounter totalErrCnt = new ErrorCounter();
+
+        /* Each template group file is loaded and compiled only once per run. A cache,
+           which is shared with previous runs, may contain outdated groups. */
+        if(templateGroupCache_ == null)
+            templateGroupCache_ = new TemplateGroupCache();
+        else
+            templateGroupCache_.removeModifiedGroups();
+        noWrittenFiles_ = 0;
+        noUnchangedFiles_ = 0;
+
+        /* If the inputs are identical to those of a previous, successful run then the
+           generated files are taken from the result cache. */
+        ResultCache resultCache = null;
+        String fingerprint = null;
+        int noCachedWarnings = -1;
+        if(parameterSet_.resultCacheDirName != null)
+        {
+            resultCache = new ResultCache(parameterSet_.resultCacheDirName);
+            fingerprint = resultCache.computeFingerprint( parameterSet_
+                                                        , templateGroupCache_
+                                                        , parameterSet_.resultCacheExcludeTime
+                                                        );
+            if(fingerprint != null)
+            {
+                noCachedWarnings = resultCache.restore( fingerprint
+                                                      , parameterSet_.templateOutputPairAry
+                                                      , parameterSet_.writeIfChanged
+                                                      );
+            }
+        }
+
+        boolean success;
+        if(noCachedWarnings >= 0)
+        {
+            /* The warnings of the cached run are counted again, since the generated files
+               are still affected by the reported problems. The messages are not cached;
+               restore has told so. */
+            totalErrCnt.setNoWarnings(noCachedWarnings);
+            success = true;
+        }
+        else
+        {
+            success = parseAndRender(totalErrCnt);
+            if(fingerprint != null  &&  success  &&  totalErrCnt.getNoErrors() == 0)
+            {
+                resultCache.store( fingerprint
+                                 , parameterSet_.templateOutputPairAry
+                                 , totalErrCnt.getNoWarnings()
+                                 );
+            }
+        }
+
         final String logMsg = _applicationName + " terminating with "
                               + totalErrCnt.getNoErrors() + " errors and "
                               + totalErrCnt.getNoWarnings() + " warnings";
@@ -619,6 +1226,41 @@ public class CodeGenerator
 
 
 
+    /**
+     * Do a complete application run, including command line parsing and logger
+     * configuration. Other than {@link #main}, the method returns to the caller at the
+     * end, which permits to do several application runs in the same process.
+     *   @return Get the exit code of the application run: 0 if it succeeded or if no
+     * operation was requested, 1 otherwise, including an invalid command line.
+     *   @param argAry
+     * The command line.
+     *   @param jobContext
+     * The resources, which are shared with other application runs in the same process,
+     * or null if the run should use its own resources.
+     */
+    static int runApplication(String[] argAry, JobContext jobContext)
+    {
+        CodeGenerator This = new CodeGenerator();
+        This.jobContext_ = jobContext;
+        if(jobContext != null)
+            This.templateGroupCache_ = jobContext.templateGroupCache;
+
+        if(This.parseCmdLine(argAry))
+        {
+            final boolean success = This.run();
+            _logger.debug( _applicationName + " terminating "
+                           + (success? "successfully": "with errors")
+                         );
+            return success? 0: 1;
+        }
+        else
+            return This.isCmdLineInvalid_? 1: 0;
+
+    } /* End of CodeGenerator.runApplication. */
+
+
+
+
 
     /**
      * Main entry point when run via command line.
@@ -659,16 +1301,12 @@ public class CodeGenerator
                                 + org.stringtemplate.v4.ST.VERSION;
         System.out.println(greeting);
 
-        CodeGenerator This = new CodeGenerator();
+        /* A command line, which refers to a job file, runs a batch of application runs. */
+        if(BatchRunner.isBatchCommandLine(argAry))
+            System.exit(BatchRunner.runBatch(argAry));
+        else
+            System.exit(runApplication(argAry, /* jobContext */ null));
 
-        if(This.parseCmdLine(argAry))
-        {
-            final boolean success = This.run();
-            _logger.debug( _applicationName + " terminating "
-                           + (success? "successfully": "with errors")
-                         );
-            System.exit(success? 0: 1);
-        }
     } /* End of CodeGenerator.main. */
 
 } /* End of class CodeGenerator definition. */
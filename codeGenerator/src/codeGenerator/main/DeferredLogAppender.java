@@ -0,0 +1,246 @@
+/**
+ * @file DeferredLogAppender.java
+ * A log4j appender, which holds back the logging of selected threads until the logged
+ * events can be emitted in a deterministic order.
+ *
+ * Copyright (C) 2025 Peter Vranken (mailto:Peter_Vranken@Yahoo.de)
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+/* Interface of class DeferredLogAppender
+ *   DeferredLogAppender
+ *   getInstalled
+ *   install
+ *   uninstall
+ *   beginDeferral
+ *   endDeferral
+ *   emit
+ *   append
+ *   requiresLayout
+ *   close
+ */
+
+package codeGenerator.main;
+
+import java.util.*;
+import org.apache.log4j.*;
+import org.apache.log4j.spi.LoggingEvent;
+
+
+/**
+ * A log4j appender, which holds back the logging of selected threads.<p>
+ *   The appender temporarily replaces the appenders of the root logger. Logged events are
+ * forwarded to the replaced appenders, unless the logging thread has demanded deferral.
+ * Then the events are collected in a list and the thread can later hand them over to
+ * another thread, which emits them in a deterministic order. This way, the application
+ * log of concurrently executed tasks looks the same as if the tasks had been executed one
+ * after another.<p>
+ *   A thread can nest deferrals. Events, which the thread emits while it still defers
+ * its logging, are added to the events of the enclosing deferral.
+ */
+
+public class DeferredLogAppender extends AppenderSkeleton
+{
+    /** The appenders of the root logger, which are temporarily replaced by this
+        appender. */
+    private final ArrayList<Appender> targetAppenderAry_ = new ArrayList<>();
+
+    /** The list of held-back events of a thread or null if the thread doesn't defer its
+        logging. */
+    private final ThreadLocal<ArrayList<LoggingEvent>> deferredEventAry_ =
+                                                                    new ThreadLocal<>();
+
+    /** The lists of held-back events of the enclosing deferrals of a thread, the
+        innermost one last, or null if the thread doesn't nest deferrals. */
+    private final ThreadLocal<ArrayList<ArrayList<LoggingEvent>>> outerEventAryStack_ =
+                                                                    new ThreadLocal<>();
+
+    /**
+     * A new instance of DeferredLogAppender is created. It is not yet in use, see {@link
+     * #install}.
+     */
+    public DeferredLogAppender()
+    {
+        setName(DeferredLogAppender.class.getName());
+
+    } /* End of DeferredLogAppender.DeferredLogAppender */
+
+
+
+    /**
+     * Get the instance, which is currently installed.
+     *   @return Get the appender, which has replaced the appenders of the root logger, or
+     * null if there's none.
+     */
+    public static DeferredLogAppender getInstalled()
+    {
+        final Appender appender =
+                Logger.getRootLogger().getAppender(DeferredLogAppender.class.getName());
+        return appender instanceof DeferredLogAppender? (DeferredLogAppender)appender: null;
+
+    } /* End of DeferredLogAppender.getInstalled */
+
+
+
+    /**
+     * Replace all appenders of the root logger with this appender.
+     */
+    public void install()
+    {
+        assert targetAppenderAry_.isEmpty(): "Appender is already installed";
+        final Logger rootLogger = Logger.getRootLogger();
+        final Enumeration<?> itAppender = rootLogger.getAllAppenders();
+        while(itAppender.hasMoreElements())
+            targetAppenderAry_.add((Appender)itAppender.nextElement());
+
+        /* Note, removeAllAppenders would close the removed appenders. */
+        for(Appender appender: targetAppenderAry_)
+            rootLogger.removeAppender(appender);
+        rootLogger.addAppender(this);
+
+    } /* End of DeferredLogAppender.install */
+
+
+
+    /**
+     * Restore the original appenders of the root logger. All events, which are still
+     * held back, need to be emitted before.
+     */
+    public void uninstall()
+    {
+        final Logger rootLogger = Logger.getRootLogger();
+        rootLogger.removeAppender(this);
+        for(Appender appender: targetAppenderAry_)
+            rootLogger.addAppender(appender);
+        targetAppenderAry_.clear();
+
+    } /* End of DeferredLogAppender.uninstall */
+
+
+
+    /**
+     * The calling thread starts to hold back all of its logged events. If it already
+     * defers its logging then a nested deferral is started.
+     */
+    public void beginDeferral()
+    {
+        final ArrayList<LoggingEvent> outerEventAry = deferredEventAry_.get();
+        if(outerEventAry != null)
+        {
+            ArrayList<ArrayList<LoggingEvent>> outerEventAryStack =
+                                                                outerEventAryStack_.get();
+            if(outerEventAryStack == null)
+            {
+                outerEventAryStack = new ArrayList<>();
+                outerEventAryStack_.set(outerEventAryStack);
+            }
+            outerEventAryStack.add(outerEventAry);
+        }
+        deferredEventAry_.set(new ArrayList<LoggingEvent>());
+
+    } /* End of DeferredLogAppender.beginDeferral */
+
+
+
+    /**
+     * The calling thread ends holding back its logged events.
+     * The enclosing deferral, if any, is continued.
+     *   @return Get the list of all events, which had been logged by the calling thread
+     * since {@link #beginDeferral}.
+     */
+    public List<LoggingEvent> endDeferral()
+    {
+        final ArrayList<LoggingEvent> eventAry = deferredEventAry_.get();
+        assert eventAry != null: "Deferral had not been started";
+        final ArrayList<ArrayList<LoggingEvent>> outerEventAryStack =
+                                                                outerEventAryStack_.get();
+        if(outerEventAryStack != null)
+        {
+            deferredEventAry_.set(outerEventAryStack.remove(outerEventAryStack.size()-1));
+            if(outerEventAryStack.isEmpty())
+                outerEventAryStack_.remove();
+        }
+        else
+            deferredEventAry_.remove();
+        return eventAry;
+
+    } /* End of DeferredLogAppender.endDeferral */
+
+
+
+    /**
+     * Emit a list of held-back events through the original appenders. If the calling
+     * thread still defers its logging then the events are added to its held-back events.
+     *   @param eventAry
+     * The list of events, like it had been returned by {@link #endDeferral}.
+     */
+    public synchronized void emit(List<LoggingEvent> eventAry)
+    {
+        final ArrayList<LoggingEvent> deferredEventAry = deferredEventAry_.get();
+        if(deferredEventAry != null)
+            deferredEventAry.addAll(eventAry);
+        else
+        {
+            for(LoggingEvent event: eventAry)
+            {
+                for(Appender appender: targetAppenderAry_)
+                    appender.doAppend(event);
+            }
+        }
+    } /* End of DeferredLogAppender.emit */
+
+
+
+    /**
+     * The log4j callback: An event is logged. It is either held back or forwarded.
+     *   @param event
+     * The logged event.
+     */
+    @Override protected void append(LoggingEvent event)
+    {
+        final ArrayList<LoggingEvent> eventAry = deferredEventAry_.get();
+        if(eventAry != null)
+            eventAry.add(event);
+        else
+        {
+            for(Appender appender: targetAppenderAry_)
+                appender.doAppend(event);
+        }
+    } /* End of DeferredLogAppender.append */
+
+
+
+    /**
+     * The log4j callback: Does this appender require a layout?
+     *   @return Get false, the layout is a matter of the original appenders.
+     */
+    @Override public boolean requiresLayout()
+    {
+        return false;
+
+    } /* End of DeferredLogAppender.requiresLayout */
+
+
+
+    /**
+     * The log4j callback: The appender is closed. There's nothing to do, the original
+     * appenders are not owned by this appender.
+     */
+    @Override public void close()
+    {
+        closed = true;
+
+    } /* End of DeferredLogAppender.close */
+
+} /* End of class DeferredLogAppender definition. */
@@ -0,0 +1,571 @@
+/**
+ * @file GeneratedOutput.java
+ * The destination of the text generated for a single template/output pair.
+ *
+ * Copyright (C) 2025 Peter Vranken (mailto:Peter_Vranken@Yahoo.de)
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+/* Interface of class GeneratedOutput
+ *   GeneratedOutput
+ *   open
+ *   commit
+ *   isUnchanged
+ *   discard
+ *   closeWriter
+ *   writeFile
+ *   moveTmpFile
+ *   isFileContentEqual
+ *   readChunk
+ */
+
+package codeGenerator.main;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.security.SecureRandom;
+import org.apache.log4j.*;
+
+
+/**
+ * The destination of the text generated for a single template/output pair.<p>
+ *   The template expansion writes into the Writer got from {@link #open}. The generated
+ * text only becomes visible with {@link #commit}; if the template expansion fails then the
+ * output is dropped with {@link #discard} and an already existing output file is not
+ * touched.<p>
+ *   There are two modes of operation. By default, the text is collected in memory and
+ * written into the output file on commit. In streaming mode, the text is written
+ * immediately through a buffered file channel into a temporary file with a unique name,
+ * which is placed side by side with the output file. On commit, the temporary file is
+ * atomically renamed into the output file. If several outputs name the same file then
+ * they need to be committed one after another; the last commit wins. Streaming avoids
+ * holding the complete generated text in the heap. Output to the console is always
+ * collected in memory.<p>
+ *   Optionally, an existing output file is only rewritten if the generated text differs
+ * from its contents. Unchanged files keep their modification time, which avoids needless
+ * rebuilds of the generated code.
+ */
+
+class GeneratedOutput
+{
+    /** Access the Apache logger object. */
+    private static Logger _logger = Logger.getLogger(GeneratedOutput.class.getName());
+
+    /** The source of the unique names of the temporary files. */
+    private static final SecureRandom _random = new SecureRandom();
+
+    /** The size of the buffer for streamed output in Byte. */
+    private static final int _bufferSize = 64*1024;
+
+    /** The name of the output file as given by the user. */
+    private final String outputFileName_;
+
+    /** The character set of the generated file. */
+    private final Charset charset_;
+
+    /** The console stream if the text is not written into a file or null otherwise. */
+    private final PrintStream consoleStream_;
+
+    /** Stream the generated text into a temporary file rather than collecting it in
+        memory. */
+    private final boolean isStreamed_;
+
+    /** Don't rewrite an existing output file with identical contents. */
+    private final boolean writeIfChanged_;
+
+    /** The output file has not been rewritten on commit since it already had the
+        generated contents. */
+    private boolean isUnchanged_ = false;
+
+    /** The in-memory buffer of the generated text or null in streaming mode. */
+    private StringWriter stringWriter_ = null;
+
+    /** The temporary file in streaming mode or null otherwise. */
+    private Path tmpFile_ = null;
+
+    /** The writer into the temporary file in streaming mode or null otherwise. */
+    private Writer fileWriter_ = null;
+
+    /**
+     * A new instance of GeneratedOutput is created. No file is opened yet.
+     *   @param outputFileName
+     * The name of the output file. The reserved names stdout and stderr (case
+     * insensitive) designate the console streams.
+     *   @param charset
+     * The character set of the generated file. Not used for the console streams.
+     *   @param streamToFile
+     * If true then the generated text is streamed into a temporary file. Otherwise it is
+     * collected in memory.
+     *   @param writeIfChanged
+     * If true then an existing output file is only rewritten if its contents differ from
+     * the generated text.
+     */
+    GeneratedOutput( String outputFileName
+                   , Charset charset
+                   , boolean streamToFile
+                   , boolean writeIfChanged
+                   )
+    {
+        outputFileName_ = outputFileName;
+        charset_ = charset;
+        if("stdout".equalsIgnoreCase(outputFileName))
+            consoleStream_ = System.out;
+        else if("stderr".equalsIgnoreCase(outputFileName))
+            consoleStream_ = System.err;
+        else
+            consoleStream_ = null;
+        isStreamed_ = streamToFile  &&  consoleStream_ == null;
+        writeIfChanged_ = writeIfChanged;
+
+    } /* End of GeneratedOutput.GeneratedOutput */
+
+
+
+    /**
+     * Open the output for writing the generated text.
+     *   @return Get the Writer to write the generated text into. The Writer must not be
+     * closed by the caller.
+     *   @throws IOException
+     * The temporary file can't be created in streaming mode.
+     */
+    Writer open()
+        throws IOException
+    {
+        assert stringWriter_ == null  &&  fileWriter_ == null: "Output is already open";
+        if(isStreamed_)
+        {
+            final File outputFile = new File(outputFileName_);
+
+            /* Ensure that all needed parents exist for the file. */
+            CodeGenerator.createDir(outputFile);
+
+            /* The temporary file is located in the same directory as the output file.
+               Otherwise, the final rename couldn't be atomic. Its name is unique; several
+               template/output pairs or concurrently running jobs may generate the same
+               output file. Files.createTempFile is not used since the file would be
+               readable only by the owner and the output file would inherit this. */
+            final Path outputPath = outputFile.getAbsoluteFile().toPath();
+            FileChannel channel = null;
+            while(channel == null)
+            {
+                tmpFile_ = outputPath.resolveSibling
+                                        ( outputFile.getName() + "."
+                                          + Long.toHexString(_random.nextLong() >>> 1)
+                                          + ".tmp"
+                                        );
+                try
+                {
+                    channel = FileChannel.open( tmpFile_
+                                              , StandardOpenOption.CREATE_NEW
+                                              , StandardOpenOption.WRITE
+                                              );
+                }
+                catch(FileAlreadyExistsException e)
+                {
+                    /* Very unlikely: Try again with another name. */
+                }
+            }
+
+            /* Unmappable characters are replaced, like an OutputStreamWriter does. */
+            final CharsetEncoder encoder =
+                        charset_.newEncoder()
+                                .onMalformedInput(CodingErrorAction.REPLACE)
+                                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            fileWriter_ = new BufferedWriter( Channels.newWriter(channel, encoder, _bufferSize)
+                                            , _bufferSize
+                                            );
+            return fileWriter_;
+        }
+        else
+        {
+            stringWriter_ = new StringWriter();
+            return stringWriter_;
+        }
+    } /* End of GeneratedOutput.open */
+
+
+
+    /**
+     * Make the generated text visible: It is written into the console stream or output
+     * file.
+     *   @return Get true if writing succeeded or false otherwise. The problem has been
+     * reported. An already existing output file is unchanged in case of failure.<p>
+     *   Skipping an unchanged file is a success, too, see {@link #isUnchanged}.
+     */
+    boolean commit()
+    {
+        boolean success;
+        if(consoleStream_ != null)
+        {
+            /* Write generated code into a standard console stream. */
+            consoleStream_.print(stringWriter_.toString());
+            success = true;
+        }
+        else
+        {
+            /* The temporary file needs to be complete before we can compare or move it. */
+            if(isStreamed_  &&  !closeWriter())
+            {
+                discard();
+                return false;
+            }
+
+            final Path outputFile = Paths.get(outputFileName_);
+            byte[] content = null;
+            if(writeIfChanged_)
+            {
+                if(isStreamed_)
+                    isUnchanged_ = isFileContentEqual(outputFile, tmpFile_);
+                else
+                {
+                    content = stringWriter_.toString().getBytes(charset_);
+                    isUnchanged_ = isFileContentEqual(outputFile, content);
+                }
+            }
+
+            if(isUnchanged_)
+            {
+                _logger.info( "Generated code is unchanged, file " + outputFileName_
+                              + " is not rewritten"
+                            );
+                discard();
+                success = true;
+            }
+            else
+            {
+                /* This will output the full path where the file is written to. */
+                _logger.info( "Generated code is written into file "
+                              + outputFileName_ /*.getCanonicalPath()*/
+                            );
+
+                if(isStreamed_)
+                    success = moveTmpFile();
+                else
+                    success = writeFile(content);
+            }
+        }
+
+        stringWriter_ = null;
+        return success;
+
+    } /* End of GeneratedOutput.commit */
+
+
+
+    /**
+     * Has the output file been left untouched on commit since it already had the
+     * generated contents?
+     *   @return Get true if the file has not been rewritten. Always false if the
+     * write-if-changed mode is not enabled.
+     */
+    boolean isUnchanged()
+    {
+        return isUnchanged_;
+
+    } /* End of GeneratedOutput.isUnchanged */
+
+
+
+    /**
+     * Drop the generated text. An already existing output file is not touched.
+     */
+    void discard()
+    {
+        stringWriter_ = null;
+        if(tmpFile_ != null)
+        {
+            closeWriter();
+            try
+            {
+                Files.deleteIfExists(tmpFile_);
+            }
+            catch(IOException e)
+            {
+                _logger.warn("Can't delete temporary file " + tmpFile_ + ". "
+                             + e.getMessage()
+                            );
+            }
+            tmpFile_ = null;
+        }
+    } /* End of GeneratedOutput.discard */
+
+
+
+    /**
+     * Close the writer into the temporary file.
+     *   @return Get true if all buffered text could be written or false otherwise. The
+     * problem has been reported.
+     */
+    private boolean closeWriter()
+    {
+        boolean success = true;
+        if(fileWriter_ != null)
+        {
+            try
+            {
+                fileWriter_.close();
+            }
+            catch(IOException e)
+            {
+                success = false;
+                _logger.error("Error writing generated file " + outputFileName_ + ". "
+                              + e.getMessage()
+                             );
+            }
+            fileWriter_ = null;
+        }
+
+        return success;
+
+    } /* End of GeneratedOutput.closeWriter */
+
+
+
+    /**
+     * Write the text collected in memory into the output file.
+     *   @return Get true if writing succeeded or false otherwise. The problem has been
+     * reported.
+     *   @param content
+     * The generated text, already encoded in the character set of the output file, or
+     * null if it has not been encoded yet.
+     */
+    private boolean writeFile(byte[] content)
+    {
+        boolean success = true;
+
+        File outputFile = new File(outputFileName_);
+        Closeable writer = null;
+        try
+        {
+            /* Ensure that all needed parents exist for the file. */
+            CodeGenerator.createDir(outputFile);
+
+            if(content != null)
+            {
+                final OutputStream stream = new FileOutputStream(outputFile);
+                writer = stream;
+                stream.write(content);
+            }
+            else
+            {
+                final Writer fileWriter = new BufferedWriter
+                            (new OutputStreamWriter(new FileOutputStream(outputFile), charset_));
+                writer = fileWriter;
+                fileWriter.write(stringWriter_.toString());
+            }
+        }
+        catch(IOException e)
+        {
+            success = false;
+            _logger.error("Error writing generated file. "
+                          + e.getMessage()
+                         );
+        }
+
+        /* Close the writer regardless of what happened. */
+        try
+        {
+            if(writer != null)
+                writer.close();
+        }
+        catch(IOException e)
+        {
+            success = false;
+            _logger.error( "Error closing generated file. "
+                           + e.getMessage()
+                         );
+        }
+
+        return success;
+
+    } /* End of GeneratedOutput.writeFile */
+
+
+
+    /**
+     * Replace the output file with the completely written temporary file.
+     *   @return Get true if the output file could be replaced or false otherwise. The
+     * problem has been reported.
+     */
+    private boolean moveTmpFile()
+    {
+        assert fileWriter_ == null: "Temporary file has not been closed";
+        final Path outputFile = Paths.get(outputFileName_);
+        boolean success = true;
+        try
+        {
+            try
+            {
+                Files.move(tmpFile_, outputFile, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch(AtomicMoveNotSupportedException e)
+            {
+                Files.move(tmpFile_, outputFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tmpFile_ = null;
+        }
+        catch(IOException e)
+        {
+            success = false;
+            _logger.error("Error writing generated file. Can't replace " + outputFileName_
+                          + " with temporary file " + tmpFile_ + ". " + e.getMessage()
+                         );
+            discard();
+        }
+
+        return success;
+
+    } /* End of GeneratedOutput.moveTmpFile */
+
+
+
+    /**
+     * Compare the contents of an existing file with the contents of another file.
+     *   @return Get true if both files exist and have identical contents. If the files
+     * can't be read then false is returned.
+     *   @param file
+     * The file to compare, typically an existing output file.
+     *   @param otherFile
+     * The other file to compare with.
+     */
+    static boolean isFileContentEqual(Path file, Path otherFile)
+    {
+        try
+        {
+            if(!Files.isRegularFile(file)  ||  Files.size(file) != Files.size(otherFile))
+                return false;
+
+            final InputStream otherContent = Files.newInputStream(otherFile);
+            try
+            {
+                return isFileContentEqual(file, otherContent);
+            }
+            finally
+            {
+                otherContent.close();
+            }
+        }
+        catch(IOException e)
+        {
+            _logger.debug("Can't compare file " + file + " with " + otherFile + ". "
+                          + e.getMessage()
+                         );
+            return false;
+        }
+    } /* End of GeneratedOutput.isFileContentEqual */
+
+
+
+    /**
+     * Compare the contents of an existing file with some bytes.
+     *   @return Get true if the file exists and has the given contents. If the file can't
+     * be read then false is returned.
+     *   @param file
+     * The file to compare, typically an existing output file.
+     *   @param content
+     * The expected contents of the file.
+     */
+    private static boolean isFileContentEqual(Path file, byte[] content)
+    {
+        try
+        {
+            if(!Files.isRegularFile(file)  ||  Files.size(file) != content.length)
+                return false;
+
+            return isFileContentEqual(file, new ByteArrayInputStream(content));
+        }
+        catch(IOException e)
+        {
+            _logger.debug("Can't compare file " + file + " with generated code. "
+                          + e.getMessage()
+                         );
+            return false;
+        }
+    } /* End of GeneratedOutput.isFileContentEqual */
+
+
+
+    /**
+     * Compare the contents of an existing file with the contents of a stream. The
+     * comparison is done chunk by chunk; neither of the contents needs to be held
+     * completely in memory.
+     *   @return Get true if file and stream have identical contents.
+     *   @throws IOException
+     * The file or stream can't be read.
+     *   @param file
+     * The file to compare.
+     *   @param otherContent
+     * The stream to compare with. It is read up to the first difference.
+     */
+    private static boolean isFileContentEqual(Path file, InputStream otherContent)
+        throws IOException
+    {
+        final InputStream content = Files.newInputStream(file);
+        try
+        {
+            final byte[] buf = new byte[_bufferSize]
+                       , otherBuf = new byte[_bufferSize];
+            while(true)
+            {
+                final int noBytes = readChunk(content, buf);
+                if(noBytes != readChunk(otherContent, otherBuf))
+                    return false;
+                else if(noBytes == 0)
+                    return true;
+
+                for(int i=0; i<noBytes; ++i)
+                {
+                    if(buf[i] != otherBuf[i])
+                        return false;
+                }
+            }
+        }
+        finally
+        {
+            content.close();
+        }
+    } /* End of GeneratedOutput.isFileContentEqual */
+
+
+
+    /**
+     * Read a chunk of bytes from a stream. Other than InputStream.read, the buffer is
+     * filled completely unless the end of the stream is reached.
+     *   @return Get the number of read bytes. Less than the size of the buffer only at the
+     * end of the stream and zero if the stream is exhausted.
+     *   @throws IOException
+     * The stream can't be read.
+     *   @param in
+     * The stream to read from.
+     *   @param buf
+     * The buffer to fill.
+     */
+    private static int readChunk(InputStream in, byte[] buf)
+        throws IOException
+    {
+        int noBytes = 0;
+        while(noBytes < buf.length)
+        {
+            final int n = in.read(buf, noBytes, buf.length-noBytes);
+            if(n < 0)
+                break;
+            noBytes += n;
+        }
+        return noBytes;
+
+    } /* End of GeneratedOutput.readChunk */
+
+} /* End of class GeneratedOutput definition. */
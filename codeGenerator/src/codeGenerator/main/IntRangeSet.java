@@ -0,0 +1,134 @@
+/**
+ * @file IntRangeSet.java
+ * A set of integer numbers, which is specified as a list of ranges and which supports a
+ * fast membership test.
+ *
+ * Copyright (C) 2025 Peter Vranken (mailto:Peter_Vranken@Yahoo.de)
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+/* Interface of class IntRangeSet
+ *   IntRangeSet
+ *   isEmpty
+ *   contains
+ */
+
+package codeGenerator.main;
+
+import java.util.*;
+
+
+/**
+ * A set of integer numbers, which is specified as a list of ranges.<p>
+ *   The ranges are sorted and overlapping or adjacent ranges are merged when the set is
+ * created. The membership test is a binary search in the disjoint ranges; its cost
+ * doesn't grow linearly with the number of ranges given by the user.
+ */
+
+class IntRangeSet
+{
+    /** The lower bounds of the disjoint, sorted ranges. */
+    private final int[] fromAry_;
+
+    /** The upper bounds of the ranges, both bounds are included in a range. */
+    private final int[] toAry_;
+
+    /**
+     * A new instance of IntRangeSet is created.
+     *   @param rangeList
+     * The set as a list of values or ranges of values. A range is a pair of from and to,
+     * both including. A single value is a pair with a null as second element. The list is
+     * not modified.
+     */
+    IntRangeSet(List<Pair<Integer,Integer>> rangeList)
+    {
+        final long[][] rangeAry = new long[rangeList.size()][];
+        int noRanges = 0;
+        for(Pair<Integer,Integer> p: rangeList)
+        {
+            final long from = p.first.intValue()
+                     , to = p.second != null? p.second.intValue(): from;
+            if(from <= to)
+                rangeAry[noRanges++] = new long[]{from, to};
+        }
+        Arrays.sort(rangeAry, 0, noRanges, new Comparator<long[]>()
+            {
+                @Override public int compare(long[] a, long[] b)
+                {
+                    return Long.compare(a[0], b[0]);
+                }
+            });
+
+        /* Merge overlapping and adjacent ranges. */
+        final int[] fromAry = new int[noRanges]
+                  , toAry = new int[noRanges];
+        int noMergedRanges = 0;
+        for(int idxRange=0; idxRange<noRanges; ++idxRange)
+        {
+            final long[] range = rangeAry[idxRange];
+            if(noMergedRanges > 0  &&  range[0] <= (long)toAry[noMergedRanges-1] + 1)
+            {
+                if(range[1] > toAry[noMergedRanges-1])
+                    toAry[noMergedRanges-1] = (int)range[1];
+            }
+            else
+            {
+                fromAry[noMergedRanges] = (int)range[0];
+                toAry[noMergedRanges] = (int)range[1];
+                ++ noMergedRanges;
+            }
+        }
+        fromAry_ = Arrays.copyOf(fromAry, noMergedRanges);
+        toAry_ = Arrays.copyOf(toAry, noMergedRanges);
+
+    } /* End of IntRangeSet.IntRangeSet */
+
+
+
+    /**
+     * Test if the set is empty.
+     *   @return Get true if the set doesn't contain any number.
+     */
+    boolean isEmpty()
+    {
+        return fromAry_.length == 0;
+
+    } /* End of IntRangeSet.isEmpty */
+
+
+
+    /**
+     * Test if a given integer value is in the set.
+     *   @return Get the Boolean result.
+     *   @param i
+     * The integer number.
+     */
+    boolean contains(int i)
+    {
+        /* Find the last range, which begins at or before i. */
+        int lower = 0
+          , upper = fromAry_.length - 1;
+        while(lower <= upper)
+        {
+            final int mid = (lower + upper) >>> 1;
+            if(fromAry_[mid] <= i)
+                lower = mid + 1;
+            else
+                upper = mid - 1;
+        }
+        return upper >= 0  &&  i <= toAry_[upper];
+
+    } /* End of IntRangeSet.contains */
+
+} /* End of class IntRangeSet definition. */
@@ -0,0 +1,174 @@
+/**
+ * @file JobClient.java
+ * The client, which submits a code generator job to a running job server.
+ *
+ * Copyright (C) 2025 Peter Vranken (mailto:Peter_Vranken@Yahoo.de)
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+/* Interface of class JobClient
+ *   submitJob
+ *   main
+ */
+
+package codeGenerator.main;
+
+import java.io.*;
+import java.net.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+
+
+/**
+ * The client of the {@link JobServer}. It submits a single job to the server, copies the
+ * console output of the job to its own console and terminates with the exit code of the
+ * job. A build can use the client as a drop-in replacement of the normal application
+ * run; only the class name and the token file need to be added in front of the command
+ * line of the job.<p>
+ *   The client learns port and secret token of the server from the token file, which
+ * the server writes at startup. Only the user, who runs the server, can read this file
+ * and submit jobs.<p>
+ *   Relative file names in the command line of a job are resolved against the working
+ * directory of the server process, not against the one of the client. Empty arguments
+ * and arguments with line breaks can't be transmitted.
+ */
+
+public class JobClient
+{
+    /**
+     * Submit a job to the server and copy its console output to a stream.
+     *   @return Get the exit code of the job.
+     *   @throws IOException
+     * The token file can't be read, the server can't be reached or it closed the
+     * connection without sending the exit code of the job. The latter happens if the
+     * token is wrong.
+     *   @param tokenFileName
+     * The name of the token file of the server.
+     *   @param argAry
+     * The command line of the job.
+     *   @param out
+     * The console output of the job is written into this stream.
+     */
+    public static int submitJob(String tokenFileName, String[] argAry, PrintStream out)
+        throws IOException
+    {
+        /* The token file contains port and token, separated by a blank. */
+        final String[] tokenFileContent =
+                            new String( Files.readAllBytes(Paths.get(tokenFileName))
+                                      , StandardCharsets.UTF_8
+                                      ).trim().split(" ");
+        int port = -1;
+        if(tokenFileContent.length == 2)
+        {
+            try
+            {
+                port = Integer.parseInt(tokenFileContent[0]);
+            }
+            catch(NumberFormatException e)
+            {
+            }
+        }
+        if(port < 0  ||  port > 0xffff)
+            throw new IOException("Invalid token file " + tokenFileName);
+
+        final Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        try
+        {
+            final Writer writer =
+                    new BufferedWriter(new OutputStreamWriter( socket.getOutputStream()
+                                                             , StandardCharsets.UTF_8
+                                                             )
+                                      );
+            writer.write(tokenFileContent[1] + "\n");
+            for(String arg: argAry)
+            {
+                if(arg.isEmpty()  ||  arg.indexOf('\n') >= 0  ||  arg.indexOf('\r') >= 0)
+                {
+                    throw new IOException("Argument \"" + arg + "\" can't be transmitted"
+                                          + " to the job server"
+                                         );
+                }
+                writer.write(arg + "\n");
+            }
+            writer.write("\n");
+            writer.flush();
+
+            /* The last line of the response is the exit code of the job. */
+            final BufferedReader reader =
+                    new BufferedReader(new InputStreamReader( socket.getInputStream()
+                                                            , StandardCharsets.UTF_8
+                                                            )
+                                      );
+            String line;
+            while((line = reader.readLine()) != null)
+            {
+                if(line.startsWith("#exit "))
+                {
+                    try
+                    {
+                        return Integer.parseInt(line.substring(6).trim());
+                    }
+                    catch(NumberFormatException e)
+                    {
+                        break;
+                    }
+                }
+                out.println(line);
+            }
+            throw new IOException("Job server closed the connection without reporting the"
+                                  + " result of the job. Is the token file up to date?"
+                                 );
+        }
+        finally
+        {
+            socket.close();
+        }
+    } /* End of JobClient.submitJob */
+
+
+
+    /**
+     * Main entry point of the job client.
+     *   @param argAry
+     * The command line. The first argument is the name of the token file of the server,
+     * all other arguments form the command line of the job.
+     */
+    public static void main(String[] argAry)
+    {
+        if(argAry.length < 2)
+        {
+            System.err.println("usage: " + JobClient.class.getName()
+                               + " <tokenFile> <job arguments>"
+                              );
+            System.exit(1);
+        }
+
+        final String[] jobArgAry = new String[argAry.length-1];
+        System.arraycopy(argAry, 1, jobArgAry, 0, jobArgAry.length);
+        int exitCode;
+        try
+        {
+            exitCode = submitJob(argAry[0], jobArgAry, System.out);
+        }
+        catch(IOException e)
+        {
+            System.err.println("Job client: " + e.getMessage());
+            exitCode = 1;
+        }
+        System.out.flush();
+        System.exit(exitCode);
+
+    } /* End of JobClient.main */
+
+} /* End of class JobClient definition. */
@@ -0,0 +1,75 @@
+/**
+ * @file JobContext.java
+ * The resources, which an application run shares with other runs in the same process.
+ *
+ * Copyright (C) 2025 Peter Vranken (mailto:Peter_Vranken@Yahoo.de)
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+/* Interface of class JobContext
+ *   JobContext
+ */
+
+package codeGenerator.main;
+
+
+/**
+ * An application run, which is not the only one in the process, is called a job. The job
+ * context holds the resources, which a job shares with the other jobs in the same process,
+ * and tells how the job needs to behave with respect to the other jobs.
+ */
+
+class JobContext
+{
+    /** The template groups, which are shared by all jobs. */
+    final TemplateGroupCache templateGroupCache;
+
+    /** The parse trees of the network database files, which are shared by all jobs, or
+        null if each job parses its files. */
+    final ParseTreeCache parseTreeCache;
+
+    /** If true then the logging has been configured for all jobs and the job ignores the
+        logging options of its command line. Otherwise the job configures the logging. */
+    final boolean isLoggingConfigured;
+
+    /** If true then the job runs concurrently with other jobs. It must not use the
+        deferred logging, which is applied for parsing and rendering with several threads.
+        These operations are done sequentially in the job. */
+    final boolean isConcurrent;
+
+    /**
+     * A new instance of JobContext is created.
+     *   @param templateGroupCache
+     * The template groups, which are shared by all jobs.
+     *   @param parseTreeCache
+     * The parse trees, which are shared by all jobs, or null.
+     *   @param isLoggingConfigured
+     * Whether the logging is configured outside the jobs.
+     *   @param isConcurrent
+     * Whether the job runs concurrently with other jobs.
+     */
+    JobContext( TemplateGroupCache templateGroupCache
+              , ParseTreeCache parseTreeCache
+              , boolean isLoggingConfigured
+              , boolean isConcurrent
+              )
+    {
+        this.templateGroupCache = templateGroupCache;
+        this.parseTreeCache = parseTreeCache;
+        this.isLoggingConfigured = isLoggingConfigured;
+        this.isConcurrent = isConcurrent;
+
+    } /* End of JobContext.JobContext */
+
+} /* End of class JobContext definition. */
@@ -0,0 +1,310 @@
+/**
+ * @file ModelCache.java
+ * An on-disk cache of the data models of parsed network database files.
+ *
+ * Copyright (C) 2025 Peter Vranken (mailto:Peter_Vranken@Yahoo.de)
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+/* Interface of class ModelCache
+ *   ModelCache
+ *   computeKey
+ *   load
+ *   store
+ *   update
+ */
+
+package codeGenerator.main;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.*;
+import org.apache.log4j.*;
+import codeGenerator.dbcParser.ErrorCounter;
+import codeGenerator.dataModelListener.*;
+
+
+/**
+ * An on-disk cache of the data models of parsed network database files.<p>
+ *   Large network database files take seconds to parse and to transform into the data
+ * model of a bus but they rarely change. The cache holds a binary snapshot of the data
+ * model, see {@link BusSnapshot}, which is loaded much faster than the file can be
+ * parsed.<p>
+ *   The key of a snapshot is a hash of the contents of the network database file and of
+ * all bus parameters, which affect the data model: the character set of the file, the
+ * node name, the inversion of the transmission direction, the frame filters and the
+ * special signals. The name of the bus, the name of the file and the user options are not
+ * part of the key; they are set after loading.<p>
+ *   Only parse results without any errors and warnings are stored. Loading a snapshot
+ * doesn't withhold feedback from the user. A file with problems is parsed again by each
+ * run, which reports the problems.<p>
+ *   Each snapshot is a file, which is named after its key. Snapshots are written
+ * atomically; an incomplete snapshot is never visible.
+ */
+
+class ModelCache
+{
+    /** Access the Apache logger object. */
+    private static Logger _logger = Logger.getLogger(ModelCache.class.getName());
+
+    /** The file name extension of the snapshot files. */
+    private static final String _snapshotFileExt = ".bus";
+
+    /** The cache directory. */
+    private final Path cacheDir_;
+
+    /**
+     * A new instance of ModelCache is created. The directory is not accessed yet.
+     *   @param cacheDirName
+     * The name of the cache directory. It is created when the first snapshot is stored.
+     */
+    ModelCache(String cacheDirName)
+    {
+        cacheDir_ = Paths.get(cacheDirName);
+
+    } /* End of ModelCache.ModelCache */
+
+
+
+    /**
+     * Compute the key of the data model of a bus.
+     *   @return Get the key as hexadecimal string or null if the network database file
+     * can't be read. Then the cache can't be used for the bus; the parser will report the
+     * problem.
+     *   @param busDescription
+     * The user specification of the bus.
+     */
+    String computeKey(ParameterSet.BusDescription busDescription)
+    {
+        final MessageDigest md;
+        try
+        {
+            md = MessageDigest.getInstance("SHA-256");
+        }
+        catch(NoSuchAlgorithmException e)
+        {
+            _logger.warn("Model cache is not used. " + e.getMessage());
+            return null;
+        }
+
+        /* The tool, the version of its data model and of the snapshot format. */
+        update(md, CodeGenerator._applicationName);
+        update(md, CodeGenerator._versionFull);
+        update(md, String.valueOf(CodeGenerator._versionDataModel));
+        update(md, String.valueOf(BusSnapshot.formatVersion));
+
+        /* The bus parameters, which affect the data model. */
+        update(md, busDescription.networkFileCharset.name());
+        update(md, busDescription.me);
+        update(md, String.valueOf(busDescription.invertTransmissionDirection));
+        for(Pair<Integer,Integer> range: busDescription.inclFrameIdAry)
+            update(md, range.first + ".." + range.second);
+        update(md, busDescription.reInclFrameName);
+        for(Pair<Integer,Integer> range: busDescription.exclFrameIdAry)
+            update(md, range.first + ".." + range.second);
+        update(md, busDescription.reExclFrameName);
+        for(ParameterSet.SpecialSignalRequest req: busDescription.specialSignalMap.values())
+        {
+            update(md, req.name);
+            update(md, req.reSpecialSignal);
+        }
+
+        /* The contents of the network database file. */
+        try
+        {
+            final InputStream in =
+                            Files.newInputStream(Paths.get(busDescription.networkFileName));
+            try
+            {
+                final byte[] buf = new byte[64*1024];
+                int noBytes;
+                while((noBytes = in.read(buf)) >= 0)
+                    md.update(buf, 0, noBytes);
+            }
+            finally
+            {
+                in.close();
+            }
+        }
+        catch(IOException | InvalidPathException e)
+        {
+            return null;
+        }
+
+        final StringBuilder key = new StringBuilder();
+        for(byte b: md.digest())
+            key.append(String.format("%02x", b & 0xff));
+        return key.toString();
+
+    } /* End of ModelCache.computeKey */
+
+
+
+    /**
+     * Load the data model of a bus from the cache.
+     *   @return Get the bus or null if the cache doesn't contain a snapshot with the given
+     * key or if it can't be loaded. The name of the bus, the network database file and the
+     * user options are not set.<p>
+     *   A snapshot, which can't be loaded, is deleted from the cache. The caller will
+     * parse the network database file and store a new snapshot.
+     *   @param key
+     * The key of the data model as got from {@link #computeKey}.
+     *   @param errCnt
+     * Template emitted and caused errors are counted in this object.
+     */
+    Bus load(String key, ErrorCounter errCnt)
+    {
+        final Path snapshotFile = cacheDir_.resolve(key + _snapshotFileExt);
+        if(!Files.isRegularFile(snapshotFile))
+        {
+            _logger.debug("Model cache " + cacheDir_ + " doesn't contain a snapshot with"
+                          + " key " + key
+                         );
+            return null;
+        }
+
+        try
+        {
+            final InputStream in = Files.newInputStream(snapshotFile);
+            try
+            {
+                return BusSnapshot.read(in, errCnt);
+            }
+            finally
+            {
+                in.close();
+            }
+        }
+        catch(IOException e)
+        {
+            _logger.warn("Snapshot " + snapshotFile + " of model cache can't be loaded and"
+                         + " is discarded. " + e
+                        );
+            try
+            {
+                Files.deleteIfExists(snapshotFile);
+            }
+            catch(IOException eDel)
+            {
+                _logger.warn("Can't delete file " + snapshotFile + " of model cache. "
+                             + eDel
+                            );
+            }
+            return null;
+        }
+    } /* End of ModelCache.load */
+
+
+
+    /**
+     * Store the data model of a successfully parsed bus in the cache. Failures are reported
+     * as warnings; the run as such is not affected by an unusable cache.
+     *   @param key
+     * The key of the data model as got from {@link #computeKey}.
+     *   @param bus
+     * The data model of the bus.
+     *   @param firstObjId
+     * The next object ID at the beginning of parsing the bus.
+     *   @param noObjIds
+     * The number of object IDs, which have been consumed by parsing the bus.
+     */
+    void store(String key, Bus bus, int firstObjId, int noObjIds)
+    {
+        final Path snapshotFile = cacheDir_.resolve(key + _snapshotFileExt);
+        Path tmpSnapshotFile = null;
+        try
+        {
+            /* The snapshot is written into a temporary file, which is renamed at the end.
+               Other runs will never see an incomplete snapshot. */
+            Files.createDirectories(cacheDir_);
+            tmpSnapshotFile = Files.createTempFile(cacheDir_, key + ".", ".tmp");
+            final OutputStream out = Files.newOutputStream(tmpSnapshotFile);
+            try
+            {
+                BusSnapshot.write(out, bus, firstObjId, noObjIds);
+            }
+            finally
+            {
+                out.close();
+            }
+
+            /* An existing snapshot is replaced. It has either been stored by a concurrent
+               run with the same inputs, then it has the same contents, or it is a snapshot,
+               which couldn't be loaded. */
+            try
+            {
+                Files.move( tmpSnapshotFile
+                          , snapshotFile
+                          , StandardCopyOption.ATOMIC_MOVE
+                          , StandardCopyOption.REPLACE_EXISTING
+                          );
+            }
+            catch(AtomicMoveNotSupportedException e)
+            {
+                Files.move( tmpSnapshotFile
+                          , snapshotFile
+                          , StandardCopyOption.REPLACE_EXISTING
+                          );
+            }
+            tmpSnapshotFile = null;
+
+            _logger.debug("Data model of bus " + bus.name + " is stored in model cache "
+                          + snapshotFile
+                         );
+        }
+        catch(IOException e)
+        {
+            _logger.warn("Data model of bus " + bus.name + " can't be stored in model"
+                         + " cache " + cacheDir_ + ". " + e
+                        );
+        }
+        finally
+        {
+            if(tmpSnapshotFile != null)
+            {
+                try
+                {
+                    Files.deleteIfExists(tmpSnapshotFile);
+                }
+                catch(IOException e)
+                {
+                    _logger.warn("Can't delete file " + tmpSnapshotFile + " of model"
+                                 + " cache. " + e
+                                );
+                }
+            }
+        }
+    } /* End of ModelCache.store */
+
+
+
+    /**
+     * Add a string to the key.
+     *   @param md
+     * The message digest, which computes the key.
+     *   @param s
+     * The string to add. null is permitted.
+     */
+    private static void update(MessageDigest md, String s)
+    {
+        if(s != null)
+            md.update(s.getBytes(StandardCharsets.UTF_8));
+
+        /* A separator ensures that the concatenation of strings is unambiguous. */
+        md.update((byte)0);
+
+    } /* End of ModelCache.update */
+
+} /* End of class ModelCache definition. */
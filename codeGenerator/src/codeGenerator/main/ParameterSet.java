@@ -18,11 +18,14 @@
  * along with this program. If not, see <http://www.gnu.org/licenses/>.
  */
 /* Interface of class ParameterSet
- *   BusDescription.isInIntSet
+ *   BusDescription.compileFrameFilter
  *   BusDescription.isFrameSupported
+ *   BusDescription.compileSpecialSignalMatcher
+ *   BusDescription.getMatchingSpecialSignalRequests
  *   defineArguments
  *   parseGetNextArg
  *   parseIntRange
+ *   parseCharset
  *   parseStateUserOption
  *   parseStateSpecialSignal
  *   cloneLinkedHashMap
@@ -33,6 +36,8 @@
 package codeGenerator.main;
 
 import java.util.*;
+import java.util.regex.*;
+import java.nio.charset.*;
 import org.apache.log4j.*;
 import org.stringtemplate.v4.*;
 import cmdLineParser.CmdLineParser;
@@ -58,6 +63,58 @@ public class ParameterSet
     /** Use verbose mode for template loading. */
     public boolean stringTemplateVerbose = false;
 
+    /** The number of threads, which are used to parse the network database files. The
+        value 1 means to parse one file after another in the main thread of the
+        application. */
+    public int noParseThreads = 1;
+
+    /** The number of threads, which are used to parse the parts of a single, large
+        network database file. */
+    public int noFileParseThreads = 1;
+
+    /** The number of threads, which are used to render the output files. The value 1
+        means to render one file after another in the main thread of the application. */
+    public int noRenderThreads = 1;
+
+    /** The character set of the generated output files. */
+    public Charset outputCharset = Charset.defaultCharset();
+
+    /** Stream the generated text directly into a temporary file, which replaces the
+        output file after successful template expansion. If false then the generated text
+        is collected in memory and written into the output file afterwards. */
+    public boolean streamOutput = false;
+
+    /** Don't rewrite an output file if the generated text is identical to its current
+        contents. */
+    public boolean writeIfChanged = false;
+
+    /** The directory of the cache of results of previous runs or null if no result cache
+        is used. */
+    public String resultCacheDirName = null;
+
+    /** The time of code generation is not considered an input of a run, when looking for
+        the result of a previous run in the result cache. */
+    public boolean resultCacheExcludeTime = false;
+
+    /** The directory of the cache of data models of parsed network database files or null
+        if no model cache is used. */
+    public String modelCacheDirName = null;
+
+    /** Parse the network database files in streaming mode, without building a parse
+        tree. */
+    public boolean streamParse = false;
+
+    /** Profile the grammar decisions of the parser and report the costliest decisions. */
+    public boolean profileParser = false;
+
+    /** Tokenize the network database files with the hand-coded lexer instead of the
+        lexer, which is generated from the grammar. */
+    public boolean fastLexer = false;
+
+    /** Let the templates access the data model through the dedicated model adaptors
+        instead of the reflective default model adaptor of StringTemplate V4. */
+    public boolean modelAdaptors = false;
+
     /** Specific signals can be made directly accessible by name. The user selects these
         signals by name. The use case is the support of alive or sequence counters or
         checksum validation in the generated code. An object of this class holds all
@@ -111,6 +168,9 @@ public class ParameterSet
             on this bus. */
         public String networkFileName = null;
 
+        /** The character set of the network database file. */
+        public Charset networkFileCharset = null;
+
         /** The direction of transmission of a frame is derived from the name of the
             network node the code is generated for. This setting is made bus specific as
             network database files from different sources might use different names for one
@@ -170,33 +230,57 @@ public class ParameterSet
         public LinkedHashMap<String,Object> optionMap = new LinkedHashMap<>();
 
 
+        /** The frame filter in compiled form. It is derived from the include and exclude
+            settings of the bus on first use by {@link #isFrameSupported}; these settings
+            must not be changed afterwards. */
+        private static class CompiledFrameFilter
+        {
+            /** The compiled regular expression of included frame names or null. */
+            Pattern reInclFrameName;
+
+            /** The compiled regular expression of excluded frame names or null. */
+            Pattern reExclFrameName;
+
+            /** The included frame IDs. */
+            IntRangeSet inclFrameIdSet;
+
+            /** The excluded frame IDs. */
+            IntRangeSet exclFrameIdSet;
+        }
+
+        /** The compiled frame filter or null if it has not been used yet. */
+        private volatile CompiledFrameFilter frameFilter_ = null;
+
+
         /**
-         * Test if a given integer value is in an integer set.
-         *   @return Get the Boolean result.
-         *   @param s The set as a list of value or ranges of values.
-         *   @param i The integer number.
+         * Compile the frame filter from the include and exclude settings of the bus.
+         *   @return Get the compiled filter.
          */
-        private boolean isInIntSet(ArrayList<Pair<Integer,Integer>> s, int i)
+        private CompiledFrameFilter compileFrameFilter()
         {
-            for(Pair<Integer,Integer> p: s)
+            CompiledFrameFilter frameFilter = frameFilter_;
+            if(frameFilter == null)
             {
-                if(p.second != null)
-                {
-                    if(p.first.intValue() <= i  &&  i <= p.second.intValue())
-                        return true;
-                }
-                else if(p.first.intValue() == i)
-                    return true;
+                frameFilter = new CompiledFrameFilter();
+                if(reInclFrameName != null)
+                    frameFilter.reInclFrameName = Pattern.compile(reInclFrameName);
+                if(reExclFrameName != null)
+                    frameFilter.reExclFrameName = Pattern.compile(reExclFrameName);
+                frameFilter.inclFrameIdSet = new IntRangeSet(inclFrameIdAry);
+                frameFilter.exclFrameIdSet = new IntRangeSet(exclFrameIdAry);
+                frameFilter_ = frameFilter;
             }
+            return frameFilter;
 
-            return false;
-
-        } /* End of ParameterSet.BusDescription.isInIntSet */
+        } /* End of ParameterSet.BusDescription.compileFrameFilter */
 
 
 
         /**
-         * Test if a given frame is in the set of supported frames.
+         * Test if a given frame is in the set of supported frames.<p>
+         *   The method is called for each frame of the network database file. The regular
+         * expressions are compiled and the ID ranges are merged into an {@link IntRangeSet}
+         * on first call only.
          *   @return Get the Boolean result.
          *   @param name The name of the frame.
          *   @param id The frame ID.
@@ -207,23 +291,185 @@ public class ParameterSet
          */
         public boolean isFrameSupported(String name, int id)
         {
+            final CompiledFrameFilter frameFilter = compileFrameFilter();
+
             /* A frame is supported if it is not in the excluded set but either in the included
                set or if the included set is not specified. Begin with exclusion. */
-            if(reExclFrameName != null  &&  name.matches(reExclFrameName)
-               || isInIntSet(exclFrameIdAry, id)
+            if(frameFilter.reExclFrameName != null
+               &&  frameFilter.reExclFrameName.matcher(name).matches()
+               || frameFilter.exclFrameIdSet.contains(id)
               )
             {
                 return false;
             }
 
-            if(reInclFrameName == null  &&  inclFrameIdAry.size() == 0)
+            if(frameFilter.reInclFrameName == null
+               &&  frameFilter.inclFrameIdSet.isEmpty()
+              )
+            {
                 return true;
+            }
 
-            return reInclFrameName != null  &&  name.matches(reInclFrameName)
-                   || isInIntSet(inclFrameIdAry, id);
+            return frameFilter.reInclFrameName != null
+                   &&  frameFilter.reInclFrameName.matcher(name).matches()
+                   || frameFilter.inclFrameIdSet.contains(id);
 
         } /* End of ParameterSet.BusDescription.isFrameSupported */
 
+
+
+        /** The special signal requests in compiled form. All requests are combined into a
+            single regular expression, which tests a signal name against all of them in
+            one pass. The expression is derived from {@link #specialSignalMap} on first use
+            by {@link #getMatchingSpecialSignalRequests}; the map must not be changed
+            afterwards. */
+        private static class CompiledSpecialSignalMatcher
+        {
+            /** The special signal requests in the order of the map. */
+            SpecialSignalRequest[] requestAry;
+
+            /** The combined regular expression. Request i is represented by an optional,
+                anchored lookahead with named group "ss<i>", which captures the signal name
+                if it matches the request. null if the requests can't be combined, e.g.,
+                because one of the user's expressions contains a back reference, which
+                would refer to a group of another request after combining. */
+            Pattern reCombined;
+
+            /** The names of the groups of the requests in the combined expression. */
+            String[] groupNameAry;
+
+            /** The individually compiled regular expressions of the requests, which are
+                used if they can't be combined. The array element is null for a request,
+                which is based on an exact name match. */
+            Pattern[] reRequestAry;
+        }
+
+        /** The compiled special signal matcher or null if it has not been used yet. */
+        private volatile CompiledSpecialSignalMatcher specialSignalMatcher_ = null;
+
+
+        /**
+         * Compile the matcher for special signals from the special signal requests of the
+         * bus.
+         *   @return Get the compiled matcher.
+         */
+        private CompiledSpecialSignalMatcher compileSpecialSignalMatcher()
+        {
+            CompiledSpecialSignalMatcher matcher = specialSignalMatcher_;
+            if(matcher == null)
+            {
+                matcher = new CompiledSpecialSignalMatcher();
+                matcher.requestAry = specialSignalMap.values()
+                                     .toArray(new SpecialSignalRequest[0]);
+
+                /* A request matches if the entire signal name matches. The lookahead is
+                   anchored at the end of the name with \z; the match of the combined
+                   expression itself is anchored at the beginning. */
+                StringBuilder reCombined = new StringBuilder();
+                boolean canCombine = true;
+                matcher.groupNameAry = new String[matcher.requestAry.length];
+                for(int idxReq=0; idxReq<matcher.requestAry.length; ++idxReq)
+                {
+                    final SpecialSignalRequest req = matcher.requestAry[idxReq];
+                    final String re;
+                    if(req.reSpecialSignal == null)
+                        re = Pattern.quote(req.name);
+                    else
+                    {
+                        re = req.reSpecialSignal;
+                        if(re.matches("(?s).*\\\\([1-9]|k<).*"))
+                            canCombine = false;
+                    }
+                    matcher.groupNameAry[idxReq] = "ss" + idxReq;
+                    reCombined.append("(?=(?<").append(matcher.groupNameAry[idxReq])
+                              .append(">(?:").append(re).append(")\\z))?");
+                }
+                if(canCombine)
+                {
+                    try
+                    {
+                        matcher.reCombined = Pattern.compile(reCombined.toString());
+                    }
+                    catch(PatternSyntaxException e)
+                    {
+                        /* The user's expressions may still be valid each on its own,
+                           e.g., if they use the same group names. */
+                        matcher.reCombined = null;
+                    }
+                }
+                if(matcher.reCombined == null)
+                {
+                    matcher.reRequestAry = new Pattern[matcher.requestAry.length];
+                    for(int idxReq=0; idxReq<matcher.requestAry.length; ++idxReq)
+                    {
+                        final String re = matcher.requestAry[idxReq].reSpecialSignal;
+                        if(re != null)
+                            matcher.reRequestAry[idxReq] = Pattern.compile(re);
+                    }
+                }
+                specialSignalMatcher_ = matcher;
+            }
+            return matcher;
+
+        } /* End of ParameterSet.BusDescription.compileSpecialSignalMatcher */
+
+
+
+        /**
+         * Get all special signal requests, which are matched by a given signal name.<p>
+         *   The method is called for each signal of the network database file. The
+         * requests are combined into a single regular expression on first call only. Each
+         * later call tests the signal name against all requests in a single matching
+         * operation.
+         *   @return Get the matching requests in the order of {@link #specialSignalMap} or
+         * null if no request matches.
+         *   @param signalName
+         * The name of the signal.
+         */
+        public List<SpecialSignalRequest>
+                                    getMatchingSpecialSignalRequests(String signalName)
+        {
+            if(specialSignalMap.isEmpty())
+                return null;
+
+            final CompiledSpecialSignalMatcher matcher = compileSpecialSignalMatcher();
+            List<SpecialSignalRequest> matchingRequestList = null;
+            if(matcher.reCombined != null)
+            {
+                final Matcher m = matcher.reCombined.matcher(signalName);
+                if(m.lookingAt())
+                {
+                    for(int idxReq=0; idxReq<matcher.requestAry.length; ++idxReq)
+                    {
+                        if(m.start(matcher.groupNameAry[idxReq]) >= 0)
+                        {
+                            if(matchingRequestList == null)
+                                matchingRequestList = new ArrayList<>(1);
+                            matchingRequestList.add(matcher.requestAry[idxReq]);
+                        }
+                    }
+                }
+            }
+            else
+            {
+                for(int idxReq=0; idxReq<matcher.requestAry.length; ++idxReq)
+                {
+                    final SpecialSignalRequest req = matcher.requestAry[idxReq];
+                    final Pattern re = matcher.reRequestAry[idxReq];
+                    if(re == null  &&  signalName.equals(req.name)
+                       ||  re != null  &&  re.matcher(signalName).matches()
+                      )
+                    {
+                        if(matchingRequestList == null)
+                            matchingRequestList = new ArrayList<>(1);
+                        matchingRequestList.add(req);
+                    }
+                }
+            }
+            return matchingRequestList;
+
+        } /* End of ParameterSet.BusDescription.getMatchingSpecialSignalRequests */
+
     } /* End of class ParameterSet.BusDescription */
 
     /** One bus description for each input network database file. */
@@ -324,6 +570,165 @@ public class ParameterSet
                             + " See http://www.stringtemplate.org/ for more. Must be given in"
                             + " the global context only. Optional, default is false"
                           );
+        clp.defineArgument( "pt", "parse-threads"
+                          , /* cntMin, cntMax */ 0, 1
+                          , /* defaultValue */ 1
+                          , "The number of threads, which are used to parse the network"
+                            + " database files of the different buses of the cluster. Use"
+                            + " a value greater than one to parse the files concurrently."
+                            + " The data model and the logging are the same as for a"
+                            + " sequential run. A value of zero or less means to use as many"
+                            + " threads as there are processor cores. Must be given in"
+                            + " the global context only. Optional, default is 1, the"
+                            + " files are parsed one after another"
+                          );
+        clp.defineArgument( "fpt", "file-parse-threads"
+                          , /* cntMin, cntMax */ 0, 1
+                          , /* defaultValue */ 1
+                          , "The number of threads, which are used to parse a single, large"
+                            + " network database file. Use a value greater than one to split"
+                            + " large files at top level statements and to parse the parts"
+                            + " concurrently. The parse result and the reported line numbers"
+                            + " are the same as for sequential parsing; a file, which"
+                            + " contains errors, is parsed again sequentially to report"
+                            + " them. Not applied with --stream-parse or --profile-parser."
+                            + " A value of zero or less means to use as many threads as"
+                            + " there are processor cores. Must be given in the global"
+                            + " context only. Optional, default is 1, the files are parsed"
+                            + " sequentially"
+                          );
+        clp.defineArgument( "rt", "render-threads"
+                          , /* cntMin, cntMax */ 0, 1
+                          , /* defaultValue */ 1
+                          , "The number of threads, which are used to render the output"
+                            + " files. Use a value greater than one to expand the templates"
+                            + " of different output files concurrently. Each template"
+                            + " expansion sees the data model in the order got from parsing,"
+                            + " regardless of sort operations made by other templates; in a"
+                            + " sequential run, the frame order established by a template"
+                            + " persists for the templates expanded later. Otherwise, the"
+                            + " generated files and the logging are the same as for a"
+                            + " sequential run. A value of zero or less means to use as"
+                            + " many threads as there are processor cores. Must be given in"
+                            + " the global context only. Optional, default is 1, the"
+                            + " output files are rendered one after another"
+                          );
+        clp.defineArgument( "oe", "output-encoding"
+                          , /* cntMin, cntMax */ 0, 1
+                          , /* defaultValue */ null
+                          , "The character set of the generated output files, e.g., UTF-8"
+                            + " or ISO-8859-1. Characters, which can't be represented in the"
+                            + " character set are replaced by a question mark. Must be given"
+                            + " in the global context only. Optional, default is the"
+                            + " character set of the platform the application is running on"
+                          );
+        clp.defineArgument( "so", "stream-output"
+                          , /* cntMax */ 1
+                          , "Use this Boolean argument to write the generated text directly"
+                            + " into the output file, while the template is being expanded."
+                            + " This reduces the memory consumption for large output files."
+                            + " The text is written into a temporary file, which replaces"
+                            + " the output file only if the template expansion succeeds."
+                            + " Output into the console streams is not affected. Must be"
+                            + " given in the global context only. Optional, default is"
+                            + " false, the complete generated text is written after template"
+                            + " expansion"
+                          );
+        clp.defineArgument( "wc", "write-if-changed"
+                          , /* cntMax */ 1
+                          , "Use this Boolean argument to leave those output files"
+                            + " untouched, which already have the generated contents. The"
+                            + " generated text is compared with the existing file and the"
+                            + " file is only rewritten if they differ. This way, the"
+                            + " modification time of unchanged files is kept and a build"
+                            + " of the generated code doesn't need to recompile them. Must be"
+                            + " given in the global context only. Optional, default is"
+                            + " false, all output files are always rewritten"
+                          );
+        clp.defineArgument( "rcd", "result-cache-dir"
+                          , /* cntMin, cntMax */ 0, 1
+                          , /* defaultValue */ null
+                          , "The name of a directory, which holds the generated files of"
+                            + " previous, successful runs. If all inputs, i.e., the network"
+                            + " database files, the template group files, including all"
+                            + " imported groups, and the command line arguments, are"
+                            + " identical to those of a cached run then parsing and template"
+                            + " expansion are skipped and the output files are restored from"
+                            + " the cache. Runs, which write into the console streams or"
+                            + " which use template group directories are not cached. The"
+                            + " cache keeps the results of the " + ResultCache._maxNoEntries
+                            + " most recently used input sets and deletes older ones; the"
+                            + " warnings of a cached run are counted but not repeated. Must"
+                            + " be given in the global context only. Optional, default is"
+                            + " to not use a result cache"
+                          );
+        clp.defineArgument( "rcxt", "result-cache-exclude-time"
+                          , /* cntMax */ 1
+                          , "Use this Boolean argument to not consider the time of code"
+                            + " generation an input of a run, when looking for its results"
+                            + " in the result cache. By default, the time is an input,"
+                            + " because it is accessible to the templates; this"
+                            + " effectively disables the result cache. Use this argument if"
+                            + " the templates don't render the time or if the time of the"
+                            + " cached run is acceptable in the restored files. Must be"
+                            + " given in the global context only. Optional, default is"
+                            + " false"
+                          );
+        clp.defineArgument( "mcd", "model-cache-dir"
+                          , /* cntMin, cntMax */ 0, 1
+                          , /* defaultValue */ null
+                          , "The name of a directory, which holds binary snapshots of the"
+                            + " data models of previously parsed network database files. If"
+                            + " the contents of a file and the bus arguments, which affect"
+                            + " the data model, are identical to those of a snapshot then"
+                            + " the snapshot is loaded instead of parsing the file. Only"
+                            + " files, which are parsed without errors and warnings, are"
+                            + " stored. Must be given in the global context only. Optional,"
+                            + " default is to not use a model cache"
+                          );
+        clp.defineArgument( "sp", "stream-parse"
+                          , /* cntMax */ 1
+                          , "Use this Boolean argument to parse the network database files"
+                            + " in a single pass without building a parse tree: The data"
+                            + " model is shaped and the semantic checks are done while"
+                            + " parsing. This saves a lot of memory for large files. The"
+                            + " diagnostic messages are held back until a file has been"
+                            + " parsed and are reported in the same order as without this"
+                            + " argument. The parse results, which are"
+                            + " shared by the runs of a batch, are not used. Must be"
+                            + " given in the global context only. Optional, default is"
+                            + " false"
+                          );
+        clp.defineArgument( "pp", "profile-parser"
+                          , /* cntMax */ 1
+                          , "Use this Boolean argument to run the parser in a diagnostic"
+                            + " mode, which profiles the prediction of the grammar"
+                            + " decisions and reports the costliest decisions for each"
+                            + " parsed network database file. The report helps to find hot"
+                            + " spots in the grammar. Parsing becomes significantly slower."
+                            + " Files, which are taken from the model cache or which have"
+                            + " been parsed before in a batch, are not profiled. Must be"
+                            + " given in the global context only. Optional, default is"
+                            + " false"
+                          );
+        clp.defineArgument( "fl", "fast-lexer"
+                          , /* cntMax */ 1
+                          , "Use this Boolean argument to tokenize the network database"
+                            + " files with a hand-coded lexer instead of the lexer, which is"
+                            + " generated from the grammar. Both lexers produce the same"
+                            + " tokens and report the same errors but the hand-coded lexer"
+                            + " is faster. Must be given in the global context only."
+                            + " Optional, default is false"
+                          );
+        clp.defineArgument( "ma", "model-adaptors"
+                          , /* cntMax */ 1
+                          , "Use this Boolean argument to let the templates access the"
+                            + " properties of the data model through dedicated model"
+                            + " adaptors instead of the reflective default model adaptor of"
+                            + " StringTemplate V4. The generated output is the same but"
+                            + " rendering is faster. Must be given in the global context"
+                            + " only. Optional, default is false"
+                          );
 
         /* Arguments to specify a bus. */
         clp.defineArgument( "b", "bus-name"
@@ -343,6 +748,21 @@ public class ParameterSet
                             + " bus definition only. This parameter is mandatory for each"
                             + " bus specification"
                           );
+        clp.defineArgument( "nfe", "network-file-encoding"
+                          , /* cntMin, cntMax */ 0, -1
+                          , /* defaultValue */ null
+                          , "The character set of the network database file, e.g.,"
+                            + " windows-1252, UTF-8 or ISO-8859-1. Network database files"
+                            + " typically use windows-1252. Specify the character set to"
+                            + " get the same data model on all platforms. Byte sequences,"
+                            + " which are invalid in the character set, are replaced by the"
+                            + " Unicode replacement character.\n"
+                            + "  The argument can be used once in the global"
+                            + " context, too, then the global value becomes the"
+                            + " default for all bus specifications that do not"
+                            + " specify the value themselves. Optional, default is the"
+                            + " character set of the platform the application is running on"
+                          );
         clp.defineArgument( "inv", "invert-transmission-direction"
                           , /* cntMax */ -1
                           , "The data model entries related to the transmission direction"
@@ -622,8 +1042,22 @@ public class ParameterSet
             case "cluster-name":
             case "node-name":
             case "string-template-verbose":
+            case "parse-threads":
+            case "file-parse-threads":
+            case "render-threads":
+            case "output-encoding":
+            case "stream-output":
+            case "write-if-changed":
+            case "result-cache-dir":
+            case "result-cache-exclude-time":
+            case "model-cache-dir":
+            case "stream-parse":
+            case "profile-parser":
+            case "fast-lexer":
+            case "model-adaptors":
             case "bus-name":
             case "network-file-name":
+            case "network-file-encoding":
             case "invert-transmission-direction":
             case "include-frame-id":
             case "re-include-frame-name":
@@ -715,6 +1149,36 @@ public class ParameterSet
 
 
 
+    /**
+     * Decode the value of a command line argument, which names a character set.
+     *   @return Get the character set.
+     *   @throws CmdLineParser.InvalidArgException
+     * The character set is not supported.
+     *   @param argName
+     * The name of the argument (i.e., the command line switch), used for reporting only.
+     *   @param argValue
+     * The string value of the command line argument.
+     */
+    private Charset parseCharset(String argName, String argValue)
+        throws CmdLineParser.InvalidArgException
+    {
+        try
+        {
+            return Charset.forName(argValue);
+        }
+        catch(IllegalArgumentException e)
+        {
+            throw new CmdLineParser.InvalidArgException
+                      ("Character set " + argValue + " of argument " + argName
+                       + " is not supported. Examples of supported character"
+                       + " sets are UTF-8, US-ASCII and ISO-8859-1"
+                      );
+        }
+    } /* End of ParameterSet.parseCharset */
+
+
+
+
     /**
      * Parsing state/context user code generation option.
      *   @throws CmdLineParser.InvalidArgException
@@ -1034,6 +1498,77 @@ public class ParameterSet
                     stringTemplateVerbose = true;
                     break;
 
+                case "parse-threads":
+                    /* Repeated appearance is already filtered by the parser. */
+                    noParseThreads = clp.getInteger(arg);
+                    if(noParseThreads <= 0)
+                        noParseThreads = Runtime.getRuntime().availableProcessors();
+                    break;
+
+                case "file-parse-threads":
+                    /* Repeated appearance is already filtered by the parser. */
+                    noFileParseThreads = clp.getInteger(arg);
+                    if(noFileParseThreads <= 0)
+                        noFileParseThreads = Runtime.getRuntime().availableProcessors();
+                    break;
+
+                case "render-threads":
+                    /* Repeated appearance is already filtered by the parser. */
+                    noRenderThreads = clp.getInteger(arg);
+                    if(noRenderThreads <= 0)
+                        noRenderThreads = Runtime.getRuntime().availableProcessors();
+                    break;
+
+                case "output-encoding":
+                    /* Repeated appearance is already filtered by the parser. */
+                    outputCharset = parseCharset(arg, clp.getString(arg));
+                    break;
+
+                case "stream-output":
+                    assert streamOutput == false;
+                    streamOutput = true;
+                    break;
+
+                case "write-if-changed":
+                    assert writeIfChanged == false;
+                    writeIfChanged = true;
+                    break;
+
+                case "result-cache-dir":
+                    /* Repeated appearance is already filtered by the parser. */
+                    resultCacheDirName = clp.getString(arg);
+                    break;
+
+                case "result-cache-exclude-time":
+                    assert resultCacheExcludeTime == false;
+                    resultCacheExcludeTime = true;
+                    break;
+
+                case "model-cache-dir":
+                    /* Repeated appearance is already filtered by the parser. */
+                    modelCacheDirName = clp.getString(arg);
+                    break;
+
+                case "stream-parse":
+                    assert streamParse == false;
+                    streamParse = true;
+                    break;
+
+                case "profile-parser":
+                    assert profileParser == false;
+                    profileParser = true;
+                    break;
+
+                case "fast-lexer":
+                    assert fastLexer == false;
+                    fastLexer = true;
+                    break;
+
+                case "model-adaptors":
+                    assert modelAdaptors == false;
+                    modelAdaptors = true;
+                    break;
+
                 /* Here we have some cases for bus and output generation context arguments,
                    which have reasonable common default values. The values the user passes
                    in the global context are stored locally and used as default value for
@@ -1065,6 +1600,19 @@ public class ParameterSet
                     defaultBus.reExclFrameName = clp.getString(arg);
                     break;
 
+                case "network-file-encoding":
+                    if(defaultBus.networkFileCharset != null)
+                    {
+                        throw new CmdLineParser.InvalidArgException
+                                  ("Character set of network database files repeatedly"
+                                   + " set in the global context. Was "
+                                   + defaultBus.networkFileCharset
+                                   + " and should become " + clp.getString(arg)
+                                  );
+                    }
+                    defaultBus.networkFileCharset = parseCharset(arg, clp.getString(arg));
+                    break;
+
                 case "special-signal-name":
                     /* The sub-parse-functions needs one argument look-ahead to handle
                        optional arguments. The last recently read token has therefore not
@@ -1196,6 +1744,13 @@ public class ParameterSet
                             bus.reInclFrameName = defaultBus.reInclFrameName;
                         if(bus.reExclFrameName == null)
                             bus.reExclFrameName = defaultBus.reExclFrameName;
+                        if(bus.networkFileCharset == null)
+                        {
+                            bus.networkFileCharset =
+                                        defaultBus.networkFileCharset != null
+                                        ? defaultBus.networkFileCharset
+                                        : Charset.defaultCharset();
+                        }
 
                         /* Add the finalized object to the parameter set. */
                         busDescriptionAry.add(bus);
@@ -1235,6 +1790,19 @@ public class ParameterSet
                         bus.networkFileName = clp.getString(arg);
                         break;
 
+                    case "network-file-encoding":
+                        if(bus.networkFileCharset != null)
+                        {
+                            throw new CmdLineParser.InvalidArgException
+                                      ("Character set of network database file repeatedly"
+                                       + " set in the context of bus " + bus.name
+                                       + ". Was " + bus.networkFileCharset
+                                       + " and should become " + clp.getString(arg)
+                                      );
+                        }
+                        bus.networkFileCharset = parseCharset(arg, clp.getString(arg));
+                        break;
+
                     case "invert-transmission-direction":
                         if(bus.invertTransmissionDirection)
                         {
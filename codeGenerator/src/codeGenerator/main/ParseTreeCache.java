@@ -0,0 +1,168 @@
+/**
+ * @file ParseTreeCache.java
+ * An in-memory cache of the parse trees of network database files, which is shared by
+ * the application runs in a batch.
+ *
+ * Copyright (C) 2025 Peter Vranken (mailto:Peter_Vranken@Yahoo.de)
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+/* Interface of class ParseTreeCache
+ *   ParseTreeCache
+ *   parse
+ *   computeContentKey
+ */
+
+package codeGenerator.main;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.security.*;
+import org.apache.log4j.*;
+import org.antlr.v4.runtime.tree.ParseTree;
+import codeGenerator.dbcParser.*;
+
+
+/**
+ * An in-memory cache of the parse trees of network database files.<p>
+ *   The application runs of a batch often use the same network database files, e.g., if
+ * code is generated for all ECUs of a cluster. Such a file needs to be parsed only once;
+ * all runs can transform the same parse tree into their data model of the bus, which is
+ * still specific to the run, e.g., because of different frame filters.<p>
+ *   The key of the cache is the content of the file and its character set, not its name.
+ * A file, which is modified while the batch is executed, is parsed again, and identical
+ * copies of a file share the parse tree.<p>
+ *   Only parse results without any errors and warnings are cached. Reusing them doesn't
+ * withhold feedback from the user. A file with problems is parsed again by each run,
+ * which reports the problems in the context of the run.<p>
+ *   The cache can be used by concurrent application runs. If several runs request the
+ * same file at the same time then one of them parses it and the others wait for the
+ * result.
+ */
+
+class ParseTreeCache
+{
+    /** Access the Apache logger object. */
+    private static Logger _logger = Logger.getLogger(ParseTreeCache.class.getName());
+
+    /** An entry of the cache. It is the lock of concurrent requests for the same
+        content, too. */
+    private static class Entry
+    {
+        /** The parse tree or null if the content has not been parsed successfully yet. */
+        ParseTree parseTree = null;
+    }
+
+    /** The cache entries by content key. */
+    private final ConcurrentHashMap<String,Entry> entryByContentKey_ =
+                                                                    new ConcurrentHashMap<>();
+
+    /**
+     * A new, empty instance of ParseTreeCache is created.
+     */
+    ParseTreeCache()
+    {
+    } /* End of ParseTreeCache.ParseTreeCache */
+
+
+
+    /**
+     * Get the parse tree of a network database file. It is taken from the cache if a file
+     * with the same content had been parsed before, otherwise the file is parsed and the
+     * result is put into the cache.
+     *   @return Get the parse tree or null if parsing failed. The problems have been
+     * reported and counted in {@code errCnt}.
+     *   @param parser
+     * The parser to use if the file has not been parsed yet.
+     *   @param dbcFileName
+     * The name of the network database file.
+     *   @param charset
+     * The character set of the network database file.
+     *   @param errCnt
+     * The problems found during parsing are counted in this object.
+     */
+    ParseTree parse( DbcParserMain parser
+                   , String dbcFileName
+                   , Charset charset
+                   , ErrorCounter errCnt
+                   )
+    {
+        /* If the content can't be read then the parser will report the problem. */
+        final String contentKey = computeContentKey(dbcFileName, charset);
+        if(contentKey == null)
+            return parser.parse(dbcFileName, charset, errCnt);
+
+        Entry entry = new Entry();
+        final Entry entryInCache = entryByContentKey_.putIfAbsent(contentKey, entry);
+        if(entryInCache != null)
+            entry = entryInCache;
+
+        synchronized(entry)
+        {
+            if(entry.parseTree != null)
+            {
+                _logger.debug("Network database file " + dbcFileName + " has been parsed"
+                              + " before, the cached parse result is used"
+                             );
+                return entry.parseTree;
+            }
+
+            final int noErrors = errCnt.getNoErrors()
+                    , noWarnings = errCnt.getNoWarnings();
+            final ParseTree parseTree = parser.parse(dbcFileName, charset, errCnt);
+            if(parseTree != null
+               &&  errCnt.getNoErrors() == noErrors
+               &&  errCnt.getNoWarnings() == noWarnings
+              )
+            {
+                entry.parseTree = parseTree;
+            }
+
+            return parseTree;
+        }
+
+    } /* End of ParseTreeCache.parse */
+
+
+
+    /**
+     * Compute the key of a file for the cache, the hash of its content and character set.
+     *   @return Get the key as hexadecimal string or null if the file can't be read.
+     *   @param fileName
+     * The name of the file.
+     *   @param charset
+     * The character set of the file.
+     */
+    private static String computeContentKey(String fileName, Charset charset)
+    {
+        try
+        {
+            final MessageDigest md = MessageDigest.getInstance("SHA-256");
+            md.update(charset.name().getBytes(StandardCharsets.UTF_8));
+            md.update((byte)0);
+            final byte[] hash = md.digest(Files.readAllBytes(Paths.get(fileName)));
+            final StringBuilder sb = new StringBuilder(2*hash.length);
+            for(byte b: hash)
+                sb.append(String.format("%02x", b & 0xff));
+            return sb.toString();
+        }
+        catch(IOException | InvalidPathException | NoSuchAlgorithmException e)
+        {
+            return null;
+        }
+    } /* End of ParseTreeCache.computeContentKey */
+
+} /* End of class ParseTreeCache definition. */
@@ -0,0 +1,648 @@
+/**
+ * @file ResultCache.java
+ * An on-disk cache of the generated files of complete application runs.
+ *
+ * Copyright (C) 2025 Peter Vranken (mailto:Peter_Vranken@Yahoo.de)
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+/* Interface of class ResultCache
+ *   ResultCache
+ *   computeFingerprint
+ *   restore
+ *   store
+ *   removeOldEntries
+ *   update
+ *   updateWithContent
+ *   updateWithTemplateGroup
+ *   deleteEntry
+ */
+
+package codeGenerator.main;
+
+import java.util.*;
+import java.io.*;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.*;
+import org.apache.log4j.*;
+import org.stringtemplate.v4.*;
+import codeGenerator.dbcParser.ErrorCounter;
+import codeGenerator.dataModelListener.Info;
+
+
+/**
+ * An on-disk cache of the generated files of complete application runs.<p>
+ *   A run of the code generator is a deterministic function of its inputs. All inputs are
+ * condensed in a fingerprint: The contents of the network database files, of the template
+ * group files and all the groups they import, the effective application parameters, the
+ * version of the tool and its data model and some information from the environment, which
+ * is accessible to the templates. If a previous, successful run had the same fingerprint
+ * then its generated files can be restored from the cache and parsing and rendering are
+ * skipped.<p>
+ *   The templates can access the time of code generation. If they do, then the generated
+ * files differ with each run. By default, the time is part of the fingerprint, which
+ * practically disables the cache. The user can exclude the time from the fingerprint if
+ * the templates don't use it or if the time of an earlier run is acceptable in the
+ * generated files.<p>
+ *   Each cache entry is a directory, which is named after the fingerprint. It holds a copy
+ * of each generated file and a small manifest. Entries are created atomically; an
+ * incomplete entry is never visible.<p>
+ *   The cache keeps the {@link #_maxNoEntries} most recently used entries. Older entries
+ * are deleted whenever a new entry is stored. Other files and directories in the cache
+ * directory are not touched.<p>
+ *   The log output of a run is not cached. If a run is taken from the cache, then the
+ * warnings of the cached run are counted again but the messages are not repeated.
+ */
+
+class ResultCache
+{
+    /** Access the Apache logger object. */
+    private static Logger _logger = Logger.getLogger(ResultCache.class.getName());
+
+    /** The name of the manifest file in a cache entry. */
+    private static final String _manifestFileName = "result.properties";
+
+    /** The maximum number of entries in the cache. An entry is used when it is stored or
+        restored. */
+    static final int _maxNoEntries = 50;
+
+    /** The global parameters, which don't affect the contents of the generated files. */
+    private static final String[] _contentIrrelevantParamNameAry =
+        { "parse-threads"
+        , "file-parse-threads"
+        , "render-threads"
+        , "stream-output"
+        , "write-if-changed"
+        , "result-cache-dir"
+        , "result-cache-exclude-time"
+        , "model-cache-dir"
+        , "stream-parse"
+        , "profile-parser"
+        , "fast-lexer"
+        , "model-adaptors"
+        };
+
+    /** The cache directory. */
+    private final Path cacheDir_;
+
+    /**
+     * A new instance of ResultCache is created. The directory is not accessed yet.
+     *   @param cacheDirName
+     * The name of the cache directory. It is created when the first entry is stored.
+     */
+    ResultCache(String cacheDirName)
+    {
+        cacheDir_ = Paths.get(cacheDirName);
+
+    } /* End of ResultCache.ResultCache */
+
+
+
+    /**
+     * Compute the fingerprint of all inputs of a run of the code generator.<p>
+     *   The template groups are loaded in order to find the imported groups. They are
+     * taken from and stay in the cache of template groups, such that they won't be
+     * compiled again for rendering.
+     *   @return Get the fingerprint as hexadecimal string or null if the inputs can't be
+     * fingerprinted. Then the run can't make use of the result cache. The reason has been
+     * reported.
+     *   @param parameterSet
+     * The effective application parameters.
+     *   @param templateGroupCache
+     * The cache of template groups of the run.
+     *   @param excludeTime
+     * If true then the time of code generation is not considered an input.
+     */
+    String computeFingerprint( ParameterSet parameterSet
+                             , TemplateGroupCache templateGroupCache
+                             , boolean excludeTime
+                             )
+    {
+        final MessageDigest md;
+        try
+        {
+            md = MessageDigest.getInstance("SHA-256");
+        }
+        catch(NoSuchAlgorithmException e)
+        {
+            _logger.warn("Result cache is not used. " + e.getMessage());
+            return null;
+        }
+
+        /* The tool and the version of its data model. */
+        update(md, CodeGenerator._applicationName);
+        update(md, CodeGenerator._versionFull);
+        update(md, String.valueOf(CodeGenerator._versionDataModel));
+
+        /* The effective parameter set. Its string representation contains all
+           parameters, one per line. The parameters, which control how the generated text
+           is computed and written but which don't affect the text as such, are not
+           considered. */
+        for(String line: parameterSet.toString().split("\\R"))
+        {
+            boolean isContentIrrelevant = false;
+            for(String paramName: _contentIrrelevantParamNameAry)
+            {
+                if(line.startsWith(paramName + ":"))
+                {
+                    isContentIrrelevant = true;
+                    break;
+                }
+            }
+            if(!isContentIrrelevant)
+                update(md, line);
+        }
+
+        /* The environment as visible to the templates. Output file names are reported to
+           the templates as absolute paths, too. */
+        update(md, System.getProperty("user.dir"));
+        update(md, Info.envVarUSERNAME);
+        update(md, Info.envVarHOME);
+        update(md, Info.envVarTMP);
+        update(md, Info.envVarOS);
+        if(!excludeTime)
+        {
+            final Info info = new Info(new ErrorCounter());
+            update(md, info.time);
+            update(md, info.year);
+        }
+
+        /* The contents of the network database files. */
+        for(ParameterSet.BusDescription busDescription: parameterSet.busDescriptionAry)
+        {
+            try
+            {
+                updateWithContent(md, new File(busDescription.networkFileName).toURI().toURL());
+            }
+            catch(IOException e)
+            {
+                _logger.info("Result cache is not used. Network database file "
+                             + busDescription.networkFileName + " can't be read: "
+                             + e.getMessage()
+                            );
+                return null;
+            }
+        }
+
+        /* The contents of the template group files and all groups they import. */
+        final ErrorCounter errCnt = new ErrorCounter();
+        final Set<STGroup> fingerprintedGroupSet = new HashSet<>();
+        for(ParameterSet.TemplateOutputPair templateOutputPair:
+                                                        parameterSet.templateOutputPairAry)
+        {
+            if("stdout".equalsIgnoreCase(templateOutputPair.outputFileName)
+               ||  "stderr".equalsIgnoreCase(templateOutputPair.outputFileName)
+              )
+            {
+                _logger.info("Result cache is not used. Output is written into the console"
+                             + " stream " + templateOutputPair.outputFileName
+                            );
+                return null;
+            }
+
+            try
+            {
+                final STGroup stg = templateGroupCache.getTemplateGroup
+                                                    ( templateOutputPair.templateFileName
+                                                    , parameterSet.stringTemplateVerbose
+                                                    , parameterSet.modelAdaptors
+                                                    , errCnt
+                                                    );
+                if(!updateWithTemplateGroup(md, stg, fingerprintedGroupSet))
+                    return null;
+            }
+            catch(Exception e)
+            {
+                _logger.info("Result cache is not used. Template group file "
+                             + templateOutputPair.templateFileName + " can't be read: "
+                             + e.getMessage()
+                            );
+                return null;
+            }
+        }
+
+        /* Template groups with errors won't yield a result to cache. */
+        if(errCnt.getNoErrors() > 0)
+        {
+            _logger.info("Result cache is not used. Template group files have errors");
+            return null;
+        }
+
+        final StringBuilder fingerprint = new StringBuilder();
+        for(byte b: md.digest())
+            fingerprint.append(String.format("%02x", b & 0xff));
+        _logger.debug("Fingerprint of inputs: " + fingerprint);
+
+        return fingerprint.toString();
+
+    } /* End of ResultCache.computeFingerprint */
+
+
+
+    /**
+     * Restore the generated files of a previous run from the cache.
+     *   @return Get the number of warnings of the previous run or -1 if the cache doesn't
+     * contain the result of a run with the given fingerprint or if it can't be restored.
+     * In the latter case some of the output files may have been restored already.
+     *   @param fingerprint
+     * The fingerprint of the inputs of the current run.
+     *   @param templateOutputPairAry
+     * The output specifications of the current run.
+     *   @param writeIfChanged
+     * If true then an existing output file, which already has the cached contents, is not
+     * rewritten.
+     */
+    int restore( String fingerprint
+               , List<ParameterSet.TemplateOutputPair> templateOutputPairAry
+               , boolean writeIfChanged
+               )
+    {
+        final Path entryDir = cacheDir_.resolve(fingerprint);
+        if(!Files.isDirectory(entryDir))
+        {
+            _logger.debug("Result cache " + cacheDir_ + " doesn't contain an entry for the"
+                          + " fingerprint of inputs " + fingerprint
+                         );
+            return -1;
+        }
+
+        final Properties manifest = new Properties();
+        try
+        {
+            final InputStream in = Files.newInputStream(entryDir.resolve(_manifestFileName));
+            try
+            {
+                manifest.load(in);
+            }
+            finally
+            {
+                in.close();
+            }
+        }
+        catch(IOException e)
+        {
+            _logger.warn("Entry " + entryDir + " of result cache can't be read. "
+                         + e.getMessage()
+                        );
+            return -1;
+        }
+
+        final int noWarnings;
+        try
+        {
+            if(Integer.parseInt(manifest.getProperty("noOutputFiles"))
+               != templateOutputPairAry.size()
+              )
+            {
+                _logger.warn("Entry " + entryDir + " of result cache doesn't fit to the"
+                             + " current run"
+                            );
+                return -1;
+            }
+            noWarnings = Integer.parseInt(manifest.getProperty("noWarnings"));
+        }
+        catch(NumberFormatException e)
+        {
+            _logger.warn("Entry " + entryDir + " of result cache is corrupt. "
+                         + e.getMessage()
+                        );
+            return -1;
+        }
+
+        _logger.info("Inputs are identical to a previous run. The generated files are"
+                     + " restored from result cache " + cacheDir_ + ", parsing and rendering"
+                     + " are skipped"
+                    );
+        if(noWarnings > 0)
+        {
+            _logger.warn("The cached run had reported " + noWarnings + " warnings. The"
+                         + " generated files are still affected but the warnings are not"
+                         + " repeated. Run without --result-cache-dir to see them again"
+                        );
+        }
+
+        /* The modification time of the entry tells when it had been used last. */
+        try
+        {
+            Files.setLastModifiedTime( entryDir
+                                     , FileTime.fromMillis(System.currentTimeMillis())
+                                     );
+        }
+        catch(IOException e)
+        {
+            _logger.debug("Time of use of entry " + entryDir + " of result cache can't be"
+                          + " updated. " + e.getMessage()
+                         );
+        }
+
+        int idxOutput = 0;
+        for(ParameterSet.TemplateOutputPair templateOutputPair: templateOutputPairAry)
+        {
+            final Path cachedFile = entryDir.resolve(idxOutput++ + ".out")
+                     , outputFile = Paths.get(templateOutputPair.outputFileName);
+            if(writeIfChanged  &&  GeneratedOutput.isFileContentEqual(outputFile, cachedFile))
+            {
+                _logger.info("Generated code is unchanged, file "
+                             + templateOutputPair.outputFileName + " is not rewritten"
+                            );
+                continue;
+            }
+
+            _logger.info("Generated code is restored into file "
+                         + templateOutputPair.outputFileName
+                        );
+            try
+            {
+                CodeGenerator.createDir(outputFile.toFile());
+                Files.copy(cachedFile, outputFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            catch(IOException e)
+            {
+                _logger.warn("Generated file " + templateOutputPair.outputFileName
+                             + " can't be restored from result cache. " + e.getMessage()
+                            );
+                return -1;
+            }
+        }
+
+        return noWarnings;
+
+    } /* End of ResultCache.restore */
+
+
+
+    /**
+     * Store the generated files of a successful run in the cache. Failures are reported
+     * as warnings; the run as such is not affected by an unusable cache.
+     *   @param fingerprint
+     * The fingerprint of the inputs of the run.
+     *   @param templateOutputPairAry
+     * The output specifications of the run. All output files need to exist.
+     *   @param noWarnings
+     * The number of warnings reported by the run.
+     */
+    void store( String fingerprint
+              , List<ParameterSet.TemplateOutputPair> templateOutputPairAry
+              , int noWarnings
+              )
+    {
+        final Path entryDir = cacheDir_.resolve(fingerprint);
+        Path tmpEntryDir = null;
+        try
+        {
+            /* The entry is filled in a temporary directory, which is renamed at the end.
+               Other runs will never see an incomplete entry. */
+            Files.createDirectories(cacheDir_);
+            tmpEntryDir = Files.createTempDirectory(cacheDir_, fingerprint + ".");
+
+            int idxOutput = 0;
+            for(ParameterSet.TemplateOutputPair templateOutputPair: templateOutputPairAry)
+            {
+                Files.copy( Paths.get(templateOutputPair.outputFileName)
+                          , tmpEntryDir.resolve(idxOutput++ + ".out")
+                          );
+            }
+
+            final Properties manifest = new Properties();
+            manifest.setProperty("noOutputFiles", String.valueOf(idxOutput));
+            manifest.setProperty("noWarnings", String.valueOf(noWarnings));
+            final OutputStream out =
+                            Files.newOutputStream(tmpEntryDir.resolve(_manifestFileName));
+            try
+            {
+                manifest.store(out, CodeGenerator._applicationName + " result cache entry");
+            }
+            finally
+            {
+                out.close();
+            }
+
+            /* A concurrent run with the same inputs may have been faster. */
+            if(Files.isDirectory(entryDir))
+                deleteEntry(tmpEntryDir);
+            else
+                Files.move(tmpEntryDir, entryDir, StandardCopyOption.ATOMIC_MOVE);
+            tmpEntryDir = null;
+
+            _logger.debug("Generated files are stored in result cache " + entryDir);
+        }
+        catch(IOException e)
+        {
+            _logger.warn("Generated files can't be stored in result cache " + cacheDir_
+                         + ". " + e.getMessage()
+                        );
+        }
+        finally
+        {
+            if(tmpEntryDir != null)
+                deleteEntry(tmpEntryDir);
+        }
+
+        removeOldEntries();
+
+    } /* End of ResultCache.store */
+
+
+
+    /**
+     * Delete the least recently used entries if the cache holds more than {@link
+     * #_maxNoEntries} entries. Only directories, which are named after a fingerprint and
+     * which contain a manifest, are considered entries. The temporary directories of
+     * concurrently stored entries and files of other origin are not touched. Failures are
+     * reported as warnings.
+     */
+    private void removeOldEntries()
+    {
+        final ArrayList<Path> entryDirAry = new ArrayList<>();
+        final HashMap<Path,Long> timeOfUseByEntryDir = new HashMap<>();
+        try
+        {
+            final DirectoryStream<Path> dirAry = Files.newDirectoryStream(cacheDir_);
+            try
+            {
+                for(Path dir: dirAry)
+                {
+                    if(dir.getFileName().toString().matches("[0-9a-f]+")
+                       &&  Files.isRegularFile(dir.resolve(_manifestFileName))
+                      )
+                    {
+                        entryDirAry.add(dir);
+                        timeOfUseByEntryDir.put(dir, dir.toFile().lastModified());
+                    }
+                }
+            }
+            finally
+            {
+                dirAry.close();
+            }
+        }
+        catch(IOException e)
+        {
+            _logger.warn("Old entries of result cache " + cacheDir_ + " can't be removed. "
+                         + e.getMessage()
+                        );
+            return;
+        }
+
+        if(entryDirAry.size() <= _maxNoEntries)
+            return;
+
+        Collections.sort(entryDirAry, new Comparator<Path>()
+            {
+                @Override public int compare(Path a, Path b)
+                {
+                    return Long.compare( timeOfUseByEntryDir.get(a)
+                                       , timeOfUseByEntryDir.get(b)
+                                       );
+                }
+            });
+        for(int idxEntry=0; idxEntry<entryDirAry.size()-_maxNoEntries; ++idxEntry)
+        {
+            _logger.debug("Least recently used entry " + entryDirAry.get(idxEntry)
+                          + " is removed from result cache"
+                         );
+            deleteEntry(entryDirAry.get(idxEntry));
+        }
+    } /* End of ResultCache.removeOldEntries */
+
+
+
+    /**
+     * Add a string to the fingerprint.
+     *   @param md
+     * The message digest, which computes the fingerprint.
+     *   @param s
+     * The string to add. null is permitted.
+     */
+    private static void update(MessageDigest md, String s)
+    {
+        if(s != null)
+            md.update(s.getBytes(StandardCharsets.UTF_8));
+
+        /* A separator ensures that the concatenation of strings is unambiguous. */
+        md.update((byte)0);
+
+    } /* End of ResultCache.update */
+
+
+
+    /**
+     * Add the contents of a file to the fingerprint.
+     *   @throws IOException
+     * The file can't be read.
+     *   @param md
+     * The message digest, which computes the fingerprint.
+     *   @param url
+     * The location of the file.
+     */
+    private static void updateWithContent(MessageDigest md, URL url)
+        throws IOException
+    {
+        update(md, url.toExternalForm());
+        final InputStream in = url.openStream();
+        try
+        {
+            final byte[] buf = new byte[64*1024];
+            int noBytes;
+            while((noBytes = in.read(buf)) >= 0)
+                md.update(buf, 0, noBytes);
+        }
+        finally
+        {
+            in.close();
+        }
+    } /* End of ResultCache.updateWithContent */
+
+
+
+    /**
+     * Add the contents of a template group file and all groups it imports to the
+     * fingerprint.
+     *   @return Get true if the group could be fingerprinted or false otherwise. The reason
+     * has been reported.
+     *   @throws IOException
+     * A group file can't be read.
+     *   @param md
+     * The message digest, which computes the fingerprint.
+     *   @param stg
+     * The loaded template group.
+     *   @param fingerprintedGroupSet
+     * The groups, which have already been added to the fingerprint. Used to consider each
+     * file only once, even in case of cyclic imports.
+     */
+    private static boolean updateWithTemplateGroup( MessageDigest md
+                                                  , STGroup stg
+                                                  , Set<STGroup> fingerprintedGroupSet
+                                                  )
+        throws IOException
+    {
+        if(!fingerprintedGroupSet.add(stg))
+            return true;
+
+        if(!(stg instanceof STGroupFile))
+        {
+            /* Directories of templates would require to fingerprint all of their files,
+               which is not supported. */
+            _logger.info("Result cache is not used. Template group " + stg.getName()
+                         + " is not a template group file"
+                        );
+            return false;
+        }
+
+        updateWithContent(md, ((STGroupFile)stg).url);
+        for(STGroup importedStg: stg.getImportedGroups())
+        {
+            if(!updateWithTemplateGroup(md, importedStg, fingerprintedGroupSet))
+                return false;
+        }
+
+        return true;
+
+    } /* End of ResultCache.updateWithTemplateGroup */
+
+
+
+    /**
+     * Delete a cache entry or an incompletely written temporary entry.
+     *   @param entryDir
+     * The directory of the entry.
+     */
+    private static void deleteEntry(Path entryDir)
+    {
+        try
+        {
+            final DirectoryStream<Path> fileAry = Files.newDirectoryStream(entryDir);
+            try
+            {
+                for(Path file: fileAry)
+                    Files.delete(file);
+            }
+            finally
+            {
+                fileAry.close();
+            }
+            Files.delete(entryDir);
+        }
+        catch(IOException e)
+        {
+            _logger.warn("Can't delete directory " + entryDir + " of result cache. "
+                         + e.getMessage()
+                        );
+        }
+    } /* End of ResultCache.deleteEntry */
+
+} /* End of class ResultCache definition. */
@@ -0,0 +1,375 @@
+/**
+ * @file TemplateGroupCache.java
+ * A cache of loaded and compiled StringTemplate V4 template groups.
+ *
+ * Copyright (C) 2025 Peter Vranken (mailto:Peter_Vranken@Yahoo.de)
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+/* Interface of class TemplateGroupCache
+ *   TemplateGroupCache
+ *   bindErrorListener
+ *   unbindErrorListener
+ *   getTemplateGroup
+ *   removeModifiedGroups
+ *   loadWithImports
+ *   getSourceState
+ */
+
+package codeGenerator.main;
+
+import java.util.*;
+import java.io.File;
+import java.net.URL;
+import java.net.URISyntaxException;
+import org.apache.log4j.*;
+import org.stringtemplate.v4.*;
+import org.stringtemplate.v4.misc.STMessage;
+import codeGenerator.dbcParser.ErrorCounter;
+import codeGenerator.dataModelListener.ModelAdaptors;
+
+
+/**
+ * A cache of loaded and compiled template groups.<p>
+ *   Typically, one and the same template group file is used for many output files, which
+ * differ only in the name of the template. Without the cache, the group file would be
+ * read, parsed and compiled again for each output file. With the cache, a group file is
+ * compiled only once per application run.<p>
+ *   A cached group is shared between all template expansions, which use it, possibly
+ * concurrently. Therefore, the group is completely loaded, including all imported
+ * groups, at the first use. Most problems of the actual template expansion are reported
+ * to the listener, which is passed to {@link ST#write(STWriter, Locale, STErrorListener)}
+ * but some are reported to the listener of the group, e.g., a reference to a not
+ * existing template. The listener of a cached group forwards these problems to the
+ * listener, which the expanding thread has bound with {@link #bindErrorListener}.<p>
+ *   A cache can be reused for several application runs in the same process, see {@link
+ * JobServer}. Group files, which have been modified in the meantime, need to be removed
+ * from the cache prior to the next run, see {@link #removeModifiedGroups}. The same holds
+ * for groups, which could not be loaded without errors.<p>
+ *   The cache is thread-safe.
+ */
+
+class TemplateGroupCache
+{
+    /** Access the Apache logger object. */
+    private static Logger _logger = Logger.getLogger(TemplateGroupCache.class.getName());
+
+    /** A cached group together with the problems found when loading it. */
+    private static class Entry
+    {
+        /** The loaded group. */
+        final STGroupFile stg;
+
+        /** The errors and warnings reported while loading the group. */
+        final ErrorCounter loadErrCnt = new ErrorCounter();
+
+        /** Has the group already been loaded? */
+        boolean isLoaded = false;
+
+        /** Has loading the group failed or reported errors? Among other reasons, this is
+            the case if an imported group file is missing. */
+        boolean isLoadFailed = false;
+
+        /** The loaded group and all groups it imports. */
+        final Set<STGroup> groupSet = new LinkedHashSet<>();
+
+        /** The state of the source files of all groups in {@link #groupSet} at load time. */
+        String sourceState = null;
+
+        /** Create a not yet loaded entry.
+              @param stg The group to load. */
+        Entry(STGroupFile stg)
+            { this.stg = stg; }
+    }
+
+    /** The error listener of all cached groups. It forwards all problems to the listener
+        of the current thread. */
+    private static class ThreadBoundErrorListener implements STErrorListener
+    {
+        /** The listener of the thread or null if no listener is bound. */
+        final ThreadLocal<STErrorListener> listener = new ThreadLocal<>();
+
+        /** Get the listener to forward to.
+              @return Get the listener of the current thread or a listener, which only
+            logs the problems if no listener has been bound. */
+        private STErrorListener get()
+        {
+            final STErrorListener l = listener.get();
+            return l != null? l: new ST4ErrorListener(null);
+        }
+
+        @Override public void compileTimeError(STMessage msg)
+            { get().compileTimeError(msg); }
+        @Override public void runTimeError(STMessage msg)
+            { get().runTimeError(msg); }
+        @Override public void IOError(STMessage msg)
+            { get().IOError(msg); }
+        @Override public void internalError(STMessage msg)
+            { get().internalError(msg); }
+    }
+
+    /** The cached groups by resolved location of the group file. */
+    private final HashMap<String,Entry> entryByUrl_ = new HashMap<>();
+
+    /** The error listener of all cached groups. */
+    private final ThreadBoundErrorListener errorListener_ = new ThreadBoundErrorListener();
+
+    /**
+     * A new, empty cache is created.
+     */
+    TemplateGroupCache()
+    {
+    } /* End of TemplateGroupCache.TemplateGroupCache */
+
+
+
+    /**
+     * Bind an error listener to the calling thread. All problems, which the cached groups
+     * report while being used by this thread are forwarded to this listener.
+     *   @param listener
+     * The listener, which is bound to the template expansion of the calling thread.
+     */
+    void bindErrorListener(STErrorListener listener)
+    {
+        assert listener != null;
+        errorListener_.listener.set(listener);
+
+    } /* End of TemplateGroupCache.bindErrorListener */
+
+
+
+    /**
+     * Unbind the error listener from the calling thread.
+     */
+    void unbindErrorListener()
+    {
+        errorListener_.listener.remove();
+
+    } /* End of TemplateGroupCache.unbindErrorListener */
+
+
+
+    /**
+     * Get the compiled template group from a file. The file is loaded and compiled if it
+     * is requested the first time.<p>
+     *   The renderers for numbers and strings and the model adaptors of the data model
+     * are registered with the group. They are stateless and can be shared by all template
+     * expansions.
+     *   @return Get the template group. Throws a runtime exception if the file can't be
+     * located.
+     *   @param templateFileName
+     * The name of the template group file. It is resolved against the file system and the
+     * Java class path; different names, which resolve to the same file yield the same
+     * group.
+     *   @param verbose
+     * Use verbose mode for loading the group. This only has an effect if the group is
+     * loaded, i.e., at the first request of a file. Note, the setting is global to the
+     * process; it remains effective for all groups until it is set again.
+     *   @param modelAdaptors
+     * If true then the model adaptors of the data model are registered. Otherwise the
+     * templates access the data model through the reflective default adaptor of
+     * StringTemplate V4. A group file is loaded and cached separately for either mode.
+     *   @param errCnt
+     * The problems found when loading the group are added to this counter. This is done
+     * at each request of the group, not only at the first one, when the problems are
+     * logged, and even if loading is aborted by an exception.
+     */
+    STGroup getTemplateGroup( String templateFileName
+                            , boolean verbose
+                            , boolean modelAdaptors
+                            , ErrorCounter errCnt
+                            )
+    {
+        /* Creating the STGroupFile object is cheap. It only locates the file but doesn't
+           load it yet. */
+        final STGroupFile stg = new STGroupFile(templateFileName);
+        final String key = stg.url.toExternalForm()
+                           + (modelAdaptors? " (model adaptors)": "");
+
+        Entry entry;
+        synchronized(entryByUrl_)
+        {
+            entry = entryByUrl_.get(key);
+            if(entry == null)
+            {
+                entry = new Entry(stg);
+                entryByUrl_.put(key, entry);
+            }
+        }
+
+        synchronized(entry)
+        {
+            if(!entry.isLoaded)
+            {
+                _logger.debug("Loading template group file " + key);
+
+                /* The imported groups inherit the listener of the importing group. Note,
+                   registering a renderer already loads the group.
+                     The verbose mode is a static field of StringTemplate V4; it is global
+                   to the process. Concurrent template expansions and jobs, which request
+                   groups with a different setting, overwrite each other's setting. */
+                entry.stg.setListener(errorListener_);
+                STGroup.verbose = verbose;
+                final STErrorListener boundListener = errorListener_.listener.get();
+                errorListener_.listener.set(new ST4ErrorListener(entry.loadErrCnt));
+                boolean isLoadCompleted = false;
+                try
+                {
+                    entry.stg.registerRenderer(Number.class, new NumberRenderer());
+                    entry.stg.registerRenderer(String.class, new StringRenderer());
+                    loadWithImports(entry.stg, entry.groupSet);
+
+                    /* Model adaptors are not inherited by the imported groups. Each
+                       template uses the adaptors of the group it is defined in. */
+                    if(modelAdaptors)
+                    {
+                        for(STGroup loadedStg: entry.groupSet)
+                            ModelAdaptors.registerWith(loadedStg);
+                    }
+                    isLoadCompleted = true;
+                }
+                finally
+                {
+                    entry.isLoaded = true;
+                    entry.isLoadFailed = !isLoadCompleted
+                                         ||  entry.loadErrCnt.getNoErrors() > 0;
+                    entry.sourceState = getSourceState(entry.groupSet);
+                    errorListener_.listener.set(boundListener);
+
+                    /* The problems are counted even if loading is aborted by an
+                       exception. */
+                    errCnt.add(entry.loadErrCnt);
+                }
+            }
+            else
+            {
+                _logger.debug("Template group file " + key + " is taken from the cache");
+                errCnt.add(entry.loadErrCnt);
+            }
+        }
+
+        return entry.stg;
+
+    } /* End of TemplateGroupCache.getTemplateGroup */
+
+
+
+    /**
+     * Remove all groups from the cache, whose group file or the file of any imported group
+     * has been modified since the group had been loaded. A group file is considered
+     * modified if its size or modification time differ. Groups, which are not loaded from
+     * the file system, e.g., from a jar on the class path, are considered unmodified.<p>
+     *   Groups, which could not be loaded without errors, are removed, too. Their source
+     * state is incomplete; a missing imported group file, which is created later, would
+     * not be noticed.<p>
+     *   The method must not be called during a run, when other threads may use the
+     * cache.
+     */
+    void removeModifiedGroups()
+    {
+        synchronized(entryByUrl_)
+        {
+            final Iterator<Map.Entry<String,Entry>> it = entryByUrl_.entrySet().iterator();
+            while(it.hasNext())
+            {
+                final Map.Entry<String,Entry> mapEntry = it.next();
+                final Entry entry = mapEntry.getValue();
+                synchronized(entry)
+                {
+                    if(entry.isLoaded && entry.isLoadFailed)
+                    {
+                        _logger.debug("Template group file " + mapEntry.getKey()
+                                      + " had failed to load and is removed from the cache"
+                                     );
+                        it.remove();
+                    }
+                    else if(entry.isLoaded
+                            &&  !entry.sourceState.equals(getSourceState(entry.groupSet))
+                           )
+                    {
+                        _logger.debug("Template group file " + mapEntry.getKey()
+                                      + " or an imported group file has been modified"
+                                      + " and is removed from the cache"
+                                     );
+                        it.remove();
+                    }
+                }
+            }
+        }
+    } /* End of TemplateGroupCache.removeModifiedGroups */
+
+
+
+    /**
+     * Load a template group and all groups it imports. StringTemplate would load imported
+     * groups only on demand, i.e., during template expansion. Then the compile errors
+     * would be reported at unpredictable times and to the wrong listener.
+     *   @param stg
+     * The group to load.
+     *   @param loadedGroupSet
+     * The set of groups, which have already been loaded. Used to avoid infinite recursion
+     * in case of cyclic imports.
+     */
+    private static void loadWithImports(STGroup stg, Set<STGroup> loadedGroupSet)
+    {
+        if(!loadedGroupSet.add(stg))
+            return;
+
+        stg.load();
+        for(STGroup importedStg: stg.getImportedGroups())
+            loadWithImports(importedStg, loadedGroupSet);
+
+    } /* End of TemplateGroupCache.loadWithImports */
+
+
+
+    /**
+     * Get the current state of the source files of some template groups.
+     *   @return Get a string, which contains location, size and modification time of all
+     * group files. Two states can be compared for equality to see if a file has been
+     * modified.
+     *   @param groupSet
+     * The template groups.
+     */
+    private static String getSourceState(Set<STGroup> groupSet)
+    {
+        final StringBuilder state = new StringBuilder();
+        for(STGroup stg: groupSet)
+        {
+            if(!(stg instanceof STGroupFile))
+                continue;
+
+            final URL url = ((STGroupFile)stg).url;
+            state.append(url.toExternalForm());
+            if("file".equals(url.getProtocol()))
+            {
+                try
+                {
+                    final File file = new File(url.toURI());
+                    state.append(':').append(file.length())
+                         .append(':').append(file.lastModified());
+                }
+                catch(URISyntaxException | IllegalArgumentException e)
+                {
+                    /* The file can't be checked; it is considered unmodified. */
+                }
+            }
+            state.append(';');
+        }
+
+        return state.toString();
+
+    } /* End of TemplateGroupCache.getSourceState */
+
+} /* End of class TemplateGroupCache definition. */
@@ -30,6 +30,7 @@ import java.io.*;
 import org.stringtemplate.v4.*;
 import org.apache.logging.log4j.*;
 import org.apache.logging.log4j.message.*;
+import org.apache.logging.log4j.core.LoggerContext;
 import applicationInterface.cmdLineParser.CmdLineParser;
 import excelExporter.main.ExcelExporter;
 
@@ -207,8 +208,19 @@ public class Log4j2Configurator
            the prepared settings. This condition can not be tested here. To meet this
            demand one will run this class early in the main class and will not initialize a
            static logger variable in that class. */
-        assert _logger == null;
-        _logger = LogManager.getLogger(Log4j2Configurator.class);
+        if(_logger == null)
+            _logger = LogManager.getLogger(Log4j2Configurator.class);
+        else
+        {
+            /* log4j 2 has already been configured by a previous application run in the
+               same process. The loggers, which the classes have fetched at that time,
+               belong to the existing logger context; this context is reconfigured. */
+            if(useStdConfigSequence_)
+                System.clearProperty("log4j.configurationFile");
+            final LoggerContext ctx = (LoggerContext)LogManager.getContext(false);
+            ctx.setConfigLocation
+                    (xmlFileDesignation != null? xmlFileDesignation.toURI(): null);
+        }
 
         if(useStdConfigSequence_)
         {
@@ -373,6 +385,13 @@ public class Log4j2Configurator
     public String getLogPattern()
         {return logPattern;}
 
+    /**
+     * Get the Boolean flag if log4j2 has already been configured in this process.
+     *   @return Get true if an instance of this class has already been created.
+     */
+    public static boolean isConfigured()
+        {return _logger != null;}
+
 } /* End of class Log4j2Configurator definition. */
 
 
@@ -25,6 +25,7 @@
  *   readXlsFile
  *   getSheetNameAsIdent
  *   parseXlsSheet
+ *   parseWorkbook
  *   parseXlsFile
  *   errorAmbiguousTemplateMatch
  *   getWorksheetDefaultTemplate
@@ -64,6 +65,10 @@ public class ExcelParser
     /** The set of user parameters, which say everything about what and how to parse. */
     private final ParameterSet p_;
 
+    /** The opened workbooks, which are shared with other application runs, or null if
+        each Excel file is opened by this parser. */
+    private final WorkbookCache workbookCache_;
+
     /** The name/path of the currently parsed Excel file. Mainly used for progress
         reporting. */
     private FileExt file_ = null;
@@ -201,8 +206,14 @@ public class ExcelParser
      *   @param errCnt
      * A client supplied error counter. The use case is to permit consecutive error
      * counting across different phases of parsing and different input files.
+     *   @param workbookCache
+     * The opened workbooks, which are shared with other application runs, or null if the
+     * Excel files are opened by this parser in any case.
      */
-    public ExcelParser(ParameterSet userParams, ErrorCounter errCnt)
+    public ExcelParser( ParameterSet userParams
+                      , ErrorCounter errCnt
+                      , WorkbookCache workbookCache
+                      )
     {
         /* Set user parameters and invalidate the search for the default template in the
            parameter set. */
@@ -210,6 +221,7 @@ public class ExcelParser
         idxWorksheetDefaultTemplate_ = -2;
 
         errCnt_ = errCnt;
+        workbookCache_ = workbookCache;
     }
 
 
@@ -814,13 +826,19 @@ public class ExcelParser
         boolean success;
         try
         {
-            inputStream = new FileInputStream(file_.getAbsolutePath());
-
             /* The WorkbookFactory decides, which of the supported Excel formats the file has
                and creates a Workbook object of the appropriate class. If it doesn't find a
-               supported format it'll throw an InvalidFormatException exception. */
+               supported format it'll throw an InvalidFormatException exception. The
+               workbook cache does the same but only if the file has not been opened
+               before. */
             assert wb_ == null: "Previously opened POI workbook had not been closed";
-            wb_ = WorkbookFactory.create(inputStream);
+            if(workbookCache_ != null)
+                wb_ = workbookCache_.getWorkbook(new File(file_.getAbsolutePath()));
+            else
+            {
+                inputStream = new FileInputStream(file_.getAbsolutePath());
+                wb_ = WorkbookFactory.create(inputStream);
+            }
             idxWb_ = idxWorkbook;
             success = true;
         }
@@ -1309,30 +1327,21 @@ public class ExcelParser
 
 
     /**
-     * Read an Excel workbook based on the complex user parameters.
+     * Read the opened Excel workbook {@link #wb_} into a workbook object of the data model
+     * and close it.
      *   @return
-     * The parsing result is returned as a workbook object of the StringTemplate V4 data
-     * model. If an error occurs, then null is may be returned instead. If no error is
-     * reported through the agreed {@link ErrorCounter} object {@link #errCnt_} then the
-     * returned object is not null and it contains at least one parsed worksheet.
+     * Get the parsing result, see {@link #parseXlsFile}.
      *   @param mapOfWorksheetGroupsByName
-     * The parsed workbook contains the parsed worksheets. These can be held a second time
-     * in the global worksheet groups. The parser updates the passed in map accordingly.
+     * The global worksheet groups, see {@link #parseXlsFile}.
      *   @param idxFile
-     * The user specified application parameter set {@link #p_} contains an array of user
-     * demanded Excel input files. This is the index of the parsed file into that array.
+     * The index of the parsed file into the array of Excel input files.
      */
-    public ExcelWorkbook parseXlsFile( Map< /* groupName */ String
-                                          , /* group */     ObjectList<ExcelWorksheet>
-                                          > mapOfWorksheetGroupsByName
-                                     , int idxFile
-                                     )
+    private ExcelWorkbook parseWorkbook( Map< /* groupName */ String
+                                            , /* group */     ObjectList<ExcelWorksheet>
+                                            > mapOfWorksheetGroupsByName
+                                       , int idxFile
+                                       )
     {
-        /* Read the Excel file into memory. From now we can directly access the POI object
-           wb_. */
-        if(!readXlsFile(idxFile))
-            return null;
-
         assert idxFile == idxWb_  &&  idxFile >= 0  &&  idxFile < p_.workbookAry.size();
         ParameterSet.WorkbookDesc excelFileDesc = p_.workbookAry.get(idxFile);
 
@@ -1437,6 +1446,41 @@ public class ExcelParser
 
         return workbook;
 
+    } /* End of parseWorkbook */
+
+
+
+    /**
+     * Read an Excel workbook based on the complex user parameters.
+     *   @return
+     * The parsing result is returned as a workbook object of the StringTemplate V4 data
+     * model. If an error occurs, then null is may be returned instead. If no error is
+     * reported through the agreed {@link ErrorCounter} object {@link #errCnt_} then the
+     * returned object is not null and it contains at least one parsed worksheet.
+     *   @param mapOfWorksheetGroupsByName
+     * The parsed workbook contains the parsed worksheets. These can be held a second time
+     * in the global worksheet groups. The parser updates the passed in map accordingly.
+     *   @param idxFile
+     * The user specified application parameter set {@link #p_} contains an array of user
+     * demanded Excel input files. This is the index of the parsed file into that array.
+     */
+    public ExcelWorkbook parseXlsFile( Map< /* groupName */ String
+                                          , /* group */     ObjectList<ExcelWorksheet>
+                                          > mapOfWorksheetGroupsByName
+                                     , int idxFile
+                                     )
+    {
+        /* Read the Excel file into memory. From now we can directly access the POI object
+           wb_. */
+        if(!readXlsFile(idxFile))
+            return null;
+
+        /* A workbook from the workbook cache can be shared with concurrent application
+           runs. The POI workbook objects are not thread-safe. */
+        synchronized(wb_)
+        {
+            return parseWorkbook(mapOfWorksheetGroupsByName, idxFile);
+        }
     } /* End of parseXlsFile */
 
 
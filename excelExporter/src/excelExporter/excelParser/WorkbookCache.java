@@ -0,0 +1,144 @@
+/**
+ * @file WorkbookCache.java
+ * An in-memory cache of opened Excel workbooks, which is shared by the application runs
+ * in a batch.
+ *
+ * Copyright (C) 2025 Peter Vranken (mailto:Peter_Vranken@Yahoo.de)
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+/* Interface of class WorkbookCache
+ *   WorkbookCache
+ *   getWorkbook
+ *   computeContentKey
+ */
+
+package excelExporter.excelParser;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.io.*;
+import java.nio.file.*;
+import java.security.*;
+import org.apache.logging.log4j.*;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.ss.usermodel.*;
+
+
+/**
+ * An in-memory cache of opened Excel workbooks.<p>
+ *   The application runs of a batch often read the same Excel workbooks. Opening a
+ * workbook is the most expensive part of parsing, so a workbook is opened only once and
+ * all runs read their worksheets from the same POI workbook object.<p>
+ *   The key of the cache is the content of the file, not its name. A file, which is
+ * modified while the batch is executed, is opened again, and identical copies of a file
+ * share the workbook.<p>
+ *   The cache can be used by concurrent application runs. If several runs request the
+ * same file at the same time then one of them opens it and the others wait for the
+ * result. The POI workbook objects are not thread-safe, however; a run needs to
+ * synchronize on a workbook while reading it.
+ */
+
+public class WorkbookCache
+{
+    /** The global logger object for all progress and error reporting. */
+    private static final Logger _logger = LogManager.getLogger(WorkbookCache.class);
+
+    /** An entry of the cache. It is the lock of concurrent requests for the same
+        content, too. */
+    private static class Entry
+    {
+        /** The workbook or null if the content has not been opened successfully yet. */
+        Workbook workbook = null;
+    }
+
+    /** The cache entries by content key. */
+    private final ConcurrentHashMap<String,Entry> entryByContentKey_ =
+                                                                    new ConcurrentHashMap<>();
+
+    /**
+     * A new, empty instance of WorkbookCache is created.
+     */
+    public WorkbookCache()
+    {
+    } /* End of WorkbookCache.WorkbookCache */
+
+
+
+    /**
+     * Get the opened workbook of an Excel file. It is taken from the cache if a file with
+     * the same content had been opened before, otherwise the file is opened and the
+     * workbook is put into the cache.
+     *   @return Get the POI workbook object. It may be shared with concurrent users.
+     *   @throws IOException
+     * The file can't be read.
+     *   @throws InvalidFormatException
+     * The file is not an Excel workbook in one of the supported formats.
+     *   @param file
+     * The Excel file.
+     */
+    Workbook getWorkbook(File file)
+        throws IOException, InvalidFormatException
+    {
+        final byte[] content = Files.readAllBytes(file.toPath());
+        final String contentKey = computeContentKey(content);
+        if(contentKey == null)
+            return WorkbookFactory.create(new ByteArrayInputStream(content));
+
+        Entry entry = new Entry();
+        final Entry entryInCache = entryByContentKey_.putIfAbsent(contentKey, entry);
+        if(entryInCache != null)
+            entry = entryInCache;
+
+        synchronized(entry)
+        {
+            if(entry.workbook != null)
+            {
+                _logger.debug( "Excel workbook file {} has been opened before, the cached"
+                               + " workbook is used"
+                             , file
+                             );
+            }
+            else
+                entry.workbook = WorkbookFactory.create(new ByteArrayInputStream(content));
+
+            return entry.workbook;
+        }
+
+    } /* End of WorkbookCache.getWorkbook */
+
+
+
+    /**
+     * Compute the key of a file for the cache, the hash of its content.
+     *   @return Get the key as hexadecimal string or null if no key can be computed.
+     *   @param content
+     * The content of the file.
+     */
+    private static String computeContentKey(byte[] content)
+    {
+        try
+        {
+            final byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+            final StringBuilder sb = new StringBuilder(2*hash.length);
+            for(byte b: hash)
+                sb.append(String.format("%02x", b & 0xff));
+            return sb.toString();
+        }
+        catch(NoSuchAlgorithmException e)
+        {
+            return null;
+        }
+    } /* End of WorkbookCache.computeContentKey */
+
+} /* End of class WorkbookCache definition. */
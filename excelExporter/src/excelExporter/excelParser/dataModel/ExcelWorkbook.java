@@ -21,6 +21,7 @@
  */
 /* Interface of class ExcelWorkbook
  *   ExcelWorkbook
+ *   resetAnonymousId
  *   setName
  *   setExcelFile
  *   getPseudoField
@@ -169,8 +170,24 @@ public class ExcelWorkbook extends ObjectMap<ExcelWorksheet>
         { return optionMap != null? optionMap.size(): 0; }
     
     /** A global counter used for unambiguous, generic naming of workbook objects if no
-        other name is known. The id is incremented on every use. */
-    private static int _idAnonymousWorkbook = 0;
+        other name is known. The id is incremented on every use. Each thread has its own
+        counter, such that concurrent application runs don't interfere. */
+    private static final ThreadLocal<int[]> _idAnonymousWorkbook = new ThreadLocal<int[]>()
+                                                  {
+                                                      @Override protected int[] initialValue()
+                                                          { return new int[]{0}; }
+                                                  };
+    
+
+    /**
+     * Reset the counter for generic naming of workbook objects of the calling thread. This
+     * is required if more than one application run is done in the same process.
+     */
+    public static void resetAnonymousId()
+    {
+        _idAnonymousWorkbook.set(new int[]{0});
+
+    } /* End of resetAnonymousId */
     
 
     /**
@@ -216,7 +233,7 @@ public class ExcelWorkbook extends ObjectMap<ExcelWorksheet>
         if(tmpName != null && !tmpName.trim().isEmpty())
             setName(new Identifier(tmpName));
         else
-            setName(new Identifier("Workbook_" + ++_idAnonymousWorkbook));
+            setName(new Identifier("Workbook_" + ++_idAnonymousWorkbook.get()[0]));
 
         setLogContext("Workbook " + name_ + ": ");
         
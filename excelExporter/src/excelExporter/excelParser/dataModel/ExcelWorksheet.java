@@ -21,6 +21,7 @@
  */
 /* Interface of class ExcelWorksheet
  *   ExcelWorksheet
+ *   resetAnonymousId
  *   getPseudoField
  *   setParent
  */
@@ -134,8 +135,24 @@ public class ExcelWorksheet extends RowObjectContainer
     public final boolean isRoot = true;
     
     /** A global counter used for unambiguous, generic naming of worksheet objects if no
-        other name is known. The id is incremented on every use. */
-    private static int _idAnonymousWorksheet = 0;
+        other name is known. The id is incremented on every use. Each thread has its own
+        counter, such that concurrent application runs don't interfere. */
+    private static final ThreadLocal<int[]> _idAnonymousWorksheet = new ThreadLocal<int[]>()
+                                                  {
+                                                      @Override protected int[] initialValue()
+                                                          { return new int[]{0}; }
+                                                  };
+    
+    
+    /**
+     * Reset the counter for generic naming of worksheet objects of the calling thread. This
+     * is required if more than one application run is done in the same process.
+     */
+    public static void resetAnonymousId()
+    {
+        _idAnonymousWorksheet.set(new int[]{0});
+
+    } /* End of resetAnonymousId */
     
     
     /** 
@@ -158,7 +175,7 @@ public class ExcelWorksheet extends RowObjectContainer
              , logContext
              , name != null  && !name.trim().isEmpty()
                ? new Identifier(name.trim())
-               : new Identifier("Worksheet_" + ++_idAnonymousWorksheet)
+               : new Identifier("Worksheet_" + ++_idAnonymousWorksheet.get()[0])
              , /* idxColWorksheet */ -1
              , _pseudoFieldNameList
              );
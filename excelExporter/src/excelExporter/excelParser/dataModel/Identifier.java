@@ -20,6 +20,7 @@
  */
 /* Interface of class Identifier
  *   setErrorContext
+ *   reset
  *   isIdentifier
  *   makeIdentifier
  *   isStrictIdentifier
@@ -56,19 +57,52 @@ public class Identifier
     /** The global logger object for all progress and error reporting. */
     private static final Logger _logger = LogManager.getLogger(Identifier.class);
 
-    /** A counter for errors and warnings in title management.
-          @remark The initial value of this field is null in order to detect by null
-        pointer exception if the initialization of this module has not been made. This is
-        considered an implementation error. See {@link #setErrorContext}. */
-    private static ErrorCounter _errCnt = null;
+    /**
+     * The name space of an application run: The so far made associations between names
+     * and identifiers, the ID generator and the error context. Application runs, which
+     * are executed concurrently in the same process, each have their own name space.
+     */
+    private static class NameSpace
+    {
+        /** A counter for errors and warnings in title management.
+              @remark The initial value of this field is null in order to detect by null
+            pointer exception if the initialization of this module has not been made. This
+            is considered an implementation error. See {@link #setErrorContext}. */
+        ErrorCounter errCnt = null;
+
+        /** A formatted string used to precede all logging statements of this module. */
+        String logCtx = null;
+
+        /** The ID generator. Each object in the data model gets a unique ID, which can be
+            useful for having related data objects in the generated code with individual
+            names. */
+        int nextObjId = 1;
 
-    /** A formatted string used to precede all logging statements of this module. */
-    private static String _logCtx = null;
+        /** This map associates any found C-like identifier with the given names it had
+            made from. Required to implement unique associations. */
+        final Map<String,String> mapNameByIdent = new HashMap<String,String>(100);
 
-    /** The ID generator. Each object in the data model gets a unique ID, which can be
-        useful for having related data objects in the generated code with individual
-        names. */
-    private static int _nextObjId = 1;
+        /** This map associates any so far modified name with the found, associated C-like
+            identifier. Required to implement unique associations. */
+        final Map<String,String> mapIdentByName = new HashMap<String,String>(100);
+
+        /** This map associates any found strict identifier with the given names it had
+            made from. Required to implement unique associations. */
+        final Map<String,String> mapNameByStrictIdent = new HashMap<String,String>(100);
+
+        /** This map associates any so far modified name with the found, associated strict
+            identifier. Required to implement unique associations. */
+        final Map<String,String> mapStrictIdentByName = new HashMap<String,String>(100);
+
+    } /* End of class Identifier.NameSpace */
+
+    /** The name space of the application run, which is executed by the calling thread. */
+    private static final ThreadLocal<NameSpace> _nameSpace =
+                                                new ThreadLocal<NameSpace>()
+                                                {
+                                                    @Override protected NameSpace initialValue()
+                                                        { return new NameSpace(); }
+                                                };
 
     /** The natural, given name of the object. This name can be accessed only explicitly
         through this field. In a StringTemplate V4 template you would access the natural
@@ -103,24 +137,6 @@ public class Identifier
         as strict identifier {@link #identStrict} are identical. */
     final public boolean identStrictEquals;
     
-    /** This map associates any found C-like identifier with the given names it had made
-        from. Required to implement unique associations. */
-    private static final Map<String,String> _mapNameByIdent = new HashMap<String,String>(100);
-    
-    /** This map associates any so far modified name with the found, associated C-like
-        identifier. Required to implement unique associations. */
-    private static final Map<String,String> _mapIdentByName = new HashMap<String,String>(100);
-    
-    /** This map associates any found strict identifier with the given names it had made
-        from. Required to implement unique associations. */
-    private static final Map<String,String> _mapNameByStrictIdent = 
-                                                            new HashMap<String,String>(100);
-    
-    /** This map associates any so far modified name with the found, associated strict
-        identifier. Required to implement unique associations. */
-    private static final Map<String,String> _mapStrictIdentByName =
-                                                            new HashMap<String,String>(100);
-    
     /** A random sequence used for disambiguating names. */
     private static final Random randomSequence = new Random();
 
@@ -136,23 +152,40 @@ public class Identifier
     public static void setErrorContext(ErrorCounter errCnt, String context)
     {
         assert errCnt != null;
-        _errCnt = errCnt;
+        final NameSpace nameSpace = _nameSpace.get();
+        nameSpace.errCnt = errCnt;
         
         if(context != null)
-            _logCtx = context;
+            nameSpace.logCtx = context;
         else
-            _logCtx = "";
+            nameSpace.logCtx = "";
         
     } /* End of setErrorContext */
     
     
     
+    /**
+     * Reset the module to its initial state. All so far made associations between names
+     * and identifiers are forgotten and the ID generator starts again at one. This is
+     * required if more than one application run is done in the same process; the results
+     * of a run must not depend on the names of a previous run.<p>
+     *   The reset affects only the calling thread, which will execute the next application
+     * run. Concurrent application runs in other threads are not affected.
+     */
+    public static void reset()
+    {
+        _nameSpace.set(new NameSpace());
+        
+    } /* End of reset */
+    
+    
+    
     /**
      * Get the next unique ID, useful for a new object of the data model.
      *   @return The ID.
      */
     public static int getUniqueId()
-        {return _nextObjId++;}
+        {return _nameSpace.get().nextObjId++;}
 
 
     /**
@@ -245,16 +278,17 @@ public class Identifier
         
         /* The maps to be used depend on the kind of identifier. Both kinds spawn
            independent namespaces. */
+        final NameSpace nameSpace = _nameSpace.get();
         final Map<String,String> mapNameByIdent, mapIdentByName;
         if(isStrict)
         {
-            mapNameByIdent = _mapNameByStrictIdent;
-            mapIdentByName = _mapStrictIdentByName;
+            mapNameByIdent = nameSpace.mapNameByStrictIdent;
+            mapIdentByName = nameSpace.mapStrictIdentByName;
         }
         else
         {
-            mapNameByIdent = _mapNameByIdent;
-            mapIdentByName = _mapIdentByName;
+            mapNameByIdent = nameSpace.mapNameByIdent;
+            mapIdentByName = nameSpace.mapIdentByName;
         }
             
         /* Do nothing if condition is already met. */
@@ -281,11 +315,11 @@ public class Identifier
             /* Avoid an infinite loop in pathologic cases. */
             if(idx > maxAttemptsToDisambiguate)
             {
-                _errCnt.error();
+                nameSpace.errCnt.error();
                 _logger.fatal( "{}No unambiguous identifier could be found for object name"
                                + " {}. Sorry no way out, you will need to modify the heavily"
                                + " ambiguous input data"
-                             , _logCtx
+                             , nameSpace.logCtx
                              , name
                              );
                 return ident;
@@ -314,7 +348,7 @@ public class Identifier
                                           ? ident.substring(0, maxLenNames) + "[..]"
                                           : ident;
             _logger.debug( "{}Associate \"{}\" with identifier {}"
-                         , _logCtx
+                         , nameSpace.logCtx
                          , truncatedName
                          , truncatedIdent
                          );
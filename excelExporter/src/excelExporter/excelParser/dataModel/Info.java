@@ -638,8 +638,9 @@ public class Info implements IST4CmdListener</* TContext */ Integer, /* TCmdResu
 
         /* A map is applied to make the version test available as a <if()>  condition in
            the template. */
-        isVersionDataModel = new HashMap<>(1);
-        isVersionDataModel.put("v"+versionDataModel, Boolean.valueOf(true));
+        final Map<String,Boolean> isVersionDataModelMap = new HashMap<>(1);
+        isVersionDataModelMap.put("v"+versionDataModel, Boolean.valueOf(true));
+        isVersionDataModel = isVersionDataModelMap;
 
     } /* End of setApplicationInfo */
 
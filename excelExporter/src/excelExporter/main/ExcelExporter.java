@@ -20,9 +20,11 @@
 /* Interface of class ExcelExporter
  *   ExcelExporter
  *   createDir
+ *   isFileContentEqual
  *   defineArguments
  *   parseCmdLine
  *   run
+ *   runApplication
  *   main
  */
 
@@ -30,6 +32,7 @@ package excelExporter.main;
 
 import java.util.*;
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.text.*;
 
 //import excelExporter.excelParser.*;
@@ -138,6 +141,9 @@ public class ExcelExporter
         logging. */
     private ParameterSet parameterSet_ = null;
 
+    /** The command line has been rejected by {@link #parseCmdLine}. */
+    private boolean isCmdLineInvalid_ = false;
+
     /** The correct EOL in abbreviated form. */
     private static final String NL = System.lineSeparator();
 
@@ -145,6 +151,10 @@ public class ExcelExporter
         run. */
     private Log4j2Configurator log4j2Configurator = null;
 
+    /** The resources shared with other application runs in the same process or null if
+        this is the only run. */
+    private JobContext jobContext_ = null;
+
 
     /**
      * The nested directories required for file creation are created.
@@ -191,6 +201,66 @@ public class ExcelExporter
 
 
 
+    /**
+     * Compare the contents of an existing file with some bytes. The file is read chunk by
+     * chunk up to the first difference.
+     *   @return Get true if the file exists and has the given contents. If the file can't
+     * be read then false is returned.
+     *   @param file
+     * The file to compare, typically an existing output file.
+     *   @param content
+     * The expected contents of the file.
+     */
+    static private boolean isFileContentEqual(File file, byte[] content)
+    {
+        if(!file.isFile()  ||  file.length() != content.length)
+            return false;
+
+        InputStream in = null;
+        try
+        {
+            in = new FileInputStream(file);
+            final byte[] buf = new byte[64*1024];
+            int pos = 0;
+            while(pos < content.length)
+            {
+                final int noBytes = in.read(buf, 0, Math.min(buf.length, content.length-pos));
+                if(noBytes < 0)
+                    return false;
+                for(int i=0; i<noBytes; ++i)
+                {
+                    if(buf[i] != content[pos+i])
+                        return false;
+                }
+                pos += noBytes;
+            }
+
+            /* The file may have grown meanwhile. */
+            return in.read() < 0;
+        }
+        catch(IOException e)
+        {
+            _logger.debug( "Can't compare file {} with the rendered input. {}"
+                         , file
+                         , e.getMessage()
+                         );
+            return false;
+        }
+        finally
+        {
+            try
+            {
+                if(in != null)
+                    in.close();
+            }
+            catch(IOException e)
+            {}
+        }
+    } /* End of ExcelExporter.isFileContentEqual. */
+
+
+
+
     /**
      * Create a command line parser and define all command line arguments. This method
      * defines the arguments owned by the application main class and it calls the argument
@@ -214,6 +284,11 @@ public class ExcelExporter
         /* Let the logger configurator define its command line arguments. */
         Log4j2Configurator.defineArguments(cmdLineParser_);
 
+        /* The arguments of a batch of application runs are defined only for the sake of
+           a complete usage text. A command line with job file is handled by the batch
+           runner. */
+        BatchRunner.defineArguments(cmdLineParser_, /* isBatch */ false);
+
         /* Let the parameter module define its further command line arguments. */
         ParameterSet.defineArguments(cmdLineParser_);
 
@@ -232,7 +307,8 @@ public class ExcelExporter
      *   The command line is evaluated. If an error is found the usage is displayed.
      *   @return true is returned if the method succeeds. Then retrieve all command line
      * options from member cmdLineParser_. If the function fails it returns false. The main
-     * program should end silently.
+     * program should end silently. The help demanded is a failure, too; an invalid command
+     * line is distinguished by member isCmdLineInvalid_.
      *   @param argAry
      * The command line arguments of the application.
      */
@@ -242,6 +318,15 @@ public class ExcelExporter
         try
         {
             cmdLineParser_.parseArgs(argAry);
+            if(cmdLineParser_.getNoValues("jf") > 0
+               ||  cmdLineParser_.getNoValues("jt") > 0
+              )
+            {
+                throw new CmdLineParser.InvalidArgException
+                            ("The arguments of a batch, --job-file and --job-threads, can't"
+                             + " be combined with the arguments of a single application run"
+                            );
+            }
 
             if(cmdLineParser_.getBoolean("h"))
             {
@@ -257,6 +342,9 @@ public class ExcelExporter
         }
         catch(CmdLineParser.InvalidArgException e)
         {
+            /* Demanding the help without the otherwise mandatory arguments is not an
+               error. */
+            isCmdLineInvalid_ = !cmdLineParser_.getBoolean("h");
             greeting();
             System.err.print(cmdLineParser_.getUsageInfo( _applicationName
                                                         , /* argumentsTabularOnly */ true
@@ -336,7 +424,9 @@ public class ExcelExporter
         }
 
         boolean success = true;
-        int successfullyParsedFiles = 0;
+        int successfullyParsedFiles = 0
+          , noWrittenFiles = 0
+          , noUnchangedFiles = 0;
 
         /* A single error counter is used for all operations. Its life cycle ends with the
            run of the application. However, it'll be repeatedly reset to null. A reference
@@ -346,10 +436,20 @@ public class ExcelExporter
         final ErrorCounter errCnt = new ErrorCounter()
                          , totalErrCnt = new ErrorCounter();
 
+        /* The name space and the object IDs of the data model are static. They are reset
+           in case this is not the first application run in the process, see {@link
+           JobServer}. */
+        Identifier.reset();
+        ExcelWorkbook.resetAnonymousId();
+        ExcelWorksheet.resetAnonymousId();
         Identifier.setErrorContext(errCnt, /* context */ "Name disambiguation: ");
 
         /* A single parser object is used for all workbooks. */
-        final ExcelParser parser = new ExcelParser(parameterSet_, errCnt);
+        final ExcelParser parser =
+                    new ExcelParser( parameterSet_
+                                   , errCnt
+                                   , jobContext_ != null? jobContext_.workbookCache: null
+                                   );
 
         /* Prepare the still empty set of global worksheet groups.
              Remark: ExcelExporter 0.16 switches from a HashMap to a TreeMap. The reason is
@@ -602,6 +702,22 @@ public class ExcelExporter
                             /* Write generated code into a standard console stream. */
                             out.print(generatedCode);
                         }
+                        else if(parameterSet_.writeIfChanged
+                                &&  isFileContentEqual
+                                        ( new File(templateOutputPair.outputFileName)
+                                        , generatedCode.getBytes(StandardCharsets.UTF_8)
+                                        )
+                               )
+                        {
+                            /* The existing output file is left untouched. This keeps its
+                               modification time and avoids needless rebuilds of dependent
+                               files. */
+                            ++ noUnchangedFiles;
+                            _logger.info( "The rendered input is unchanged, file {} is not"
+                                          + " rewritten"
+                                        , templateOutputPair.outputFileName
+                                        );
+                        }
                         else
                         {
                             /* Write generated code into output file. */
@@ -654,6 +770,9 @@ public class ExcelExporter
                                              , e.getMessage()
                                              );
                             }
+
+                            if(errCnt.getNoErrors() == 0)
+                                ++ noWrittenFiles;
                         }
                     }
                     else
@@ -672,6 +791,15 @@ public class ExcelExporter
 
             } /* End while(All pairs (template, output file)) */
 
+            if(parameterSet_.writeIfChanged)
+            {
+                _logger.info( "{} output files have been written, {} unchanged output files"
+                              + " have been skipped"
+                            , noWrittenFiles
+                            , noUnchangedFiles
+                            );
+            }
+
         } /* End if(Do we have to render at least one successfully parsed File?) */
 
         final String logMsg = _applicationName + " terminating with {} errors and {} warnings";
@@ -695,7 +823,7 @@ public class ExcelExporter
     /**
      * Print the application's title to stdout.
      */
-    private static void greeting()
+    static void greeting()
     {
         /* Printing the applied version of ANTLR and StringTemplate is useful but unsafe.
            By experiment, it turned out that the printed values do not depend on the
@@ -716,17 +844,23 @@ public class ExcelExporter
 
 
     /**
-     * Main entry point when run via command line.
-     *   @throws java.lang.Exception
-     * General errors are reported by exception.
+     * Do a complete application run, including command line parsing and logger
+     * configuration. Other than {@link #main}, the method returns to the caller at the
+     * end, which permits to do several application runs in the same process.
+     *   @return Get the exit code of the application run: 0 if it succeeded or if no
+     * operation was requested, 1 otherwise, including an invalid command line.
      *   @param argAry
      * The command line.
+     *   @param jobContext
+     * The resources, which are shared with other application runs in the same process,
+     * or null if the run should use its own resources.
      */
-    public static void main(String[] argAry) throws Exception
+    static int runApplication(String[] argAry, JobContext jobContext)
     {
         /* Create the one and only object of this class. It implements the application's
            behavior. */
         ExcelExporter This = new ExcelExporter();
+        This.jobContext_ = jobContext;
 
         /* Create a command line parser and define all command line arguments. Then parse
            the actual command line. This is only pass one of command line parsing, which
@@ -734,26 +868,37 @@ public class ExcelExporter
         This.defineArguments();
         if(This.parseCmdLine(argAry))
         {
-            /* Print the application greeting. This is not done at higher log levels: If
-               information rendering is done to stdout then the log level will surely be
-               set to WARN at minimum - in which case a greeting will definitely distort the
-               intended (automation) idea.
-                 A better condition to suppress the greeting would be to ask if there's at
-               least one information rendering command that goes into stdout or stderr.
-               However, this can't be implemented: We'd need the full command line
-               evaluation to figure this out and the command line evaluation can already
-               produce a lot of logging information - our greeting came much too late. */
-            if(Log4j2Configurator
-               .getLogLevel(This.cmdLineParser_).isLessSpecificThan(Level.INFO)
-              )
+            if(jobContext != null  &&  jobContext.log4j2Configurator != null)
             {
-                greeting();
+                /* The logging has been configured for all jobs of a batch, which share a
+                   single greeting. The logging options of the job are ignored. */
+                This.log4j2Configurator = jobContext.log4j2Configurator;
             }
+            else
+            {
+                /* Print the application greeting. This is not done at higher log levels:
+                   If information rendering is done to stdout then the log level will surely
+                   be set to WARN at minimum - in which case a greeting will definitely
+                   distort the intended (automation) idea.
+                     A better condition to suppress the greeting would be to ask if there's
+                   at least one information rendering command that goes into stdout or
+                   stderr. However, this can't be implemented: We'd need the full command
+                   line evaluation to figure this out and the command line evaluation can
+                   already produce a lot of logging information - our greeting came much
+                   too late. */
+                if(Log4j2Configurator
+                   .getLogLevel(This.cmdLineParser_).isLessSpecificThan(Level.INFO)
+                  )
+                {
+                    greeting();
+                }
 
-            /* Configure log4j2 prior to first use. This is done by side-effect of a
-               constructor call. The object is kept only to have access to the configured
-               logging settings; they are reported into the application log later. */
-            This.log4j2Configurator = new Log4j2Configurator(This.cmdLineParser_);
+                /* Configure log4j2 prior to first use. This is done by side-effect of a
+                   constructor call. The object is kept only to have access to the
+                   configured logging settings; they are reported into the application log
+                   later. */
+                This.log4j2Configurator = new Log4j2Configurator(This.cmdLineParser_);
+            }
 
             /* Get the class' logger instance only after completing the log4j2
                configuration. */
@@ -764,8 +909,30 @@ public class ExcelExporter
                          , _applicationName
                          , success? "successfully": "with errors"
                          );
-            System.exit(success? 0: 1);
+            return success? 0: 1;
         }
+        else
+            return This.isCmdLineInvalid_? 1: 0;
+
+    } /* End of ExcelExporter.runApplication. */
+
+
+
+    /**
+     * Main entry point when run via command line.
+     *   @throws java.lang.Exception
+     * General errors are reported by exception.
+     *   @param argAry
+     * The command line.
+     */
+    public static void main(String[] argAry) throws Exception
+    {
+        /* A command line, which refers to a job file, runs a batch of application runs. */
+        if(BatchRunner.isBatchCommandLine(argAry))
+            System.exit(BatchRunner.runBatch(argAry));
+        else
+            System.exit(runApplication(argAry, /* jobContext */ null));
+
     } /* End of ExcelExporter.main. */
 
 } /* End of class ExcelExporter definition. */
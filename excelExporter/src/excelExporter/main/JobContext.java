@@ -0,0 +1,61 @@
+/**
+ * @file JobContext.java
+ * The resources, which an application run shares with other runs in the same process.
+ *
+ * Copyright (C) 2025 Peter Vranken (mailto:Peter_Vranken@Yahoo.de)
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+/* Interface of class JobContext
+ *   JobContext
+ */
+
+package excelExporter.main;
+
+import excelExporter.excelParser.WorkbookCache;
+import applicationInterface.loggerConfiguration.Log4j2Configurator;
+
+
+/**
+ * An application run, which is not the only one in the process, is called a job. The job
+ * context holds the resources, which a job shares with the other jobs in the same
+ * process.
+ */
+
+class JobContext
+{
+    /** The opened Excel workbooks, which are shared by all jobs, or null if each job
+        opens its workbooks. */
+    final WorkbookCache workbookCache;
+
+    /** The configuration of the logging, which has been done for all jobs. The job
+        ignores the logging options of its command line. If null then the job configures
+        the logging itself. */
+    final Log4j2Configurator log4j2Configurator;
+
+    /**
+     * A new instance of JobContext is created.
+     *   @param workbookCache
+     * The opened Excel workbooks, which are shared by all jobs, or null.
+     *   @param log4j2Configurator
+     * The logging configuration of all jobs or null.
+     */
+    JobContext(WorkbookCache workbookCache, Log4j2Configurator log4j2Configurator)
+    {
+        this.workbookCache = workbookCache;
+        this.log4j2Configurator = log4j2Configurator;
+
+    } /* End of JobContext.JobContext */
+
+} /* End of class JobContext definition. */
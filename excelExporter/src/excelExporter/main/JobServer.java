@@ -0,0 +1,366 @@
+/**
+ * @file JobServer.java
+ * A long running process, which executes excelExporter jobs received via a local socket.
+ *
+ * Copyright (C) 2025 Peter Vranken (mailto:Peter_Vranken@Yahoo.de)
+ *
+ * This program is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+/* Interface of class JobServer
+ *   JobServer
+ *   serve
+ *   writeTokenFile
+ *   readJob
+ *   runJob
+ *   main
+ */
+
+package excelExporter.main;
+
+import java.util.*;
+import java.io.*;
+import java.net.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.security.*;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import applicationInterface.loggerConfiguration.Log4j2Configurator;
+
+
+/**
+ * The job server is a long running process, which executes excelExporter jobs. A build,
+ * which runs the excelExporter many times, doesn't need to pay for starting the Java VM
+ * and loading and warming up the classes of POI, StringTemplate and log4j with each
+ * run.<p>
+ *   The server listens at a TCP port of the local host. Since any local user could
+ * connect to this port, the server only accepts jobs from clients, which know a secret
+ * token. At startup, the server writes port and token into the token file, which is
+ * readable only by the user, who runs the server. The file is deleted when the server
+ * terminates.<p>
+ *   A client connects and sends the token and the command line of a job as UTF-8
+ * encoded text: The token in the first line, then one argument per line, terminated by
+ * an empty line. The command line has the same syntax as for a normal application run.
+ * The server runs the job and sends all console output of the job back to the client,
+ * which includes the logging. The last line of the response is {@code #exit <code>},
+ * where {@code <code>} is the exit code, which a normal application run would have had.
+ * Then the server closes the connection. A connection with a wrong token or a client,
+ * which doesn't send its complete job within {@link #_readTimeout} ms, is closed without
+ * response. See {@link JobClient} for a client.<p>
+ *   The job consisting of the only argument {@code --stop-server} terminates the
+ * server.<p>
+ *   Jobs are executed one after another. The results of a job are the same as for a
+ * normal application run: All static state of the data model is reset at the beginning
+ * of a job and the logging is configured anew from the job's command line.<p>
+ *   Relative file names in the command line of a job are resolved against the working
+ * directory of the server process, not against the one of the client.
+ */
+
+public class JobServer
+{
+    /** The special job, which terminates the server. */
+    private static final String _stopServerArg = "--stop-server";
+
+    /** The maximum time in ms, a client may need to send its job. The jobs are executed
+        one after another; a silent client must not block the server. */
+    private static final int _readTimeout = 10000;
+
+    /** The socket, which the server listens at. */
+    private final ServerSocket serverSocket_;
+
+    /** The file, which holds port and token of the server. */
+    private final Path tokenFile_;
+
+    /** The secret token, which a client needs to send with each job. */
+    private final String token_;
+
+    /**
+     * A new instance of JobServer is created. It already listens at the port and has
+     * written the token file but doesn't accept connections yet.
+     *   @throws IOException
+     * The port can't be opened or the token file can't be written.
+     *   @param port
+     * The TCP port at the local host, which the server listens at. Only connections from
+     * the local host are accepted. If zero then a free port is chosen.
+     *   @param tokenFileName
+     * The name of the file, which port and secret token of the server are written into.
+     * An existing file is replaced.
+     */
+    public JobServer(int port, String tokenFileName)
+        throws IOException
+    {
+        final byte[] tokenBytes = new byte[32];
+        new SecureRandom().nextBytes(tokenBytes);
+        final StringBuilder token = new StringBuilder();
+        for(byte b: tokenBytes)
+            token.append(String.format("%02x", b & 0xff));
+        token_ = token.toString();
+
+        serverSocket_ = new ServerSocket( port
+                                        , /* backlog */ 50
+                                        , InetAddress.getLoopbackAddress()
+                                        );
+        tokenFile_ = Paths.get(tokenFileName);
+        try
+        {
+            writeTokenFile(tokenFile_, serverSocket_.getLocalPort() + " " + token_);
+        }
+        catch(IOException e)
+        {
+            serverSocket_.close();
+            throw e;
+        }
+    } /* End of JobServer.JobServer */
+
+
+
+    /**
+     * Accept and execute jobs until the stop job is received.
+     *   @throws IOException
+     * The server socket failed. Problems with an individual connection are reported to
+     * the console of the server and don't terminate the server.
+     */
+    public void serve()
+        throws IOException
+    {
+        boolean stop = false;
+        try
+        {
+            while(!stop)
+            {
+                final Socket socket = serverSocket_.accept();
+                try
+                {
+                    final List<String> argList = readJob(socket);
+                    if(argList != null)
+                    {
+                        final PrintStream out =
+                                new PrintStream( new BufferedOutputStream
+                                                            (socket.getOutputStream())
+                                               , /* autoFlush */ false
+                                               , "UTF-8"
+                                               );
+                        final int exitCode;
+                        if(argList.size() == 1  &&  argList.get(0).equals(_stopServerArg))
+                        {
+                            stop = true;
+                            exitCode = 0;
+                        }
+                        else
+                            exitCode = runJob(argList.toArray(new String[0]), out);
+
+                        out.println("#exit " + exitCode);
+                        out.flush();
+                    }
+                    else
+                        System.err.println("Job server: Connection refused, wrong token");
+                }
+                catch(IOException e)
+                {
+                    System.err.println("Job server: Communication with client failed. "
+                                       + e
+                                      );
+                }
+                finally
+                {
+                    socket.close();
+                }
+            }
+        }
+        finally
+        {
+            serverSocket_.close();
+            Files.deleteIfExists(tokenFile_);
+        }
+    } /* End of JobServer.serve */
+
+
+
+    /**
+     * Create the token file, which is readable only by the user, who runs the server.
+     *   @throws IOException
+     * The file can't be created or its access rights can't be restricted.
+     *   @param tokenFile
+     * The file to write. An existing file is replaced.
+     *   @param content
+     * The contents of the file.
+     */
+    private static void writeTokenFile(Path tokenFile, String content)
+        throws IOException
+    {
+        /* The access rights are restricted before the token is written into the file. */
+        Files.deleteIfExists(tokenFile);
+        final FileSystem fs = tokenFile.getFileSystem();
+        if(fs.supportedFileAttributeViews().contains("posix"))
+        {
+            Files.createFile( tokenFile
+                            , PosixFilePermissions.asFileAttribute
+                                            (PosixFilePermissions.fromString("rw-------"))
+                            );
+        }
+        else
+        {
+            Files.createFile(tokenFile);
+            final AclFileAttributeView view =
+                        Files.getFileAttributeView(tokenFile, AclFileAttributeView.class);
+            if(view == null)
+            {
+                Files.delete(tokenFile);
+                throw new IOException("Access rights of token file " + tokenFile
+                                      + " can't be restricted"
+                                     );
+            }
+            final AclEntry entry = AclEntry.newBuilder()
+                                           .setType(AclEntryType.ALLOW)
+                                           .setPrincipal(view.getOwner())
+                                           .setPermissions(AclEntryPermission.values())
+                                           .build();
+            view.setAcl(Collections.singletonList(entry));
+        }
+
+        Files.write(tokenFile, content.getBytes(StandardCharsets.UTF_8));
+
+    } /* End of JobServer.writeTokenFile */
+
+
+
+    /**
+     * Read the token and the command line of the next job from a connection.
+     *   @return Get the command line arguments or null if the client didn't send the
+     * token of the server.
+     *   @throws IOException
+     * Reading failed or the client didn't send its job in time.
+     *   @param socket
+     * The connection.
+     */
+    private List<String> readJob(Socket socket)
+        throws IOException
+    {
+        socket.setSoTimeout(_readTimeout);
+        final BufferedReader reader =
+                        new BufferedReader(new InputStreamReader( socket.getInputStream()
+                                                                , StandardCharsets.UTF_8
+                                                                )
+                                          );
+
+        /* The comparison of the token takes the same time regardless of where it
+           differs. */
+        final String token = reader.readLine();
+        if(token == null
+           ||  !MessageDigest.isEqual( token.getBytes(StandardCharsets.UTF_8)
+                                     , token_.getBytes(StandardCharsets.UTF_8)
+                                     )
+          )
+        {
+            return null;
+        }
+
+        final List<String> argList = new ArrayList<>();
+        String arg;
+        while((arg = reader.readLine()) != null  &&  !arg.isEmpty())
+            argList.add(arg);
+
+        return argList;
+
+    } /* End of JobServer.readJob */
+
+
+
+    /**
+     * Execute a job.
+     *   @return Get the exit code of the job.
+     *   @param argAry
+     * The command line of the job.
+     *   @param out
+     * All console output of the job is redirected into this stream.
+     */
+    private int runJob(String[] argAry, PrintStream out)
+    {
+        final PrintStream stdout = System.out
+                        , stderr = System.err;
+        System.setOut(out);
+        System.setErr(out);
+        try
+        {
+            return ExcelExporter.runApplication(argAry, /* jobContext */ null);
+        }
+        catch(RuntimeException e)
+        {
+            e.printStackTrace(out);
+            return 1;
+        }
+        finally
+        {
+            System.setOut(stdout);
+            System.setErr(stderr);
+
+            /* The application configures the logging for each run. Replacing the job's
+               configuration releases its log file. log4j 2 must not be touched before a
+               job has configured it. */
+            if(Log4j2Configurator.isConfigured())
+            {
+                ((LoggerContext)LogManager.getContext(false))
+                                                    .start(new DefaultConfiguration());
+            }
+        }
+    } /* End of JobServer.runJob */
+
+
+
+    /**
+     * Main entry point of the job server.
+     *   @param argAry
+     * The command line. The arguments are the TCP port, which the server listens at, and
+     * the name of the token file.
+     */
+    public static void main(String[] argAry)
+    {
+        int port = -1;
+        if(argAry.length == 2)
+        {
+            try
+            {
+                port = Integer.parseInt(argAry[0]);
+            }
+            catch(NumberFormatException e)
+            {
+            }
+        }
+        if(port < 0  ||  port > 0xffff)
+        {
+            System.err.println("usage: " + JobServer.class.getName()
+                               + " <port> <tokenFile>"
+                              );
+            System.exit(1);
+        }
+
+        try
+        {
+            final JobServer server = new JobServer(port, argAry[1]);
+            System.out.println(ExcelExporter._applicationName + " "
+                               + ExcelExporter._versionFull + " job server listening at"
+                               + " port " + server.serverSocket_.getLocalPort()
+                              );
+            server.serve();
+        }
+        catch(IOException e)
+        {
+            System.err.println("Job server: " + e.getMessage());
+            System.exit(1);
+        }
+    } /* End of JobServer.main */
+
+} /* End of class JobServer definition. */
@@ -94,6 +94,10 @@ public class ParameterSet
     /** Use verbose mode for template loading. */
     public boolean stringTemplateVerbose = false;
 
+    /** Don't rewrite an output file if the rendered text is identical to its current
+        contents. */
+    public boolean writeIfChanged = false;
+
     /** The name of the default group of work sheets. null means there is no such default
         group. */
     public String defaultWorksheetGroup = null;
@@ -747,6 +751,17 @@ public class ParameterSet
                             + " See http://www.stringtemplate.org/ for more. Must be given in"
                             + " the global context only. Optional, default is false"
                           );
+        clp.defineArgument( "wc", "write-if-changed"
+                          , /* cntMax */ 1
+                          , "Use this Boolean switch to leave those output files untouched,"
+                            + " which already have the rendered contents. The rendered text"
+                            + " is compared with the existing file and the file is only"
+                            + " rewritten if they differ. This way, the modification time of"
+                            + " unchanged files is kept and a build, which depends on the"
+                            + " generated files, doesn't need to process them again. Must be"
+                            + " given in the global context only. Optional, default is"
+                            + " false, all output files are always rewritten"
+                          );
         clp.defineArgument( "dg", "default-worksheet-group"
                           , /* cntMin, cntMax */ 0, 1
                           , /* defaultValue */ null
@@ -1429,6 +1444,7 @@ public class ParameterSet
             {
             case "cluster-name":
             case "string-template-verbose":
+            case "write-if-changed":
             case "default-worksheet-group":
             case "sort-order-of-workbooks":
             case "sort-order-of-worksheets":
@@ -2133,6 +2149,11 @@ public class ParameterSet
                     stringTemplateVerbose = true;
                     break;
 
+                case "write-if-changed":
+                    assert writeIfChanged == false;
+                    writeIfChanged = true;
+                    break;
+
                 case "default-worksheet-group":
                     if(defaultWorksheetGroup != null)
                     {